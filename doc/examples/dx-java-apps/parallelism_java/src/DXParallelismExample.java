@@ -46,6 +46,9 @@ public class DXParallelismExample {
         // Spawn (numSubtasks) subjobs.
         //
         // In this example we just pass the input file through to all subtasks.
+        // To give each subtask only part of a large file, use DXFileShard.split
+        // and pass each subtask the file along with the start and end of its
+        // shard.
         for (int i = 0; i < numSubtasks; i++) {
             // Run process job via /job/new:
             //
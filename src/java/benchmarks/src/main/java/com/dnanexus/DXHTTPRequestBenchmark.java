@@ -0,0 +1,138 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.dnanexus.DXHTTPRequest.RetryStrategy;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.io.ByteStreams;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * End-to-end cost of an API call made with {@link DXHTTPRequest} (serialization, the HTTP
+ * exchange over a pooled loopback connection, and deserialization) against a local stub server
+ * that returns a fixed response.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DXHTTPRequestBenchmark {
+
+    /**
+     * Number of objects described in each response.
+     */
+    @Param({"1", "100"})
+    public int resultsPerResponse;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private DXHTTPRequest client;
+    private JsonNode input;
+
+    @Setup
+    public void setUp() throws IOException {
+        DXJSON.ArrayBuilder results = DXJSON.getArrayBuilder();
+        for (int i = 0; i < resultsPerResponse; ++i) {
+            results = results.add(DXJSON.getObjectBuilder()
+                    .put("id", String.format("record-%024d", i))
+                    .put("project", String.format("project-%024d", 1))
+                    .put("describe", DXJSON.getObjectBuilder()
+                            .put("id", String.format("record-%024d", i))
+                            .put("class", "record").put("name", "record " + i)
+                            .put("folder", "/").put("state", "closed")
+                            .put("created", 1430000000000L).build()).build());
+        }
+        final byte[] response = new ObjectMapper().writeValueAsBytes(DXJSON.getObjectBuilder()
+                .put("results", results.build()).build());
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                ByteStreams.copy(exchange.getRequestBody(), ByteStreams.nullOutputStream());
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, response.length);
+                OutputStream body = exchange.getResponseBody();
+                body.write(response);
+                body.close();
+            }
+        });
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        DXEnvironment env = DXEnvironment.Builder.fromDefaults()
+                .setApiserverHost(server.getAddress().getHostString())
+                .setApiserverPort(server.getAddress().getPort()).setApiserverProtocol("http")
+                .setBearerToken("benchmark").build();
+        client = new DXHTTPRequest(env);
+        input = DXJSON.getObjectBuilder().put("class", "record")
+                .put("scope", DXJSON.getObjectBuilder()
+                        .put("project", String.format("project-%024d", 1)).build())
+                .put("describe", true).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    /**
+     * Makes a call whose response is parsed into a tree.
+     */
+    @Benchmark
+    public JsonNode request() {
+        return client.request("/system/findDataObjects", input, RetryStrategy.SAFE_TO_RETRY);
+    }
+
+    /**
+     * Makes a call whose response is deserialized directly into a class.
+     */
+    @Benchmark
+    public DXSearch.FindDataObjectsResponse requestTyped() {
+        return client.request("/system/findDataObjects", input, RetryStrategy.SAFE_TO_RETRY,
+                DXSearch.FindDataObjectsResponse.class);
+    }
+
+}
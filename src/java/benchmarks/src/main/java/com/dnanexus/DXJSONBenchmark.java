@@ -0,0 +1,104 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Cost of building JSON with {@link DXJSON.ObjectBuilder} and {@link DXJSON.ArrayBuilder}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DXJSONBenchmark {
+
+    /**
+     * Number of fields or elements to add.
+     */
+    @Param({"4", "64"})
+    public int size;
+
+    // Keys and values are created up front so that only the builders are measured
+    private String[] keys;
+    private String[] values;
+
+    @Setup
+    public void setUp() {
+        keys = new String[size];
+        values = new String[size];
+        for (int i = 0; i < size; ++i) {
+            keys[i] = "key" + i;
+            values[i] = String.format("file-%024d", i);
+        }
+    }
+
+    /**
+     * Builds a flat hash of string values, like a typical API input.
+     */
+    @Benchmark
+    public ObjectNode buildFlatObject() {
+        DXJSON.ObjectBuilder builder = DXJSON.getObjectBuilder();
+        for (int i = 0; i < size; ++i) {
+            builder = builder.put(keys[i], values[i]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Builds a hash of small nested hashes (like DNAnexus links).
+     */
+    @Benchmark
+    public ObjectNode buildNestedObject() {
+        DXJSON.ObjectBuilder builder = DXJSON.getObjectBuilder();
+        for (int i = 0; i < size; ++i) {
+            builder = builder.put(keys[i], DXJSON.getObjectBuilder()
+                    .put("$dnanexus_link", values[i]).build());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Builds an array of strings (like a list of object IDs).
+     */
+    @Benchmark
+    public ArrayNode buildArray() {
+        DXJSON.ArrayBuilder builder = DXJSON.getArrayBuilder();
+        for (int i = 0; i < size; ++i) {
+            builder = builder.add(values[i]);
+        }
+        return builder.build();
+    }
+
+}
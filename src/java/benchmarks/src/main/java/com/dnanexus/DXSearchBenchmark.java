@@ -0,0 +1,93 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost of paging through the results of {@link DXSearch#findDataObjects()}, served by an
+ * {@link InMemoryApiserver} so that network time is not included.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DXSearchBenchmark {
+
+    /**
+     * Total number of matching objects.
+     */
+    @Param({"1000"})
+    public int objects;
+
+    /**
+     * Number of results requested per page.
+     */
+    @Param({"10", "100", "1000"})
+    public int pageSize;
+
+    private DXEnvironment env;
+    private DXProject project;
+
+    @Setup
+    public void setUp() {
+        env = new InMemoryApiserver().createEnvironment();
+        project = env.getProjectContext();
+        for (int i = 0; i < objects; ++i) {
+            DXRecord.newRecordWithEnvironment(env).setProject(project).setName("record " + i)
+                    .putProperty("index", Integer.toString(i)).build();
+        }
+    }
+
+    /**
+     * Iterates over all results, without describing them.
+     */
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        for (DXRecord record : DXSearch.findDataObjectsWithEnvironment(env).inProject(project)
+                .withClassRecord().execute(pageSize)) {
+            blackhole.consume(record);
+        }
+    }
+
+    /**
+     * Iterates over all results, fetching describe output with each page.
+     */
+    @Benchmark
+    public void iterateWithDescribe(Blackhole blackhole) {
+        for (DXRecord record : DXSearch.findDataObjectsWithEnvironment(env).inProject(project)
+                .withClassRecord().includeDescribeOutput().execute(pageSize)) {
+            blackhole.consume(record.getCachedDescribe());
+        }
+    }
+
+}
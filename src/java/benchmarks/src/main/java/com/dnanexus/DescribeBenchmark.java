@@ -0,0 +1,127 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Cost of deserializing the output of describe into the {@code Describe} class of each kind of
+ * data object, the way {@link DXHTTPRequest} deserializes responses.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DescribeBenchmark {
+
+    /**
+     * Class of data object being described.
+     */
+    @Param({"record", "file", "gtable", "applet", "workflow"})
+    public String objectClass;
+
+    private ObjectReader reader;
+    private byte[] response;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = new ObjectMapper().configure(JsonParser.Feature.AUTO_CLOSE_SOURCE,
+                false);
+        DXJSON.ObjectBuilder describe = DXJSON.getObjectBuilder()
+                .put("id", String.format("%s-%024d", objectClass, 1))
+                .put("project", String.format("project-%024d", 1))
+                .put("class", objectClass)
+                .put("types", DXJSON.getArrayBuilder().add("Example").build())
+                .put("state", "closed").put("hidden", false).put("name", "example " + objectClass)
+                .put("folder", "/benchmarks/describe").put("sponsored", false)
+                .put("tags", DXJSON.getArrayBuilder().add("a").add("b").build())
+                .put("created", 1430000000000L).put("modified", 1430000001000L)
+                .put("createdBy", DXJSON.getObjectBuilder().put("user", "user-bench").build())
+                .put("properties", DXJSON.getObjectBuilder().put("sample", "NA12878")
+                        .put("lane", "3").build())
+                .put("details", DXJSON.getObjectBuilder().put("pipeline", "v1").build());
+
+        Class<?> describeClass;
+        if (objectClass.equals("record")) {
+            describeClass = DXRecord.Describe.class;
+        } else if (objectClass.equals("file")) {
+            describeClass = DXFile.Describe.class;
+            describe = describe.put("media", "application/octet-stream").put("size", 1L << 30);
+        } else if (objectClass.equals("gtable")) {
+            describeClass = DXGTable.Describe.class;
+            DXJSON.ArrayBuilder columns = DXJSON.getArrayBuilder();
+            String[][] columnSpecs = { {"chr", "string"}, {"lo", "int32"}, {"hi", "int32"},
+                    {"score", "double"}, {"strand", "string"}};
+            for (String[] column : columnSpecs) {
+                columns = columns.add(DXJSON.getObjectBuilder().put("name", column[0])
+                        .put("type", column[1]).build());
+            }
+            describe = describe.put("columns", columns.build()).put("size", 123456789L)
+                    .put("length", 1000000L);
+        } else if (objectClass.equals("applet")) {
+            describeClass = DXApplet.Describe.class;
+            DXJSON.ArrayBuilder inputSpec = DXJSON.getArrayBuilder();
+            for (int i = 0; i < 8; ++i) {
+                inputSpec = inputSpec.add(DXJSON.getObjectBuilder().put("name", "input" + i)
+                        .put("class", i % 2 == 0 ? "file" : "string")
+                        .put("optional", i > 4).build());
+            }
+            describe = describe.put("title", "Example applet")
+                    .put("summary", "Does something useful")
+                    .put("description", "A longer description of what the applet does.")
+                    .put("inputSpec", inputSpec.build())
+                    .put("outputSpec", DXJSON.getArrayBuilder().add(DXJSON.getObjectBuilder()
+                            .put("name", "output").put("class", "file").build()).build())
+                    .put("runSpec", DXJSON.getObjectBuilder().put("interpreter", "bash")
+                            .put("code", "main() {\n  dx-download-all-inputs\n}\n").build())
+                    .put("dxapi", "1.0.0");
+        } else if (objectClass.equals("workflow")) {
+            describeClass = DXWorkflow.Describe.class;
+            describe = describe.put("editVersion", 3).put("title", "Example workflow");
+        } else {
+            throw new IllegalArgumentException("Unknown object class " + objectClass);
+        }
+
+        reader = mapper.reader(describeClass);
+        response = mapper.writeValueAsBytes(describe.build());
+    }
+
+    @Benchmark
+    public Object deserialize() throws IOException {
+        return reader.readValue(response);
+    }
+
+}
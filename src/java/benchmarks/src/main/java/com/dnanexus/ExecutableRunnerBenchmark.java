@@ -0,0 +1,105 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Cost of serializing the input of an applet run ({@link ExecutableRunner#buildRequestHash()}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExecutableRunnerBenchmark {
+
+    /**
+     * Number of file inputs to the applet.
+     */
+    @Param({"1", "100"})
+    public int inputFiles;
+
+    private DXApplet applet;
+    private DXProject project;
+    private Map<String, Object> input;
+    private ExecutableRunner<DXJob> runner;
+
+    @Setup
+    public void setUp() {
+        DXEnvironment env = new InMemoryApiserver().createEnvironment();
+        project = env.getProjectContext();
+        applet = DXApplet.getInstanceWithEnvironment(String.format("applet-%024d", 1), env);
+
+        List<DXFile> reads = Lists.newArrayList();
+        for (int i = 0; i < inputFiles; ++i) {
+            reads.add(DXFile.getInstanceWithEnvironment(String.format("file-%024d", i), env));
+        }
+        input = Maps.newHashMap();
+        input.put("reads", reads);
+        input.put("reference", DXFile.getInstanceWithEnvironment(
+                String.format("file-%024d", inputFiles), env));
+        input.put("sample_name", "NA12878");
+        input.put("min_quality", 20);
+        input.put("regions", ImmutableList.of("chr1", "chr2", "chrX"));
+
+        runner = newRunner();
+    }
+
+    private ExecutableRunner<DXJob> newRunner() {
+        return applet.newRun().setInput(input).setName("benchmark run").setProject(project)
+                .setFolder("/output").putProperty("run", "benchmark")
+                .addTags(ImmutableList.of("benchmark"));
+    }
+
+    /**
+     * Serializes the request of a runner whose input has already been set.
+     */
+    @Benchmark
+    public JsonNode buildRequestHash() {
+        return runner.buildRequestHash();
+    }
+
+    /**
+     * Sets up a runner, including converting its input to JSON, and serializes its request.
+     */
+    @Benchmark
+    public JsonNode newRunAndBuildRequestHash() {
+        return newRunner().buildRequestHash();
+    }
+
+}
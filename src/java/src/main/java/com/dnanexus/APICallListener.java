@@ -0,0 +1,38 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+/**
+ * Receives a summary of every API call made with an environment.
+ *
+ * <p>
+ * Listeners are added with {@link DXEnvironment.Builder#addAPICallListener(APICallListener)}.
+ * They are called on the thread that completed the call (which, for asynchronous calls, is a
+ * thread owned by the environment), so they should return quickly and must be thread-safe.
+ * Exceptions thrown by a listener are reported to stderr and otherwise ignored.
+ * </p>
+ */
+public interface APICallListener {
+
+    /**
+     * Called once when an API call completes or fails, after all of its retries.
+     *
+     * @param stats summary of the call
+     */
+    void callCompleted(APICallStats stats);
+
+}
@@ -0,0 +1,187 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * Immutable summary of one API call (including all of its retries), as reported to
+ * {@link APICallListener}s and recorded in {@link APIMetrics}.
+ */
+public class APICallStats {
+
+    /**
+     * Returns the route of the specified resource, with object IDs replaced by their class. For
+     * example, the route of "/file-xxxx/describe" is "file/describe", and the route of
+     * "/system/findDataObjects" is "system/findDataObjects".
+     *
+     * @param resource Name of resource, e.g. "/file-XXXX/describe"
+     *
+     * @return normalized route
+     */
+    public static String getRoute(String resource) {
+        String path = resource.startsWith("/") ? resource.substring(1) : resource;
+        int firstSlash = path.indexOf('/');
+        int lastSlash = path.lastIndexOf('/');
+        String target = (firstSlash < 0) ? path : path.substring(0, firstSlash);
+        int dash = target.indexOf('-');
+        if (dash > 0) {
+            // Object ID (e.g. file-xxxx) or app name (e.g. app-name/1.0.0/run)
+            target = target.substring(0, dash);
+        }
+        if (lastSlash < 0) {
+            return target;
+        }
+        return target + "/" + path.substring(lastSlash + 1);
+    }
+
+    private final String resource;
+    private final boolean successful;
+    private final int attempts;
+    private final int serverErrors;
+    private final int serviceUnavailableResponses;
+    private final long bytesSent;
+    private final long bytesReceived;
+    private final long elapsedNanos;
+    private final long backoffNanos;
+
+    APICallStats(String resource, boolean successful, int attempts, int serverErrors,
+            int serviceUnavailableResponses, long bytesSent, long bytesReceived, long elapsedNanos,
+            long backoffNanos) {
+        this.resource = resource;
+        this.successful = successful;
+        this.attempts = attempts;
+        this.serverErrors = serverErrors;
+        this.serviceUnavailableResponses = serviceUnavailableResponses;
+        this.bytesSent = bytesSent;
+        this.bytesReceived = bytesReceived;
+        this.elapsedNanos = elapsedNanos;
+        this.backoffNanos = backoffNanos;
+    }
+
+    /**
+     * Returns the number of HTTP requests made (the first attempt plus any retries).
+     *
+     * @return number of attempts
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * Returns the time spent waiting before retries (including waits requested with 503 Service
+     * Unavailable).
+     *
+     * @param unit unit of the result
+     *
+     * @return time spent in backoff
+     */
+    public long getBackoffTime(TimeUnit unit) {
+        return unit.convert(backoffNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the number of bytes of response bodies received, over all attempts.
+     *
+     * @return bytes received
+     */
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    /**
+     * Returns the number of bytes of request bodies sent, over all attempts.
+     *
+     * @return bytes sent
+     */
+    public long getBytesSent() {
+        return bytesSent;
+    }
+
+    /**
+     * Returns the time from the start of the call until it completed or failed, including all
+     * retries.
+     *
+     * @param unit unit of the result
+     *
+     * @return elapsed time
+     */
+    public long getElapsedTime(TimeUnit unit) {
+        return unit.convert(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the resource that was requested, e.g. "/file-XXXX/describe".
+     *
+     * @return resource
+     */
+    public String getResource() {
+        return resource;
+    }
+
+    /**
+     * Returns the route of the resource, e.g. "file/describe".
+     *
+     * @return normalized route
+     *
+     * @see #getRoute(String)
+     */
+    public String getRoute() {
+        return getRoute(resource);
+    }
+
+    /**
+     * Returns the number of responses with a 5xx status code other than 503.
+     *
+     * @return number of server errors
+     */
+    public int getServerErrors() {
+        return serverErrors;
+    }
+
+    /**
+     * Returns the number of 503 Service Unavailable responses.
+     *
+     * @return number of 503 responses
+     */
+    public int getServiceUnavailableResponses() {
+        return serviceUnavailableResponses;
+    }
+
+    /**
+     * Returns whether the call eventually succeeded.
+     *
+     * @return {@code true} if the call returned a result, {@code false} if it failed
+     */
+    public boolean isSuccessful() {
+        return successful;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("resource", resource)
+                .add("successful", successful).add("attempts", attempts)
+                .add("serverErrors", serverErrors)
+                .add("serviceUnavailableResponses", serviceUnavailableResponses)
+                .add("bytesSent", bytesSent).add("bytesReceived", bytesReceived)
+                .add("elapsedMillis", getElapsedTime(TimeUnit.MILLISECONDS))
+                .add("backoffMillis", getBackoffTime(TimeUnit.MILLISECONDS)).toString();
+    }
+
+}
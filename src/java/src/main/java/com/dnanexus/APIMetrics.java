@@ -0,0 +1,419 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * Aggregate statistics of all API calls made in this process, keyed by route (e.g.
+ * "file/describe"; see {@link APICallStats#getRoute(String)}).
+ *
+ * <p>
+ * Every call made through {@link DXHTTPRequest} is recorded here, regardless of its environment.
+ * The statistics of each route are also published as an MXBean named
+ * {@code com.dnanexus:type=APIMetrics,route=<route>} on the platform MBean server, so they can be
+ * inspected with tools such as JConsole or VisualVM without modifying the application.
+ * </p>
+ *
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ */
+public class APIMetrics {
+
+    /**
+     * Management interface of the statistics of one route.
+     */
+    public static interface RouteMetricsMXBean {
+        /**
+         * Returns the number of bytes of request bodies sent.
+         *
+         * @return bytes sent
+         */
+        long getBytesSent();
+
+        /**
+         * Returns the number of bytes of response bodies received.
+         *
+         * @return bytes received
+         */
+        long getBytesReceived();
+
+        /**
+         * Returns the number of calls made, including failed calls.
+         *
+         * @return number of calls
+         */
+        long getCalls();
+
+        /**
+         * Returns the number of HTTP requests made (first attempts plus retries).
+         *
+         * @return number of attempts
+         */
+        long getAttempts();
+
+        /**
+         * Returns the number of calls that failed after all retries.
+         *
+         * @return number of failed calls
+         */
+        long getFailedCalls();
+
+        /**
+         * Returns the upper bounds, in milliseconds, of the buckets of the latency histogram. The
+         * last bucket is unbounded.
+         *
+         * @return bucket upper bounds
+         */
+        long[] getLatencyBucketBoundsMillis();
+
+        /**
+         * Returns the number of calls in each bucket of the latency histogram (one more than the
+         * number of bucket bounds).
+         *
+         * @return latency histogram
+         */
+        long[] getLatencyHistogram();
+
+        /**
+         * Returns an upper bound for the median call latency, in milliseconds.
+         *
+         * @return median latency estimate
+         */
+        long getLatencyP50Millis();
+
+        /**
+         * Returns an upper bound for the 99th percentile call latency, in milliseconds.
+         *
+         * @return 99th percentile latency estimate
+         */
+        long getLatencyP99Millis();
+
+        /**
+         * Returns the highest latency of a single call, in milliseconds.
+         *
+         * @return maximum latency
+         */
+        long getMaxLatencyMillis();
+
+        /**
+         * Returns the total time spent in calls to this route, in milliseconds.
+         *
+         * @return total latency
+         */
+        long getTotalLatencyMillis();
+
+        /**
+         * Returns the total time spent waiting before retries, in milliseconds.
+         *
+         * @return total backoff time
+         */
+        long getTotalBackoffMillis();
+
+        /**
+         * Returns the number of responses with a 5xx status code other than 503.
+         *
+         * @return number of server errors
+         */
+        long getServerErrors();
+
+        /**
+         * Returns the number of 503 Service Unavailable responses.
+         *
+         * @return number of 503 responses
+         */
+        long getServiceUnavailableResponses();
+    }
+
+    /**
+     * Statistics of the calls made to one route.
+     */
+    public static class RouteMetrics implements RouteMetricsMXBean {
+        private final String route;
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong failedCalls = new AtomicLong();
+        private final AtomicLong attempts = new AtomicLong();
+        private final AtomicLong serverErrors = new AtomicLong();
+        private final AtomicLong serviceUnavailableResponses = new AtomicLong();
+        private final AtomicLong bytesSent = new AtomicLong();
+        private final AtomicLong bytesReceived = new AtomicLong();
+        private final AtomicLong totalLatencyNanos = new AtomicLong();
+        private final AtomicLong maxLatencyNanos = new AtomicLong();
+        private final AtomicLong totalBackoffNanos = new AtomicLong();
+        private final AtomicLongArray latencyHistogram =
+                new AtomicLongArray(LATENCY_BUCKET_BOUNDS_MILLIS.length + 1);
+
+        private RouteMetrics(String route) {
+            this.route = route;
+        }
+
+        private void record(APICallStats stats) {
+            calls.incrementAndGet();
+            if (!stats.isSuccessful()) {
+                failedCalls.incrementAndGet();
+            }
+            attempts.addAndGet(stats.getAttempts());
+            serverErrors.addAndGet(stats.getServerErrors());
+            serviceUnavailableResponses.addAndGet(stats.getServiceUnavailableResponses());
+            bytesSent.addAndGet(stats.getBytesSent());
+            bytesReceived.addAndGet(stats.getBytesReceived());
+            totalBackoffNanos.addAndGet(stats.getBackoffTime(TimeUnit.NANOSECONDS));
+
+            long latencyNanos = stats.getElapsedTime(TimeUnit.NANOSECONDS);
+            totalLatencyNanos.addAndGet(latencyNanos);
+            long max = maxLatencyNanos.get();
+            while (latencyNanos > max && !maxLatencyNanos.compareAndSet(max, latencyNanos)) {
+                max = maxLatencyNanos.get();
+            }
+            latencyHistogram.incrementAndGet(getBucket(TimeUnit.NANOSECONDS
+                    .toMillis(latencyNanos)));
+        }
+
+        /**
+         * Returns the route these statistics are for.
+         *
+         * @return route, e.g. "file/describe"
+         */
+        public String getRoute() {
+            return route;
+        }
+
+        @Override
+        public long getBytesSent() {
+            return bytesSent.get();
+        }
+
+        @Override
+        public long getBytesReceived() {
+            return bytesReceived.get();
+        }
+
+        @Override
+        public long getCalls() {
+            return calls.get();
+        }
+
+        @Override
+        public long getAttempts() {
+            return attempts.get();
+        }
+
+        @Override
+        public long getFailedCalls() {
+            return failedCalls.get();
+        }
+
+        @Override
+        public long[] getLatencyBucketBoundsMillis() {
+            return LATENCY_BUCKET_BOUNDS_MILLIS.clone();
+        }
+
+        @Override
+        public long[] getLatencyHistogram() {
+            long[] histogram = new long[latencyHistogram.length()];
+            for (int i = 0; i < histogram.length; ++i) {
+                histogram[i] = latencyHistogram.get(i);
+            }
+            return histogram;
+        }
+
+        @Override
+        public long getLatencyP50Millis() {
+            return getLatencyPercentileMillis(0.5);
+        }
+
+        @Override
+        public long getLatencyP99Millis() {
+            return getLatencyPercentileMillis(0.99);
+        }
+
+        @Override
+        public long getMaxLatencyMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get());
+        }
+
+        @Override
+        public long getTotalLatencyMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(totalLatencyNanos.get());
+        }
+
+        @Override
+        public long getTotalBackoffMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(totalBackoffNanos.get());
+        }
+
+        @Override
+        public long getServerErrors() {
+            return serverErrors.get();
+        }
+
+        @Override
+        public long getServiceUnavailableResponses() {
+            return serviceUnavailableResponses.get();
+        }
+
+        /**
+         * Returns the upper bound of the histogram bucket containing the specified percentile,
+         * or the maximum latency if it is in the last (unbounded) bucket.
+         */
+        private long getLatencyPercentileMillis(double percentile) {
+            long[] histogram = getLatencyHistogram();
+            long total = 0;
+            for (long count : histogram) {
+                total += count;
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(percentile * total);
+            long seen = 0;
+            for (int i = 0; i < LATENCY_BUCKET_BOUNDS_MILLIS.length; ++i) {
+                seen += histogram[i];
+                if (seen >= rank) {
+                    return Math.min(LATENCY_BUCKET_BOUNDS_MILLIS[i], getMaxLatencyMillis());
+                }
+            }
+            return getMaxLatencyMillis();
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this).add("route", route).add("calls", getCalls())
+                    .add("failedCalls", getFailedCalls()).add("attempts", getAttempts())
+                    .add("serverErrors", getServerErrors())
+                    .add("serviceUnavailableResponses", getServiceUnavailableResponses())
+                    .add("bytesSent", getBytesSent()).add("bytesReceived", getBytesReceived())
+                    .add("totalLatencyMillis", getTotalLatencyMillis())
+                    .add("latencyP50Millis", getLatencyP50Millis())
+                    .add("latencyP99Millis", getLatencyP99Millis())
+                    .add("maxLatencyMillis", getMaxLatencyMillis())
+                    .add("totalBackoffMillis", getTotalBackoffMillis()).toString();
+        }
+    }
+
+    private static final long[] LATENCY_BUCKET_BOUNDS_MILLIS = {1, 2, 5, 10, 20, 50, 100, 200,
+            500, 1000, 2000, 5000, 10000, 20000, 60000};
+
+    private static final String JMX_DOMAIN = "com.dnanexus";
+
+    private static final APIMetrics instance = new APIMetrics();
+
+    /**
+     * Returns the metrics of all API calls made in this process.
+     *
+     * @return metrics registry
+     */
+    public static APIMetrics getInstance() {
+        return instance;
+    }
+
+    private static int getBucket(long latencyMillis) {
+        for (int i = 0; i < LATENCY_BUCKET_BOUNDS_MILLIS.length; ++i) {
+            if (latencyMillis <= LATENCY_BUCKET_BOUNDS_MILLIS[i]) {
+                return i;
+            }
+        }
+        return LATENCY_BUCKET_BOUNDS_MILLIS.length;
+    }
+
+    private final ConcurrentMap<String, RouteMetrics> routes =
+            new ConcurrentHashMap<String, RouteMetrics>();
+
+    private APIMetrics() {
+    }
+
+    /**
+     * Returns the statistics of the specified route.
+     *
+     * @param route route, e.g. "file/describe"
+     *
+     * @return statistics of the route, or {@code null} if no calls have been made to it
+     */
+    public RouteMetrics getRoute(String route) {
+        return routes.get(route);
+    }
+
+    /**
+     * Returns the statistics of all routes to which calls have been made, sorted by route.
+     *
+     * @return map from route to its statistics
+     */
+    public SortedMap<String, RouteMetrics> getRoutes() {
+        return new TreeMap<String, RouteMetrics>(routes);
+    }
+
+    /**
+     * Records a completed call (for use by {@link DXHTTPRequest}).
+     *
+     * @param stats summary of the call
+     */
+    void record(APICallStats stats) {
+        String route = stats.getRoute();
+        RouteMetrics metrics = routes.get(route);
+        if (metrics == null) {
+            metrics = new RouteMetrics(route);
+            RouteMetrics existing = routes.putIfAbsent(route, metrics);
+            if (existing != null) {
+                metrics = existing;
+            } else {
+                register(metrics);
+            }
+        }
+        metrics.record(stats);
+    }
+
+    /**
+     * Publishes the statistics of a route through JMX. Failure to do so (for example, because
+     * another copy of this library in the same process already registered the route) is not an
+     * error.
+     */
+    private static void register(RouteMetrics metrics) {
+        try {
+            ObjectName name = new ObjectName(JMX_DOMAIN + ":type=APIMetrics,route="
+                    + ObjectName.quote(metrics.getRoute()));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, name);
+        } catch (JMException e) {
+            // Metrics are still available through getRoutes
+        } catch (SecurityException e) {
+            // Metrics are still available through getRoutes
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, RouteMetrics> entry : getRoutes().entrySet()) {
+            sb.append(entry.getValue()).append('\n');
+        }
+        return sb.toString();
+    }
+
+}
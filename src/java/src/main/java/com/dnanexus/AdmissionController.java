@@ -0,0 +1,327 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Maps;
+
+/**
+ * Limits the number of requests in flight to one API server, shared by all threads and
+ * environments in the process that talk to that server.
+ *
+ * <p>
+ * The concurrency limit adapts to how the server is coping, in the manner of TCP congestion
+ * control (additive increase, multiplicative decrease):
+ * </p>
+ * <ul>
+ * <li>It starts at {@link #INITIAL_LIMIT} and, until the first sign of congestion, grows by one
+ * for every successful request ("slow start"). Afterwards it grows by about one for every
+ * {@code limit} successful requests.</li>
+ * <li>It is halved when a request fails in a way that suggests the server is overloaded (a 5xx
+ * error, 429 Too Many Requests, or a connection that could not be made or timed out), and reduced
+ * by a tenth when the recent latency of a route rises well above that route's long-term average.
+ * Latency is tracked separately for each route, since routes differ widely in how long they take,
+ * and a shift in the mix of calls should not look like congestion. The limit is reduced at most
+ * once per typical request latency, so that a burst of failures from requests that were already
+ * in flight only counts once. Other failures leave the limit unchanged.</li>
+ * <li>A 503 Service Unavailable response pauses all requests to the server for the time the server
+ * asked us to wait (in addition to halving the limit), so that other threads do not keep sending
+ * requests that will be rejected too.</li>
+ * </ul>
+ *
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ */
+class AdmissionController {
+
+    /**
+     * The result of a request, as far as the load on the server is concerned.
+     */
+    static enum Outcome {
+        /**
+         * The server processed the request (including requests that failed with a 4xx error).
+         */
+        SUCCESS,
+        /**
+         * The request failed in a way that suggests the server is overloaded: with a 5xx error,
+         * 429 Too Many Requests, or a connection that could not be made or timed out.
+         */
+        ERROR,
+        /**
+         * The request failed in a way that says nothing about the load on the server (for
+         * example, the connection was reset or the response could not be parsed).
+         */
+        OTHER_FAILURE,
+        /**
+         * The server responded with 503 Service Unavailable.
+         */
+        SERVICE_UNAVAILABLE;
+    }
+
+    static final int INITIAL_LIMIT = 64;
+    static final int MIN_LIMIT = 1;
+    static final int MAX_LIMIT = 1024;
+
+    private static final double ERROR_BACKOFF_RATIO = 0.5;
+    private static final double LATENCY_BACKOFF_RATIO = 0.9;
+
+    /**
+     * The limit is reduced when the short-term average latency exceeds the long-term average by
+     * this factor.
+     */
+    private static final double LATENCY_TOLERANCE = 2.0;
+    private static final double SHORT_TERM_LATENCY_WEIGHT = 0.2;
+    private static final double LONG_TERM_LATENCY_WEIGHT = 0.01;
+    /**
+     * Number of latency samples of a route needed before its long-term average is trusted.
+     */
+    private static final int MIN_LATENCY_SAMPLES = 100;
+
+    /**
+     * Moving averages of the latency of the requests to one route.
+     */
+    private static class RouteLatency {
+        private double shortTermNanos;
+        private double longTermNanos;
+        private long samples = 0;
+
+        /**
+         * Adds a latency sample to the moving averages, and returns whether the recent latency
+         * indicates that the server is congested.
+         */
+        private boolean update(long latencyNanos) {
+            if (samples++ == 0) {
+                shortTermNanos = latencyNanos;
+                longTermNanos = latencyNanos;
+                return false;
+            }
+            shortTermNanos += SHORT_TERM_LATENCY_WEIGHT * (latencyNanos - shortTermNanos);
+            longTermNanos += LONG_TERM_LATENCY_WEIGHT * (latencyNanos - longTermNanos);
+            return samples >= MIN_LATENCY_SAMPLES
+                    && shortTermNanos > LATENCY_TOLERANCE * longTermNanos;
+        }
+    }
+
+    private static final ConcurrentMap<String, AdmissionController> controllers =
+            new ConcurrentHashMap<String, AdmissionController>();
+
+    /**
+     * Returns the controller for the specified API server, which is shared by all requests to
+     * that server.
+     *
+     * @param apiserver API server path, e.g. "https://api.dnanexus.com:443"
+     *
+     * @return admission controller
+     */
+    static AdmissionController forApiserver(String apiserver) {
+        AdmissionController controller = controllers.get(apiserver);
+        if (controller == null) {
+            controller = new AdmissionController();
+            AdmissionController existing = controllers.putIfAbsent(apiserver, controller);
+            if (existing != null) {
+                controller = existing;
+            }
+        }
+        return controller;
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition admissible = lock.newCondition();
+
+    // All of the following are guarded by lock
+    private double limit = INITIAL_LIMIT;
+    private boolean slowStart = true;
+    private int inFlight = 0;
+    private long pausedUntilNanos;
+    private boolean paused = false;
+    private long lastDecreaseNanos;
+    private boolean decreased = false;
+    private final Map<String, RouteLatency> latencies = Maps.newHashMap();
+
+    AdmissionController() {
+    }
+
+    /**
+     * Waits until a request may be sent to the server, that is, until the server is not paused and
+     * fewer than {@link #getLimit()} requests are in flight. Every successful call must be
+     * followed by a call to {@link #release(Outcome, String, long)}.
+     *
+     * @param timeout maximum time to wait
+     * @param unit unit of {@code timeout}
+     *
+     * @return whether the request may be sent ({@code false} if the timeout elapsed first)
+     *
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    boolean acquire(long timeout, TimeUnit unit) throws InterruptedException {
+        long remainingNanos = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            while (true) {
+                long waitNanos = getPauseNanos();
+                if (waitNanos <= 0) {
+                    if (inFlight < (int) limit) {
+                        inFlight++;
+                        return true;
+                    }
+                    waitNanos = remainingNanos;
+                }
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                long waitedNanos = Math.min(waitNanos, remainingNanos);
+                remainingNanos -= waitedNanos - admissible.awaitNanos(waitedNanos);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records the end of a request admitted by {@link #acquire(long, TimeUnit)} and adjusts the
+     * concurrency limit accordingly.
+     *
+     * @param outcome result of the request
+     * @param route route of the request (see {@link APICallStats#getRoute(String)})
+     * @param latencyNanos time taken by the request
+     */
+    void release(Outcome outcome, String route, long latencyNanos) {
+        lock.lock();
+        try {
+            boolean wasSaturated = inFlight >= limit / 2;
+            inFlight--;
+            long now = System.nanoTime();
+            if (outcome == Outcome.SUCCESS) {
+                RouteLatency latency = latencies.get(route);
+                if (latency == null) {
+                    latency = new RouteLatency();
+                    latencies.put(route, latency);
+                }
+                if (latency.update(latencyNanos)) {
+                    decrease(LATENCY_BACKOFF_RATIO, now);
+                } else if (wasSaturated) {
+                    // Don't grow the limit while we're not using it, or it would grow without
+                    // bound when the server is lightly loaded.
+                    limit = Math.min(MAX_LIMIT, limit + (slowStart ? 1.0 : 1.0 / limit));
+                }
+            } else if (outcome != Outcome.OTHER_FAILURE) {
+                decrease(ERROR_BACKOFF_RATIO, now);
+            }
+            admissible.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops admitting requests for the specified time (for example, because the server responded
+     * with 503 Service Unavailable and Retry-After). Requests that are already in flight are not
+     * affected.
+     *
+     * @param millis time to pause for, in milliseconds
+     */
+    void pause(long millis) {
+        lock.lock();
+        try {
+            long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+            if (!paused || until - pausedUntilNanos > 0) {
+                pausedUntilNanos = until;
+                paused = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the time remaining until requests are admitted again, if the server asked us to
+     * pause.
+     *
+     * @return remaining time in milliseconds, or 0 if not paused
+     */
+    long getPauseMillis() {
+        lock.lock();
+        try {
+            long nanos = getPauseNanos();
+            return nanos <= 0 ? 0 : Math.max(TimeUnit.NANOSECONDS.toMillis(nanos), 1);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the current concurrency limit.
+     *
+     * @return maximum number of requests that may be in flight
+     */
+    int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long getPauseNanos() {
+        if (!paused) {
+            return 0;
+        }
+        long nanos = pausedUntilNanos - System.nanoTime();
+        if (nanos <= 0) {
+            paused = false;
+        }
+        return nanos;
+    }
+
+    private void decrease(double ratio, long now) {
+        slowStart = false;
+        // Requests that were sent before the previous decrease took effect shouldn't trigger
+        // another one, so allow at most one decrease per typical request latency (that of the
+        // slowest route, since the requests in flight may be to any route).
+        double typicalLatencyNanos = 0;
+        for (RouteLatency latency : latencies.values()) {
+            typicalLatencyNanos = Math.max(typicalLatencyNanos, latency.longTermNanos);
+        }
+        if (decreased && now - lastDecreaseNanos < (long) typicalLatencyNanos) {
+            return;
+        }
+        limit = Math.max(MIN_LIMIT, limit * ratio);
+        lastDecreaseNanos = now;
+        decreased = true;
+    }
+
+    @Override
+    public String toString() {
+        lock.lock();
+        try {
+            return MoreObjects.toStringHelper(this).add("limit", (int) limit)
+                    .add("inFlight", inFlight).add("pauseMillis", getPauseMillis()).toString();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+}
@@ -0,0 +1,135 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Transport that sends requests over the network with Apache HttpClient, keeping a pool of
+ * keep-alive connections that is shared by all requests sent through it.
+ *
+ * <p>
+ * Idle connections are closed in the background after a configurable timeout. Closing the
+ * transport closes all of its connections.
+ * </p>
+ */
+public class ApacheHttpTransport implements DXTransport {
+
+    /**
+     * Pooled connections are not usually revalidated before being reused; a connection that has
+     * been idle for longer than this is checked first, so that we don't send a request over a
+     * socket that the server has already closed.
+     */
+    private static final int VALIDATE_AFTER_INACTIVITY_MILLIS = 2000;
+
+    /**
+     * A single daemon thread closes idle and expired connections in the pools of all transports.
+     */
+    private static final ScheduledExecutorService idleConnectionEvictor = Executors
+            .newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setDaemon(true)
+                    .setNameFormat("dx-idle-connection-evictor").build());
+
+    /**
+     * Periodically evicts idle connections from a pool. Only a weak reference to the pool is held,
+     * so that a transport that is no longer reachable (and its pool) can be garbage collected;
+     * the task cancels itself once that happens.
+     */
+    private static class IdleConnectionEvictionTask implements Runnable {
+        private final WeakReference<HttpClientConnectionManager> connectionManager;
+        private final long idleTimeoutMillis;
+        private volatile ScheduledFuture<?> future;
+
+        private IdleConnectionEvictionTask(HttpClientConnectionManager connectionManager,
+                long idleTimeoutMillis) {
+            this.connectionManager = new WeakReference<HttpClientConnectionManager>(
+                    connectionManager);
+            this.idleTimeoutMillis = idleTimeoutMillis;
+        }
+
+        private void schedule() {
+            long period = Math.max(idleTimeoutMillis / 2, 1000);
+            future = idleConnectionEvictor.scheduleWithFixedDelay(this, period, period,
+                    TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void run() {
+            HttpClientConnectionManager manager = connectionManager.get();
+            if (manager == null) {
+                future.cancel(false);
+                return;
+            }
+            manager.closeExpiredConnections();
+            manager.closeIdleConnections(idleTimeoutMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private final CloseableHttpClient httpClient;
+
+    /**
+     * Creates a transport with a new connection pool.
+     *
+     * @param maxConnections maximum number of connections that may be kept open (in use or idle)
+     * @param maxConnectionsPerRoute maximum number of connections that may be kept open to any
+     *        one host
+     * @param idleConnectionTimeout time a pooled connection may sit unused before it is closed
+     * @param unit unit of {@code idleConnectionTimeout}
+     */
+    public ApacheHttpTransport(int maxConnections, int maxConnectionsPerRoute,
+            long idleConnectionTimeout, TimeUnit unit) {
+        Preconditions.checkArgument(maxConnections > 0, "maxConnections must be positive");
+        Preconditions.checkArgument(maxConnectionsPerRoute > 0,
+                "maxConnectionsPerRoute must be positive");
+        Preconditions.checkArgument(idleConnectionTimeout > 0,
+                "idleConnectionTimeout must be positive");
+        PoolingHttpClientConnectionManager connectionManager =
+                new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        connectionManager.setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY_MILLIS);
+        httpClient = HttpClientBuilder.create().setUserAgent(DXUserAgent.getUserAgent())
+                .setConnectionManager(connectionManager).build();
+        new IdleConnectionEvictionTask(connectionManager, unit.toMillis(idleConnectionTimeout))
+                .schedule();
+    }
+
+    @Override
+    public CloseableHttpResponse execute(HttpUriRequest request) throws IOException {
+        return httpClient.execute(request);
+    }
+
+    @Override
+    public void close() throws IOException {
+        httpClient.close();
+    }
+
+}
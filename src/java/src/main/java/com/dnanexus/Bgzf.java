@@ -0,0 +1,239 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Constants and block encoding of the BGZF format (blocked gzip, as used by BAM, tabix-indexed
+ * VCF, and other indexed genomics formats).
+ *
+ * <p>
+ * A BGZF file is a series of gzip members ("blocks"), each at most 64 KiB long, whose gzip header
+ * has an extra subfield ("BC") that records the length of the block, followed by an empty block
+ * that marks the end of the file. Since each block is compressed independently, blocks can be
+ * compressed and decompressed in parallel, and the file remains a valid gzip file.
+ * </p>
+ */
+final class Bgzf {
+
+    /**
+     * Maximum size of a block, including its header and footer.
+     */
+    static final int MAX_BLOCK_SIZE = 64 * 1024;
+
+    /**
+     * Maximum number of bytes of data compressed into one block. This is a little less than
+     * 64 KiB so that incompressible data still fits in a block when it is stored uncompressed.
+     */
+    static final int MAX_DATA_SIZE = MAX_BLOCK_SIZE - 256;
+
+    /**
+     * Size of the gzip header of a block, including the BC extra subfield.
+     */
+    static final int HEADER_SIZE = 18;
+
+    /**
+     * Size of the gzip footer of a block (CRC32 and uncompressed size).
+     */
+    static final int FOOTER_SIZE = 8;
+
+    /**
+     * Empty block that marks the end of a BGZF file.
+     */
+    static final byte[] EOF_BLOCK = {0x1f, (byte) 0x8b, 0x08, 0x04, 0x00, 0x00, 0x00, 0x00, 0x00,
+            (byte) 0xff, 0x06, 0x00, 0x42, 0x43, 0x02, 0x00, 0x1b, 0x00, 0x03, 0x00, 0x00, 0x00,
+            0x00, 0x00, 0x00, 0x00, 0x00, 0x00};
+
+    private Bgzf() {}
+
+    /**
+     * Compresses data into one block.
+     *
+     * @param data array containing the data
+     * @param length number of bytes of data (starting at index 0), at most {@link #MAX_DATA_SIZE}
+     * @param deflater deflater with which to compress the data, created with {@code nowrap}; it is
+     *        reset before use
+     *
+     * @return the block
+     */
+    static byte[] compressBlock(byte[] data, int length, Deflater deflater) {
+        byte[] block = new byte[MAX_BLOCK_SIZE];
+        int maxCompressedSize = MAX_BLOCK_SIZE - HEADER_SIZE - FOOTER_SIZE;
+        deflater.reset();
+        deflater.setInput(data, 0, length);
+        deflater.finish();
+        int compressedSize = deflater.deflate(block, HEADER_SIZE, maxCompressedSize);
+        if (!deflater.finished()) {
+            // Compression made the data larger than a block can hold; store it instead
+            Deflater store = new Deflater(Deflater.NO_COMPRESSION, true);
+            try {
+                store.setInput(data, 0, length);
+                store.finish();
+                compressedSize = store.deflate(block, HEADER_SIZE, maxCompressedSize);
+            } finally {
+                store.end();
+            }
+        }
+        int blockSize = HEADER_SIZE + compressedSize + FOOTER_SIZE;
+
+        // gzip header with FEXTRA set, no modification time, and unknown OS
+        block[0] = 0x1f;
+        block[1] = (byte) 0x8b;
+        block[2] = 8;
+        block[3] = 4;
+        block[9] = (byte) 0xff;
+        // XLEN, then the BC subfield: SI1, SI2, SLEN, and the block size minus 1
+        putShort(block, 10, 6);
+        block[12] = 'B';
+        block[13] = 'C';
+        putShort(block, 14, 2);
+        putShort(block, 16, blockSize - 1);
+
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, length);
+        putInt(block, HEADER_SIZE + compressedSize, (int) crc.getValue());
+        putInt(block, HEADER_SIZE + compressedSize + 4, length);
+        return Arrays.copyOf(block, blockSize);
+    }
+
+    /**
+     * Returns whether the specified bytes begin with the header of a BGZF block.
+     *
+     * @param buffer array containing the bytes
+     * @param length number of bytes (starting at index 0)
+     *
+     * @return whether the bytes are the start of a BGZF block
+     */
+    static boolean isBlockHeader(byte[] buffer, int length) {
+        return isBlockHeader(buffer, 0, length);
+    }
+
+    /**
+     * Returns whether the specified bytes begin with the header of a BGZF block.
+     *
+     * @param buffer array containing the bytes
+     * @param offset offset of the bytes in the array
+     * @param length number of bytes
+     *
+     * @return whether the bytes are the start of a BGZF block
+     */
+    static boolean isBlockHeader(byte[] buffer, int offset, int length) {
+        return length >= HEADER_SIZE && (buffer[offset] & 0xff) == 0x1f
+                && (buffer[offset + 1] & 0xff) == 0x8b && buffer[offset + 2] == 8
+                && (buffer[offset + 3] & 4) != 0 && getBlockSizeField(buffer, offset,
+                        getShort(buffer, offset + 10)) >= 0;
+    }
+
+    /**
+     * Returns the total size of a BGZF block, including its header and footer.
+     *
+     * @param buffer array containing the block header
+     * @param offset offset of the header in the array, which must satisfy
+     *        {@link #isBlockHeader(byte[], int, int)}
+     *
+     * @return size of the block in bytes
+     */
+    static int getBlockSize(byte[] buffer, int offset) {
+        return getBlockSizeField(buffer, offset, getShort(buffer, offset + 10)) + 1;
+    }
+
+    /**
+     * Returns the value of the BC subfield (the block size minus 1) in the extra field of a gzip
+     * header.
+     *
+     * @param buffer array containing the header
+     * @param offset offset of the header in the array
+     * @param extraLength length of the extra field (XLEN), which must all be in the array
+     *
+     * @return block size minus 1, or -1 if there is no BC subfield
+     */
+    static int getBlockSizeField(byte[] buffer, int offset, int extraLength) {
+        int position = offset + 12;
+        int end = Math.min(position + extraLength, buffer.length);
+        while (position + 4 <= end) {
+            int subfieldLength = getShort(buffer, position + 2);
+            if (buffer[position] == 'B' && buffer[position + 1] == 'C' && subfieldLength == 2
+                    && position + 6 <= end) {
+                return getShort(buffer, position + 4);
+            }
+            position += 4 + subfieldLength;
+        }
+        return -1;
+    }
+
+    /**
+     * Decompresses one block.
+     *
+     * @param block array containing the block, starting at index 0
+     * @param blockSize size of the block
+     * @param inflater inflater with which to decompress the data, created with {@code nowrap};
+     *        it is reset before use
+     *
+     * @return decompressed data
+     *
+     * @throws DataFormatException if the block is corrupt
+     */
+    static byte[] decompressBlock(byte[] block, int blockSize, Inflater inflater)
+            throws DataFormatException {
+        int dataOffset = 12 + getShort(block, 10);
+        int dataSize = getInt(block, blockSize - 4);
+        if (dataOffset + FOOTER_SIZE > blockSize || dataSize < 0 || dataSize > MAX_BLOCK_SIZE) {
+            throw new DataFormatException("Invalid BGZF block");
+        }
+        byte[] data = new byte[dataSize];
+        inflater.reset();
+        inflater.setInput(block, dataOffset, blockSize - FOOTER_SIZE - dataOffset);
+        int n = 0;
+        while (n < dataSize && !inflater.finished()) {
+            int inflated = inflater.inflate(data, n, dataSize - n);
+            if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                break;
+            }
+            n += inflated;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, n);
+        if (n != dataSize || (int) crc.getValue() != getInt(block, blockSize - 8)) {
+            throw new DataFormatException("BGZF block failed its CRC check");
+        }
+        return data;
+    }
+
+    private static int getShort(byte[] buffer, int offset) {
+        return (buffer[offset] & 0xff) | (buffer[offset + 1] & 0xff) << 8;
+    }
+
+    private static int getInt(byte[] buffer, int offset) {
+        return getShort(buffer, offset) | getShort(buffer, offset + 2) << 16;
+    }
+
+    private static void putShort(byte[] buffer, int offset, int value) {
+        buffer[offset] = (byte) value;
+        buffer[offset + 1] = (byte) (value >>> 8);
+    }
+
+    private static void putInt(byte[] buffer, int offset, int value) {
+        putShort(buffer, offset, value);
+        putShort(buffer, offset + 2, value >>> 16);
+    }
+
+}
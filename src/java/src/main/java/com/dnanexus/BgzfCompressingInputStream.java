@@ -0,0 +1,224 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.Deflater;
+
+import com.google.common.base.Preconditions;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Stream of the BGZF-compressed contents of another stream, compressed by a pool of threads.
+ *
+ * <p>
+ * The source is read on the calling thread, {@link Bgzf#MAX_DATA_SIZE} bytes at a time, and each
+ * block is compressed on a worker thread. Up to twice as many blocks as there are threads are
+ * compressed ahead of the reader; blocks are returned in the order in which they were read, so
+ * the output is the same as that of compressing the source on one thread. The end-of-file
+ * marker block is appended after the last block.
+ * </p>
+ *
+ * <p>
+ * Reads are synchronized. Closing the stream stops the workers, but does not close the source.
+ * </p>
+ */
+class BgzfCompressingInputStream extends InputStream {
+
+    private final InputStream source;
+    private final int window;
+    private final int level;
+    private final ExecutorService executor;
+
+    /**
+     * Deflaters not currently in use by a worker.
+     */
+    private final Queue<Deflater> deflaters = new ConcurrentLinkedQueue<Deflater>();
+
+    /**
+     * Blocks being compressed, in order.
+     */
+    private final Deque<Future<byte[]>> pending = new ArrayDeque<Future<byte[]>>();
+    private boolean sourceExhausted = false;
+    private boolean eofBlockReturned = false;
+
+    /**
+     * Block being read, and the offset of the next byte to read in it.
+     */
+    private byte[] block;
+    private int offset;
+
+    /**
+     * Whether the stream has been closed. Workers that finish after the stream was closed end the
+     * deflaters they give back, because close() may already have ended the idle ones.
+     */
+    private volatile boolean closed = false;
+
+    /**
+     * Creates a stream that compresses the specified source.
+     *
+     * @param source stream of uncompressed data
+     * @param threads number of threads compressing blocks
+     * @param level compression level (0-9, or {@link Deflater#DEFAULT_COMPRESSION})
+     */
+    BgzfCompressingInputStream(InputStream source, int threads, int level) {
+        Preconditions.checkArgument(threads >= 1, "threads must be positive");
+        this.source = Preconditions.checkNotNull(source);
+        this.window = 2 * threads;
+        this.level = level;
+        this.executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+                .setDaemon(true).setNameFormat("dx-bgzf-compress-%d").build());
+    }
+
+    /**
+     * Reads blocks from the source and queues them for compression until the window is full or
+     * the source has been read to the end.
+     */
+    private void fillWindow() throws IOException {
+        while (pending.size() < window && !sourceExhausted) {
+            final byte[] data = new byte[Bgzf.MAX_DATA_SIZE];
+            final int length = ByteStreams.read(source, data, 0, data.length);
+            if (length < data.length) {
+                sourceExhausted = true;
+            }
+            if (length == 0) {
+                break;
+            }
+            pending.add(executor.submit(new Callable<byte[]>() {
+                @Override
+                public byte[] call() {
+                    Deflater deflater = deflaters.poll();
+                    if (deflater == null) {
+                        deflater = new Deflater(level, true);
+                    }
+                    try {
+                        return Bgzf.compressBlock(data, length, deflater);
+                    } finally {
+                        deflaters.add(deflater);
+                        if (closed) {
+                            endDeflaters();
+                        }
+                    }
+                }
+            }));
+        }
+    }
+
+    /**
+     * Makes sure that there is a current block with bytes left to read, waiting for the next
+     * block to be compressed if necessary.
+     *
+     * @return whether there is anything left to read
+     */
+    private boolean ensureBlock() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        while (block == null || offset == block.length) {
+            fillWindow();
+            Future<byte[]> next = pending.peek();
+            if (next == null) {
+                if (eofBlockReturned) {
+                    return false;
+                }
+                block = Bgzf.EOF_BLOCK;
+                eofBlockReturned = true;
+            } else {
+                block = null;
+                // The block stays at the head of the window until it has been taken, so that if
+                // it could not be compressed, every later read fails too instead of skipping it
+                try {
+                    block = next.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException();
+                } catch (ExecutionException e) {
+                    throw new IOException(e.getCause());
+                }
+                pending.poll();
+            }
+            offset = 0;
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized int read() throws IOException {
+        if (!ensureBlock()) {
+            return -1;
+        }
+        return block[offset++] & 0xff;
+    }
+
+    @Override
+    public synchronized int read(byte[] b, int off, int len) throws IOException {
+        Preconditions.checkPositionIndexes(off, off + len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensureBlock()) {
+            return -1;
+        }
+        int n = Math.min(len, block.length - offset);
+        System.arraycopy(block, offset, b, off, n);
+        offset += n;
+        return n;
+    }
+
+    @Override
+    public synchronized int available() {
+        return (closed || block == null) ? 0 : block.length - offset;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        block = null;
+        for (Future<byte[]> future : pending) {
+            future.cancel(true);
+        }
+        pending.clear();
+        executor.shutdownNow();
+        endDeflaters();
+    }
+
+    /**
+     * Ends the deflaters that are not in use by a worker, releasing their native memory.
+     */
+    private void endDeflaters() {
+        Deflater deflater;
+        while ((deflater = deflaters.poll()) != null) {
+            deflater.end();
+        }
+    }
+
+}
@@ -0,0 +1,275 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.PushbackInputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.DataFormatException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+import com.google.common.base.Preconditions;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Stream of the decompressed contents of a BGZF stream, decompressed by a pool of threads.
+ *
+ * <p>
+ * Blocks are read from the source on the calling thread, using the block size recorded in each
+ * block's header, and each block is decompressed on a worker thread. Up to twice as many blocks as
+ * there are threads are decompressed ahead of the reader, and their data is returned in order.
+ * Use {@link #open(InputStream, int)} to read a stream that may be either BGZF or plain gzip.
+ * </p>
+ *
+ * <p>
+ * Reads are synchronized. Closing the stream stops the workers and closes the source.
+ * </p>
+ */
+class BgzfDecompressingInputStream extends InputStream {
+
+    /**
+     * Returns a stream of the decompressed contents of a gzip stream. BGZF streams are
+     * decompressed in parallel with a {@code BgzfDecompressingInputStream}; other gzip streams are
+     * decompressed serially with a {@link GZIPInputStream}.
+     *
+     * @param source stream of compressed data
+     * @param threads number of threads decompressing blocks of a BGZF stream
+     *
+     * @return stream of decompressed data
+     *
+     * @throws ZipException if the source is not in gzip format
+     * @throws IOException if the source could not be read
+     */
+    static InputStream open(InputStream source, int threads) throws IOException {
+        PushbackInputStream pushback = new PushbackInputStream(source, Bgzf.HEADER_SIZE);
+        byte[] header = new byte[Bgzf.HEADER_SIZE];
+        int n = ByteStreams.read(pushback, header, 0, header.length);
+        pushback.unread(header, 0, n);
+        if (Bgzf.isBlockHeader(header, n)) {
+            return new BgzfDecompressingInputStream(pushback, threads);
+        }
+        return new GZIPInputStream(pushback, Bgzf.MAX_BLOCK_SIZE);
+    }
+
+    private final InputStream source;
+    private final int window;
+    private final ExecutorService executor;
+
+    /**
+     * Inflaters not currently in use by a worker.
+     */
+    private final Queue<Inflater> inflaters = new ConcurrentLinkedQueue<Inflater>();
+
+    /**
+     * Blocks being decompressed, in order.
+     */
+    private final Deque<Future<byte[]>> pending = new ArrayDeque<Future<byte[]>>();
+    private boolean sourceExhausted = false;
+
+    /**
+     * Decompressed data being read, and the offset of the next byte to read in it.
+     */
+    private byte[] data;
+    private int offset;
+
+    /**
+     * Whether the stream has been closed. Workers that finish after the stream was closed end the
+     * inflaters they give back, because close() may already have ended the idle ones.
+     */
+    private volatile boolean closed = false;
+
+    /**
+     * Creates a stream that decompresses the specified BGZF source.
+     *
+     * @param source stream of BGZF data
+     * @param threads number of threads decompressing blocks
+     */
+    BgzfDecompressingInputStream(InputStream source, int threads) {
+        Preconditions.checkArgument(threads >= 1, "threads must be positive");
+        this.source = Preconditions.checkNotNull(source);
+        this.window = 2 * threads;
+        this.executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+                .setDaemon(true).setNameFormat("dx-bgzf-decompress-%d").build());
+    }
+
+    /**
+     * Reads the next block from the source.
+     *
+     * @return the block, or {@code null} at the end of the source
+     */
+    private byte[] readBlock() throws IOException {
+        byte[] block = new byte[Bgzf.MAX_BLOCK_SIZE];
+        int n = ByteStreams.read(source, block, 0, 12);
+        if (n == 0) {
+            return null;
+        }
+        if (n < 12) {
+            throw new EOFException("Truncated BGZF block");
+        }
+        int extraLength = (block[10] & 0xff) | (block[11] & 0xff) << 8;
+        if (12 + extraLength > block.length) {
+            throw new ZipException("Not a BGZF block");
+        }
+        ByteStreams.readFully(source, block, 12, extraLength);
+        int blockSizeField = Bgzf.getBlockSizeField(block, 0, extraLength);
+        if ((block[0] & 0xff) != 0x1f || (block[1] & 0xff) != 0x8b || blockSizeField < 0
+                || blockSizeField + 1 < 12 + extraLength + Bgzf.FOOTER_SIZE) {
+            throw new ZipException("Not a BGZF block");
+        }
+        int blockSize = blockSizeField + 1;
+        ByteStreams.readFully(source, block, 12 + extraLength, blockSize - 12 - extraLength);
+        return block;
+    }
+
+    /**
+     * Reads blocks from the source and queues them for decompression until the window is full
+     * or the source has been read to the end.
+     */
+    private void fillWindow() throws IOException {
+        while (pending.size() < window && !sourceExhausted) {
+            final byte[] block = readBlock();
+            if (block == null) {
+                sourceExhausted = true;
+                break;
+            }
+            final int blockSize = Bgzf.getBlockSizeField(block, 0,
+                    (block[10] & 0xff) | (block[11] & 0xff) << 8) + 1;
+            pending.add(executor.submit(new Callable<byte[]>() {
+                @Override
+                public byte[] call() throws DataFormatException {
+                    Inflater inflater = inflaters.poll();
+                    if (inflater == null) {
+                        inflater = new Inflater(true);
+                    }
+                    try {
+                        return Bgzf.decompressBlock(block, blockSize, inflater);
+                    } finally {
+                        inflaters.add(inflater);
+                        if (closed) {
+                            endInflaters();
+                        }
+                    }
+                }
+            }));
+        }
+    }
+
+    /**
+     * Makes sure that there is current data with bytes left to read, waiting for the next block
+     * to be decompressed if necessary.
+     *
+     * @return whether there is anything left to read
+     */
+    private boolean ensureData() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        while (data == null || offset == data.length) {
+            fillWindow();
+            Future<byte[]> next = pending.peek();
+            if (next == null) {
+                return false;
+            }
+            data = null;
+            // The block stays at the head of the window until it has been taken, so that if it
+            // could not be decompressed, every later read fails too instead of skipping it
+            try {
+                data = next.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof DataFormatException) {
+                    throw new ZipException(e.getCause().getMessage());
+                }
+                throw new IOException(e.getCause());
+            }
+            pending.poll();
+            offset = 0;
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized int read() throws IOException {
+        if (!ensureData()) {
+            return -1;
+        }
+        return data[offset++] & 0xff;
+    }
+
+    @Override
+    public synchronized int read(byte[] b, int off, int len) throws IOException {
+        Preconditions.checkPositionIndexes(off, off + len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensureData()) {
+            return -1;
+        }
+        int n = Math.min(len, data.length - offset);
+        System.arraycopy(data, offset, b, off, n);
+        offset += n;
+        return n;
+    }
+
+    @Override
+    public synchronized int available() {
+        return (closed || data == null) ? 0 : data.length - offset;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        data = null;
+        for (Future<byte[]> future : pending) {
+            future.cancel(true);
+        }
+        pending.clear();
+        executor.shutdownNow();
+        endInflaters();
+        source.close();
+    }
+
+    /**
+     * Ends the inflaters that are not in use by a worker, releasing their native memory.
+     */
+    private void endInflaters() {
+        Inflater inflater;
+        while ((inflater = inflaters.poll()) != null) {
+            inflater.end();
+        }
+    }
+
+}
@@ -0,0 +1,121 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+
+package com.dnanexus;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ContentType;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * HTTP request entity whose content is the remaining bytes of a {@link ByteBuffer}, which may be
+ * a direct or memory-mapped buffer.
+ *
+ * <p>
+ * The position and limit of the buffer are never changed, so the entity is repeatable, and the
+ * buffer may be read by other threads (using their own duplicates) at the same time. The content
+ * of the buffer must not be modified while the request is in progress.
+ * </p>
+ */
+class ByteBufferEntity extends AbstractHttpEntity {
+
+    /**
+     * Size of the chunks in which the content is copied to the connection.
+     */
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final ByteBuffer buffer;
+
+    /**
+     * Creates an entity with the remaining bytes of the specified buffer.
+     *
+     * @param buffer buffer with the content
+     */
+    public ByteBufferEntity(ByteBuffer buffer) {
+        this.buffer = Preconditions.checkNotNull(buffer, "buffer may not be null").duplicate();
+        setContentType(ContentType.APPLICATION_OCTET_STREAM.toString());
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return buffer.remaining();
+    }
+
+    @Override
+    public InputStream getContent() {
+        final ByteBuffer content = buffer.duplicate();
+        return new InputStream() {
+            @Override
+            public int read() {
+                return content.hasRemaining() ? content.get() & 0xff : -1;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if (len == 0) {
+                    return 0;
+                }
+                if (!content.hasRemaining()) {
+                    return -1;
+                }
+                int n = Math.min(len, content.remaining());
+                content.get(b, off, n);
+                return n;
+            }
+
+            @Override
+            public int available() {
+                return content.remaining();
+            }
+        };
+    }
+
+    @Override
+    public void writeTo(OutputStream outstream) throws IOException {
+        Preconditions.checkNotNull(outstream, "outstream may not be null");
+        ByteBuffer content = buffer.duplicate();
+        if (content.hasArray()) {
+            outstream.write(content.array(), content.arrayOffset() + content.position(),
+                    content.remaining());
+        } else {
+            byte[] chunk = new byte[Math.min(CHUNK_SIZE, content.remaining())];
+            while (content.hasRemaining()) {
+                int n = Math.min(chunk.length, content.remaining());
+                content.get(chunk, 0, n);
+                outstream.write(chunk, 0, n);
+            }
+        }
+        outstream.flush();
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+
+}
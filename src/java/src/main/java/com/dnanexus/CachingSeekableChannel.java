@@ -0,0 +1,246 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+
+package com.dnanexus;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.dnanexus.exceptions.DXHTTPException;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Maps;
+
+/**
+ * Read-only random-access channel over the contents of a file, which serves reads from an LRU
+ * cache of fixed-size blocks downloaded with HTTP Range requests.
+ *
+ * <p>
+ * When a read needs blocks that are not cached, consecutive missing blocks are downloaded with a
+ * single request. Reads that continue where the previous read ended are treated as a sequential
+ * run: each one fetches more blocks past the end of the read than the last (doubling, up to
+ * {@link DXFile.SeekableChannelOptions#getPrefetchBlocks()}), so that scanning a region takes few
+ * requests while an isolated seek transfers little more than it needs.
+ * </p>
+ *
+ * <p>
+ * This class is thread-safe; all operations are synchronized.
+ * </p>
+ */
+class CachingSeekableChannel implements SeekableByteChannel {
+
+    private final FileDownloader downloader;
+    private final long size;
+    private final int blockSize;
+    private final int cacheBlocks;
+    private final int maxPrefetchBlocks;
+
+    /**
+     * Cached blocks by index, least recently used first.
+     */
+    private final LinkedHashMap<Long, byte[]> cache;
+
+    private long position = 0;
+    private boolean open = true;
+
+    /**
+     * Position after the end of the last read, and the number of blocks prefetched by it.
+     */
+    private long lastReadEnd = -1;
+    private int prefetchBlocks = 0;
+
+    /**
+     * Creates a channel over the specified file. No data is downloaded until the first read.
+     *
+     * @param file file to read, which must be closed
+     * @param env environment whose transport and retry policy are used
+     * @param options block size and cache options
+     * @param size size of the file
+     */
+    CachingSeekableChannel(DXFile file, DXEnvironment env, DXFile.SeekableChannelOptions options,
+            long size) {
+        this.downloader = new FileDownloader(file, env, DXFile.DownloadOptions.get());
+        this.size = size;
+        this.blockSize = options.getBlockSize();
+        this.cacheBlocks = options.getCacheBlocks();
+        this.maxPrefetchBlocks = options.getPrefetchBlocks();
+        final int capacity = this.cacheBlocks;
+        this.cache = new LinkedHashMap<Long, byte[]>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, byte[]> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    private void checkOpen() throws ClosedChannelException {
+        if (!open) {
+            throw new ClosedChannelException();
+        }
+    }
+
+    @Override
+    public synchronized int read(ByteBuffer dst) throws IOException {
+        checkOpen();
+        if (position >= size) {
+            return -1;
+        }
+        if (!dst.hasRemaining()) {
+            return 0;
+        }
+        long lastBlock = (size - 1) / blockSize;
+        long firstNeeded = position / blockSize;
+        long lastNeeded = Math.min((position + dst.remaining() - 1) / blockSize, lastBlock);
+        // Don't read more in one call than the cache can hold
+        lastNeeded = Math.min(lastNeeded, firstNeeded + cacheBlocks - 1);
+
+        if (position == lastReadEnd) {
+            prefetchBlocks = Math.min(Math.max(prefetchBlocks * 2, 1), maxPrefetchBlocks);
+        } else {
+            prefetchBlocks = 0;
+        }
+        long lastFetched = lastNeeded;
+        if (prefetchBlocks > 0) {
+            // Top up the prefetched blocks only once the reader is halfway through them, so that
+            // a sequential scan makes one request per several blocks instead of one per block
+            long limit = Math.min(lastBlock, firstNeeded + cacheBlocks - 1);
+            long halfway = Math.min(lastNeeded + (prefetchBlocks + 1) / 2, limit);
+            if (!cache.containsKey(halfway)) {
+                lastFetched = Math.min(lastNeeded + prefetchBlocks, limit);
+            }
+        }
+
+        Map<Long, byte[]> blocks = getBlocks(firstNeeded, lastFetched);
+
+        int total = 0;
+        for (long index = firstNeeded; index <= lastNeeded && dst.hasRemaining(); ++index) {
+            byte[] block = blocks.get(index);
+            int offset = (int) (position - index * blockSize);
+            int n = Math.min(dst.remaining(), block.length - offset);
+            dst.put(block, offset, n);
+            position += n;
+            total += n;
+        }
+        lastReadEnd = position;
+        return total;
+    }
+
+    /**
+     * Returns the specified blocks, downloading those that are not cached (coalescing runs of
+     * consecutive missing blocks into one request) and adding them to the cache.
+     */
+    private Map<Long, byte[]> getBlocks(long first, long last) throws IOException {
+        Map<Long, byte[]> blocks = Maps.newHashMap();
+        long runStart = -1;
+        for (long index = first; index <= last + 1; ++index) {
+            byte[] block = (index <= last) ? cache.get(index) : null;
+            if (block != null) {
+                blocks.put(index, block);
+            }
+            boolean missing = index <= last && block == null;
+            if (missing && runStart < 0) {
+                runStart = index;
+            } else if (!missing && runStart >= 0) {
+                fetchRun(runStart, index - 1, blocks);
+                runStart = -1;
+            }
+        }
+        return blocks;
+    }
+
+    /**
+     * Downloads a run of consecutive blocks with one request, directly into new block arrays.
+     */
+    private void fetchRun(long first, long last, Map<Long, byte[]> blocks) throws IOException {
+        final long start = first * blockSize;
+        long end = Math.min((last + 1) * blockSize, size);
+        final byte[][] run = new byte[(int) (last - first + 1)][];
+        for (int i = 0; i < run.length; ++i) {
+            run[i] = new byte[(int) Math.min(blockSize, end - start - (long) i * blockSize)];
+        }
+        try {
+            downloader.fetch(start, end, new FileDownloader.RangeSink() {
+                @Override
+                public void write(long position, byte[] buffer, int length) {
+                    int copied = 0;
+                    while (copied < length) {
+                        long offsetInRun = position + copied - start;
+                        byte[] block = run[(int) (offsetInRun / blockSize)];
+                        int offset = (int) (offsetInRun % blockSize);
+                        int n = Math.min(length - copied, block.length - offset);
+                        System.arraycopy(buffer, copied, block, offset, n);
+                        copied += n;
+                    }
+                }
+            });
+        } catch (DXHTTPException e) {
+            throw new IOException(e.getCause());
+        }
+        for (int i = 0; i < run.length; ++i) {
+            blocks.put(first + i, run[i]);
+            cache.put(first + i, run[i]);
+        }
+    }
+
+    @Override
+    public int write(ByteBuffer src) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public synchronized long position() throws IOException {
+        checkOpen();
+        return position;
+    }
+
+    @Override
+    public synchronized SeekableByteChannel position(long newPosition) throws IOException {
+        Preconditions.checkArgument(newPosition >= 0, "newPosition may not be negative");
+        checkOpen();
+        position = newPosition;
+        return this;
+    }
+
+    @Override
+    public synchronized long size() throws IOException {
+        checkOpen();
+        return size;
+    }
+
+    @Override
+    public SeekableByteChannel truncate(long newSize) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public synchronized boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public synchronized void close() {
+        open = false;
+        cache.clear();
+    }
+
+}
@@ -11,6 +11,7 @@ import com.dnanexus.exceptions.DXAPIException;
 import com.dnanexus.exceptions.DXHTTPException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.ListenableFuture;
 
 /**
  * Utility class containing low-level wrappers for invoking DNAnexus API methods.
@@ -63,9 +64,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T analysisAddTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the analysisAddTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -108,9 +108,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T analysisAddTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the analysisAddTags method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> analysisAddTagsAsync(String objectId, Class<T> outputClass) {
+        return analysisAddTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the analysisAddTags method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> analysisAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the analysisAddTags method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> analysisAddTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return analysisAddTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the analysisAddTags method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> analysisAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -247,9 +305,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T analysisDescribe(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "describe",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the analysisDescribe method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -292,9 +349,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T analysisDescribe(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the analysisDescribe method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> analysisDescribeAsync(String objectId, Class<T> outputClass) {
+        return analysisDescribeAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the analysisDescribe method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> analysisDescribeAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the analysisDescribe method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> analysisDescribeAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return analysisDescribeAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the analysisDescribe method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> analysisDescribeAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -431,9 +546,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T analysisRemoveTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the analysisRemoveTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -476,9 +590,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T analysisRemoveTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the analysisRemoveTags method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> analysisRemoveTagsAsync(String objectId, Class<T> outputClass) {
+        return analysisRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the analysisRemoveTags method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> analysisRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the analysisRemoveTags method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> analysisRemoveTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return analysisRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the analysisRemoveTags method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> analysisRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -615,9 +787,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T analysisSetProperties(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setProperties",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setProperties",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the analysisSetProperties method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -660,9 +831,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T analysisSetProperties(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setProperties",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setProperties",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the analysisSetProperties method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> analysisSetPropertiesAsync(String objectId, Class<T> outputClass) {
+        return analysisSetPropertiesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the analysisSetProperties method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> analysisSetPropertiesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setProperties",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the analysisSetProperties method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> analysisSetPropertiesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return analysisSetPropertiesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the analysisSetProperties method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> analysisSetPropertiesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setProperties",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -799,9 +1028,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T analysisTerminate(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "terminate",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "terminate",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the analysisTerminate method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -844,9 +1072,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T analysisTerminate(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "terminate",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "terminate",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the analysisTerminate method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2Fterminate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> analysisTerminateAsync(String objectId, Class<T> outputClass) {
+        return analysisTerminateAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the analysisTerminate method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2Fterminate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> analysisTerminateAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "terminate",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the analysisTerminate method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2Fterminate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> analysisTerminateAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return analysisTerminateAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the analysisTerminate method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fanalysis-xxxx%2Fterminate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> analysisTerminateAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "terminate",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -983,9 +1269,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appAddAuthorizedUsers(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addAuthorizedUsers",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addAuthorizedUsers",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the appAddAuthorizedUsers method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -1028,9 +1313,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appAddAuthorizedUsers(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addAuthorizedUsers",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addAuthorizedUsers",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the appAddAuthorizedUsers method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addAuthorizedUsers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appAddAuthorizedUsersAsync(String objectId, Class<T> outputClass) {
+        return appAddAuthorizedUsersAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appAddAuthorizedUsers method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addAuthorizedUsers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appAddAuthorizedUsersAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addAuthorizedUsers",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the appAddAuthorizedUsers method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addAuthorizedUsers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appAddAuthorizedUsersAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appAddAuthorizedUsersAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appAddAuthorizedUsers method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addAuthorizedUsers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appAddAuthorizedUsersAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addAuthorizedUsers",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -1167,9 +1510,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appAddCategories(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addCategories",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addCategories",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the appAddCategories method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -1212,24 +1554,82 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appAddCategories(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addCategories",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addCategories",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
-     * Invokes the appAddCategories method.
+     * Invokes the appAddCategories method asynchronously with an empty input, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addCategories">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appAddCategoriesAsync(String objectId, Class<T> outputClass) {
+        return appAddCategoriesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appAddCategories method asynchronously with the given input, deserializing to an object of the specified class.
      *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addCategories">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appAddCategoriesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addCategories",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the appAddCategories method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addCategories">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appAddCategoriesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appAddCategoriesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appAddCategories method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addCategories">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appAddCategoriesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addCategories",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the appAddCategories method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addCategories">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
      *             If an error occurs while making the HTTP request or obtaining
      *             the response (includes HTTP protocol errors).
      *
@@ -1351,9 +1751,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appAddDevelopers(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addDevelopers",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addDevelopers",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the appAddDevelopers method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -1396,9 +1795,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appAddDevelopers(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addDevelopers",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addDevelopers",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the appAddDevelopers method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addDevelopers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appAddDevelopersAsync(String objectId, Class<T> outputClass) {
+        return appAddDevelopersAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appAddDevelopers method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addDevelopers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appAddDevelopersAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addDevelopers",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the appAddDevelopers method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addDevelopers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appAddDevelopersAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appAddDevelopersAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appAddDevelopers method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addDevelopers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appAddDevelopersAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addDevelopers",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -1535,9 +1992,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appAddTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the appAddTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -1580,9 +2036,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appAddTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the appAddTags method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appAddTagsAsync(String objectId, Class<T> outputClass) {
+        return appAddTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appAddTags method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the appAddTags method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appAddTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appAddTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appAddTags method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/addTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -1719,9 +2233,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appDelete(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "delete",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "delete",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the appDelete method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -1764,9 +2277,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appDelete(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "delete",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "delete",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the appDelete method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/delete">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appDeleteAsync(String objectId, Class<T> outputClass) {
+        return appDeleteAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appDelete method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/delete">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appDeleteAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "delete",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the appDelete method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/delete">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appDeleteAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appDeleteAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appDelete method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/delete">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appDeleteAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "delete",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -1903,9 +2474,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appDescribe(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "describe",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the appDescribe method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -1948,9 +2518,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appDescribe(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the appDescribe method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/describe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appDescribeAsync(String objectId, Class<T> outputClass) {
+        return appDescribeAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appDescribe method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/describe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appDescribeAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the appDescribe method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/describe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appDescribeAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appDescribeAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appDescribe method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/describe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appDescribeAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -2087,9 +2715,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appGet(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "get",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "get",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the appGet method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -2132,9 +2759,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appGet(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "get",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "get",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the appGet method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/get">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appGetAsync(String objectId, Class<T> outputClass) {
+        return appGetAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appGet method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/get">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appGetAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "get",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the appGet method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/get">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appGetAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appGetAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appGet method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/get">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appGetAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "get",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -2271,9 +2956,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appInstall(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "install",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "install",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the appInstall method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -2316,22 +3000,80 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appInstall(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "install",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "install",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
-     * Invokes the appInstall method.
+     * Invokes the appInstall method asynchronously with an empty input, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/install">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appInstallAsync(String objectId, Class<T> outputClass) {
+        return appInstallAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appInstall method asynchronously with the given input, deserializing to an object of the specified class.
      *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/install">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appInstallAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "install",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the appInstall method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/install">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appInstallAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appInstallAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appInstall method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/install">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appInstallAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "install",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the appInstall method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/install">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
      *             code other than 200 (OK).
      * @throws DXHTTPException
      *             If an error occurs while making the HTTP request or obtaining
@@ -2455,9 +3197,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appListAuthorizedUsers(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "listAuthorizedUsers",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "listAuthorizedUsers",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the appListAuthorizedUsers method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -2500,9 +3241,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appListAuthorizedUsers(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "listAuthorizedUsers",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "listAuthorizedUsers",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the appListAuthorizedUsers method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/listAuthorizedUsers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appListAuthorizedUsersAsync(String objectId, Class<T> outputClass) {
+        return appListAuthorizedUsersAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appListAuthorizedUsers method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/listAuthorizedUsers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appListAuthorizedUsersAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "listAuthorizedUsers",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the appListAuthorizedUsers method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/listAuthorizedUsers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appListAuthorizedUsersAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appListAuthorizedUsersAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appListAuthorizedUsers method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/listAuthorizedUsers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appListAuthorizedUsersAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "listAuthorizedUsers",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -2639,9 +3438,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appListCategories(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "listCategories",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "listCategories",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the appListCategories method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -2684,9 +3482,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appListCategories(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "listCategories",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "listCategories",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the appListCategories method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/listCategories">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appListCategoriesAsync(String objectId, Class<T> outputClass) {
+        return appListCategoriesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appListCategories method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/listCategories">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appListCategoriesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "listCategories",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the appListCategories method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/listCategories">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appListCategoriesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appListCategoriesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appListCategories method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/listCategories">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appListCategoriesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "listCategories",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -2823,9 +3679,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appListDevelopers(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "listDevelopers",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "listDevelopers",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the appListDevelopers method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -2868,9 +3723,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appListDevelopers(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "listDevelopers",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "listDevelopers",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the appListDevelopers method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/listDevelopers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appListDevelopersAsync(String objectId, Class<T> outputClass) {
+        return appListDevelopersAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appListDevelopers method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/listDevelopers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appListDevelopersAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "listDevelopers",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the appListDevelopers method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/listDevelopers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appListDevelopersAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appListDevelopersAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appListDevelopers method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/listDevelopers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appListDevelopersAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "listDevelopers",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -3007,9 +3920,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appPublish(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "publish",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "publish",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the appPublish method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -3052,9 +3964,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appPublish(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "publish",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "publish",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the appPublish method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/publish">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appPublishAsync(String objectId, Class<T> outputClass) {
+        return appPublishAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appPublish method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/publish">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appPublishAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "publish",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the appPublish method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/publish">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appPublishAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appPublishAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appPublish method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/publish">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appPublishAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "publish",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -3191,9 +4161,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appRemoveAuthorizedUsers(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeAuthorizedUsers",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeAuthorizedUsers",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the appRemoveAuthorizedUsers method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -3236,9 +4205,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appRemoveAuthorizedUsers(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeAuthorizedUsers",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeAuthorizedUsers",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the appRemoveAuthorizedUsers method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeAuthorizedUsers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appRemoveAuthorizedUsersAsync(String objectId, Class<T> outputClass) {
+        return appRemoveAuthorizedUsersAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appRemoveAuthorizedUsers method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeAuthorizedUsers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appRemoveAuthorizedUsersAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeAuthorizedUsers",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the appRemoveAuthorizedUsers method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeAuthorizedUsers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appRemoveAuthorizedUsersAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appRemoveAuthorizedUsersAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appRemoveAuthorizedUsers method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeAuthorizedUsers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appRemoveAuthorizedUsersAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeAuthorizedUsers",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -3375,9 +4402,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appRemoveCategories(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeCategories",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeCategories",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the appRemoveCategories method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -3420,24 +4446,82 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appRemoveCategories(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeCategories",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeCategories",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
-     * Invokes the appRemoveCategories method.
+     * Invokes the appRemoveCategories method asynchronously with an empty input, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeCategories">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appRemoveCategoriesAsync(String objectId, Class<T> outputClass) {
+        return appRemoveCategoriesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appRemoveCategories method asynchronously with the given input, deserializing to an object of the specified class.
      *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeCategories">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appRemoveCategoriesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeCategories",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the appRemoveCategories method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeCategories">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appRemoveCategoriesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appRemoveCategoriesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appRemoveCategories method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeCategories">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appRemoveCategoriesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeCategories",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the appRemoveCategories method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeCategories">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
      *             If an error occurs while making the HTTP request or obtaining
      *             the response (includes HTTP protocol errors).
      *
@@ -3559,9 +4643,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appRemoveDevelopers(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeDevelopers",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeDevelopers",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the appRemoveDevelopers method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -3604,9 +4687,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appRemoveDevelopers(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeDevelopers",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeDevelopers",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the appRemoveDevelopers method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeDevelopers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appRemoveDevelopersAsync(String objectId, Class<T> outputClass) {
+        return appRemoveDevelopersAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appRemoveDevelopers method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeDevelopers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appRemoveDevelopersAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeDevelopers",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the appRemoveDevelopers method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeDevelopers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appRemoveDevelopersAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appRemoveDevelopersAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appRemoveDevelopers method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeDevelopers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appRemoveDevelopersAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeDevelopers",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -3743,9 +4884,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appRemoveTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the appRemoveTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -3788,9 +4928,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appRemoveTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the appRemoveTags method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appRemoveTagsAsync(String objectId, Class<T> outputClass) {
+        return appRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appRemoveTags method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the appRemoveTags method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appRemoveTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appRemoveTags method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/removeTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -3927,9 +5125,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appRun(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "run",
-                        mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "run",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the appRun method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -3972,9 +5169,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appRun(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "run",
-                    mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "run",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the appRun method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/run">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appRunAsync(String objectId, Class<T> outputClass) {
+        return appRunAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appRun method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/run">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appRunAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "run",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the appRun method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/run">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appRunAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appRunAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appRun method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/run">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appRunAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "run",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -4111,9 +5366,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appUninstall(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "uninstall",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "uninstall",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the appUninstall method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -4156,9 +5410,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appUninstall(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "uninstall",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "uninstall",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the appUninstall method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/uninstall">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appUninstallAsync(String objectId, Class<T> outputClass) {
+        return appUninstallAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appUninstall method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/uninstall">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appUninstallAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "uninstall",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the appUninstall method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/uninstall">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appUninstallAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appUninstallAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appUninstall method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/uninstall">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appUninstallAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "uninstall",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -4295,9 +5607,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appUpdate(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "update",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "update",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the appUpdate method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -4340,9 +5651,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appUpdate(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "update",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "update",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the appUpdate method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/update">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appUpdateAsync(String objectId, Class<T> outputClass) {
+        return appUpdateAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appUpdate method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/update">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appUpdateAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "update",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the appUpdate method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/update">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appUpdateAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appUpdateAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appUpdate method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app-xxxx%5B/yyyy%5D/update">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appUpdateAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "update",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -4497,8 +5866,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appNew(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/app/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
+        return new DXHTTPRequest().request("/app/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
                 outputClass);
     }
     /**
@@ -4520,23 +5888,77 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appNew(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/app/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
+        return new DXHTTPRequest(env).request("/app/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
                 outputClass);
     }
 
     /**
-     * Invokes the appNew method.
+     * Invokes the appNew method asynchronously with an empty input, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app/new">API specification</a>.
      *
-     * @return Server response parsed from JSON
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
-     *             If an error occurs while making the HTTP request or obtaining
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appNewAsync(Class<T> outputClass) {
+        return appNewAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appNew method asynchronously with an empty input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app/new">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appNewAsync(Class<T> outputClass, DXEnvironment env) {
+        return appNewAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appNew method asynchronously with the specified input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app/new">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appNewAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/app/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
+                outputClass);
+    }
+    /**
+     * Invokes the appNew method asynchronously with the specified input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app/new">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appNewAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/app/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
+                outputClass);
+    }
+
+    /**
+     * Invokes the appNew method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Apps#API-method:-/app/new">API specification</a>.
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
+     *             If an error occurs while making the HTTP request or obtaining
      *             the response (includes HTTP protocol errors).
      *
      * @deprecated Use {@link #appNew(Class)} instead and supply your own class to deserialize to.
@@ -4652,9 +6074,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletAddTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the appletAddTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -4697,9 +6118,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletAddTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the appletAddTags method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletAddTagsAsync(String objectId, Class<T> outputClass) {
+        return appletAddTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appletAddTags method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the appletAddTags method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletAddTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appletAddTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appletAddTags method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -4836,9 +6315,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletDescribe(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "describe",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the appletDescribe method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -4881,9 +6359,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletDescribe(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the appletDescribe method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fapplet-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletDescribeAsync(String objectId, Class<T> outputClass) {
+        return appletDescribeAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appletDescribe method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fapplet-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletDescribeAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the appletDescribe method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fapplet-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletDescribeAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appletDescribeAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appletDescribe method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fapplet-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletDescribeAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -5020,9 +6556,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletGet(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "get",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "get",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the appletGet method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -5065,9 +6600,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletGet(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "get",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "get",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the appletGet method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fapplet-xxxx%2Fget">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletGetAsync(String objectId, Class<T> outputClass) {
+        return appletGetAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appletGet method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fapplet-xxxx%2Fget">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletGetAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "get",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the appletGet method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fapplet-xxxx%2Fget">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletGetAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appletGetAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appletGet method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fapplet-xxxx%2Fget">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletGetAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "get",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -5204,9 +6797,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletGetDetails(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "getDetails",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "getDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the appletGetDetails method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -5249,9 +6841,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletGetDetails(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "getDetails",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "getDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the appletGetDetails method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletGetDetailsAsync(String objectId, Class<T> outputClass) {
+        return appletGetDetailsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appletGetDetails method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletGetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "getDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the appletGetDetails method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletGetDetailsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appletGetDetailsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appletGetDetails method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletGetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "getDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -5388,9 +7038,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletListProjects(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "listProjects",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "listProjects",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the appletListProjects method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -5433,9 +7082,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletListProjects(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "listProjects",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "listProjects",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the appletListProjects method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletListProjectsAsync(String objectId, Class<T> outputClass) {
+        return appletListProjectsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appletListProjects method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletListProjectsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "listProjects",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the appletListProjects method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletListProjectsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appletListProjectsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appletListProjects method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletListProjectsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "listProjects",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -5572,9 +7279,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletRemoveTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the appletRemoveTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -5617,19 +7323,77 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletRemoveTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
-     * Invokes the appletRemoveTags method.
+     * Invokes the appletRemoveTags method asynchronously with an empty input, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletRemoveTagsAsync(String objectId, Class<T> outputClass) {
+        return appletRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appletRemoveTags method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the appletRemoveTags method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletRemoveTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appletRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appletRemoveTags method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the appletRemoveTags method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
      *
      * @throws DXAPIException
      *             If the server returns a complete response with an HTTP status
@@ -5756,9 +7520,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletRename(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "rename",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "rename",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the appletRename method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -5801,9 +7564,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletRename(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "rename",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "rename",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the appletRename method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletRenameAsync(String objectId, Class<T> outputClass) {
+        return appletRenameAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appletRename method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletRenameAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "rename",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the appletRename method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletRenameAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appletRenameAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appletRename method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletRenameAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "rename",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -5940,9 +7761,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletRun(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "run",
-                        mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "run",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the appletRun method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -5985,9 +7805,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletRun(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "run",
-                    mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "run",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the appletRun method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fapplet-xxxx%2Frun">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletRunAsync(String objectId, Class<T> outputClass) {
+        return appletRunAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appletRun method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fapplet-xxxx%2Frun">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletRunAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "run",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the appletRun method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fapplet-xxxx%2Frun">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletRunAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appletRunAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appletRun method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fapplet-xxxx%2Frun">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletRunAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "run",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -6124,9 +8002,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletSetProperties(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setProperties",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setProperties",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the appletSetProperties method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -6169,9 +8046,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletSetProperties(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setProperties",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setProperties",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the appletSetProperties method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletSetPropertiesAsync(String objectId, Class<T> outputClass) {
+        return appletSetPropertiesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appletSetProperties method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletSetPropertiesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setProperties",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the appletSetProperties method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletSetPropertiesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return appletSetPropertiesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appletSetProperties method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletSetPropertiesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setProperties",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -6326,8 +8261,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletNew(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/applet/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
+        return new DXHTTPRequest().request("/applet/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
                 outputClass);
     }
     /**
@@ -6349,8 +8283,62 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T appletNew(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/applet/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
+        return new DXHTTPRequest(env).request("/applet/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
+                outputClass);
+    }
+
+    /**
+     * Invokes the appletNew method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fapplet%2Fnew">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletNewAsync(Class<T> outputClass) {
+        return appletNewAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the appletNew method asynchronously with an empty input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fapplet%2Fnew">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletNewAsync(Class<T> outputClass, DXEnvironment env) {
+        return appletNewAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the appletNew method asynchronously with the specified input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fapplet%2Fnew">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletNewAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/applet/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
+                outputClass);
+    }
+    /**
+     * Invokes the appletNew method asynchronously with the specified input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fapplet%2Fnew">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> appletNewAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/applet/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
                 outputClass);
     }
 
@@ -6481,9 +8469,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerClone(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "clone",
-                        mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "clone",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the containerClone method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -6526,9 +8513,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerClone(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "clone",
-                    mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "clone",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the containerClone method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2Fclone">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerCloneAsync(String objectId, Class<T> outputClass) {
+        return containerCloneAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the containerClone method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2Fclone">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerCloneAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "clone",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the containerClone method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2Fclone">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerCloneAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return containerCloneAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the containerClone method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2Fclone">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerCloneAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "clone",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -6665,9 +8710,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerDescribe(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "describe",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the containerDescribe method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -6710,28 +8754,86 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerDescribe(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
-     * Invokes the containerDescribe method.
+     * Invokes the containerDescribe method asynchronously with an empty input, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Containers-for-Execution#API-method%3A-%2Fcontainer-xxxx%2Fdescribe">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerDescribeAsync(String objectId, Class<T> outputClass) {
+        return containerDescribeAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the containerDescribe method asynchronously with the given input, deserializing to an object of the specified class.
      *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
-     *             If an error occurs while making the HTTP request or obtaining
-     *             the response (includes HTTP protocol errors).
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Containers-for-Execution#API-method%3A-%2Fcontainer-xxxx%2Fdescribe">API specification</a>.
      *
-     * @deprecated Use {@link #containerDescribe(String, Class)} instead and supply your own class to deserialize to.
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerDescribeAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the containerDescribe method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Containers-for-Execution#API-method%3A-%2Fcontainer-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerDescribeAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return containerDescribeAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the containerDescribe method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Containers-for-Execution#API-method%3A-%2Fcontainer-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerDescribeAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the containerDescribe method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Containers-for-Execution#API-method%3A-%2Fcontainer-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
+     *             If an error occurs while making the HTTP request or obtaining
+     *             the response (includes HTTP protocol errors).
+     *
+     * @deprecated Use {@link #containerDescribe(String, Class)} instead and supply your own class to deserialize to.
      */
     @Deprecated
     public static JsonNode containerDescribe(String objectId) {
@@ -6845,9 +8947,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerDestroy(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "destroy",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "destroy",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the containerDestroy method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -6886,9 +8987,59 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerDestroy(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "destroy",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "destroy",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the containerDestroy method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerDestroyAsync(String objectId, Class<T> outputClass) {
+        return containerDestroyAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the containerDestroy method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerDestroyAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "destroy",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the containerDestroy method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerDestroyAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return containerDestroyAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the containerDestroy method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerDestroyAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "destroy",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -7017,9 +9168,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerListFolder(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "listFolder",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "listFolder",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the containerListFolder method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -7062,9 +9212,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerListFolder(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "listFolder",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "listFolder",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the containerListFolder method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FlistFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerListFolderAsync(String objectId, Class<T> outputClass) {
+        return containerListFolderAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the containerListFolder method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FlistFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerListFolderAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "listFolder",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the containerListFolder method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FlistFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerListFolderAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return containerListFolderAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the containerListFolder method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FlistFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerListFolderAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "listFolder",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -7201,9 +9409,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerMove(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "move",
-                        mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "move",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the containerMove method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -7246,9 +9453,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerMove(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "move",
-                    mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "move",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the containerMove method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2Fmove">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerMoveAsync(String objectId, Class<T> outputClass) {
+        return containerMoveAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the containerMove method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2Fmove">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerMoveAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "move",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the containerMove method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2Fmove">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerMoveAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return containerMoveAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the containerMove method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2Fmove">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerMoveAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "move",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -7385,9 +9650,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerNewFolder(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "newFolder",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "newFolder",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the containerNewFolder method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -7430,9 +9694,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerNewFolder(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "newFolder",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "newFolder",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the containerNewFolder method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FnewFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerNewFolderAsync(String objectId, Class<T> outputClass) {
+        return containerNewFolderAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the containerNewFolder method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FnewFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerNewFolderAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "newFolder",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the containerNewFolder method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FnewFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerNewFolderAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return containerNewFolderAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the containerNewFolder method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FnewFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerNewFolderAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "newFolder",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -7569,9 +9891,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerRemoveFolder(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeFolder",
-                        mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeFolder",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the containerRemoveFolder method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -7614,9 +9935,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerRemoveFolder(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeFolder",
-                    mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeFolder",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the containerRemoveFolder method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerRemoveFolderAsync(String objectId, Class<T> outputClass) {
+        return containerRemoveFolderAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the containerRemoveFolder method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerRemoveFolderAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeFolder",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the containerRemoveFolder method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerRemoveFolderAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return containerRemoveFolderAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the containerRemoveFolder method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerRemoveFolderAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeFolder",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -7753,9 +10132,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerRemoveObjects(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeObjects",
-                        mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeObjects",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the containerRemoveObjects method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -7798,28 +10176,86 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerRemoveObjects(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeObjects",
-                    mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeObjects",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
     }
 
     /**
-     * Invokes the containerRemoveObjects method.
+     * Invokes the containerRemoveObjects method asynchronously with an empty input, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveObjects">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerRemoveObjectsAsync(String objectId, Class<T> outputClass) {
+        return containerRemoveObjectsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the containerRemoveObjects method asynchronously with the given input, deserializing to an object of the specified class.
      *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
-     *             If an error occurs while making the HTTP request or obtaining
-     *             the response (includes HTTP protocol errors).
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveObjects">API specification</a>.
      *
-     * @deprecated Use {@link #containerRemoveObjects(String, Class)} instead and supply your own class to deserialize to.
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerRemoveObjectsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeObjects",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the containerRemoveObjects method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveObjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerRemoveObjectsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return containerRemoveObjectsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the containerRemoveObjects method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveObjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerRemoveObjectsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeObjects",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the containerRemoveObjects method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveObjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
+     *             If an error occurs while making the HTTP request or obtaining
+     *             the response (includes HTTP protocol errors).
+     *
+     * @deprecated Use {@link #containerRemoveObjects(String, Class)} instead and supply your own class to deserialize to.
      */
     @Deprecated
     public static JsonNode containerRemoveObjects(String objectId) {
@@ -7937,9 +10373,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerRenameFolder(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "renameFolder",
-                        mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "renameFolder",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the containerRenameFolder method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -7982,9 +10417,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T containerRenameFolder(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "renameFolder",
-                    mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "renameFolder",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the containerRenameFolder method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FrenameFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerRenameFolderAsync(String objectId, Class<T> outputClass) {
+        return containerRenameFolderAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the containerRenameFolder method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FrenameFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerRenameFolderAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "renameFolder",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the containerRenameFolder method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FrenameFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerRenameFolderAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return containerRenameFolderAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the containerRenameFolder method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FrenameFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> containerRenameFolderAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "renameFolder",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -8121,9 +10614,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileAddTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the fileAddTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -8166,9 +10658,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileAddTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the fileAddTags method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileAddTagsAsync(String objectId, Class<T> outputClass) {
+        return fileAddTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the fileAddTags method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the fileAddTags method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileAddTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return fileAddTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the fileAddTags method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -8305,9 +10855,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileAddTypes(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addTypes",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addTypes",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the fileAddTypes method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -8350,9 +10899,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileAddTypes(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addTypes",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addTypes",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the fileAddTypes method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FaddTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileAddTypesAsync(String objectId, Class<T> outputClass) {
+        return fileAddTypesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the fileAddTypes method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FaddTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileAddTypesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addTypes",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the fileAddTypes method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FaddTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileAddTypesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return fileAddTypesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the fileAddTypes method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FaddTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileAddTypesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addTypes",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -8489,9 +11096,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileClose(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "close",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "close",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the fileClose method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -8534,9 +11140,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileClose(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "close",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "close",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the fileClose method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fclose">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileCloseAsync(String objectId, Class<T> outputClass) {
+        return fileCloseAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the fileClose method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fclose">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileCloseAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "close",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the fileClose method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fclose">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileCloseAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return fileCloseAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the fileClose method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fclose">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileCloseAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "close",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -8673,9 +11337,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileDescribe(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "describe",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the fileDescribe method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -8718,9 +11381,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileDescribe(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the fileDescribe method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileDescribeAsync(String objectId, Class<T> outputClass) {
+        return fileDescribeAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the fileDescribe method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileDescribeAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the fileDescribe method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileDescribeAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return fileDescribeAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the fileDescribe method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileDescribeAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -8857,9 +11578,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileDownload(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "download",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "download",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the fileDownload method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -8902,19 +11622,77 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileDownload(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "download",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "download",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
-     * Invokes the fileDownload method.
+     * Invokes the fileDownload method asynchronously with an empty input, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fdownload">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileDownloadAsync(String objectId, Class<T> outputClass) {
+        return fileDownloadAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the fileDownload method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fdownload">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileDownloadAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "download",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the fileDownload method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fdownload">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileDownloadAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return fileDownloadAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the fileDownload method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fdownload">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileDownloadAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "download",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the fileDownload method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fdownload">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
      *
      * @throws DXAPIException
      *             If the server returns a complete response with an HTTP status
@@ -9041,9 +11819,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileGetDetails(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "getDetails",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "getDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the fileGetDetails method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -9086,9 +11863,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileGetDetails(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "getDetails",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "getDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the fileGetDetails method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileGetDetailsAsync(String objectId, Class<T> outputClass) {
+        return fileGetDetailsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the fileGetDetails method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileGetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "getDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the fileGetDetails method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileGetDetailsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return fileGetDetailsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the fileGetDetails method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileGetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "getDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -9225,9 +12060,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileListProjects(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "listProjects",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "listProjects",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the fileListProjects method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -9270,9 +12104,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileListProjects(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "listProjects",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "listProjects",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the fileListProjects method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileListProjectsAsync(String objectId, Class<T> outputClass) {
+        return fileListProjectsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the fileListProjects method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileListProjectsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "listProjects",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the fileListProjects method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileListProjectsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return fileListProjectsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the fileListProjects method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileListProjectsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "listProjects",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -9409,9 +12301,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileRemoveTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the fileRemoveTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -9454,9 +12345,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileRemoveTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the fileRemoveTags method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileRemoveTagsAsync(String objectId, Class<T> outputClass) {
+        return fileRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the fileRemoveTags method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the fileRemoveTags method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileRemoveTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return fileRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the fileRemoveTags method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -9593,9 +12542,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileRemoveTypes(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeTypes",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeTypes",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the fileRemoveTypes method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -9638,9 +12586,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileRemoveTypes(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTypes",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTypes",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the fileRemoveTypes method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FremoveTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileRemoveTypesAsync(String objectId, Class<T> outputClass) {
+        return fileRemoveTypesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the fileRemoveTypes method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FremoveTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileRemoveTypesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeTypes",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the fileRemoveTypes method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FremoveTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileRemoveTypesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return fileRemoveTypesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the fileRemoveTypes method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FremoveTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileRemoveTypesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeTypes",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -9777,9 +12783,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileRename(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "rename",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "rename",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the fileRename method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -9822,9 +12827,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileRename(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "rename",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "rename",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the fileRename method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileRenameAsync(String objectId, Class<T> outputClass) {
+        return fileRenameAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the fileRename method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileRenameAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "rename",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the fileRename method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileRenameAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return fileRenameAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the fileRename method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileRenameAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "rename",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -9961,9 +13024,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileSetDetails(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setDetails",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the fileSetDetails method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -10006,28 +13068,86 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileSetDetails(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setDetails",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
-     * Invokes the fileSetDetails method.
+     * Invokes the fileSetDetails method asynchronously with an empty input, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
-     *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
-     *             If an error occurs while making the HTTP request or obtaining
-     *             the response (includes HTTP protocol errors).
-     *
-     * @deprecated Use {@link #fileSetDetails(String, Class)} instead and supply your own class to deserialize to.
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileSetDetailsAsync(String objectId, Class<T> outputClass) {
+        return fileSetDetailsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the fileSetDetails method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileSetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the fileSetDetails method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileSetDetailsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return fileSetDetailsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the fileSetDetails method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileSetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the fileSetDetails method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
+     *             If an error occurs while making the HTTP request or obtaining
+     *             the response (includes HTTP protocol errors).
+     *
+     * @deprecated Use {@link #fileSetDetails(String, Class)} instead and supply your own class to deserialize to.
      */
     @Deprecated
     public static JsonNode fileSetDetails(String objectId) {
@@ -10145,9 +13265,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileSetProperties(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setProperties",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setProperties",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the fileSetProperties method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -10190,9 +13309,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileSetProperties(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setProperties",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setProperties",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the fileSetProperties method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileSetPropertiesAsync(String objectId, Class<T> outputClass) {
+        return fileSetPropertiesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the fileSetProperties method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileSetPropertiesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setProperties",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the fileSetProperties method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileSetPropertiesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return fileSetPropertiesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the fileSetProperties method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileSetPropertiesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setProperties",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -10329,9 +13506,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileSetVisibility(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setVisibility",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setVisibility",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the fileSetVisibility method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -10374,9 +13550,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileSetVisibility(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setVisibility",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setVisibility",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the fileSetVisibility method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Visibility#API-method%3A-%2Fclass-xxxx%2FsetVisibility">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileSetVisibilityAsync(String objectId, Class<T> outputClass) {
+        return fileSetVisibilityAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the fileSetVisibility method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Visibility#API-method%3A-%2Fclass-xxxx%2FsetVisibility">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileSetVisibilityAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setVisibility",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the fileSetVisibility method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Visibility#API-method%3A-%2Fclass-xxxx%2FsetVisibility">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileSetVisibilityAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return fileSetVisibilityAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the fileSetVisibility method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Visibility#API-method%3A-%2Fclass-xxxx%2FsetVisibility">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileSetVisibilityAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setVisibility",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -10513,9 +13747,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileUpload(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "upload",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "upload",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the fileUpload method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -10558,9 +13791,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileUpload(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "upload",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "upload",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the fileUpload method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fupload">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileUploadAsync(String objectId, Class<T> outputClass) {
+        return fileUploadAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the fileUpload method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fupload">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileUploadAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "upload",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the fileUpload method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fupload">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileUploadAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return fileUploadAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the fileUpload method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile-xxxx%2Fupload">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileUploadAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "upload",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -10715,8 +14006,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileNew(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/file/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
+        return new DXHTTPRequest().request("/file/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
                 outputClass);
     }
     /**
@@ -10738,8 +14028,62 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T fileNew(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/file/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
+        return new DXHTTPRequest(env).request("/file/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
+                outputClass);
+    }
+
+    /**
+     * Invokes the fileNew method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile%2Fnew">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileNewAsync(Class<T> outputClass) {
+        return fileNewAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the fileNew method asynchronously with an empty input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile%2Fnew">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileNewAsync(Class<T> outputClass, DXEnvironment env) {
+        return fileNewAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the fileNew method asynchronously with the specified input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile%2Fnew">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileNewAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/file/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
+                outputClass);
+    }
+    /**
+     * Invokes the fileNew method asynchronously with the specified input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Files#API-method%3A-%2Ffile%2Fnew">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> fileNewAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/file/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
                 outputClass);
     }
 
@@ -10870,9 +14214,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableAddRows(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addRows",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addRows",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the gtableAddRows method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -10915,9 +14258,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableAddRows(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addRows",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addRows",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the gtableAddRows method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2FaddRows">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableAddRowsAsync(String objectId, Class<T> outputClass) {
+        return gtableAddRowsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the gtableAddRows method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2FaddRows">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableAddRowsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addRows",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the gtableAddRows method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2FaddRows">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableAddRowsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return gtableAddRowsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the gtableAddRows method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2FaddRows">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableAddRowsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addRows",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -11054,9 +14455,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableAddTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the gtableAddTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -11099,13 +14499,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableAddTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
-     * Invokes the gtableAddTags method.
+     * Invokes the gtableAddTags method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableAddTagsAsync(String objectId, Class<T> outputClass) {
+        return gtableAddTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the gtableAddTags method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the gtableAddTags method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableAddTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return gtableAddTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the gtableAddTags method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the gtableAddTags method.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
      *
@@ -11238,9 +14696,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableAddTypes(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addTypes",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addTypes",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the gtableAddTypes method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -11283,9 +14740,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableAddTypes(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addTypes",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addTypes",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the gtableAddTypes method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FaddTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableAddTypesAsync(String objectId, Class<T> outputClass) {
+        return gtableAddTypesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the gtableAddTypes method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FaddTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableAddTypesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addTypes",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the gtableAddTypes method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FaddTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableAddTypesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return gtableAddTypesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the gtableAddTypes method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FaddTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableAddTypesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addTypes",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -11422,9 +14937,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableClose(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "close",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "close",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the gtableClose method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -11467,9 +14981,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableClose(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "close",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "close",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the gtableClose method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2Fclose">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableCloseAsync(String objectId, Class<T> outputClass) {
+        return gtableCloseAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the gtableClose method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2Fclose">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableCloseAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "close",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the gtableClose method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2Fclose">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableCloseAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return gtableCloseAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the gtableClose method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2Fclose">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableCloseAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "close",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -11606,9 +15178,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableDescribe(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "describe",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the gtableDescribe method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -11651,9 +15222,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableDescribe(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the gtableDescribe method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableDescribeAsync(String objectId, Class<T> outputClass) {
+        return gtableDescribeAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the gtableDescribe method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableDescribeAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the gtableDescribe method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableDescribeAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return gtableDescribeAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the gtableDescribe method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableDescribeAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -11790,9 +15419,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableGet(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "get",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "get",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the gtableGet method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -11835,9 +15463,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableGet(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "get",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "get",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the gtableGet method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2Fget">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableGetAsync(String objectId, Class<T> outputClass) {
+        return gtableGetAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the gtableGet method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2Fget">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableGetAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "get",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the gtableGet method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2Fget">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableGetAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return gtableGetAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the gtableGet method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2Fget">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableGetAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "get",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -11974,9 +15660,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableGetDetails(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "getDetails",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "getDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the gtableGetDetails method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -12019,9 +15704,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableGetDetails(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "getDetails",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "getDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the gtableGetDetails method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableGetDetailsAsync(String objectId, Class<T> outputClass) {
+        return gtableGetDetailsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the gtableGetDetails method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableGetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "getDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the gtableGetDetails method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableGetDetailsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return gtableGetDetailsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the gtableGetDetails method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableGetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "getDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -12158,9 +15901,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableListProjects(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "listProjects",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "listProjects",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the gtableListProjects method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -12203,24 +15945,82 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableListProjects(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "listProjects",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "listProjects",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
-     * Invokes the gtableListProjects method.
+     * Invokes the gtableListProjects method asynchronously with an empty input, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableListProjectsAsync(String objectId, Class<T> outputClass) {
+        return gtableListProjectsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the gtableListProjects method asynchronously with the given input, deserializing to an object of the specified class.
      *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableListProjectsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "listProjects",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the gtableListProjects method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableListProjectsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return gtableListProjectsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the gtableListProjects method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableListProjectsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "listProjects",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the gtableListProjects method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
      *             If an error occurs while making the HTTP request or obtaining
      *             the response (includes HTTP protocol errors).
      *
@@ -12342,9 +16142,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableNextPart(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "nextPart",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "nextPart",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the gtableNextPart method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -12387,9 +16186,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableNextPart(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "nextPart",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "nextPart",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the gtableNextPart method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2FnextPart">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableNextPartAsync(String objectId, Class<T> outputClass) {
+        return gtableNextPartAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the gtableNextPart method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2FnextPart">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableNextPartAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "nextPart",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the gtableNextPart method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2FnextPart">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableNextPartAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return gtableNextPartAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the gtableNextPart method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable-xxxx%2FnextPart">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableNextPartAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "nextPart",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -12526,9 +16383,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableRemoveTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the gtableRemoveTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -12571,9 +16427,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableRemoveTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the gtableRemoveTags method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableRemoveTagsAsync(String objectId, Class<T> outputClass) {
+        return gtableRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the gtableRemoveTags method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the gtableRemoveTags method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableRemoveTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return gtableRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the gtableRemoveTags method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -12710,9 +16624,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableRemoveTypes(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeTypes",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeTypes",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the gtableRemoveTypes method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -12755,9 +16668,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableRemoveTypes(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTypes",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTypes",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the gtableRemoveTypes method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FremoveTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableRemoveTypesAsync(String objectId, Class<T> outputClass) {
+        return gtableRemoveTypesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the gtableRemoveTypes method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FremoveTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableRemoveTypesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeTypes",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the gtableRemoveTypes method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FremoveTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableRemoveTypesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return gtableRemoveTypesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the gtableRemoveTypes method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FremoveTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableRemoveTypesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeTypes",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -12894,9 +16865,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableRename(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "rename",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "rename",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the gtableRename method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -12939,9 +16909,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableRename(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "rename",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "rename",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the gtableRename method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableRenameAsync(String objectId, Class<T> outputClass) {
+        return gtableRenameAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the gtableRename method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableRenameAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "rename",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the gtableRename method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableRenameAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return gtableRenameAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the gtableRename method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableRenameAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "rename",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -13078,9 +17106,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableSetDetails(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setDetails",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the gtableSetDetails method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -13123,9 +17150,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableSetDetails(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setDetails",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the gtableSetDetails method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableSetDetailsAsync(String objectId, Class<T> outputClass) {
+        return gtableSetDetailsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the gtableSetDetails method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableSetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the gtableSetDetails method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableSetDetailsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return gtableSetDetailsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the gtableSetDetails method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableSetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -13262,9 +17347,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableSetProperties(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setProperties",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setProperties",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the gtableSetProperties method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -13307,22 +17391,80 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableSetProperties(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setProperties",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setProperties",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
-     * Invokes the gtableSetProperties method.
+     * Invokes the gtableSetProperties method asynchronously with an empty input, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableSetPropertiesAsync(String objectId, Class<T> outputClass) {
+        return gtableSetPropertiesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the gtableSetProperties method asynchronously with the given input, deserializing to an object of the specified class.
      *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableSetPropertiesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setProperties",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the gtableSetProperties method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableSetPropertiesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return gtableSetPropertiesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the gtableSetProperties method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableSetPropertiesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setProperties",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the gtableSetProperties method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
      *             code other than 200 (OK).
      * @throws DXHTTPException
      *             If an error occurs while making the HTTP request or obtaining
@@ -13446,9 +17588,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableSetVisibility(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setVisibility",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setVisibility",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the gtableSetVisibility method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -13491,9 +17632,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableSetVisibility(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setVisibility",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setVisibility",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the gtableSetVisibility method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Visibility#API-method%3A-%2Fclass-xxxx%2FsetVisibility">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableSetVisibilityAsync(String objectId, Class<T> outputClass) {
+        return gtableSetVisibilityAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the gtableSetVisibility method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Visibility#API-method%3A-%2Fclass-xxxx%2FsetVisibility">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableSetVisibilityAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setVisibility",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the gtableSetVisibility method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Visibility#API-method%3A-%2Fclass-xxxx%2FsetVisibility">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableSetVisibilityAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return gtableSetVisibilityAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the gtableSetVisibility method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Visibility#API-method%3A-%2Fclass-xxxx%2FsetVisibility">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableSetVisibilityAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setVisibility",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -13648,8 +17847,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableNew(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/gtable/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
+        return new DXHTTPRequest().request("/gtable/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
                 outputClass);
     }
     /**
@@ -13671,8 +17869,62 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T gtableNew(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/gtable/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
+        return new DXHTTPRequest(env).request("/gtable/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
+                outputClass);
+    }
+
+    /**
+     * Invokes the gtableNew method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable%2Fnew">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableNewAsync(Class<T> outputClass) {
+        return gtableNewAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the gtableNew method asynchronously with an empty input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable%2Fnew">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableNewAsync(Class<T> outputClass, DXEnvironment env) {
+        return gtableNewAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the gtableNew method asynchronously with the specified input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable%2Fnew">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableNewAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/gtable/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
+                outputClass);
+    }
+    /**
+     * Invokes the gtableNew method asynchronously with the specified input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/GenomicTables#API-method%3A-%2Fgtable%2Fnew">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> gtableNewAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/gtable/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
                 outputClass);
     }
 
@@ -13803,9 +18055,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T jobAddTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the jobAddTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -13848,9 +18099,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T jobAddTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the jobAddTags method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> jobAddTagsAsync(String objectId, Class<T> outputClass) {
+        return jobAddTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the jobAddTags method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> jobAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the jobAddTags method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> jobAddTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return jobAddTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the jobAddTags method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> jobAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -13987,9 +18296,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T jobDescribe(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "describe",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the jobDescribe method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -14032,9 +18340,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T jobDescribe(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the jobDescribe method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> jobDescribeAsync(String objectId, Class<T> outputClass) {
+        return jobDescribeAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the jobDescribe method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> jobDescribeAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the jobDescribe method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> jobDescribeAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return jobDescribeAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the jobDescribe method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> jobDescribeAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -14171,9 +18537,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T jobGetLog(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "getLog",
-                        mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "getLog",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the jobGetLog method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -14216,9 +18581,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T jobGetLog(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "getLog",
-                    mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "getLog",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the jobGetLog method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FgetLog">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> jobGetLogAsync(String objectId, Class<T> outputClass) {
+        return jobGetLogAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the jobGetLog method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FgetLog">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> jobGetLogAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "getLog",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the jobGetLog method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FgetLog">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> jobGetLogAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return jobGetLogAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the jobGetLog method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FgetLog">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> jobGetLogAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "getLog",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -14355,9 +18778,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T jobRemoveTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the jobRemoveTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -14400,28 +18822,86 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T jobRemoveTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
-     * Invokes the jobRemoveTags method.
+     * Invokes the jobRemoveTags method asynchronously with an empty input, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FremoveTags">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
-     *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
-     *             If an error occurs while making the HTTP request or obtaining
-     *             the response (includes HTTP protocol errors).
-     *
-     * @deprecated Use {@link #jobRemoveTags(String, Class)} instead and supply your own class to deserialize to.
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> jobRemoveTagsAsync(String objectId, Class<T> outputClass) {
+        return jobRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the jobRemoveTags method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> jobRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the jobRemoveTags method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> jobRemoveTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return jobRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the jobRemoveTags method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> jobRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the jobRemoveTags method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
+     *             If an error occurs while making the HTTP request or obtaining
+     *             the response (includes HTTP protocol errors).
+     *
+     * @deprecated Use {@link #jobRemoveTags(String, Class)} instead and supply your own class to deserialize to.
      */
     @Deprecated
     public static JsonNode jobRemoveTags(String objectId) {
@@ -14539,9 +19019,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T jobSetProperties(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setProperties",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setProperties",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the jobSetProperties method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -14584,9 +19063,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T jobSetProperties(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setProperties",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setProperties",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the jobSetProperties method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> jobSetPropertiesAsync(String objectId, Class<T> outputClass) {
+        return jobSetPropertiesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the jobSetProperties method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> jobSetPropertiesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setProperties",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the jobSetProperties method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> jobSetPropertiesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return jobSetPropertiesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the jobSetProperties method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> jobSetPropertiesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setProperties",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -14723,9 +19260,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T jobTerminate(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "terminate",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "terminate",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the jobTerminate method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -14768,9 +19304,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T jobTerminate(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "terminate",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "terminate",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the jobTerminate method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2Fterminate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> jobTerminateAsync(String objectId, Class<T> outputClass) {
+        return jobTerminateAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the jobTerminate method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2Fterminate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> jobTerminateAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "terminate",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the jobTerminate method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2Fterminate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> jobTerminateAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return jobTerminateAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the jobTerminate method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob-xxxx%2Fterminate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> jobTerminateAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "terminate",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -14925,8 +19519,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T jobNew(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/job/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
+        return new DXHTTPRequest().request("/job/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
                 outputClass);
     }
     /**
@@ -14948,8 +19541,62 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T jobNew(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/job/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
+        return new DXHTTPRequest(env).request("/job/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
+                outputClass);
+    }
+
+    /**
+     * Invokes the jobNew method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob%2Fnew">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> jobNewAsync(Class<T> outputClass) {
+        return jobNewAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the jobNew method asynchronously with an empty input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob%2Fnew">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> jobNewAsync(Class<T> outputClass, DXEnvironment env) {
+        return jobNewAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the jobNew method asynchronously with the specified input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob%2Fnew">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> jobNewAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/job/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
+                outputClass);
+    }
+    /**
+     * Invokes the jobNew method asynchronously with the specified input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Applets-and-Entry-Points#API-method%3A-%2Fjob%2Fnew">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> jobNewAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/job/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
                 outputClass);
     }
 
@@ -15092,8 +19739,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T notificationsGet(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/notifications/get", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest().request("/notifications/get", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
     /**
@@ -15113,8 +19759,54 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T notificationsGet(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/notifications/get", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest(env).request("/notifications/get", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+
+    /**
+     * Invokes the notificationsGet method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> notificationsGetAsync(Class<T> outputClass) {
+        return notificationsGetAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the notificationsGet method asynchronously with an empty input using the specified environment, deserializing to an object of the specified class.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> notificationsGetAsync(Class<T> outputClass, DXEnvironment env) {
+        return notificationsGetAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the notificationsGet method asynchronously with the specified input, deserializing to an object of the specified class.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> notificationsGetAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/notifications/get", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+    /**
+     * Invokes the notificationsGet method asynchronously with the specified input using the specified environment, deserializing to an object of the specified class.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> notificationsGetAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/notifications/get", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
 
@@ -15249,8 +19941,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T notificationsMarkRead(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/notifications/markRead", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest().request("/notifications/markRead", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
     /**
@@ -15270,8 +19961,54 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T notificationsMarkRead(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/notifications/markRead", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest(env).request("/notifications/markRead", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+
+    /**
+     * Invokes the notificationsMarkRead method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> notificationsMarkReadAsync(Class<T> outputClass) {
+        return notificationsMarkReadAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the notificationsMarkRead method asynchronously with an empty input using the specified environment, deserializing to an object of the specified class.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> notificationsMarkReadAsync(Class<T> outputClass, DXEnvironment env) {
+        return notificationsMarkReadAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the notificationsMarkRead method asynchronously with the specified input, deserializing to an object of the specified class.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> notificationsMarkReadAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/notifications/markRead", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+    /**
+     * Invokes the notificationsMarkRead method asynchronously with the specified input using the specified environment, deserializing to an object of the specified class.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> notificationsMarkReadAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/notifications/markRead", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
 
@@ -15394,9 +20131,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgDescribe(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "describe",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the orgDescribe method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -15439,35 +20175,93 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgDescribe(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
-     * Invokes the orgDescribe method.
+     * Invokes the orgDescribe method asynchronously with an empty input, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2Fdescribe">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> orgDescribeAsync(String objectId, Class<T> outputClass) {
+        return orgDescribeAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the orgDescribe method asynchronously with the given input, deserializing to an object of the specified class.
      *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
-     *             If an error occurs while making the HTTP request or obtaining
-     *             the response (includes HTTP protocol errors).
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2Fdescribe">API specification</a>.
      *
-     * @deprecated Use {@link #orgDescribe(String, Class)} instead and supply your own class to deserialize to.
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
      */
-    @Deprecated
-    public static JsonNode orgDescribe(String objectId) {
-        return orgDescribe(objectId, mapper.createObjectNode());
+    public static <T> ListenableFuture<T> orgDescribeAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
-     * Invokes the orgDescribe method with the specified parameters.
+     * Invokes the orgDescribe method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> orgDescribeAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return orgDescribeAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the orgDescribe method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> orgDescribeAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the orgDescribe method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
+     *             If an error occurs while making the HTTP request or obtaining
+     *             the response (includes HTTP protocol errors).
+     *
+     * @deprecated Use {@link #orgDescribe(String, Class)} instead and supply your own class to deserialize to.
+     */
+    @Deprecated
+    public static JsonNode orgDescribe(String objectId) {
+        return orgDescribe(objectId, mapper.createObjectNode());
+    }
+    /**
+     * Invokes the orgDescribe method with the specified parameters.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2Fdescribe">API specification</a>.
      *
@@ -15578,9 +20372,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgFindMembers(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "findMembers",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "findMembers",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the orgFindMembers method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -15623,9 +20416,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgFindMembers(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "findMembers",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "findMembers",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the orgFindMembers method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FfindMembers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> orgFindMembersAsync(String objectId, Class<T> outputClass) {
+        return orgFindMembersAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the orgFindMembers method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FfindMembers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> orgFindMembersAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "findMembers",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the orgFindMembers method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FfindMembers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> orgFindMembersAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return orgFindMembersAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the orgFindMembers method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FfindMembers">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> orgFindMembersAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "findMembers",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -15762,9 +20613,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgFindProjects(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "findProjects",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "findProjects",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the orgFindProjects method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -15807,9 +20657,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgFindProjects(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "findProjects",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "findProjects",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the orgFindProjects method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FfindProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> orgFindProjectsAsync(String objectId, Class<T> outputClass) {
+        return orgFindProjectsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the orgFindProjects method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FfindProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> orgFindProjectsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "findProjects",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the orgFindProjects method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FfindProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> orgFindProjectsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return orgFindProjectsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the orgFindProjects method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FfindProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> orgFindProjectsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "findProjects",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -15946,9 +20854,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgInvite(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "invite",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "invite",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the orgInvite method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -15991,9 +20898,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgInvite(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "invite",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "invite",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the orgInvite method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2Finvite">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> orgInviteAsync(String objectId, Class<T> outputClass) {
+        return orgInviteAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the orgInvite method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2Finvite">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> orgInviteAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "invite",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the orgInvite method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2Finvite">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> orgInviteAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return orgInviteAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the orgInvite method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2Finvite">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> orgInviteAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "invite",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -16130,9 +21095,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgRemoveMember(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeMember",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeMember",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the orgRemoveMember method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -16175,9 +21139,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgRemoveMember(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeMember",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeMember",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the orgRemoveMember method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FremoveMember">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> orgRemoveMemberAsync(String objectId, Class<T> outputClass) {
+        return orgRemoveMemberAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the orgRemoveMember method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FremoveMember">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> orgRemoveMemberAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeMember",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the orgRemoveMember method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FremoveMember">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> orgRemoveMemberAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return orgRemoveMemberAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the orgRemoveMember method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FremoveMember">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> orgRemoveMemberAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeMember",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -16314,9 +21336,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgSetMemberAccess(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setMemberAccess",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setMemberAccess",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the orgSetMemberAccess method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -16359,9 +21380,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgSetMemberAccess(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setMemberAccess",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setMemberAccess",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the orgSetMemberAccess method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FsetMemberAccess">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> orgSetMemberAccessAsync(String objectId, Class<T> outputClass) {
+        return orgSetMemberAccessAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the orgSetMemberAccess method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FsetMemberAccess">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> orgSetMemberAccessAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setMemberAccess",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the orgSetMemberAccess method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FsetMemberAccess">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> orgSetMemberAccessAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return orgSetMemberAccessAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the orgSetMemberAccess method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2FsetMemberAccess">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> orgSetMemberAccessAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setMemberAccess",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -16498,9 +21577,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgUpdate(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "update",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "update",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the orgUpdate method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -16543,19 +21621,77 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgUpdate(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "update",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "update",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
-     * Invokes the orgUpdate method.
+     * Invokes the orgUpdate method asynchronously with an empty input, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2Fupdate">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> orgUpdateAsync(String objectId, Class<T> outputClass) {
+        return orgUpdateAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the orgUpdate method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2Fupdate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> orgUpdateAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "update",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the orgUpdate method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2Fupdate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> orgUpdateAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return orgUpdateAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the orgUpdate method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2Fupdate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> orgUpdateAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "update",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the orgUpdate method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg-xxxx%2Fupdate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
      *
      * @throws DXAPIException
      *             If the server returns a complete response with an HTTP status
@@ -16700,8 +21836,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgNew(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/org/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
+        return new DXHTTPRequest().request("/org/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
                 outputClass);
     }
     /**
@@ -16723,8 +21858,62 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T orgNew(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/org/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
+        return new DXHTTPRequest(env).request("/org/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
+                outputClass);
+    }
+
+    /**
+     * Invokes the orgNew method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg%2Fnew">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> orgNewAsync(Class<T> outputClass) {
+        return orgNewAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the orgNew method asynchronously with an empty input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg%2Fnew">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> orgNewAsync(Class<T> outputClass, DXEnvironment env) {
+        return orgNewAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the orgNew method asynchronously with the specified input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg%2Fnew">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> orgNewAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/org/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
+                outputClass);
+    }
+    /**
+     * Invokes the orgNew method asynchronously with the specified input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Organizations#API-method%3A-%2Forg%2Fnew">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> orgNewAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/org/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
                 outputClass);
     }
 
@@ -16855,9 +22044,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectAddTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the projectAddTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -16900,9 +22088,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectAddTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the projectAddTags method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectAddTagsAsync(String objectId, Class<T> outputClass) {
+        return projectAddTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectAddTags method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the projectAddTags method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectAddTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectAddTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectAddTags method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -17039,9 +22285,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectClone(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "clone",
-                        mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "clone",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the projectClone method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -17084,9 +22329,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectClone(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "clone",
-                    mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "clone",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the projectClone method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2Fclone">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectCloneAsync(String objectId, Class<T> outputClass) {
+        return projectCloneAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectClone method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2Fclone">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectCloneAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "clone",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the projectClone method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2Fclone">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectCloneAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectCloneAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectClone method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2Fclone">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectCloneAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "clone",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -17223,9 +22526,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectDecreasePermissions(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "decreasePermissions",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "decreasePermissions",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the projectDecreasePermissions method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -17268,9 +22570,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectDecreasePermissions(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "decreasePermissions",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "decreasePermissions",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the projectDecreasePermissions method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2FdecreasePermissions">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectDecreasePermissionsAsync(String objectId, Class<T> outputClass) {
+        return projectDecreasePermissionsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectDecreasePermissions method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2FdecreasePermissions">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectDecreasePermissionsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "decreasePermissions",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the projectDecreasePermissions method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2FdecreasePermissions">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectDecreasePermissionsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectDecreasePermissionsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectDecreasePermissions method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2FdecreasePermissions">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectDecreasePermissionsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "decreasePermissions",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -17407,9 +22767,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectDescribe(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "describe",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the projectDescribe method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -17452,9 +22811,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectDescribe(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the projectDescribe method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectDescribeAsync(String objectId, Class<T> outputClass) {
+        return projectDescribeAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectDescribe method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectDescribeAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the projectDescribe method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectDescribeAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectDescribeAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectDescribe method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectDescribeAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -17591,9 +23008,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectDestroy(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "destroy",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "destroy",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the projectDestroy method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -17636,28 +23052,86 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectDestroy(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "destroy",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "destroy",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
-     * Invokes the projectDestroy method.
+     * Invokes the projectDestroy method asynchronously with an empty input, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2Fdestroy">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectDestroyAsync(String objectId, Class<T> outputClass) {
+        return projectDestroyAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectDestroy method asynchronously with the given input, deserializing to an object of the specified class.
      *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
-     *             If an error occurs while making the HTTP request or obtaining
-     *             the response (includes HTTP protocol errors).
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2Fdestroy">API specification</a>.
      *
-     * @deprecated Use {@link #projectDestroy(String, Class)} instead and supply your own class to deserialize to.
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectDestroyAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "destroy",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the projectDestroy method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2Fdestroy">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectDestroyAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectDestroyAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectDestroy method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2Fdestroy">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectDestroyAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "destroy",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the projectDestroy method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2Fdestroy">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
+     *             If an error occurs while making the HTTP request or obtaining
+     *             the response (includes HTTP protocol errors).
+     *
+     * @deprecated Use {@link #projectDestroy(String, Class)} instead and supply your own class to deserialize to.
      */
     @Deprecated
     public static JsonNode projectDestroy(String objectId) {
@@ -17775,9 +23249,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectInvite(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "invite",
-                        mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "invite",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the projectInvite method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -17820,9 +23293,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectInvite(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "invite",
-                    mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "invite",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the projectInvite method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2Finvite">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectInviteAsync(String objectId, Class<T> outputClass) {
+        return projectInviteAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectInvite method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2Finvite">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectInviteAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "invite",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the projectInvite method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2Finvite">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectInviteAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectInviteAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectInvite method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2Finvite">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectInviteAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "invite",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -17959,9 +23490,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectLeave(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "leave",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "leave",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the projectLeave method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -18004,9 +23534,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectLeave(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "leave",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "leave",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the projectLeave method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2Fleave">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectLeaveAsync(String objectId, Class<T> outputClass) {
+        return projectLeaveAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectLeave method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2Fleave">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectLeaveAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "leave",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the projectLeave method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2Fleave">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectLeaveAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectLeaveAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectLeave method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2Fleave">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectLeaveAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "leave",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -18143,9 +23731,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectListFolder(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "listFolder",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "listFolder",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the projectListFolder method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -18188,9 +23775,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectListFolder(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "listFolder",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "listFolder",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the projectListFolder method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FlistFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectListFolderAsync(String objectId, Class<T> outputClass) {
+        return projectListFolderAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectListFolder method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FlistFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectListFolderAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "listFolder",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the projectListFolder method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FlistFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectListFolderAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectListFolderAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectListFolder method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FlistFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectListFolderAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "listFolder",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -18327,9 +23972,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectMove(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "move",
-                        mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "move",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the projectMove method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -18372,9 +24016,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectMove(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "move",
-                    mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "move",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the projectMove method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2Fmove">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectMoveAsync(String objectId, Class<T> outputClass) {
+        return projectMoveAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectMove method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2Fmove">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectMoveAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "move",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the projectMove method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2Fmove">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectMoveAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectMoveAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectMove method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2Fmove">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectMoveAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "move",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -18511,9 +24213,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectNewFolder(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "newFolder",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "newFolder",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the projectNewFolder method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -18556,9 +24257,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectNewFolder(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "newFolder",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "newFolder",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the projectNewFolder method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FnewFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectNewFolderAsync(String objectId, Class<T> outputClass) {
+        return projectNewFolderAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectNewFolder method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FnewFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectNewFolderAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "newFolder",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the projectNewFolder method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FnewFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectNewFolderAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectNewFolderAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectNewFolder method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FnewFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectNewFolderAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "newFolder",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -18695,9 +24454,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectRemoveFolder(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeFolder",
-                        mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeFolder",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the projectRemoveFolder method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -18740,19 +24498,77 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectRemoveFolder(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeFolder",
-                    mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeFolder",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
     }
 
     /**
-     * Invokes the projectRemoveFolder method.
+     * Invokes the projectRemoveFolder method asynchronously with an empty input, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveFolder">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectRemoveFolderAsync(String objectId, Class<T> outputClass) {
+        return projectRemoveFolderAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectRemoveFolder method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectRemoveFolderAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeFolder",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the projectRemoveFolder method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectRemoveFolderAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectRemoveFolderAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectRemoveFolder method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectRemoveFolderAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeFolder",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the projectRemoveFolder method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
      *
      * @throws DXAPIException
      *             If the server returns a complete response with an HTTP status
@@ -18879,9 +24695,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectRemoveObjects(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeObjects",
-                        mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeObjects",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the projectRemoveObjects method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -18924,9 +24739,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectRemoveObjects(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeObjects",
-                    mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeObjects",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the projectRemoveObjects method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveObjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectRemoveObjectsAsync(String objectId, Class<T> outputClass) {
+        return projectRemoveObjectsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectRemoveObjects method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveObjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectRemoveObjectsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeObjects",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the projectRemoveObjects method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveObjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectRemoveObjectsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectRemoveObjectsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectRemoveObjects method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FremoveObjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectRemoveObjectsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeObjects",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -19063,9 +24936,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectRemoveTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the projectRemoveTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -19108,9 +24980,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectRemoveTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the projectRemoveTags method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectRemoveTagsAsync(String objectId, Class<T> outputClass) {
+        return projectRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectRemoveTags method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the projectRemoveTags method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectRemoveTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectRemoveTags method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -19247,9 +25177,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectRenameFolder(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "renameFolder",
-                        mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "renameFolder",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the projectRenameFolder method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -19292,9 +25221,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectRenameFolder(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "renameFolder",
-                    mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "renameFolder",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the projectRenameFolder method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FrenameFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectRenameFolderAsync(String objectId, Class<T> outputClass) {
+        return projectRenameFolderAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectRenameFolder method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FrenameFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectRenameFolderAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "renameFolder",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the projectRenameFolder method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FrenameFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectRenameFolderAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectRenameFolderAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectRenameFolder method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Folders-and-Deletion#API-method%3A-%2Fclass-xxxx%2FrenameFolder">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectRenameFolderAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "renameFolder",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -19431,9 +25418,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectSetProperties(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setProperties",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setProperties",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the projectSetProperties method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -19476,9 +25462,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectSetProperties(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setProperties",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setProperties",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the projectSetProperties method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectSetPropertiesAsync(String objectId, Class<T> outputClass) {
+        return projectSetPropertiesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectSetProperties method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectSetPropertiesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setProperties",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the projectSetProperties method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectSetPropertiesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectSetPropertiesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectSetProperties method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectSetPropertiesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setProperties",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -19615,9 +25659,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectTransfer(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "transfer",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "transfer",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the projectTransfer method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -19660,9 +25703,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectTransfer(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "transfer",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "transfer",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the projectTransfer method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2Ftransfer">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectTransferAsync(String objectId, Class<T> outputClass) {
+        return projectTransferAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectTransfer method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2Ftransfer">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectTransferAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "transfer",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the projectTransfer method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2Ftransfer">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectTransferAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectTransferAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectTransfer method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Project-Permissions-and-Sharing#API-method%3A-%2Fproject-xxxx%2Ftransfer">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectTransferAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "transfer",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -19799,9 +25900,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectUpdate(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "update",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "update",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the projectUpdate method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -19844,28 +25944,86 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectUpdate(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "update",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "update",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
-     * Invokes the projectUpdate method.
+     * Invokes the projectUpdate method asynchronously with an empty input, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2Fupdate">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
-     *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
-     *             If an error occurs while making the HTTP request or obtaining
-     *             the response (includes HTTP protocol errors).
-     *
-     * @deprecated Use {@link #projectUpdate(String, Class)} instead and supply your own class to deserialize to.
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectUpdateAsync(String objectId, Class<T> outputClass) {
+        return projectUpdateAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectUpdate method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2Fupdate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectUpdateAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "update",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the projectUpdate method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2Fupdate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectUpdateAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectUpdateAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectUpdate method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2Fupdate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectUpdateAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "update",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the projectUpdate method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2Fupdate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
+     *             If an error occurs while making the HTTP request or obtaining
+     *             the response (includes HTTP protocol errors).
+     *
+     * @deprecated Use {@link #projectUpdate(String, Class)} instead and supply your own class to deserialize to.
      */
     @Deprecated
     public static JsonNode projectUpdate(String objectId) {
@@ -19983,9 +26141,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectUpdateSponsorship(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "updateSponsorship",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "updateSponsorship",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the projectUpdateSponsorship method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -20028,9 +26185,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectUpdateSponsorship(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "updateSponsorship",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "updateSponsorship",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the projectUpdateSponsorship method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2FupdateSponsorship">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectUpdateSponsorshipAsync(String objectId, Class<T> outputClass) {
+        return projectUpdateSponsorshipAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectUpdateSponsorship method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2FupdateSponsorship">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectUpdateSponsorshipAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "updateSponsorship",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the projectUpdateSponsorship method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2FupdateSponsorship">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectUpdateSponsorshipAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return projectUpdateSponsorshipAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectUpdateSponsorship method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject-xxxx%2FupdateSponsorship">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectUpdateSponsorshipAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "updateSponsorship",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -20185,8 +26400,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectNew(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/project/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
+        return new DXHTTPRequest().request("/project/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
                 outputClass);
     }
     /**
@@ -20208,8 +26422,62 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T projectNew(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/project/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
+        return new DXHTTPRequest(env).request("/project/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
+                outputClass);
+    }
+
+    /**
+     * Invokes the projectNew method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject%2Fnew">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectNewAsync(Class<T> outputClass) {
+        return projectNewAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the projectNew method asynchronously with an empty input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject%2Fnew">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectNewAsync(Class<T> outputClass, DXEnvironment env) {
+        return projectNewAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the projectNew method asynchronously with the specified input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject%2Fnew">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectNewAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/project/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
+                outputClass);
+    }
+    /**
+     * Invokes the projectNew method asynchronously with the specified input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Projects#API-method%3A-%2Fproject%2Fnew">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> projectNewAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/project/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
                 outputClass);
     }
 
@@ -20340,9 +26608,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordAddTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the recordAddTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -20385,9 +26652,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordAddTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the recordAddTags method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordAddTagsAsync(String objectId, Class<T> outputClass) {
+        return recordAddTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the recordAddTags method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the recordAddTags method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordAddTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return recordAddTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the recordAddTags method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -20524,9 +26849,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordAddTypes(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addTypes",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addTypes",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the recordAddTypes method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -20569,9 +26893,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordAddTypes(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addTypes",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addTypes",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the recordAddTypes method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FaddTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordAddTypesAsync(String objectId, Class<T> outputClass) {
+        return recordAddTypesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the recordAddTypes method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FaddTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordAddTypesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addTypes",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the recordAddTypes method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FaddTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordAddTypesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return recordAddTypesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the recordAddTypes method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FaddTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordAddTypesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addTypes",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -20708,9 +27090,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordClose(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "close",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "close",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the recordClose method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -20753,9 +27134,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordClose(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "close",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "close",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the recordClose method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Data-Object-Lifecycle#API-method%3A-%2Fclass-xxxx%2Fclose">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordCloseAsync(String objectId, Class<T> outputClass) {
+        return recordCloseAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the recordClose method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Data-Object-Lifecycle#API-method%3A-%2Fclass-xxxx%2Fclose">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordCloseAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "close",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the recordClose method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Data-Object-Lifecycle#API-method%3A-%2Fclass-xxxx%2Fclose">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordCloseAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return recordCloseAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the recordClose method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Data-Object-Lifecycle#API-method%3A-%2Fclass-xxxx%2Fclose">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordCloseAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "close",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -20892,9 +27331,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordDescribe(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "describe",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the recordDescribe method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -20937,13 +27375,71 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordDescribe(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
-     * Invokes the recordDescribe method.
+     * Invokes the recordDescribe method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Records#API-method%3A-%2Frecord-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordDescribeAsync(String objectId, Class<T> outputClass) {
+        return recordDescribeAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the recordDescribe method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Records#API-method%3A-%2Frecord-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordDescribeAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the recordDescribe method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Records#API-method%3A-%2Frecord-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordDescribeAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return recordDescribeAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the recordDescribe method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Records#API-method%3A-%2Frecord-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordDescribeAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the recordDescribe method.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Records#API-method%3A-%2Frecord-xxxx%2Fdescribe">API specification</a>.
      *
@@ -21076,9 +27572,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordGetDetails(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "getDetails",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "getDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the recordGetDetails method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -21121,9 +27616,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordGetDetails(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "getDetails",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "getDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the recordGetDetails method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordGetDetailsAsync(String objectId, Class<T> outputClass) {
+        return recordGetDetailsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the recordGetDetails method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordGetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "getDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the recordGetDetails method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordGetDetailsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return recordGetDetailsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the recordGetDetails method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordGetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "getDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -21260,9 +27813,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordListProjects(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "listProjects",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "listProjects",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the recordListProjects method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -21305,9 +27857,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordListProjects(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "listProjects",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "listProjects",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the recordListProjects method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordListProjectsAsync(String objectId, Class<T> outputClass) {
+        return recordListProjectsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the recordListProjects method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordListProjectsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "listProjects",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the recordListProjects method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordListProjectsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return recordListProjectsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the recordListProjects method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordListProjectsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "listProjects",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -21444,9 +28054,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordRemoveTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the recordRemoveTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -21489,9 +28098,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordRemoveTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the recordRemoveTags method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordRemoveTagsAsync(String objectId, Class<T> outputClass) {
+        return recordRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the recordRemoveTags method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the recordRemoveTags method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordRemoveTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return recordRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the recordRemoveTags method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -21628,9 +28295,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordRemoveTypes(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeTypes",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeTypes",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the recordRemoveTypes method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -21673,9 +28339,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordRemoveTypes(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTypes",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTypes",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the recordRemoveTypes method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FremoveTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordRemoveTypesAsync(String objectId, Class<T> outputClass) {
+        return recordRemoveTypesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the recordRemoveTypes method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FremoveTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordRemoveTypesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeTypes",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the recordRemoveTypes method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FremoveTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordRemoveTypesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return recordRemoveTypesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the recordRemoveTypes method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FremoveTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordRemoveTypesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeTypes",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -21812,9 +28536,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordRename(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "rename",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "rename",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the recordRename method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -21857,9 +28580,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordRename(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "rename",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "rename",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the recordRename method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordRenameAsync(String objectId, Class<T> outputClass) {
+        return recordRenameAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the recordRename method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordRenameAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "rename",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the recordRename method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordRenameAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return recordRenameAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the recordRename method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordRenameAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "rename",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -21996,9 +28777,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordSetDetails(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setDetails",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the recordSetDetails method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -22041,24 +28821,82 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordSetDetails(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setDetails",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
-     * Invokes the recordSetDetails method.
+     * Invokes the recordSetDetails method asynchronously with an empty input, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordSetDetailsAsync(String objectId, Class<T> outputClass) {
+        return recordSetDetailsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the recordSetDetails method asynchronously with the given input, deserializing to an object of the specified class.
      *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordSetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the recordSetDetails method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordSetDetailsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return recordSetDetailsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the recordSetDetails method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordSetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the recordSetDetails method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
      *             If an error occurs while making the HTTP request or obtaining
      *             the response (includes HTTP protocol errors).
      *
@@ -22180,9 +29018,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordSetProperties(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setProperties",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setProperties",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the recordSetProperties method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -22225,9 +29062,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordSetProperties(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setProperties",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setProperties",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the recordSetProperties method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordSetPropertiesAsync(String objectId, Class<T> outputClass) {
+        return recordSetPropertiesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the recordSetProperties method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordSetPropertiesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setProperties",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the recordSetProperties method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordSetPropertiesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return recordSetPropertiesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the recordSetProperties method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordSetPropertiesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setProperties",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -22364,9 +29259,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordSetVisibility(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setVisibility",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setVisibility",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the recordSetVisibility method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -22409,9 +29303,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordSetVisibility(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setVisibility",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setVisibility",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the recordSetVisibility method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Visibility#API-method%3A-%2Fclass-xxxx%2FsetVisibility">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordSetVisibilityAsync(String objectId, Class<T> outputClass) {
+        return recordSetVisibilityAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the recordSetVisibility method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Visibility#API-method%3A-%2Fclass-xxxx%2FsetVisibility">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordSetVisibilityAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setVisibility",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the recordSetVisibility method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Visibility#API-method%3A-%2Fclass-xxxx%2FsetVisibility">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordSetVisibilityAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return recordSetVisibilityAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the recordSetVisibility method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Visibility#API-method%3A-%2Fclass-xxxx%2FsetVisibility">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordSetVisibilityAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setVisibility",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -22566,8 +29518,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordNew(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/record/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
+        return new DXHTTPRequest().request("/record/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
                 outputClass);
     }
     /**
@@ -22589,8 +29540,62 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T recordNew(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/record/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
+        return new DXHTTPRequest(env).request("/record/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
+                outputClass);
+    }
+
+    /**
+     * Invokes the recordNew method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Records#API-method%3A-%2Frecord%2Fnew">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordNewAsync(Class<T> outputClass) {
+        return recordNewAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the recordNew method asynchronously with an empty input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Records#API-method%3A-%2Frecord%2Fnew">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordNewAsync(Class<T> outputClass, DXEnvironment env) {
+        return recordNewAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the recordNew method asynchronously with the specified input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Records#API-method%3A-%2Frecord%2Fnew">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordNewAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/record/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
+                outputClass);
+    }
+    /**
+     * Invokes the recordNew method asynchronously with the specified input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Records#API-method%3A-%2Frecord%2Fnew">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> recordNewAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/record/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
                 outputClass);
     }
 
@@ -22739,8 +29744,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemDescribeDataObjects(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/describeDataObjects", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest().request("/system/describeDataObjects", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
     /**
@@ -22762,8 +29766,62 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemDescribeDataObjects(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/describeDataObjects", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest(env).request("/system/describeDataObjects", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+
+    /**
+     * Invokes the systemDescribeDataObjects method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/System-Methods#API-method:-/system/describeDataObjects">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemDescribeDataObjectsAsync(Class<T> outputClass) {
+        return systemDescribeDataObjectsAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the systemDescribeDataObjects method asynchronously with an empty input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/System-Methods#API-method:-/system/describeDataObjects">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemDescribeDataObjectsAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemDescribeDataObjectsAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemDescribeDataObjects method asynchronously with the specified input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/System-Methods#API-method:-/system/describeDataObjects">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemDescribeDataObjectsAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/describeDataObjects", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+    /**
+     * Invokes the systemDescribeDataObjects method asynchronously with the specified input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/System-Methods#API-method:-/system/describeDataObjects">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemDescribeDataObjectsAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/describeDataObjects", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
 
@@ -22912,8 +29970,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemDescribeProjects(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/describeProjects", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest().request("/system/describeProjects", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
     /**
@@ -22935,8 +29992,62 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemDescribeProjects(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/describeProjects", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest(env).request("/system/describeProjects", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+
+    /**
+     * Invokes the systemDescribeProjects method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/System-Methods#API-method:-/system/describeProjects">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemDescribeProjectsAsync(Class<T> outputClass) {
+        return systemDescribeProjectsAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the systemDescribeProjects method asynchronously with an empty input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/System-Methods#API-method:-/system/describeProjects">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemDescribeProjectsAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemDescribeProjectsAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemDescribeProjects method asynchronously with the specified input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/System-Methods#API-method:-/system/describeProjects">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemDescribeProjectsAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/describeProjects", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+    /**
+     * Invokes the systemDescribeProjects method asynchronously with the specified input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/System-Methods#API-method:-/system/describeProjects">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemDescribeProjectsAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/describeProjects", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
 
@@ -23079,8 +30190,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindAffiliates(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/findAffiliates", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest().request("/system/findAffiliates", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
     /**
@@ -23100,28 +30210,74 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindAffiliates(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/findAffiliates", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest(env).request("/system/findAffiliates", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
 
     /**
-     * Invokes the systemFindAffiliates method.
-     *
-     * @return Server response parsed from JSON
+     * Invokes the systemFindAffiliates method asynchronously with an empty input, deserializing to an object of the specified class.
      *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
-     *             If an error occurs while making the HTTP request or obtaining
-     *             the response (includes HTTP protocol errors).
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @deprecated Use {@link #systemFindAffiliates(Class)} instead and supply your own class to deserialize to.
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
      */
-    @Deprecated
-    public static JsonNode systemFindAffiliates() {
-        return systemFindAffiliates(mapper.createObjectNode());
+    public static <T> ListenableFuture<T> systemFindAffiliatesAsync(Class<T> outputClass) {
+        return systemFindAffiliatesAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the systemFindAffiliates method asynchronously with an empty input using the specified environment, deserializing to an object of the specified class.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindAffiliatesAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemFindAffiliatesAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemFindAffiliates method asynchronously with the specified input, deserializing to an object of the specified class.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindAffiliatesAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/findAffiliates", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+    /**
+     * Invokes the systemFindAffiliates method asynchronously with the specified input using the specified environment, deserializing to an object of the specified class.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindAffiliatesAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/findAffiliates", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+
+    /**
+     * Invokes the systemFindAffiliates method.
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
+     *             If an error occurs while making the HTTP request or obtaining
+     *             the response (includes HTTP protocol errors).
+     *
+     * @deprecated Use {@link #systemFindAffiliates(Class)} instead and supply your own class to deserialize to.
+     */
+    @Deprecated
+    public static JsonNode systemFindAffiliates() {
+        return systemFindAffiliates(mapper.createObjectNode());
     }
     /**
      * Invokes the systemFindAffiliates method with the specified input parameters.
@@ -23242,8 +30398,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindApps(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/findApps", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest().request("/system/findApps", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
     /**
@@ -23265,8 +30420,62 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindApps(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/findApps", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest(env).request("/system/findApps", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+
+    /**
+     * Invokes the systemFindApps method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindApps">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindAppsAsync(Class<T> outputClass) {
+        return systemFindAppsAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the systemFindApps method asynchronously with an empty input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindApps">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindAppsAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemFindAppsAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemFindApps method asynchronously with the specified input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindApps">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindAppsAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/findApps", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+    /**
+     * Invokes the systemFindApps method asynchronously with the specified input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindApps">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindAppsAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/findApps", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
 
@@ -23415,8 +30624,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindDataObjects(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/findDataObjects", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest().request("/system/findDataObjects", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
     /**
@@ -23438,8 +30646,62 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindDataObjects(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/findDataObjects", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest(env).request("/system/findDataObjects", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+
+    /**
+     * Invokes the systemFindDataObjects method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindDataObjects">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindDataObjectsAsync(Class<T> outputClass) {
+        return systemFindDataObjectsAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the systemFindDataObjects method asynchronously with an empty input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindDataObjects">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindDataObjectsAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemFindDataObjectsAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemFindDataObjects method asynchronously with the specified input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindDataObjects">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindDataObjectsAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/findDataObjects", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+    /**
+     * Invokes the systemFindDataObjects method asynchronously with the specified input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindDataObjects">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindDataObjectsAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/findDataObjects", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
 
@@ -23588,8 +30850,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemResolveDataObjects(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/resolveDataObjects", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest().request("/system/resolveDataObjects", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
     /**
@@ -23611,8 +30872,62 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemResolveDataObjects(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/resolveDataObjects", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest(env).request("/system/resolveDataObjects", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+
+    /**
+     * Invokes the systemResolveDataObjects method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/System-Methods#API-method:-/system/resolveDataObjects">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemResolveDataObjectsAsync(Class<T> outputClass) {
+        return systemResolveDataObjectsAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the systemResolveDataObjects method asynchronously with an empty input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/System-Methods#API-method:-/system/resolveDataObjects">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemResolveDataObjectsAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemResolveDataObjectsAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemResolveDataObjects method asynchronously with the specified input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/System-Methods#API-method:-/system/resolveDataObjects">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemResolveDataObjectsAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/resolveDataObjects", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+    /**
+     * Invokes the systemResolveDataObjects method asynchronously with the specified input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/System-Methods#API-method:-/system/resolveDataObjects">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemResolveDataObjectsAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/resolveDataObjects", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
 
@@ -23761,8 +31076,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindExecutions(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/findExecutions", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest().request("/system/findExecutions", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
     /**
@@ -23784,8 +31098,62 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindExecutions(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/findExecutions", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest(env).request("/system/findExecutions", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+
+    /**
+     * Invokes the systemFindExecutions method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindExecutions">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindExecutionsAsync(Class<T> outputClass) {
+        return systemFindExecutionsAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the systemFindExecutions method asynchronously with an empty input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindExecutions">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindExecutionsAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemFindExecutionsAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemFindExecutions method asynchronously with the specified input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindExecutions">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindExecutionsAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/findExecutions", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+    /**
+     * Invokes the systemFindExecutions method asynchronously with the specified input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindExecutions">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindExecutionsAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/findExecutions", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
 
@@ -23934,8 +31302,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindAnalyses(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/findAnalyses", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest().request("/system/findAnalyses", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
     /**
@@ -23957,8 +31324,62 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindAnalyses(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/findAnalyses", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest(env).request("/system/findAnalyses", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+
+    /**
+     * Invokes the systemFindAnalyses method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindAnalyses">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindAnalysesAsync(Class<T> outputClass) {
+        return systemFindAnalysesAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the systemFindAnalyses method asynchronously with an empty input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindAnalyses">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindAnalysesAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemFindAnalysesAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemFindAnalyses method asynchronously with the specified input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindAnalyses">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindAnalysesAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/findAnalyses", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+    /**
+     * Invokes the systemFindAnalyses method asynchronously with the specified input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindAnalyses">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindAnalysesAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/findAnalyses", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
 
@@ -24107,8 +31528,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindJobs(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/findJobs", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest().request("/system/findJobs", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
     /**
@@ -24130,37 +31550,91 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindJobs(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/findJobs", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest(env).request("/system/findJobs", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
 
     /**
-     * Invokes the systemFindJobs method.
+     * Invokes the systemFindJobs method asynchronously with an empty input, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindJobs">API specification</a>.
      *
-     * @return Server response parsed from JSON
-     *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
-     *             If an error occurs while making the HTTP request or obtaining
-     *             the response (includes HTTP protocol errors).
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @deprecated Use {@link #systemFindJobs(Class)} instead and supply your own class to deserialize to.
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
      */
-    @Deprecated
-    public static JsonNode systemFindJobs() {
-        return systemFindJobs(mapper.createObjectNode());
+    public static <T> ListenableFuture<T> systemFindJobsAsync(Class<T> outputClass) {
+        return systemFindJobsAsync(mapper.createObjectNode(), outputClass);
     }
     /**
-     * Invokes the systemFindJobs method with the specified input parameters.
+     * Invokes the systemFindJobs method asynchronously with an empty input using the specified environment, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindJobs">API specification</a>.
      *
-     * @param inputParams input parameters to the API call
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindJobsAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemFindJobsAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemFindJobs method asynchronously with the specified input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindJobs">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindJobsAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/findJobs", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+    /**
+     * Invokes the systemFindJobs method asynchronously with the specified input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindJobs">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindJobsAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/findJobs", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+
+    /**
+     * Invokes the systemFindJobs method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindJobs">API specification</a>.
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
+     *             If an error occurs while making the HTTP request or obtaining
+     *             the response (includes HTTP protocol errors).
+     *
+     * @deprecated Use {@link #systemFindJobs(Class)} instead and supply your own class to deserialize to.
+     */
+    @Deprecated
+    public static JsonNode systemFindJobs() {
+        return systemFindJobs(mapper.createObjectNode());
+    }
+    /**
+     * Invokes the systemFindJobs method with the specified input parameters.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindJobs">API specification</a>.
+     *
+     * @param inputParams input parameters to the API call
      *
      * @return Server response parsed from JSON
      *
@@ -24280,8 +31754,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindProjects(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/findProjects", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest().request("/system/findProjects", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
     /**
@@ -24303,8 +31776,62 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindProjects(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/findProjects", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest(env).request("/system/findProjects", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+
+    /**
+     * Invokes the systemFindProjects method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindProjects">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindProjectsAsync(Class<T> outputClass) {
+        return systemFindProjectsAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the systemFindProjects method asynchronously with an empty input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindProjects">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindProjectsAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemFindProjectsAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemFindProjects method asynchronously with the specified input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindProjects">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindProjectsAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/findProjects", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+    /**
+     * Invokes the systemFindProjects method asynchronously with the specified input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindProjects">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindProjectsAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/findProjects", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
 
@@ -24453,8 +31980,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindUsers(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/findUsers", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest().request("/system/findUsers", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
     /**
@@ -24476,8 +32002,62 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindUsers(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/findUsers", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest(env).request("/system/findUsers", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+
+    /**
+     * Invokes the systemFindUsers method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindUsers">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindUsersAsync(Class<T> outputClass) {
+        return systemFindUsersAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the systemFindUsers method asynchronously with an empty input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindUsers">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindUsersAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemFindUsersAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemFindUsers method asynchronously with the specified input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindUsers">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindUsersAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/findUsers", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+    /**
+     * Invokes the systemFindUsers method asynchronously with the specified input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method%3A-%2Fsystem%2FfindUsers">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindUsersAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/findUsers", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
 
@@ -24626,8 +32206,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindProjectMembers(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/findProjectMembers", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest().request("/system/findProjectMembers", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
     /**
@@ -24649,8 +32228,62 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindProjectMembers(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/findProjectMembers", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest(env).request("/system/findProjectMembers", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+
+    /**
+     * Invokes the systemFindProjectMembers method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method:-/system/findProjectMembers">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindProjectMembersAsync(Class<T> outputClass) {
+        return systemFindProjectMembersAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the systemFindProjectMembers method asynchronously with an empty input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method:-/system/findProjectMembers">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindProjectMembersAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemFindProjectMembersAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemFindProjectMembers method asynchronously with the specified input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method:-/system/findProjectMembers">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindProjectMembersAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/findProjectMembers", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+    /**
+     * Invokes the systemFindProjectMembers method asynchronously with the specified input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method:-/system/findProjectMembers">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindProjectMembersAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/findProjectMembers", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
 
@@ -24799,8 +32432,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindOrgs(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/findOrgs", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest().request("/system/findOrgs", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
     /**
@@ -24822,8 +32454,62 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemFindOrgs(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/findOrgs", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest(env).request("/system/findOrgs", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+
+    /**
+     * Invokes the systemFindOrgs method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method:-/system/findOrgs">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindOrgsAsync(Class<T> outputClass) {
+        return systemFindOrgsAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the systemFindOrgs method asynchronously with an empty input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method:-/system/findOrgs">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindOrgsAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemFindOrgsAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemFindOrgs method asynchronously with the specified input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method:-/system/findOrgs">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindOrgsAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/findOrgs", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+    /**
+     * Invokes the systemFindOrgs method asynchronously with the specified input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method:-/system/findOrgs">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemFindOrgsAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/findOrgs", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
 
@@ -24972,8 +32658,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemGlobalSearch(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/globalSearch", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest().request("/system/globalSearch", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
     /**
@@ -24995,8 +32680,62 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemGlobalSearch(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/globalSearch", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest(env).request("/system/globalSearch", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+
+    /**
+     * Invokes the systemGlobalSearch method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method:-/system/globalSearch">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemGlobalSearchAsync(Class<T> outputClass) {
+        return systemGlobalSearchAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the systemGlobalSearch method asynchronously with an empty input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method:-/system/globalSearch">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemGlobalSearchAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemGlobalSearchAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemGlobalSearch method asynchronously with the specified input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method:-/system/globalSearch">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemGlobalSearchAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/globalSearch", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+    /**
+     * Invokes the systemGlobalSearch method asynchronously with the specified input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Search#API-method:-/system/globalSearch">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemGlobalSearchAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/globalSearch", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
 
@@ -25139,8 +32878,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemGreet(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/greet", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest().request("/system/greet", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
     /**
@@ -25160,22 +32898,68 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemGreet(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/greet", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest(env).request("/system/greet", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
 
     /**
-     * Invokes the systemGreet method.
-     *
-     * @return Server response parsed from JSON
+     * Invokes the systemGreet method asynchronously with an empty input, deserializing to an object of the specified class.
      *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
-     *             If an error occurs while making the HTTP request or obtaining
-     *             the response (includes HTTP protocol errors).
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemGreetAsync(Class<T> outputClass) {
+        return systemGreetAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the systemGreet method asynchronously with an empty input using the specified environment, deserializing to an object of the specified class.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemGreetAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemGreetAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemGreet method asynchronously with the specified input, deserializing to an object of the specified class.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemGreetAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/greet", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+    /**
+     * Invokes the systemGreet method asynchronously with the specified input using the specified environment, deserializing to an object of the specified class.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemGreetAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/greet", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+
+    /**
+     * Invokes the systemGreet method.
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
+     *             If an error occurs while making the HTTP request or obtaining
+     *             the response (includes HTTP protocol errors).
      *
      * @deprecated Use {@link #systemGreet(Class)} instead and supply your own class to deserialize to.
      */
@@ -25296,8 +33080,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemShortenURL(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/shortenURL", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest().request("/system/shortenURL", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
     /**
@@ -25317,8 +33100,54 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemShortenURL(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/shortenURL", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest(env).request("/system/shortenURL", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+
+    /**
+     * Invokes the systemShortenURL method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemShortenURLAsync(Class<T> outputClass) {
+        return systemShortenURLAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the systemShortenURL method asynchronously with an empty input using the specified environment, deserializing to an object of the specified class.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemShortenURLAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemShortenURLAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemShortenURL method asynchronously with the specified input, deserializing to an object of the specified class.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemShortenURLAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/shortenURL", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+    /**
+     * Invokes the systemShortenURL method asynchronously with the specified input using the specified environment, deserializing to an object of the specified class.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemShortenURLAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/shortenURL", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
 
@@ -25453,8 +33282,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemWhoami(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/system/whoami", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest().request("/system/whoami", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
     /**
@@ -25474,8 +33302,54 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T systemWhoami(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/system/whoami", mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY),
+        return new DXHTTPRequest(env).request("/system/whoami", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+
+    /**
+     * Invokes the systemWhoami method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemWhoamiAsync(Class<T> outputClass) {
+        return systemWhoamiAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the systemWhoami method asynchronously with an empty input using the specified environment, deserializing to an object of the specified class.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemWhoamiAsync(Class<T> outputClass, DXEnvironment env) {
+        return systemWhoamiAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the systemWhoami method asynchronously with the specified input, deserializing to an object of the specified class.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemWhoamiAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/system/whoami", inputObject, RetryStrategy.SAFE_TO_RETRY,
+                outputClass);
+    }
+    /**
+     * Invokes the systemWhoami method asynchronously with the specified input using the specified environment, deserializing to an object of the specified class.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> systemWhoamiAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/system/whoami", inputObject, RetryStrategy.SAFE_TO_RETRY,
                 outputClass);
     }
 
@@ -25598,9 +33472,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T userDescribe(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "describe",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the userDescribe method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -25643,9 +33516,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T userDescribe(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the userDescribe method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Users#API-method%3A-%2Fuser-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> userDescribeAsync(String objectId, Class<T> outputClass) {
+        return userDescribeAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the userDescribe method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Users#API-method%3A-%2Fuser-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> userDescribeAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the userDescribe method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Users#API-method%3A-%2Fuser-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> userDescribeAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return userDescribeAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the userDescribe method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Users#API-method%3A-%2Fuser-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> userDescribeAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -25782,9 +33713,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T userUpdate(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "update",
-                        mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "update",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the userUpdate method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -25827,9 +33757,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T userUpdate(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "update",
-                    mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "update",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the userUpdate method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Users#API-method%3A-%2Fuser-xxxx%2Fupdate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> userUpdateAsync(String objectId, Class<T> outputClass) {
+        return userUpdateAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the userUpdate method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Users#API-method%3A-%2Fuser-xxxx%2Fupdate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> userUpdateAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "update",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the userUpdate method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Users#API-method%3A-%2Fuser-xxxx%2Fupdate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> userUpdateAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return userUpdateAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the userUpdate method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Users#API-method%3A-%2Fuser-xxxx%2Fupdate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> userUpdateAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "update",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -25966,9 +33954,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowAddStage(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addStage",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addStage",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the workflowAddStage method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -26011,9 +33998,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowAddStage(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addStage",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addStage",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the workflowAddStage method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FaddStage">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowAddStageAsync(String objectId, Class<T> outputClass) {
+        return workflowAddStageAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowAddStage method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FaddStage">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowAddStageAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addStage",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the workflowAddStage method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FaddStage">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowAddStageAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowAddStageAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowAddStage method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FaddStage">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowAddStageAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addStage",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -26150,9 +34195,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowAddTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the workflowAddTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -26195,46 +34239,104 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowAddTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
-     * Invokes the workflowAddTags method.
+     * Invokes the workflowAddTags method asynchronously with an empty input, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowAddTagsAsync(String objectId, Class<T> outputClass) {
+        return workflowAddTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowAddTags method asynchronously with the given input, deserializing to an object of the specified class.
      *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
-     *             If an error occurs while making the HTTP request or obtaining
-     *             the response (includes HTTP protocol errors).
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
      *
-     * @deprecated Use {@link #workflowAddTags(String, Class)} instead and supply your own class to deserialize to.
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
      */
-    @Deprecated
-    public static JsonNode workflowAddTags(String objectId) {
-        return workflowAddTags(objectId, mapper.createObjectNode());
+    public static <T> ListenableFuture<T> workflowAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
-     * Invokes the workflowAddTags method with the specified parameters.
+     * Invokes the workflowAddTags method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
      *
      * @param objectId ID of the object to operate on
-     * @param inputParams input parameters to the API call
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
      *
-     * @return Server response parsed from JSON
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowAddTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowAddTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowAddTags method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
      *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowAddTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the workflowAddTags method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
+     *             If an error occurs while making the HTTP request or obtaining
+     *             the response (includes HTTP protocol errors).
+     *
+     * @deprecated Use {@link #workflowAddTags(String, Class)} instead and supply your own class to deserialize to.
+     */
+    @Deprecated
+    public static JsonNode workflowAddTags(String objectId) {
+        return workflowAddTags(objectId, mapper.createObjectNode());
+    }
+    /**
+     * Invokes the workflowAddTags method with the specified parameters.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FaddTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputParams input parameters to the API call
+     *
+     * @return Server response parsed from JSON
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
      * @throws DXHTTPException
      *             If an error occurs while making the HTTP request or obtaining
      *             the response (includes HTTP protocol errors).
@@ -26334,9 +34436,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowAddTypes(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "addTypes",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "addTypes",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the workflowAddTypes method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -26379,9 +34480,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowAddTypes(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "addTypes",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "addTypes",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the workflowAddTypes method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FaddTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowAddTypesAsync(String objectId, Class<T> outputClass) {
+        return workflowAddTypesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowAddTypes method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FaddTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowAddTypesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "addTypes",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the workflowAddTypes method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FaddTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowAddTypesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowAddTypesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowAddTypes method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FaddTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowAddTypesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "addTypes",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -26518,9 +34677,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowClose(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "close",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "close",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the workflowClose method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -26563,9 +34721,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowClose(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "close",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "close",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the workflowClose method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Data-Object-Lifecycle#API-method%3A-%2Fclass-xxxx%2Fclose">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowCloseAsync(String objectId, Class<T> outputClass) {
+        return workflowCloseAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowClose method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Data-Object-Lifecycle#API-method%3A-%2Fclass-xxxx%2Fclose">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowCloseAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "close",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the workflowClose method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Data-Object-Lifecycle#API-method%3A-%2Fclass-xxxx%2Fclose">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowCloseAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowCloseAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowClose method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Data-Object-Lifecycle#API-method%3A-%2Fclass-xxxx%2Fclose">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowCloseAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "close",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -26702,9 +34918,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowDescribe(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "describe",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the workflowDescribe method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -26747,9 +34962,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowDescribe(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the workflowDescribe method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowDescribeAsync(String objectId, Class<T> outputClass) {
+        return workflowDescribeAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowDescribe method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowDescribeAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the workflowDescribe method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowDescribeAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowDescribeAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowDescribe method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Fdescribe">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowDescribeAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "describe",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -26886,9 +35159,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowDryRun(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "dryRun",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "dryRun",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the workflowDryRun method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -26931,9 +35203,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowDryRun(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "dryRun",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "dryRun",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the workflowDryRun method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FdryRun">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowDryRunAsync(String objectId, Class<T> outputClass) {
+        return workflowDryRunAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowDryRun method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FdryRun">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowDryRunAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "dryRun",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the workflowDryRun method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FdryRun">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowDryRunAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowDryRunAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowDryRun method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FdryRun">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowDryRunAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "dryRun",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -27070,9 +35400,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowGetDetails(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "getDetails",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "getDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the workflowGetDetails method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -27115,9 +35444,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowGetDetails(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "getDetails",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "getDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the workflowGetDetails method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowGetDetailsAsync(String objectId, Class<T> outputClass) {
+        return workflowGetDetailsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowGetDetails method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowGetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "getDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the workflowGetDetails method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowGetDetailsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowGetDetailsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowGetDetails method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FgetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowGetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "getDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -27254,9 +35641,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowIsStageCompatible(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "isStageCompatible",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "isStageCompatible",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the workflowIsStageCompatible method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -27299,19 +35685,77 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowIsStageCompatible(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "isStageCompatible",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "isStageCompatible",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
-     * Invokes the workflowIsStageCompatible method.
+     * Invokes the workflowIsStageCompatible method asynchronously with an empty input, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FisStageCompatible">API specification</a>.
      *
      * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
      *
-     * @return Server response parsed from JSON
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowIsStageCompatibleAsync(String objectId, Class<T> outputClass) {
+        return workflowIsStageCompatibleAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowIsStageCompatible method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FisStageCompatible">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowIsStageCompatibleAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "isStageCompatible",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the workflowIsStageCompatible method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FisStageCompatible">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowIsStageCompatibleAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowIsStageCompatibleAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowIsStageCompatible method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FisStageCompatible">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowIsStageCompatibleAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "isStageCompatible",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the workflowIsStageCompatible method.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FisStageCompatible">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     *
+     * @return Server response parsed from JSON
      *
      * @throws DXAPIException
      *             If the server returns a complete response with an HTTP status
@@ -27438,9 +35882,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowListProjects(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "listProjects",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "listProjects",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the workflowListProjects method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -27483,9 +35926,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowListProjects(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "listProjects",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "listProjects",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the workflowListProjects method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowListProjectsAsync(String objectId, Class<T> outputClass) {
+        return workflowListProjectsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowListProjects method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowListProjectsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "listProjects",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the workflowListProjects method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowListProjectsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowListProjectsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowListProjects method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Cloning#API-method%3A-%2Fclass-xxxx%2FlistProjects">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowListProjectsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "listProjects",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -27622,9 +36123,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowMoveStage(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "moveStage",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "moveStage",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the workflowMoveStage method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -27667,9 +36167,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowMoveStage(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "moveStage",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "moveStage",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the workflowMoveStage method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FmoveStage">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowMoveStageAsync(String objectId, Class<T> outputClass) {
+        return workflowMoveStageAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowMoveStage method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FmoveStage">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowMoveStageAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "moveStage",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the workflowMoveStage method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FmoveStage">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowMoveStageAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowMoveStageAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowMoveStage method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FmoveStage">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowMoveStageAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "moveStage",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -27806,9 +36364,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowOverwrite(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "overwrite",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "overwrite",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the workflowOverwrite method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -27851,9 +36408,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowOverwrite(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "overwrite",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "overwrite",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the workflowOverwrite method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Foverwrite">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowOverwriteAsync(String objectId, Class<T> outputClass) {
+        return workflowOverwriteAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowOverwrite method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Foverwrite">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowOverwriteAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "overwrite",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the workflowOverwrite method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Foverwrite">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowOverwriteAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowOverwriteAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowOverwrite method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Foverwrite">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowOverwriteAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "overwrite",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -27990,9 +36605,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowRemoveStage(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeStage",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeStage",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the workflowRemoveStage method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -28035,9 +36649,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowRemoveStage(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeStage",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeStage",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the workflowRemoveStage method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FremoveStage">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowRemoveStageAsync(String objectId, Class<T> outputClass) {
+        return workflowRemoveStageAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowRemoveStage method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FremoveStage">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowRemoveStageAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeStage",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the workflowRemoveStage method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FremoveStage">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowRemoveStageAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowRemoveStageAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowRemoveStage method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FremoveStage">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowRemoveStageAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeStage",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -28174,9 +36846,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowRemoveTags(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the workflowRemoveTags method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -28219,9 +36890,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowRemoveTags(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the workflowRemoveTags method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowRemoveTagsAsync(String objectId, Class<T> outputClass) {
+        return workflowRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowRemoveTags method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the workflowRemoveTags method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowRemoveTagsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowRemoveTagsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowRemoveTags method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Tags#API-method%3A-%2Fclass-xxxx%2FremoveTags">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowRemoveTagsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeTags",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -28358,9 +37087,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowRemoveTypes(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "removeTypes",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "removeTypes",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the workflowRemoveTypes method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -28403,9 +37131,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowRemoveTypes(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTypes",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "removeTypes",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the workflowRemoveTypes method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FremoveTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowRemoveTypesAsync(String objectId, Class<T> outputClass) {
+        return workflowRemoveTypesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowRemoveTypes method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FremoveTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowRemoveTypesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "removeTypes",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the workflowRemoveTypes method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FremoveTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowRemoveTypesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowRemoveTypesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowRemoveTypes method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Types#API-method%3A-%2Fclass-xxxx%2FremoveTypes">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowRemoveTypesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "removeTypes",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -28542,9 +37328,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowRename(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "rename",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "rename",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the workflowRename method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -28587,9 +37372,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowRename(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "rename",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "rename",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the workflowRename method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowRenameAsync(String objectId, Class<T> outputClass) {
+        return workflowRenameAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowRename method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowRenameAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "rename",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the workflowRename method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowRenameAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowRenameAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowRename method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Name#API-method%3A-%2Fclass-xxxx%2Frename">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowRenameAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "rename",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -28726,9 +37569,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowRun(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "run",
-                        mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "run",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the workflowRun method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -28771,9 +37613,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowRun(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "run",
-                    mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "run",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the workflowRun method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Frun">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowRunAsync(String objectId, Class<T> outputClass) {
+        return workflowRunAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowRun method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Frun">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowRunAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "run",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the workflowRun method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Frun">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowRunAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowRunAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowRun method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Frun">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowRunAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "run",
+                inputObject, RetryStrategy.UNSAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -28910,9 +37810,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowSetDetails(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setDetails",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the workflowSetDetails method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -28932,11 +37831,77 @@ public final class DXAPI {
      *             If an error occurs while making the HTTP request or obtaining
      *             the response (includes HTTP protocol errors).
      */
-    public static <T> T workflowSetDetails(String objectId, Class<T> outputClass, DXEnvironment env) {
-        return workflowSetDetails(objectId, mapper.createObjectNode(), outputClass, env);
+    public static <T> T workflowSetDetails(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowSetDetails(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowSetDetails method with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return Response object
+     *
+     * @throws DXAPIException
+     *             If the server returns a complete response with an HTTP status
+     *             code other than 200 (OK).
+     * @throws DXHTTPException
+     *             If an error occurs while making the HTTP request or obtaining
+     *             the response (includes HTTP protocol errors).
+     */
+    public static <T> T workflowSetDetails(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the workflowSetDetails method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowSetDetailsAsync(String objectId, Class<T> outputClass) {
+        return workflowSetDetailsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowSetDetails method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowSetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the workflowSetDetails method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowSetDetailsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowSetDetailsAsync(objectId, mapper.createObjectNode(), outputClass, env);
     }
     /**
-     * Invokes the workflowSetDetails method with the given input using the given environment, deserializing to an object of the specified class.
+     * Invokes the workflowSetDetails method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
      *
      * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Details-and-Links#API-method%3A-%2Fclass-xxxx%2FsetDetails">API specification</a>.
      *
@@ -28945,19 +37910,11 @@ public final class DXAPI {
      * @param outputClass class to deserialize the server reponse to
      * @param env environment object specifying the auth token and remote server and protocol
      *
-     * @return Response object
-     *
-     * @throws DXAPIException
-     *             If the server returns a complete response with an HTTP status
-     *             code other than 200 (OK).
-     * @throws DXHTTPException
-     *             If an error occurs while making the HTTP request or obtaining
-     *             the response (includes HTTP protocol errors).
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
      */
-    public static <T> T workflowSetDetails(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setDetails",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+    public static <T> ListenableFuture<T> workflowSetDetailsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setDetails",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -29094,9 +38051,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowSetProperties(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setProperties",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setProperties",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the workflowSetProperties method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -29139,9 +38095,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowSetProperties(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setProperties",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setProperties",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the workflowSetProperties method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowSetPropertiesAsync(String objectId, Class<T> outputClass) {
+        return workflowSetPropertiesAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowSetProperties method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowSetPropertiesAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setProperties",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the workflowSetProperties method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowSetPropertiesAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowSetPropertiesAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowSetProperties method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Properties#API-method%3A-%2Fclass-xxxx%2FsetProperties">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowSetPropertiesAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setProperties",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -29278,9 +38292,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowSetStageInputs(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setStageInputs",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setStageInputs",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the workflowSetStageInputs method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -29323,9 +38336,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowSetStageInputs(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setStageInputs",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setStageInputs",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the workflowSetStageInputs method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FsetStageInputs">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowSetStageInputsAsync(String objectId, Class<T> outputClass) {
+        return workflowSetStageInputsAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowSetStageInputs method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FsetStageInputs">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowSetStageInputsAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setStageInputs",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the workflowSetStageInputs method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FsetStageInputs">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowSetStageInputsAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowSetStageInputsAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowSetStageInputs method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FsetStageInputs">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowSetStageInputsAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setStageInputs",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -29462,9 +38533,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowSetVisibility(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "setVisibility",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "setVisibility",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the workflowSetVisibility method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -29507,9 +38577,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowSetVisibility(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "setVisibility",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "setVisibility",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the workflowSetVisibility method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Visibility#API-method%3A-%2Fclass-xxxx%2FsetVisibility">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowSetVisibilityAsync(String objectId, Class<T> outputClass) {
+        return workflowSetVisibilityAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowSetVisibility method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Visibility#API-method%3A-%2Fclass-xxxx%2FsetVisibility">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowSetVisibilityAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "setVisibility",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the workflowSetVisibility method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Visibility#API-method%3A-%2Fclass-xxxx%2FsetVisibility">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowSetVisibilityAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowSetVisibilityAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowSetVisibility method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Visibility#API-method%3A-%2Fclass-xxxx%2FsetVisibility">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowSetVisibilityAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "setVisibility",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -29646,9 +38774,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowUpdate(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "update",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "update",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the workflowUpdate method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -29691,9 +38818,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowUpdate(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "update",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "update",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the workflowUpdate method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Fupdate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowUpdateAsync(String objectId, Class<T> outputClass) {
+        return workflowUpdateAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowUpdate method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Fupdate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowUpdateAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "update",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the workflowUpdate method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Fupdate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowUpdateAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowUpdateAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowUpdate method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2Fupdate">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowUpdateAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "update",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -29830,9 +39015,8 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowUpdateStageExecutable(String objectId, Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/" + objectId + "/" + "updateStageExecutable",
-                        mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest().request("/" + objectId + "/" + "updateStageExecutable",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
     /**
      * Invokes the workflowUpdateStageExecutable method with an empty input using the given environment, deserializing to an object of the specified class.
@@ -29875,9 +39059,67 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowUpdateStageExecutable(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-            new DXHTTPRequest(env).request("/" + objectId + "/" + "updateStageExecutable",
-                    mapper.valueToTree(inputObject), RetryStrategy.SAFE_TO_RETRY), outputClass);
+        return new DXHTTPRequest(env).request("/" + objectId + "/" + "updateStageExecutable",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+
+    /**
+     * Invokes the workflowUpdateStageExecutable method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FupdateStageExecutable">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowUpdateStageExecutableAsync(String objectId, Class<T> outputClass) {
+        return workflowUpdateStageExecutableAsync(objectId, mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowUpdateStageExecutable method asynchronously with the given input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FupdateStageExecutable">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowUpdateStageExecutableAsync(String objectId, Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/" + objectId + "/" + "updateStageExecutable",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
+    }
+    /**
+     * Invokes the workflowUpdateStageExecutable method asynchronously with an empty input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FupdateStageExecutable">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowUpdateStageExecutableAsync(String objectId, Class<T> outputClass, DXEnvironment env) {
+        return workflowUpdateStageExecutableAsync(objectId, mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowUpdateStageExecutable method asynchronously with the given input using the given environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow-xxxx%2FupdateStageExecutable">API specification</a>.
+     *
+     * @param objectId ID of the object to operate on
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the response object, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowUpdateStageExecutableAsync(String objectId, Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/" + objectId + "/" + "updateStageExecutable",
+                inputObject, RetryStrategy.SAFE_TO_RETRY, outputClass);
     }
 
     /**
@@ -30032,8 +39274,7 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowNew(Object inputObject, Class<T> outputClass) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest().request("/workflow/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
+        return new DXHTTPRequest().request("/workflow/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
                 outputClass);
     }
     /**
@@ -30055,8 +39296,62 @@ public final class DXAPI {
      *             the response (includes HTTP protocol errors).
      */
     public static <T> T workflowNew(Object inputObject, Class<T> outputClass, DXEnvironment env) {
-        return DXJSON.safeTreeToValue(
-                new DXHTTPRequest(env).request("/workflow/new", mapper.valueToTree(inputObject), RetryStrategy.UNSAFE_TO_RETRY),
+        return new DXHTTPRequest(env).request("/workflow/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
+                outputClass);
+    }
+
+    /**
+     * Invokes the workflowNew method asynchronously with an empty input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow%2Fnew">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowNewAsync(Class<T> outputClass) {
+        return workflowNewAsync(mapper.createObjectNode(), outputClass);
+    }
+    /**
+     * Invokes the workflowNew method asynchronously with an empty input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow%2Fnew">API specification</a>.
+     *
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowNewAsync(Class<T> outputClass, DXEnvironment env) {
+        return workflowNewAsync(mapper.createObjectNode(), outputClass, env);
+    }
+    /**
+     * Invokes the workflowNew method asynchronously with the specified input, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow%2Fnew">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowNewAsync(Object inputObject, Class<T> outputClass) {
+        return new DXHTTPRequest().requestAsync("/workflow/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
+                outputClass);
+    }
+    /**
+     * Invokes the workflowNew method asynchronously with the specified input using the specified environment, deserializing to an object of the specified class.
+     *
+     * <p>For more information about this method, see the <a href="https://wiki.dnanexus.com/API-Specification-v1.0.0/Workflows-and-Analyses#API-method%3A-%2Fworkflow%2Fnew">API specification</a>.
+     *
+     * @param inputObject input object (to be JSON serialized to an input hash)
+     * @param outputClass class to deserialize the server reponse to
+     * @param env environment object specifying the auth token and remote server and protocol
+     *
+     * @return future for the server response parsed from JSON, which fails with {@link DXAPIException} or {@link DXHTTPException} if the call does
+     */
+    public static <T> ListenableFuture<T> workflowNewAsync(Object inputObject, Class<T> outputClass, DXEnvironment env) {
+        return new DXHTTPRequest(env).requestAsync("/workflow/new", inputObject, RetryStrategy.UNSAFE_TO_RETRY,
                 outputClass);
     }
 
@@ -442,15 +442,12 @@ public class DXApplet extends DXDataObject implements DXExecutable<DXJob> {
     public Describe describe() {
         // TODO: add a flag to get the full runSpec (this should call applet-xxxx/get instead of
         // applet-xxxx/describe).
-        return DXJSON.safeTreeToValue(apiCallOnObject("describe", RetryStrategy.SAFE_TO_RETRY),
-                Describe.class);
+        return apiCallOnObject("describe", RetryStrategy.SAFE_TO_RETRY, Describe.class);
     }
 
     @Override
     public Describe describe(DescribeOptions options) {
-        return DXJSON.safeTreeToValue(
-                apiCallOnObject("describe", MAPPER.valueToTree(options),
-                        RetryStrategy.SAFE_TO_RETRY), Describe.class);
+        return apiCallOnObject("describe", options, RetryStrategy.SAFE_TO_RETRY, Describe.class);
     }
 
     @Override
@@ -107,7 +107,7 @@ public abstract class DXDataObject extends DXObject {
         protected final DXEnvironment env;
 
         protected Builder() {
-            this.env = DXEnvironment.create();
+            this.env = DXEnvironment.getDefault();
         }
 
         protected Builder(DXEnvironment env) {
@@ -744,7 +744,7 @@ public abstract class DXDataObject extends DXObject {
      * @return a {@code DXDataObject} handle to the specified object
      */
     public static DXDataObject getInstance(String objectId) {
-        return getInstanceWithEnvironment(objectId, DXEnvironment.create());
+        return getInstanceWithEnvironment(objectId, DXEnvironment.getDefault());
     }
 
     /**
@@ -757,7 +757,7 @@ public abstract class DXDataObject extends DXObject {
      * @return a {@code DXDataObject} handle to the specified object
      */
     public static DXDataObject getInstance(String objectId, DXContainer project) {
-        return getInstanceWithEnvironment(objectId, project, DXEnvironment.create());
+        return getInstanceWithEnvironment(objectId, project, DXEnvironment.getDefault());
     }
 
     /**
@@ -988,8 +988,7 @@ public abstract class DXDataObject extends DXObject {
      * @return a {@code Describe} containing the data object's metadata.
      */
     public Describe describe() {
-        return DXJSON.safeTreeToValue(apiCallOnObject("describe", RetryStrategy.SAFE_TO_RETRY),
-                Describe.class);
+        return apiCallOnObject("describe", RetryStrategy.SAFE_TO_RETRY, Describe.class);
     }
 
     /**
@@ -1002,9 +1001,7 @@ public abstract class DXDataObject extends DXObject {
      * @return a {@code Describe} containing the data object's metadata.
      */
     public Describe describe(DescribeOptions options) {
-        return DXJSON.safeTreeToValue(
-                apiCallOnObject("describe", MAPPER.valueToTree(options),
-                        RetryStrategy.SAFE_TO_RETRY), Describe.class);
+        return apiCallOnObject("describe", options, RetryStrategy.SAFE_TO_RETRY, Describe.class);
     }
 
     /*
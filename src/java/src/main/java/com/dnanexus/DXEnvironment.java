@@ -16,20 +16,37 @@
 
 package com.dnanexus;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.MappingJsonFactory;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 /**
  * Immutable class storing configuration for selecting, authenticating to, and communicating with a
  * DNAnexus API server.
+ *
+ * <p>
+ * An environment creates its connection pool and its request and download executors the first
+ * time they are needed. Close it when it is no longer needed to release them; transports set with
+ * {@link Builder#setTransport(DXTransport)} are not closed, because the environment did not create
+ * them. The default environment, used when none is specified, is never closed.
+ * </p>
  */
-public class DXEnvironment {
+public class DXEnvironment implements Closeable {
     /**
      * Builder class for creating DXEnvironment objects.
      *
@@ -49,6 +66,9 @@ public class DXEnvironment {
         private static final String DEFAULT_APISERVER_HOST = "api.dnanexus.com";
         private static final String DEFAULT_APISERVER_PORT = "443";
         private static final String DEFAULT_APISERVER_PROTOCOL = "https";
+        private static final int DEFAULT_MAX_CONNECTIONS = 64;
+        private static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 32;
+        private static final long DEFAULT_IDLE_CONNECTION_TIMEOUT_MILLIS = 30000;
 
         /**
          * Creates a Builder object using the JSON config in the file
@@ -89,6 +109,14 @@ public class DXEnvironment {
         private String jobId;
         private String workspaceId;
         private String projectContextId;
+        private int maxConnections;
+        private int maxConnectionsPerRoute;
+        private long idleConnectionTimeoutMillis;
+        private RetryPolicy retryPolicy;
+        private List<APICallListener> apiCallListeners;
+        private DXTransport transport;
+        private DXFileCache fileCache;
+        private TransferBufferPool transferBufferPool;
 
         /**
          * Initializes a Builder object using JSON config in the file
@@ -109,6 +137,14 @@ public class DXEnvironment {
             jobId = templateEnvironment.jobId;
             workspaceId = templateEnvironment.workspaceId;
             projectContextId = templateEnvironment.projectContextId;
+            maxConnections = templateEnvironment.maxConnections;
+            maxConnectionsPerRoute = templateEnvironment.maxConnectionsPerRoute;
+            idleConnectionTimeoutMillis = templateEnvironment.idleConnectionTimeoutMillis;
+            retryPolicy = templateEnvironment.retryPolicy;
+            apiCallListeners = Lists.newArrayList(templateEnvironment.apiCallListeners);
+            transport = templateEnvironment.customTransport;
+            fileCache = templateEnvironment.fileCache;
+            transferBufferPool = templateEnvironment.transferBufferPool;
         }
 
         private Builder(File jsonConfigFile) {
@@ -120,6 +156,14 @@ public class DXEnvironment {
             jobId = null;
             workspaceId = null;
             projectContextId = null;
+            maxConnections = DEFAULT_MAX_CONNECTIONS;
+            maxConnectionsPerRoute = DEFAULT_MAX_CONNECTIONS_PER_ROUTE;
+            idleConnectionTimeoutMillis = DEFAULT_IDLE_CONNECTION_TIMEOUT_MILLIS;
+            retryPolicy = RetryPolicy.DEFAULT;
+            apiCallListeners = Lists.newArrayList();
+            transport = null;
+            fileCache = null;
+            transferBufferPool = TransferBufferPool.getDefault();
 
             // (2) JSON file
             if (jsonConfigFile.exists()) {
@@ -190,6 +234,18 @@ public class DXEnvironment {
             }
         }
 
+        /**
+         * Adds a listener that is notified of every API call made with the environment.
+         *
+         * @param listener listener to add
+         *
+         * @return the same Builder object
+         */
+        public Builder addAPICallListener(APICallListener listener) {
+            apiCallListeners.add(Preconditions.checkNotNull(listener, "listener may not be null"));
+            return this;
+        }
+
         /**
          * Build the DXEnvironment from the settings configured so far.
          *
@@ -197,7 +253,9 @@ public class DXEnvironment {
          */
         public DXEnvironment build() {
             return new DXEnvironment(apiserverHost, apiserverPort, apiserverProtocol,
-                    securityContext, jobId, workspaceId, projectContextId);
+                    securityContext, jobId, workspaceId, projectContextId, maxConnections,
+                    maxConnectionsPerRoute, idleConnectionTimeoutMillis, retryPolicy,
+                    apiCallListeners, transport, fileCache, transferBufferPool, null);
         }
 
         /**
@@ -250,6 +308,33 @@ public class DXEnvironment {
             return this;
         }
 
+        /**
+         * Sets the cache through which closed files are read by {@link DXFile#downloadBytes()}
+         * and {@link DXFile#downloadTo(java.nio.file.Path)} (default: none).
+         *
+         * @param fileCache file cache, or {@code null} to download files directly
+         *
+         * @return the same Builder object
+         */
+        public Builder setFileCache(DXFileCache fileCache) {
+            this.fileCache = fileCache;
+            return this;
+        }
+
+        /**
+         * Sets the pool from which streaming uploads and read-ahead downloads take their part and
+         * chunk buffers (default: {@link TransferBufferPool#getDefault()}).
+         *
+         * @param transferBufferPool buffer pool
+         *
+         * @return the same Builder object
+         */
+        public Builder setTransferBufferPool(TransferBufferPool transferBufferPool) {
+            this.transferBufferPool = Preconditions.checkNotNull(transferBufferPool,
+                    "transferBufferPool may not be null");
+            return this;
+        }
+
         /**
          * Sets the current job to the specified job.
          *
@@ -262,6 +347,50 @@ public class DXEnvironment {
             return this;
         }
 
+        /**
+         * Sets the amount of time a pooled connection may sit unused before it is closed. Idle
+         * connections are evicted from the pool in the background.
+         *
+         * @param timeout maximum idle time
+         * @param unit unit of {@code timeout}
+         *
+         * @return the same Builder object
+         */
+        public Builder setIdleConnectionTimeout(long timeout, TimeUnit unit) {
+            Preconditions.checkArgument(timeout > 0, "timeout must be positive");
+            this.idleConnectionTimeoutMillis = unit.toMillis(timeout);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of HTTP connections that may be kept open (in use or idle) by
+         * all requests made with this environment.
+         *
+         * @param maxConnections maximum total number of connections
+         *
+         * @return the same Builder object
+         */
+        public Builder setMaxConnections(int maxConnections) {
+            Preconditions.checkArgument(maxConnections > 0, "maxConnections must be positive");
+            this.maxConnections = maxConnections;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of HTTP connections that may be kept open (in use or idle) to
+         * any one host, for example the API server.
+         *
+         * @param maxConnectionsPerRoute maximum number of connections per host
+         *
+         * @return the same Builder object
+         */
+        public Builder setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+            Preconditions.checkArgument(maxConnectionsPerRoute > 0,
+                    "maxConnectionsPerRoute must be positive");
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+            return this;
+        }
+
         /**
          * Sets the project context to the specified project.
          *
@@ -274,6 +403,19 @@ public class DXEnvironment {
             return this;
         }
 
+        /**
+         * Sets the policy that determines how long to wait before retrying failed requests and
+         * when to give up.
+         *
+         * @param retryPolicy retry policy
+         *
+         * @return the same Builder object
+         */
+        public Builder setRetryPolicy(RetryPolicy retryPolicy) {
+            this.retryPolicy = Preconditions.checkNotNull(retryPolicy, "retryPolicy may not be null");
+            return this;
+        }
+
         /**
          * Sets the security context to use to authenticate to the Platform.
          *
@@ -289,6 +431,21 @@ public class DXEnvironment {
             return this;
         }
 
+        /**
+         * Sets the transport used to send the HTTP requests made with the environment (API calls
+         * as well as file uploads and downloads). The connection pool settings of this Builder
+         * are ignored if a transport is set.
+         *
+         * @param transport transport, or {@code null} to create a new pooled transport for the
+         *        environment
+         *
+         * @return the same Builder object
+         */
+        public Builder setTransport(DXTransport transport) {
+            this.transport = transport;
+            return this;
+        }
+
         /**
          * Sets the workspace to the specified container.
          *
@@ -310,8 +467,64 @@ public class DXEnvironment {
     private final String jobId;
     private final String workspaceId;
     private final String projectContextId;
+    private final int maxConnections;
+    private final int maxConnectionsPerRoute;
+    private final long idleConnectionTimeoutMillis;
+    private final RetryPolicy retryPolicy;
+    private final List<APICallListener> apiCallListeners;
+
+    /**
+     * Transport set explicitly with {@link Builder#setTransport(DXTransport)}, if any.
+     */
+    private final DXTransport customTransport;
+
+    /**
+     * Transport shared by all requests made with this environment. Unless a transport was set
+     * explicitly, it is created on first use so that environments that never make a request do
+     * not open a connection pool.
+     */
+    private volatile DXTransport transport;
+
+    /**
+     * Cache of closed files, if one was set.
+     */
+    private final DXFileCache fileCache;
+
+    /**
+     * Pool of part and chunk buffers used by file transfers.
+     */
+    private final TransferBufferPool transferBufferPool;
+
+    /**
+     * Executor on which asynchronous requests made with this environment are run. Like the client,
+     * it is created on first use.
+     */
+    private volatile ExecutorService requestExecutor;
+
+    /**
+     * Executor on which the chunks of file downloads made with this environment are fetched. Like
+     * the client, it is created on first use.
+     */
+    private volatile ExecutorService downloadExecutor;
+
+    /**
+     * Environment whose request and download executors this one uses: itself, unless this one was
+     * derived from another with {@link #withTransport(DXTransport)}.
+     */
+    private final DXEnvironment executorOwner;
+
+    /**
+     * Download URLs of files obtained with this environment's credentials.
+     */
+    private final DownloadUrlCache downloadUrlCache;
+
+    /**
+     * Whether {@link #close()} has been called.
+     */
+    private volatile boolean closed;
 
     private static final JsonFactory jsonFactory = new MappingJsonFactory();
+
     /**
      * Creates a DXEnvironment from the default settings.
      *
@@ -325,6 +538,25 @@ public class DXEnvironment {
         return Builder.fromDefaults().build();
     }
 
+    /**
+     * Holds the default environment, which is created the first time it is needed.
+     */
+    private static class DefaultEnvironmentHolder {
+        private static final DXEnvironment INSTANCE = create();
+    }
+
+    /**
+     * Returns the environment used by objects, builders, and requests for which no environment is
+     * specified. It is created from the default settings the first time it is needed, and then
+     * shared, so that all of them use the same connection pool, request executor, and download
+     * URL cache.
+     *
+     * @return default environment
+     */
+    static DXEnvironment getDefault() {
+        return DefaultEnvironmentHolder.INSTANCE;
+    }
+
     private static String getTextValue(JsonNode jsonNode, String key) {
         JsonNode value = jsonNode.get(key);
         if (value == null || value.isNull()) {
@@ -334,7 +566,11 @@ public class DXEnvironment {
     }
 
     private DXEnvironment(String apiserverHost, String apiserverPort, String apiserverProtocol,
-            JsonNode securityContext, String jobId, String workspaceId, String projectContextId) {
+            JsonNode securityContext, String jobId, String workspaceId, String projectContextId,
+            int maxConnections, int maxConnectionsPerRoute, long idleConnectionTimeoutMillis,
+            RetryPolicy retryPolicy, List<APICallListener> apiCallListeners,
+            DXTransport transport, DXFileCache fileCache, TransferBufferPool transferBufferPool,
+            DXEnvironment sharedFrom) {
         this.apiserverHost = apiserverHost;
         this.apiserverPort = apiserverPort;
         this.apiserverProtocol = apiserverProtocol;
@@ -342,6 +578,18 @@ public class DXEnvironment {
         this.jobId = jobId;
         this.workspaceId = workspaceId;
         this.projectContextId = projectContextId;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        this.idleConnectionTimeoutMillis = idleConnectionTimeoutMillis;
+        this.retryPolicy = retryPolicy;
+        this.apiCallListeners = ImmutableList.copyOf(apiCallListeners);
+        this.customTransport = transport;
+        this.transport = transport;
+        this.fileCache = fileCache;
+        this.transferBufferPool = transferBufferPool;
+        this.executorOwner = (sharedFrom == null) ? this : sharedFrom.executorOwner;
+        this.downloadUrlCache = (sharedFrom == null) ? new DownloadUrlCache()
+                : sharedFrom.downloadUrlCache;
 
         // TODO: additional validation on the project/workspace, and check that
         // apiserverProtocol is either "http" or "https".
@@ -351,6 +599,23 @@ public class DXEnvironment {
         }
     }
 
+    /**
+     * Returns an environment that is the same as this one, except that its requests are made with
+     * the specified transport (for use by {@link DXTransferManager}). Unlike an environment built
+     * with {@link Builder#fromEnvironment(DXEnvironment)}, it shares this environment's download
+     * URL cache and its request and download executors.
+     *
+     * @param transport transport through which requests are made
+     *
+     * @return new environment
+     */
+    DXEnvironment withTransport(DXTransport transport) {
+        return new DXEnvironment(apiserverHost, apiserverPort, apiserverProtocol, securityContext,
+                jobId, workspaceId, projectContextId, maxConnections, maxConnectionsPerRoute,
+                idleConnectionTimeoutMillis, retryPolicy, apiCallListeners,
+                Preconditions.checkNotNull(transport), fileCache, transferBufferPool, this);
+    }
+
     /**
      * Returns the fully qualified API server address (including protocol, host, and port).
      *
@@ -360,6 +625,157 @@ public class DXEnvironment {
         return this.apiserverProtocol + "://" + this.apiserverHost + ":" + this.apiserverPort;
     }
 
+    /**
+     * Returns the transport shared by all requests made with this environment (for use by
+     * {@link DXHTTPRequest} and {@link DXFile}). Unless another transport was set, this is an
+     * {@link ApacheHttpTransport} whose connections are pooled and kept alive between requests.
+     *
+     * @return transport
+     */
+    DXTransport getTransport() {
+        checkNotClosed();
+        DXTransport result = transport;
+        if (result == null) {
+            synchronized (this) {
+                checkNotClosed();
+                result = transport;
+                if (result == null) {
+                    result = new ApacheHttpTransport(maxConnections, maxConnectionsPerRoute,
+                            idleConnectionTimeoutMillis, TimeUnit.MILLISECONDS);
+                    transport = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the cache of file download URLs shared by all downloads made with this environment
+     * (for use by {@link DXFile}).
+     *
+     * @return download URL cache
+     */
+    DownloadUrlCache getDownloadUrlCache() {
+        return downloadUrlCache;
+    }
+
+    /**
+     * Returns the cache through which closed files are downloaded (for use by {@link DXFile}).
+     *
+     * @return file cache, or {@code null} if none was set
+     */
+    DXFileCache getFileCache() {
+        return fileCache;
+    }
+
+    /**
+     * Returns the pool of buffers used by file transfers made with this environment (for use by
+     * {@link DXFile}).
+     *
+     * @return buffer pool
+     */
+    TransferBufferPool getTransferBufferPool() {
+        return transferBufferPool;
+    }
+
+    /**
+     * Returns the executor on which asynchronous requests made with this environment are run (for
+     * use by {@link DXHTTPRequest}). It has one thread per pooled connection; idle threads exit
+     * after a minute. Waits between retries (including pauses after 503 Service Unavailable) do
+     * not occupy a thread, but an attempt occupies one while it waits to be admitted by the API
+     * server's {@link AdmissionController} as well as while it holds a connection, so when the
+     * server is congested, further calls queue behind those waiting for admission.
+     *
+     * @return request executor
+     */
+    ExecutorService getRequestExecutor() {
+        if (executorOwner != this) {
+            return executorOwner.getRequestExecutor();
+        }
+        checkNotClosed();
+        ExecutorService executor = requestExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                checkNotClosed();
+                executor = requestExecutor;
+                if (executor == null) {
+                    ThreadPoolExecutor threadPool = new ThreadPoolExecutor(maxConnections,
+                            maxConnections, 60, TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<Runnable>(), new ThreadFactoryBuilder()
+                                    .setDaemon(true).setNameFormat("dx-api-request-%d").build());
+                    threadPool.allowCoreThreadTimeOut(true);
+                    executor = threadPool;
+                    requestExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Returns the executor on which the chunks of file downloads made with this environment are
+     * fetched (for use by {@link FileDownloader}). Each download limits how many of its chunks run
+     * at once, so the executor itself is unbounded, and concurrent downloads share its threads;
+     * idle threads exit after a minute.
+     *
+     * @return download executor
+     */
+    ExecutorService getDownloadExecutor() {
+        if (executorOwner != this) {
+            return executorOwner.getDownloadExecutor();
+        }
+        checkNotClosed();
+        ExecutorService executor = downloadExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                checkNotClosed();
+                executor = downloadExecutor;
+                if (executor == null) {
+                    executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                            .setDaemon(true).setNameFormat("dx-file-download-%d").build());
+                    downloadExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Closes the connection pool and shuts down the request and download executors of this
+     * environment, if they were created. A transport set with
+     * {@link Builder#setTransport(DXTransport)} is not closed, and neither are the resources of
+     * another environment that this one shares. Requests still in progress may fail, and
+     * objects and requests that use this environment may not make further requests.
+     */
+    @Override
+    public void close() throws IOException {
+        ExecutorService requestExecutorToShutDown;
+        ExecutorService downloadExecutorToShutDown;
+        DXTransport transportToClose;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            requestExecutorToShutDown = requestExecutor;
+            downloadExecutorToShutDown = downloadExecutor;
+            transportToClose = (customTransport == null) ? transport : null;
+        }
+        if (requestExecutorToShutDown != null) {
+            requestExecutorToShutDown.shutdown();
+        }
+        if (downloadExecutorToShutDown != null) {
+            downloadExecutorToShutDown.shutdown();
+        }
+        if (transportToClose != null) {
+            transportToClose.close();
+        }
+    }
+
+    private void checkNotClosed() {
+        Preconditions.checkState(!closed, "The environment has been closed");
+    }
+
     /**
      * Returns a handler to the currently running job.
      *
@@ -384,6 +800,25 @@ public class DXEnvironment {
         return DXProject.getInstanceWithEnvironment(projectContextId, this);
     }
 
+    /**
+     * Returns the listeners that are notified of API calls made with this environment (for use by
+     * {@link DXHTTPRequest}).
+     *
+     * @return API call listeners
+     */
+    List<APICallListener> getAPICallListeners() {
+        return this.apiCallListeners;
+    }
+
+    /**
+     * Returns the policy for retrying failed requests made with this environment.
+     *
+     * @return retry policy
+     */
+    public RetryPolicy getRetryPolicy() {
+        return this.retryPolicy;
+    }
+
     /**
      * Returns the security context JSON.
      *
@@ -16,33 +16,38 @@
 
 package com.dnanexus;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
 import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.ExecutionException;
+import java.util.zip.Deflater;
 
-import org.apache.commons.codec.digest.DigestUtils;
-import org.apache.commons.io.IOUtils;
-import org.apache.http.HttpResponse;
-import org.apache.http.client.HttpClient;
-import org.apache.http.client.methods.HttpGet;
-import org.apache.http.client.methods.HttpPut;
-import org.apache.http.entity.ByteArrayEntity;
-import org.apache.http.impl.client.HttpClientBuilder;
 
 import com.dnanexus.DXHTTPRequest.RetryStrategy;
+import com.dnanexus.exceptions.ResourceNotFoundException;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
-import com.google.common.io.ByteStreams;
+import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
 
 /**
  * A file (an opaque sequence of bytes).
@@ -55,7 +60,11 @@ public class DXFile extends DXDataObject {
      */
     public static class Builder extends DXDataObject.Builder<Builder, DXFile> {
         private String media;
+        private byte[] uploadBytes;
         private InputStream uploadData;
+        private Path uploadPath;
+        private boolean compressUploadData;
+        private UploadOptions uploadOptions = UploadOptions.get();
 
         private Builder() {
             super();
@@ -72,16 +81,53 @@ public class DXFile extends DXDataObject {
          */
         @Override
         public DXFile build() {
-            DXFile file = new DXFile(DXAPI.fileNew(this.buildRequestHash(), ObjectNewResponse.class, this.env).getId(),
-                    this.project, this.env, null);
+            DXFile file = null;
+            if (uploadPath != null && uploadOptions.isJournalEnabled()) {
+                file = findInterruptedUpload();
+            }
+            if (file == null) {
+                file = new DXFile(DXAPI.fileNew(this.buildRequestHash(), ObjectNewResponse.class,
+                        this.env).getId(), this.project, this.env, null);
+            }
 
-            if (uploadData != null) {
-                file.upload(uploadData);
+            if (uploadBytes != null) {
+                file.upload(uploadBytes, uploadOptions);
+            } else if (uploadData != null && compressUploadData) {
+                file.uploadCompressed(uploadData, uploadOptions);
+            } else if (uploadData != null) {
+                file.upload(uploadData, uploadOptions);
+            } else if (uploadPath != null) {
+                file.upload(uploadPath, uploadOptions);
             }
 
             return file;
         }
 
+        /**
+         * Returns the file into which an upload of the local file was interrupted, if the journal
+         * of that upload is still valid and the file is still open, or {@code null} otherwise.
+         */
+        private DXFile findInterruptedUpload() {
+            try {
+                TransferJournal.Header header = TransferJournal.readHeader(TransferJournal
+                        .getJournalPath(uploadPath));
+                if (header == null || !header.equals(getUploadJournalHeader(header.getFileId(),
+                        uploadPath, uploadOptions))) {
+                    return null;
+                }
+                DXFile file = new DXFile(header.getFileId(), this.project, this.env, null);
+                if (file.describe(DescribeOptions.get().withCustomFields("state")).getState()
+                        != DataObjectState.OPEN) {
+                    return null;
+                }
+                return file;
+            } catch (ResourceNotFoundException e) {
+                return null;
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
         /**
          * Use this method to test the JSON hash created by a particular builder call without
          * actually executing the request.
@@ -117,6 +163,20 @@ public class DXFile extends DXDataObject {
             return getThisInstance();
         }
 
+        /**
+         * Sets the options (part size and parallelism) used to upload the data given with
+         * {@link #upload(byte[])}, {@link #upload(InputStream)}, or {@link #upload(Path)}.
+         *
+         * @param uploadOptions upload options
+         *
+         * @return the same {@code Builder} object
+         */
+        public Builder setUploadOptions(UploadOptions uploadOptions) {
+            this.uploadOptions = Preconditions.checkNotNull(uploadOptions,
+                    "uploadOptions may not be null");
+            return getThisInstance();
+        }
+
         /**
          * Uploads the data in the specified byte array to the file to be created.
          *
@@ -125,31 +185,101 @@ public class DXFile extends DXDataObject {
          * @return the same {@code Builder} object
          */
         public Builder upload(byte[] data) {
-            Preconditions.checkNotNull(data, "data may not be null");
-            InputStream dataStream = new ByteArrayInputStream(data);
-            return this.upload(dataStream);
+            checkUploadNotSet();
+            this.uploadBytes = Preconditions.checkNotNull(data, "data may not be null");
+            return getThisInstance();
         }
 
         /**
-         * Uploads the data in the specified stream to the file to be created.
+         * Uploads the data in the specified stream to the file to be created. The stream is read
+         * to the end, one part at a time, when the file is built, but it is not closed.
          *
          * @param data stream containing data to be uploaded
          *
          * @return the same {@code Builder} object
          */
         public Builder upload(InputStream data) {
-            Preconditions.checkNotNull(this.uploadData == null, "Cannot call upload more than once");
+            checkUploadNotSet();
             this.uploadData = Preconditions.checkNotNull(data, "data may not be null");
             return getThisInstance();
         }
+
+        /**
+         * Uploads the data in the specified stream to the file to be created, compressed in BGZF
+         * format. The stream is read to the end when the file is built, but it is not closed.
+         *
+         * @param data stream containing data to be compressed and uploaded
+         *
+         * @return the same {@code Builder} object
+         *
+         * @see DXFile#uploadCompressed(InputStream, UploadOptions)
+         */
+        public Builder uploadCompressed(InputStream data) {
+            upload(data);
+            this.compressUploadData = true;
+            return getThisInstance();
+        }
+
+        /**
+         * Uploads the contents of the specified local file to the file to be created.
+         *
+         * @param path path of the local file
+         *
+         * @return the same {@code Builder} object
+         */
+        public Builder upload(Path path) {
+            checkUploadNotSet();
+            this.uploadPath = Preconditions.checkNotNull(path, "path may not be null");
+            return getThisInstance();
+        }
+
+        private void checkUploadNotSet() {
+            Preconditions.checkState(this.uploadBytes == null && this.uploadData == null
+                    && this.uploadPath == null, "Cannot call upload more than once");
+        }
     }
 
     /**
      * Contains metadata for a file.
      */
     public static class Describe extends DXDataObject.Describe {
+        /**
+         * Metadata of one uploaded part of a file.
+         */
+        @JsonIgnoreProperties(ignoreUnknown = true)
+        public static class Part {
+            @JsonProperty
+            private String md5;
+            @JsonProperty
+            private long size;
+
+            private Part() {}
+
+            /**
+             * Returns the MD5 digest of the part, as reported by the server when it was uploaded.
+             *
+             * @return MD5 digest (hex-encoded), or {@code null} if it is not known
+             */
+            public String getMd5() {
+                return md5;
+            }
+
+            /**
+             * Returns the size of the part in bytes.
+             *
+             * @return size of the part
+             */
+            public long getSize() {
+                return size;
+            }
+        }
+
         @JsonProperty
         private String media;
+        @JsonProperty
+        private Long size;
+        @JsonProperty
+        private Map<Integer, Part> parts;
 
         private Describe() {
             super();
@@ -165,69 +295,564 @@ public class DXFile extends DXDataObject {
                     "media type is not accessible because it was not retrieved with the describe call");
             return media;
         }
+
+        /**
+         * Returns the size of the file in bytes (the number of bytes uploaded so far if the file
+         * is not closed).
+         *
+         * @return size of the file
+         */
+        public long getSize() {
+            Preconditions.checkState(this.size != null,
+                    "size is not accessible because it was not retrieved with the describe call");
+            return size;
+        }
+
+        /**
+         * Returns the parts of the file, in order. The parts were retrieved only if
+         * {@code "parts"} was requested with {@link DescribeOptions#withCustomFields}.
+         *
+         * @return map from part index (starting at 1) to part metadata
+         */
+        public SortedMap<Integer, Part> getParts() {
+            Preconditions.checkState(this.parts != null,
+                    "parts are not accessible because they were not retrieved with the describe call");
+            return ImmutableSortedMap.copyOf(parts);
+        }
     }
 
     /**
-     * Request to /file-xxxx/download.
+     * Options for downloading a file. Files are downloaded in chunks of at most
+     * {@link #getChunkSize()} bytes with HTTP Range requests, and up to {@link #getParallelism()}
+     * chunks are downloaded at the same time. A chunk whose transfer fails is resumed from where it
+     * stopped, up to {@link #getMaxChunkRetries()} times in a row without progress, waiting
+     * between attempts as specified by the environment's {@link RetryPolicy}.
+     *
+     * <p>
+     * By default, chunks do not cross the boundaries of the parts the file was uploaded in, and
+     * once all the chunks of a part have been downloaded, the MD5 digest of the part is computed
+     * and compared with the digest the server recorded for it. A part that does not match is
+     * downloaded again, up to {@link #getMaxChunkRetries()} times.
+     * </p>
+     *
+     * <p>
+     * Example:
+     * </p>
+     *
+     * <pre>
+     * DownloadOptions.get().withChunkSize(64 * 1024 * 1024).withParallelism(8)
+     * </pre>
      */
-    @JsonInclude(Include.NON_NULL)
-    private static class FileDownloadRequest {
-        @JsonProperty("preauthenticated")
-        private boolean preauth;
+    public static class DownloadOptions {
+        private static final DownloadOptions DEFAULT = new DownloadOptions(16L * 1024 * 1024, 4, 6,
+                false, Runtime.getRuntime().availableProcessors(), true);
 
-        private FileDownloadRequest(boolean preauth) {
-            this.preauth = preauth;
+        /**
+         * Returns the default options: 16 MiB chunks, 4 chunks downloaded at a time, up to 6
+         * retries per chunk, one decompression thread per processor, and checksum verification.
+         *
+         * @return a {@code DownloadOptions} object
+         */
+        public static DownloadOptions get() {
+            return DEFAULT;
+        }
+
+        private final long chunkSize;
+        private final int parallelism;
+        private final int maxChunkRetries;
+        private final boolean journal;
+        private final int decompressionThreads;
+        private final boolean verifyChecksums;
+
+        private DownloadOptions(long chunkSize, int parallelism, int maxChunkRetries,
+                boolean journal, int decompressionThreads, boolean verifyChecksums) {
+            this.chunkSize = chunkSize;
+            this.parallelism = parallelism;
+            this.maxChunkRetries = maxChunkRetries;
+            this.journal = journal;
+            this.decompressionThreads = decompressionThreads;
+            this.verifyChecksums = verifyChecksums;
+        }
+
+        /**
+         * Returns the maximum size of each chunk, in bytes.
+         *
+         * @return chunk size
+         */
+        public long getChunkSize() {
+            return chunkSize;
+        }
+
+        /**
+         * Returns the maximum number of chunks downloaded at the same time.
+         *
+         * @return number of chunks
+         */
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        /**
+         * Returns the maximum number of consecutive times the download of a chunk is retried
+         * without making progress.
+         *
+         * @return number of retries
+         */
+        public int getMaxChunkRetries() {
+            return maxChunkRetries;
+        }
+
+        /**
+         * Returns a {@code DownloadOptions} that behaves like the current one, except that files
+         * are downloaded in chunks of the specified size.
+         *
+         * @param chunkSize chunk size in bytes, at least 1
+         *
+         * @return a new {@code DownloadOptions} object
+         */
+        public DownloadOptions withChunkSize(long chunkSize) {
+            Preconditions.checkArgument(chunkSize >= 1, "chunkSize must be positive");
+            return new DownloadOptions(chunkSize, this.parallelism, this.maxChunkRetries,
+                    this.journal, this.decompressionThreads, this.verifyChecksums);
+        }
+
+        /**
+         * Returns a {@code DownloadOptions} that behaves like the current one, except that up to
+         * the specified number of chunks are downloaded at the same time.
+         *
+         * @param parallelism number of chunks, at least 1
+         *
+         * @return a new {@code DownloadOptions} object
+         */
+        public DownloadOptions withParallelism(int parallelism) {
+            Preconditions.checkArgument(parallelism >= 1, "parallelism must be positive");
+            return new DownloadOptions(this.chunkSize, parallelism, this.maxChunkRetries,
+                    this.journal, this.decompressionThreads, this.verifyChecksums);
+        }
+
+        /**
+         * Returns a {@code DownloadOptions} that behaves like the current one, except that the
+         * download of a chunk is retried up to the specified number of consecutive times without
+         * making progress.
+         *
+         * @param maxChunkRetries number of retries, or 0 to not retry
+         *
+         * @return a new {@code DownloadOptions} object
+         */
+        public DownloadOptions withMaxChunkRetries(int maxChunkRetries) {
+            Preconditions.checkArgument(maxChunkRetries >= 0,
+                    "maxChunkRetries may not be negative");
+            return new DownloadOptions(this.chunkSize, this.parallelism, maxChunkRetries,
+                    this.journal, this.decompressionThreads, this.verifyChecksums);
+        }
+
+        /**
+         * Returns whether {@link DXFile#downloadTo(Path, DownloadOptions)} keeps a journal of the
+         * chunks it has downloaded.
+         *
+         * @return whether a journal is kept
+         */
+        public boolean isJournalEnabled() {
+            return journal;
+        }
+
+        /**
+         * Returns a {@code DownloadOptions} that behaves like the current one, except that
+         * {@link DXFile#downloadTo(Path, DownloadOptions)} records each chunk it completes (and
+         * its MD5 digest) in a journal next to the local file, named after it with the suffix
+         * {@code .dxjournal}. If a download is interrupted, downloading the same file to the same
+         * path again fetches only the chunks that are missing from the journal or whose local
+         * copy does not match its digest. The journal is deleted once the download completes.
+         *
+         * @param journal whether to keep a journal
+         *
+         * @return a new {@code DownloadOptions} object
+         */
+        public DownloadOptions withJournal(boolean journal) {
+            return new DownloadOptions(this.chunkSize, this.parallelism, this.maxChunkRetries,
+                    journal, this.decompressionThreads, this.verifyChecksums);
+        }
+
+        /**
+         * Returns the number of threads that decompress BGZF data read with
+         * {@link DXFile#openDecompressedInputStream(DownloadOptions)}.
+         *
+         * @return number of threads
+         */
+        public int getDecompressionThreads() {
+            return decompressionThreads;
+        }
+
+        /**
+         * Returns a {@code DownloadOptions} that behaves like the current one, except that BGZF
+         * data read with {@link DXFile#openDecompressedInputStream(DownloadOptions)} is
+         * decompressed by the specified number of threads.
+         *
+         * @param decompressionThreads number of threads, at least 1
+         *
+         * @return a new {@code DownloadOptions} object
+         */
+        public DownloadOptions withDecompressionThreads(int decompressionThreads) {
+            Preconditions.checkArgument(decompressionThreads >= 1,
+                    "decompressionThreads must be positive");
+            return new DownloadOptions(this.chunkSize, this.parallelism, this.maxChunkRetries,
+                    this.journal, decompressionThreads, this.verifyChecksums);
+        }
+
+        /**
+         * Returns whether downloads verify the MD5 digest of each part of the file as it is
+         * downloaded.
+         *
+         * @return whether checksums are verified
+         */
+        public boolean isChecksumVerificationEnabled() {
+            return verifyChecksums;
+        }
+
+        /**
+         * Returns a {@code DownloadOptions} that behaves like the current one, except that
+         * {@link DXFile#downloadBytes()} and {@link DXFile#downloadTo(Path, DownloadOptions)}
+         * download the file in chunks that do not cross the boundaries of its parts, and verify
+         * the MD5 digest of each part once all its chunks have been downloaded, downloading any
+         * part that does not match again. Files whose parts are not known are downloaded in
+         * chunks without verification.
+         *
+         * @param verifyChecksums whether to verify checksums
+         *
+         * @return a new {@code DownloadOptions} object
+         */
+        public DownloadOptions withChecksumVerification(boolean verifyChecksums) {
+            return new DownloadOptions(this.chunkSize, this.parallelism, this.maxChunkRetries,
+                    this.journal, this.decompressionThreads, verifyChecksums);
         }
     }
 
     /**
-     * Deserialized output from the /file-xxxx/download route.
+     * Options for uploading data to a file. Data is split into parts of at most
+     * {@link #getPartSize()} bytes, and up to {@link #getParallelism()} parts are uploaded at the
+     * same time. Each part that fails to upload is retried up to {@link #getMaxPartRetries()}
+     * times, waiting between attempts as specified by the environment's {@link RetryPolicy}.
+     *
+     * <p>
+     * Example:
+     * </p>
+     *
+     * <pre>
+     * UploadOptions.get().withPartSize(64 * 1024 * 1024).withParallelism(8)
+     * </pre>
      */
-    @JsonIgnoreProperties(ignoreUnknown = true)
-    private static class FileDownloadResponse {
-        @JsonProperty
-        private String url;
-    }
+    public static class UploadOptions {
+        /**
+         * Minimum size of a part (except the last part of a file), in bytes.
+         */
+        public static final long MIN_PART_SIZE = 5L * 1024 * 1024;
 
-    @JsonInclude(Include.NON_NULL)
-    private static class FileNewRequest extends DataObjectNewRequest {
-        @JsonProperty
-        private final String media;
+        /**
+         * Maximum size of a part, in bytes.
+         */
+        public static final long MAX_PART_SIZE = 5L * 1024 * 1024 * 1024;
 
-        public FileNewRequest(Builder builder) {
-            super(builder);
-            this.media = builder.media;
+        /**
+         * Maximum number of parts in a file.
+         */
+        public static final int MAX_PARTS = 10000;
+
+        private static final UploadOptions DEFAULT = new UploadOptions(16L * 1024 * 1024, 4, 6,
+                false, Runtime.getRuntime().availableProcessors());
+
+        /**
+         * Returns the default options: 16 MiB parts, 4 parts uploaded at a time, up to 6 retries
+         * per part, and one compression thread per processor.
+         *
+         * @return a {@code UploadOptions} object
+         */
+        public static UploadOptions get() {
+            return DEFAULT;
+        }
+
+        private final long partSize;
+        private final int parallelism;
+        private final int maxPartRetries;
+        private final boolean journal;
+        private final int compressionThreads;
+
+        private UploadOptions(long partSize, int parallelism, int maxPartRetries,
+                boolean journal, int compressionThreads) {
+            this.partSize = partSize;
+            this.parallelism = parallelism;
+            this.maxPartRetries = maxPartRetries;
+            this.journal = journal;
+            this.compressionThreads = compressionThreads;
+        }
+
+        /**
+         * Returns the maximum size of each part, in bytes.
+         *
+         * @return part size
+         */
+        public long getPartSize() {
+            return partSize;
+        }
+
+        /**
+         * Returns options for uploading data of the specified size, whose part size is raised if
+         * necessary so that the data fits in {@link #MAX_PARTS} parts.
+         *
+         * @param size size of the data
+         *
+         * @return these options, or options with a larger part size
+         *
+         * @throws IllegalArgumentException if the data is too large to upload even in parts of
+         *         {@link #MAX_PART_SIZE} bytes
+         */
+        UploadOptions forSize(long size) {
+            long minPartSize = (size + MAX_PARTS - 1) / MAX_PARTS;
+            if (minPartSize <= partSize) {
+                return this;
+            }
+            Preconditions.checkArgument(minPartSize <= MAX_PART_SIZE,
+                    "%s bytes is too large to upload in %s parts", size, MAX_PARTS);
+            return new UploadOptions(minPartSize, this.parallelism, this.maxPartRetries,
+                    this.journal, this.compressionThreads);
+        }
+
+        /**
+         * Returns the maximum number of parts uploaded at the same time.
+         *
+         * @return number of parts
+         */
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        /**
+         * Returns the maximum number of times the upload of a part is retried after it fails.
+         *
+         * @return number of retries
+         */
+        public int getMaxPartRetries() {
+            return maxPartRetries;
+        }
+
+        /**
+         * Returns an {@code UploadOptions} that behaves like the current one, except that data
+         * is split into parts of the specified size. Uploads of byte arrays and local files use
+         * larger parts if the data would otherwise have more than {@link #MAX_PARTS} parts; the
+         * largest stream that can be uploaded is {@link #MAX_PARTS} times the part size.
+         *
+         * @param partSize part size in bytes, between {@link #MIN_PART_SIZE} and
+         *        {@link #MAX_PART_SIZE}
+         *
+         * @return a new {@code UploadOptions} object
+         */
+        public UploadOptions withPartSize(long partSize) {
+            Preconditions.checkArgument(partSize >= MIN_PART_SIZE && partSize <= MAX_PART_SIZE,
+                    "partSize must be between " + MIN_PART_SIZE + " and " + MAX_PART_SIZE);
+            return new UploadOptions(partSize, this.parallelism, this.maxPartRetries,
+                    this.journal, this.compressionThreads);
+        }
+
+        /**
+         * Returns an {@code UploadOptions} that behaves like the current one, except that up to
+         * the specified number of parts are uploaded at the same time.
+         *
+         * @param parallelism number of parts, at least 1
+         *
+         * @return a new {@code UploadOptions} object
+         */
+        public UploadOptions withParallelism(int parallelism) {
+            Preconditions.checkArgument(parallelism >= 1, "parallelism must be positive");
+            return new UploadOptions(this.partSize, parallelism, this.maxPartRetries,
+                    this.journal, this.compressionThreads);
+        }
+
+        /**
+         * Returns an {@code UploadOptions} that behaves like the current one, except that a part
+         * that fails to upload is retried up to the specified number of times.
+         *
+         * @param maxPartRetries number of retries, or 0 to not retry
+         *
+         * @return a new {@code UploadOptions} object
+         */
+        public UploadOptions withMaxPartRetries(int maxPartRetries) {
+            Preconditions.checkArgument(maxPartRetries >= 0, "maxPartRetries may not be negative");
+            return new UploadOptions(this.partSize, this.parallelism, maxPartRetries,
+                    this.journal, this.compressionThreads);
+        }
+
+        /**
+         * Returns whether uploads of local files keep a journal of the parts they have uploaded.
+         *
+         * @return whether a journal is kept
+         */
+        public boolean isJournalEnabled() {
+            return journal;
+        }
+
+        /**
+         * Returns an {@code UploadOptions} that behaves like the current one, except that
+         * {@link DXFile#upload(Path, UploadOptions)} records each part it uploads (and its MD5
+         * digest) in a journal next to the local file, named after it with the suffix
+         * {@code .dxjournal}. If an upload is interrupted, uploading the same local file to the
+         * same (still open) file again uploads only the parts that are missing from the journal;
+         * {@link DXFile.Builder#upload(Path)} resumes the upload into the file recorded in the
+         * journal instead of creating a new one. The journal is discarded if the local file has
+         * been modified since, and is deleted once the upload completes.
+         *
+         * <p>
+         * Uploads of byte arrays and streams ignore this option.
+         * </p>
+         *
+         * @param journal whether to keep a journal
+         *
+         * @return a new {@code UploadOptions} object
+         */
+        public UploadOptions withJournal(boolean journal) {
+            return new UploadOptions(this.partSize, this.parallelism, this.maxPartRetries,
+                    journal, this.compressionThreads);
+        }
+
+        /**
+         * Returns the number of threads that compress data uploaded with
+         * {@link DXFile#uploadCompressed(InputStream, UploadOptions)}.
+         *
+         * @return number of threads
+         */
+        public int getCompressionThreads() {
+            return compressionThreads;
+        }
+
+        /**
+         * Returns an {@code UploadOptions} that behaves like the current one, except that data
+         * uploaded with {@link DXFile#uploadCompressed(InputStream, UploadOptions)} is compressed
+         * by the specified number of threads.
+         *
+         * @param compressionThreads number of threads, at least 1
+         *
+         * @return a new {@code UploadOptions} object
+         */
+        public UploadOptions withCompressionThreads(int compressionThreads) {
+            Preconditions.checkArgument(compressionThreads >= 1,
+                    "compressionThreads must be positive");
+            return new UploadOptions(this.partSize, this.parallelism, this.maxPartRetries,
+                    this.journal, compressionThreads);
         }
     }
 
     /**
-     * Request to /file-xxxx/upload.
+     * Options for random access to a file with {@link DXFile#openSeekableChannel}. The file is
+     * read in blocks of {@link #getBlockSize()} bytes, of which up to {@link #getCacheBlocks()}
+     * are cached. Sequential reads fetch up to {@link #getPrefetchBlocks()} blocks ahead.
+     *
+     * <p>
+     * Example:
+     * </p>
+     *
+     * <pre>
+     * SeekableChannelOptions.get().withBlockSize(256 * 1024).withCacheBlocks(1024)
+     * </pre>
      */
-    @JsonInclude(Include.NON_NULL)
-    private static class FileUploadRequest {
-        @JsonProperty
-        private String md5;
-        @JsonProperty
-        private int size;
+    public static class SeekableChannelOptions {
+        private static final SeekableChannelOptions DEFAULT = new SeekableChannelOptions(
+                1024 * 1024, 64, 16);
+
+        /**
+         * Returns the default options: 1 MiB blocks, a cache of 64 blocks, and up to 16 blocks
+         * prefetched.
+         *
+         * @return a {@code SeekableChannelOptions} object
+         */
+        public static SeekableChannelOptions get() {
+            return DEFAULT;
+        }
+
+        private final int blockSize;
+        private final int cacheBlocks;
+        private final int prefetchBlocks;
+
+        private SeekableChannelOptions(int blockSize, int cacheBlocks, int prefetchBlocks) {
+            this.blockSize = blockSize;
+            this.cacheBlocks = cacheBlocks;
+            this.prefetchBlocks = prefetchBlocks;
+        }
+
+        /**
+         * Returns the size of each block, in bytes.
+         *
+         * @return block size
+         */
+        public int getBlockSize() {
+            return blockSize;
+        }
+
+        /**
+         * Returns the maximum number of blocks cached.
+         *
+         * @return number of blocks
+         */
+        public int getCacheBlocks() {
+            return cacheBlocks;
+        }
+
+        /**
+         * Returns the maximum number of blocks fetched past the end of a sequential read.
+         *
+         * @return number of blocks
+         */
+        public int getPrefetchBlocks() {
+            return prefetchBlocks;
+        }
+
+        /**
+         * Returns a {@code SeekableChannelOptions} that behaves like the current one, except that
+         * the file is read in blocks of the specified size.
+         *
+         * @param blockSize block size in bytes, at least 1
+         *
+         * @return a new {@code SeekableChannelOptions} object
+         */
+        public SeekableChannelOptions withBlockSize(int blockSize) {
+            Preconditions.checkArgument(blockSize >= 1, "blockSize must be positive");
+            return new SeekableChannelOptions(blockSize, this.cacheBlocks, this.prefetchBlocks);
+        }
 
-        private FileUploadRequest(int size, String md5) {
-            this.size = size;
-            this.md5 = md5;
+        /**
+         * Returns a {@code SeekableChannelOptions} that behaves like the current one, except that
+         * up to the specified number of blocks are cached.
+         *
+         * @param cacheBlocks number of blocks, at least 1
+         *
+         * @return a new {@code SeekableChannelOptions} object
+         */
+        public SeekableChannelOptions withCacheBlocks(int cacheBlocks) {
+            Preconditions.checkArgument(cacheBlocks >= 1, "cacheBlocks must be positive");
+            return new SeekableChannelOptions(this.blockSize, cacheBlocks, this.prefetchBlocks);
+        }
+
+        /**
+         * Returns a {@code SeekableChannelOptions} that behaves like the current one, except that
+         * sequential reads fetch up to the specified number of blocks ahead.
+         *
+         * @param prefetchBlocks number of blocks, or 0 to not prefetch
+         *
+         * @return a new {@code SeekableChannelOptions} object
+         */
+        public SeekableChannelOptions withPrefetchBlocks(int prefetchBlocks) {
+            Preconditions.checkArgument(prefetchBlocks >= 0, "prefetchBlocks may not be negative");
+            return new SeekableChannelOptions(this.blockSize, this.cacheBlocks, prefetchBlocks);
         }
     }
 
-    /**
-     * Response from /file-xxxx/upload
-     */
-    @JsonIgnoreProperties(ignoreUnknown = true)
-    private static class FileUploadResponse {
-        @JsonProperty
-        private Map<String, String> headers;
+    @JsonInclude(Include.NON_NULL)
+    private static class FileNewRequest extends DataObjectNewRequest {
         @JsonProperty
-        private String url;
-    }
+        private final String media;
 
-    private static final String USER_AGENT = DXUserAgent.getUserAgent();
+        public FileNewRequest(Builder builder) {
+            super(builder);
+            this.media = builder.media;
+        }
+    }
 
     /**
      * Deserializes a DXFile from JSON containing a DNAnexus link.
@@ -342,49 +967,386 @@ public class DXFile extends DXDataObject {
 
     @Override
     public Describe describe() {
-        return DXJSON.safeTreeToValue(apiCallOnObject("describe", RetryStrategy.SAFE_TO_RETRY),
-                Describe.class);
+        return apiCallOnObject("describe", RetryStrategy.SAFE_TO_RETRY, Describe.class);
     }
 
     @Override
     public Describe describe(DescribeOptions options) {
-        return DXJSON.safeTreeToValue(
-                apiCallOnObject("describe", MAPPER.valueToTree(options),
-                        RetryStrategy.SAFE_TO_RETRY), Describe.class);
+        return apiCallOnObject("describe", options, RetryStrategy.SAFE_TO_RETRY, Describe.class);
     }
 
     /**
      * Downloads the file and returns a byte array of its contents. <b>This implementation buffers
-     * the contents of the file in-memory; therefore, the file must be small.</b>
+     * the contents of the file in-memory; therefore, the file must be small.</b> The file is
+     * downloaded with the default {@link DownloadOptions}, so the MD5 digest of each part is
+     * verified. If the environment has a {@link DXFileCache}, a closed file is read through it.
+     *
+     * <p>
+     * Unless this object already has describe data with the size and parts of the file, the file
+     * is described while it is downloaded with a single request, so a file smaller than a chunk
+     * takes no more round trips than the download itself. Larger files are then downloaded in
+     * chunks as usual.
+     * </p>
      *
      * @return byte array containing file contents
      */
     // TODO: set project ID containing the file to be downloaded
     public byte[] downloadBytes() {
-        // API call returns URL for HTTP GET requests
-        JsonNode output = apiCallOnObject("download", MAPPER.valueToTree(new FileDownloadRequest(true)),
-                RetryStrategy.SAFE_TO_RETRY);
+        Path cached = getCachedCopy();
+        if (cached != null) {
+            try {
+                return Files.readAllBytes(cached);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        DownloadOptions options = DownloadOptions.get();
+        FileDownloader downloader = new FileDownloader(this, env, options);
+        Describe describe = getCachedDownloadDescribe(options);
+        if (describe == null) {
+            ListenableFuture<Describe> pendingDescribe = new DXHTTPRequest(env).requestAsync("/"
+                    + getId() + "/describe", getDownloadDescribeOptions(options),
+                    RetryStrategy.SAFE_TO_RETRY, Describe.class);
+            byte[] data;
+            try {
+                data = downloader.fetchSmallFile((int) Math.min(options.getChunkSize(),
+                        Integer.MAX_VALUE - 8));
+            } catch (RuntimeException e) {
+                pendingDescribe.cancel(false);
+                throw e;
+            }
+            try {
+                describe = Uninterruptibles.getUninterruptibly(pendingDescribe);
+            } catch (ExecutionException e) {
+                throw Throwables.propagate(e.getCause());
+            }
+            if (data != null && data.length == describe.getSize()
+                    && FileDownloader.Chunk.matches(data, getDownloadChunks(describe, options))) {
+                return data;
+            }
+            // The file is larger than a chunk, or did not match its digests; download it (again)
+            // in verified chunks
+        }
+        Preconditions.checkState(describe.getSize() <= Integer.MAX_VALUE,
+                "File is too large to be downloaded into an array");
+        byte[] data = new byte[(int) describe.getSize()];
+        downloader.fetchTo(data, getDownloadChunks(describe, options));
+        return data;
+    }
 
-        FileDownloadResponse apiResponse;
-        HttpClient httpclient = HttpClientBuilder.create().setUserAgent(USER_AGENT).build();
-        InputStream content = null;
-        byte[] data;
+    /**
+     * Downloads the file to the specified local path, using the default {@link DownloadOptions}.
+     * The local file is created if necessary, and overwritten if it exists.
+     *
+     * @param path local path
+     */
+    public void downloadTo(Path path) {
+        downloadTo(path, DownloadOptions.get());
+    }
 
-        try {
-            apiResponse = MAPPER.treeToValue(output, FileDownloadResponse.class);
+    /**
+     * Downloads the file to the specified local path, in chunks that are downloaded concurrently
+     * with HTTP Range requests and written at their offsets in the local file. The local file is
+     * created if necessary, and overwritten if it exists. If the environment has a
+     * {@link DXFileCache}, a closed file is copied from it instead.
+     *
+     * @param path local path
+     * @param options chunk size, parallelism, and retry options
+     */
+    public void downloadTo(Path path, DownloadOptions options) {
+        Preconditions.checkNotNull(path, "path may not be null");
+        Preconditions.checkNotNull(options, "options may not be null");
+        Path cached = getCachedCopy();
+        if (cached != null) {
+            try {
+                Files.copy(cached, path, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            return;
+        }
+        Describe describe = getCachedDownloadDescribe(options);
+        downloadTo(path, options, (describe != null) ? describe : describe(
+                getDownloadDescribeOptions(options)));
+    }
+
+    /**
+     * Returns the describe data of this object if it already has the fields needed to download
+     * the file with the specified options, so that the file need not be described again.
+     *
+     * @return cached describe data, or {@code null} if there is none or it lacks the size (or the
+     *         parts, if checksums are verified)
+     */
+    private Describe getCachedDownloadDescribe(DownloadOptions options) {
+        if (cachedDescribe == null || !cachedDescribe.has("size")
+                || options.isChecksumVerificationEnabled() && !cachedDescribe.has("parts")) {
+            return null;
+        }
+        return getCachedDescribe();
+    }
+
+    /**
+     * Returns the options with which the file must be described before it is downloaded.
+     */
+    private static DescribeOptions getDownloadDescribeOptions(DownloadOptions options) {
+        return options.isChecksumVerificationEnabled() ? DescribeOptions.get().withCustomFields(
+                "size", "parts") : DescribeOptions.get().withCustomFields("size");
+    }
+
+    /**
+     * Returns the chunks in which the file is downloaded: ranges of at most the chunk size, which
+     * do not cross part boundaries (so that each part can be verified) if checksums are verified
+     * and the parts are known.
+     */
+    private static List<FileDownloader.Chunk> getDownloadChunks(Describe describe,
+            DownloadOptions options) {
+        if (options.isChecksumVerificationEnabled()) {
+            try {
+                SortedMap<Integer, Describe.Part> parts = describe.getParts();
+                long partsSize = 0;
+                for (Describe.Part part : parts.values()) {
+                    partsSize += part.getSize();
+                }
+                if (partsSize == describe.getSize()) {
+                    return FileDownloader.Chunk.fromParts(parts.values(),
+                            options.getChunkSize());
+                }
+            } catch (IllegalStateException e) {
+                // The server did not return the parts of the file
+            }
+        }
+        return FileDownloader.Chunk.split(describe.getSize(), options.getChunkSize());
+    }
+
+    /**
+     * Returns the copy of the file in the file cache of the environment, downloading it into the
+     * cache if necessary.
+     *
+     * @return path of the cached copy, or {@code null} if the environment has no file cache or the
+     *         file cannot be cached
+     */
+    private Path getCachedCopy() {
+        DXFileCache fileCache = env.getFileCache();
+        return fileCache == null ? null : fileCache.get(this);
+    }
+
+    /**
+     * Downloads the file, whose size is already known, to the specified local path (for use by
+     * {@link DXTransferManager}). If checksums are verified, the file is described to get its
+     * parts.
+     *
+     * @param path local path
+     * @param options chunk size, parallelism, retry, journal, and verification options
+     * @param size size of the file
+     */
+    void downloadTo(Path path, DownloadOptions options, long size) {
+        if (options.isChecksumVerificationEnabled()) {
+            downloadTo(path, options, describe(getDownloadDescribeOptions(options)));
+        } else {
+            downloadTo(path, options, size, FileDownloader.Chunk.split(size,
+                    options.getChunkSize()));
+        }
+    }
 
-            // HTTP GET request to download URL
-            HttpGet request = new HttpGet(apiResponse.url);
-            HttpResponse response = httpclient.execute(request);
-            content = response.getEntity().getContent();
+    /**
+     * Downloads the file, which has already been described, to the specified local path (for use
+     * by {@link DXFileCache}).
+     *
+     * @param path local path
+     * @param options chunk size, parallelism, retry, journal, and verification options
+     * @param describe describe data including the size of the file, and its parts if checksums
+     *        are verified
+     */
+    void downloadTo(Path path, DownloadOptions options, Describe describe) {
+        downloadTo(path, options, describe.getSize(), getDownloadChunks(describe, options));
+    }
 
-            data = IOUtils.toByteArray(content);
-            content.close();
+    private void downloadTo(Path path, DownloadOptions options, long size,
+            List<FileDownloader.Chunk> chunks) {
+        FileDownloader downloader = new FileDownloader(this, env, options);
+        if (!options.isJournalEnabled()) {
+            // Read access is needed to check the digests of parts once they have been written
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                downloader.fetchTo(channel, chunks, null);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            return;
+        }
+        TransferJournal.Header header = new TransferJournal.Header("download", getId(), size,
+                options.getChunkSize(), null);
+        try (TransferJournal journal = TransferJournal.open(
+                TransferJournal.getJournalPath(path), header);
+                FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                        StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            downloader.fetchTo(channel, chunks, journal);
+            channel.truncate(size);
+            journal.delete();
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
+    }
 
-        return data;
+    /**
+     * Opens a stream of the contents of the file, using the default {@link DownloadOptions}.
+     *
+     * @return stream of the contents of the file, which must be closed when no longer needed
+     *
+     * @see #openInputStream(DownloadOptions)
+     */
+    public InputStream openInputStream() {
+        return openInputStream(DownloadOptions.get());
+    }
+
+    /**
+     * Opens a stream of the contents of the file. The file is downloaded in chunks as it is read,
+     * with up to {@code options.getParallelism()} chunks downloaded ahead of the reader in the
+     * background, so the stream holds about {@code (options.getParallelism() + 1) *
+     * options.getChunkSize()} bytes of memory regardless of the size of the file. A chunk whose
+     * transfer fails is resumed transparently.
+     *
+     * <p>
+     * The file must be closed. Closing the stream stops any downloads in progress.
+     * </p>
+     *
+     * @param options chunk size (at most {@code Integer.MAX_VALUE - 8}), read-ahead, and retry
+     *        options
+     *
+     * @return stream of the contents of the file, which must be closed when no longer needed
+     */
+    public InputStream openInputStream(DownloadOptions options) {
+        return openReadAheadStream(options);
+    }
+
+    /**
+     * Opens a stream of a byte range of the file, which is downloaded as it is read, exactly as
+     * described in {@link #openInputStream(DownloadOptions)}. Only the bytes in the range are
+     * downloaded.
+     *
+     * @param start offset of the first byte to read
+     * @param end offset after the last byte to read, which must not be past the end of the file
+     * @param options chunk size (at most {@code Integer.MAX_VALUE - 8}), read-ahead, and retry
+     *        options
+     *
+     * @return stream of the bytes in the range, which must be closed when no longer needed
+     *
+     * @see DXFileShard
+     */
+    public InputStream openInputStream(long start, long end, DownloadOptions options) {
+        Preconditions.checkArgument(start >= 0 && end >= start, "Invalid range");
+        Preconditions.checkNotNull(options, "options may not be null");
+        return new ReadAheadStream(this, env, options, start, end);
+    }
+
+    /**
+     * Opens a stream of the decompressed contents of a gzip-compressed file, using the default
+     * {@link DownloadOptions}.
+     *
+     * @return stream of the decompressed contents of the file, which must be closed when no longer
+     *         needed
+     *
+     * @see #openDecompressedInputStream(DownloadOptions)
+     */
+    public InputStream openDecompressedInputStream() {
+        return openDecompressedInputStream(DownloadOptions.get());
+    }
+
+    /**
+     * Opens a stream of the decompressed contents of a gzip-compressed file, which is downloaded
+     * as described in {@link #openInputStream(DownloadOptions)}.
+     *
+     * <p>
+     * If the file is in BGZF format (as are BAM files and files compressed with bgzip), its blocks
+     * are decompressed in parallel by {@link DownloadOptions#getDecompressionThreads()} threads,
+     * a bounded number of blocks ahead of the reader. Other gzip files are decompressed serially.
+     * </p>
+     *
+     * @param options chunk size (at most {@code Integer.MAX_VALUE - 8}), read-ahead, retry, and
+     *        decompression options
+     *
+     * @return stream of the decompressed contents of the file, which must be closed when no longer
+     *         needed
+     *
+     * @throws java.util.zip.ZipException (wrapped in a {@code RuntimeException}) if the file is not
+     *         in gzip format
+     */
+    public InputStream openDecompressedInputStream(DownloadOptions options) {
+        ReadAheadStream stream = openReadAheadStream(options);
+        try {
+            return BgzfDecompressingInputStream.open(stream, options.getDecompressionThreads());
+        } catch (IOException e) {
+            stream.close();
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Opens a channel for reading the contents of the file, using the default
+     * {@link DownloadOptions}.
+     *
+     * @return channel for reading the contents of the file, which must be closed when no longer
+     *         needed
+     *
+     * @see #openChannel(DownloadOptions)
+     */
+    public ReadableByteChannel openChannel() {
+        return openChannel(DownloadOptions.get());
+    }
+
+    /**
+     * Opens a channel for reading the contents of the file. The file is downloaded with read-ahead
+     * exactly as described in {@link #openInputStream(DownloadOptions)}.
+     *
+     * @param options chunk size (at most {@code Integer.MAX_VALUE - 8}), read-ahead, and retry
+     *        options
+     *
+     * @return channel for reading the contents of the file, which must be closed when no longer
+     *         needed
+     */
+    public ReadableByteChannel openChannel(DownloadOptions options) {
+        return openReadAheadStream(options);
+    }
+
+    /**
+     * Opens a read-only channel for random access to the contents of the file, using the default
+     * {@link SeekableChannelOptions}.
+     *
+     * @return channel for reading the contents of the file, which must be closed when no longer
+     *         needed
+     *
+     * @see #openSeekableChannel(SeekableChannelOptions)
+     */
+    public SeekableByteChannel openSeekableChannel() {
+        return openSeekableChannel(SeekableChannelOptions.get());
+    }
+
+    /**
+     * Opens a read-only channel for random access to the contents of the file (for example, to
+     * query regions of an indexed BAM or VCF file). Reads are served from a cache of fixed-size
+     * blocks, which are downloaded with HTTP Range requests as they are needed; consecutive
+     * missing blocks are downloaded together, and sequential reads prefetch blocks ahead.
+     *
+     * <p>
+     * The file must be closed. The channel cannot be written to or truncated.
+     * </p>
+     *
+     * @param options block size, cache size, and prefetch options
+     *
+     * @return channel for reading the contents of the file, which must be closed when no longer
+     *         needed
+     */
+    public SeekableByteChannel openSeekableChannel(SeekableChannelOptions options) {
+        Preconditions.checkNotNull(options, "options may not be null");
+        long size = describe(DescribeOptions.get().withCustomFields("size")).getSize();
+        return new CachingSeekableChannel(this, env, options, size);
+    }
+
+    private ReadAheadStream openReadAheadStream(DownloadOptions options) {
+        Preconditions.checkNotNull(options, "options may not be null");
+        long size = describe(DescribeOptions.get().withCustomFields("size")).getSize();
+        return new ReadAheadStream(this, env, options, 0, size);
     }
 
     /**
@@ -393,7 +1355,11 @@ public class DXFile extends DXDataObject {
      * the file must be small enough to be buffered in memory.</b>
      *
      * @return stream containing file contents
+     *
+     * @deprecated The returned stream cannot be read from, and holds the whole file in memory.
+     *             Use {@link #openInputStream()} to read the file as it is downloaded.
      */
+    @Deprecated
     public OutputStream downloadStream() {
         byte[] dataBytes = this.downloadBytes();
         OutputStream data = new ByteArrayOutputStream(dataBytes.length);
@@ -413,8 +1379,8 @@ public class DXFile extends DXDataObject {
     }
 
     /**
-     * Uploads data from the specified byte array to the file. <b>This implementation buffers the
-     * data in-memory before being uploaded to the server; therefore, the data must be small.</b>
+     * Uploads data from the specified byte array to the file, using the default
+     * {@link UploadOptions}.
      *
      * <p>
      * The file must be in the "open" state. This method assumes exclusive access to the file: the
@@ -425,59 +1391,148 @@ public class DXFile extends DXDataObject {
      * @param data data in bytes to be uploaded
      */
     public void upload(byte[] data) {
-        Preconditions.checkNotNull(data, "data may not be null");
-
-        // MD5 digest as 32 character hex string
-        String dataMD5 = DigestUtils.md5Hex(data);
-
-        // API call returns URL and headers
-        JsonNode output = apiCallOnObject("upload", MAPPER.valueToTree(new FileUploadRequest(data.length, dataMD5)),
-                RetryStrategy.SAFE_TO_RETRY);
-
-        FileUploadResponse apiResponse;
-        try {
-            apiResponse = MAPPER.treeToValue(output, FileUploadResponse.class);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
-        }
+        upload(data, UploadOptions.get());
+    }
 
-        // Check that the content-length received by the apiserver is the same
-        // as the length of the data
-        if (apiResponse.headers.containsKey("content-length")) {
-            int apiserverContentLength = Integer.parseInt(apiResponse.headers.get("content-length"));
-            if (apiserverContentLength != data.length) {
-                throw new AssertionError(
-                        "Content-length received by the apiserver did not match that of the input data");
-            }
-        }
+    /**
+     * Uploads data from the specified byte array to the file, split into parts that are uploaded
+     * concurrently.
+     *
+     * <p>
+     * The file must be in the "open" state. This method assumes exclusive access to the file: the
+     * file must have no parts uploaded before this call is made, and no other clients may upload
+     * data to the same file concurrently.
+     * </p>
+     *
+     * @param data data in bytes to be uploaded
+     * @param options part size, parallelism, and retry options
+     */
+    public void upload(byte[] data, UploadOptions options) {
+        Preconditions.checkNotNull(data, "data may not be null");
+        options = options.forSize(data.length);
+        new FileUploader(this, env, options).upload(FileUploader.byteArraySource(data,
+                options.getPartSize()));
+    }
 
-        // HTTP PUT request to upload URL and headers
-        HttpPut request = new HttpPut(apiResponse.url);
-        request.setEntity(new ByteArrayEntity(data));
+    /**
+     * Uploads data from the specified stream to the file, using the default
+     * {@link UploadOptions}. The stream is read to the end, but not closed.
+     *
+     * <p>
+     * The file must be in the "open" state. This method assumes exclusive access to the file: the
+     * file must have no parts uploaded before this call is made, and no other clients may upload
+     * data to the same file concurrently.
+     * </p>
+     *
+     * @param data stream containing data to be uploaded
+     */
+    public void upload(InputStream data) {
+        upload(data, UploadOptions.get());
+    }
 
-        for (Map.Entry<String, String> header : apiResponse.headers.entrySet()) {
-            String key = header.getKey();
+    /**
+     * Uploads data from the specified stream to the file, split into parts that are uploaded
+     * concurrently. The stream is read to the end, but not closed.
+     *
+     * <p>
+     * Each part is uploaded as soon as it has been read, and its buffer is given back to the
+     * environment's {@link TransferBufferPool} for a later part once it has been uploaded, so
+     * this method uses about {@code options.getParallelism() * options.getPartSize()} bytes of
+     * memory regardless of the length of the stream. When the uploads fall behind, the stream is
+     * not read until a part has been uploaded.
+     * </p>
+     *
+     * <p>
+     * The length of the stream is not known in advance, so the part size is not raised to fit
+     * the data in {@link UploadOptions#MAX_PARTS} parts: a stream longer than {@code
+     * UploadOptions.MAX_PARTS * options.getPartSize()} bytes (about 156 GiB with the default
+     * 16 MiB parts) fails with an {@link IllegalStateException} once the parts in flight have
+     * finished. Use a larger part size for longer streams.
+     * </p>
+     *
+     * <p>
+     * The file must be in the "open" state. This method assumes exclusive access to the file: the
+     * file must have no parts uploaded before this call is made, and no other clients may upload
+     * data to the same file concurrently.
+     * </p>
+     *
+     * @param data stream containing data to be uploaded
+     * @param options part size, parallelism, and retry options; the part size may not exceed
+     *        {@code Integer.MAX_VALUE - 8}
+     */
+    public void upload(InputStream data, UploadOptions options) {
+        Preconditions.checkNotNull(data, "data may not be null");
+        Preconditions.checkArgument(options.getPartSize() <= Integer.MAX_VALUE - 8,
+                "Part size is too large to buffer parts from a stream");
+        new FileUploader(this, env, options).upload(FileUploader.inputStreamSource(data,
+                (int) options.getPartSize(), env.getTransferBufferPool()));
+    }
 
-            // The request implicitly supplies the content length in the headers
-            // when executed
-            if (key.equals("content-length")) {
-                continue;
-            }
+    /**
+     * Uploads data from the specified stream to the file, compressed in BGZF format, using the
+     * default {@link UploadOptions}.
+     *
+     * @param data stream containing data to be compressed and uploaded
+     *
+     * @see #uploadCompressed(InputStream, UploadOptions)
+     */
+    public void uploadCompressed(InputStream data) {
+        uploadCompressed(data, UploadOptions.get());
+    }
 
-            request.setHeader(key, header.getValue());
+    /**
+     * Uploads data from the specified stream to the file, compressed in BGZF format. The stream
+     * is read to the end, but not closed.
+     *
+     * <p>
+     * The data is split into blocks of just under 64 KiB, which are compressed by
+     * {@link UploadOptions#getCompressionThreads()} threads and uploaded in order as described in
+     * {@link #upload(InputStream, UploadOptions)}. The result is a valid gzip file that can also
+     * be indexed by tools that read BGZF, such as samtools and tabix.
+     * </p>
+     *
+     * <p>
+     * The file must be in the "open" state. This method assumes exclusive access to the file: the
+     * file must have no parts uploaded before this call is made, and no other clients may upload
+     * data to the same file concurrently.
+     * </p>
+     *
+     * @param data stream containing data to be compressed and uploaded
+     * @param options part size, parallelism, retry, and compression options
+     */
+    public void uploadCompressed(InputStream data, UploadOptions options) {
+        Preconditions.checkNotNull(data, "data may not be null");
+        try (BgzfCompressingInputStream compressed = new BgzfCompressingInputStream(data,
+                options.getCompressionThreads(), Deflater.DEFAULT_COMPRESSION)) {
+            upload(compressed, options);
         }
+    }
 
-        HttpClient httpclient = HttpClientBuilder.create().setUserAgent(USER_AGENT).build();
-        try {
-            httpclient.execute(request);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+    /**
+     * Uploads the contents of the specified local file to the file, using the default
+     * {@link UploadOptions}.
+     *
+     * <p>
+     * The file must be in the "open" state. This method assumes exclusive access to the file: the
+     * file must have no parts uploaded before this call is made, and no other clients may upload
+     * data to the same file concurrently.
+     * </p>
+     *
+     * @param path path of the local file
+     */
+    public void upload(Path path) {
+        upload(path, UploadOptions.get());
     }
 
     /**
-     * Uploads data from the specified stream to the file. <b>This implementation buffers the
-     * data in-memory before being uploaded to the server; therefore, the data must be small.</b>
+     * Uploads the contents of the specified local file to the file, split into parts that are
+     * uploaded concurrently.
+     *
+     * <p>
+     * Each part is memory-mapped and is hashed and sent directly from the mapping, so the contents
+     * of the file are not copied into part-sized arrays on the Java heap. The local file must not
+     * be modified during the upload.
+     * </p>
      *
      * <p>
      * The file must be in the "open" state. This method assumes exclusive access to the file: the
@@ -485,14 +1540,40 @@ public class DXFile extends DXDataObject {
      * data to the same file concurrently.
      * </p>
      *
-     * @param data stream containing data to be uploaded
+     * @param path path of the local file
+     * @param options part size, parallelism, and retry options; the part size is raised if
+     *        necessary so that the local file has at most {@link UploadOptions#MAX_PARTS} parts,
+     *        and may not exceed {@code Integer.MAX_VALUE}
      */
-    public void upload(InputStream data) {
-        Preconditions.checkNotNull(data, "data may not be null");
-        try {
-            this.upload(ByteStreams.toByteArray(data));
+    public void upload(Path path, UploadOptions options) {
+        Preconditions.checkNotNull(path, "path may not be null");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            options = options.forSize(size);
+            FileUploader.PartSource source = FileUploader.fileChannelSource(channel, size,
+                    options.getPartSize());
+            if (!options.isJournalEnabled()) {
+                new FileUploader(this, env, options).upload(source);
+                return;
+            }
+            try (TransferJournal journal = TransferJournal.open(
+                    TransferJournal.getJournalPath(path), getUploadJournalHeader(getId(), path,
+                            options))) {
+                new FileUploader(this, env, options).upload(source, journal);
+                journal.delete();
+            }
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
+
+    /**
+     * Returns the header of the journal of an upload of the specified local file.
+     */
+    private static TransferJournal.Header getUploadJournalHeader(String fileId, Path path,
+            UploadOptions options) throws IOException {
+        long size = Files.size(path);
+        return new TransferJournal.Header("upload", fileId, size,
+                options.forSize(size).getPartSize(), Files.getLastModifiedTime(path).toMillis());
+    }
 }
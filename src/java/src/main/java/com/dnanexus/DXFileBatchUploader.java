@@ -0,0 +1,390 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.base.Function;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Creates, uploads, and closes many small files, overlapping the API calls made for different
+ * files.
+ *
+ * <p>
+ * Building a file with {@link DXFile.Builder#build()} and then calling
+ * {@link DXFile#closeAndWait()} makes the {@code /file/new}, {@code /file-xxxx/upload}, and
+ * {@code /file-xxxx/close} calls one after another and then polls the state of the file every two
+ * seconds, so for small files almost all of the time is spent waiting. A batch uploader instead
+ * keeps up to {@link Builder#setMaxPendingFiles(int)} files in progress at once: new files are
+ * created with asynchronous calls while earlier ones are uploading, and the states of all files
+ * that are closing are polled together with one {@code /system/describeDataObjects} call per
+ * poll interval.
+ * </p>
+ *
+ * <p>
+ * Example:
+ * </p>
+ *
+ * <pre>
+ * try (DXFileBatchUploader uploader = DXFileBatchUploader.Builder.fromEnvironment(env).build()) {
+ *     for (Report report : reports) {
+ *         uploader.upload(DXFile.newFile().setProject(project).setName(report.getName()),
+ *                 report.getBytes());
+ *     }
+ * } // Waits for all files to be closed
+ * </pre>
+ *
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ */
+public class DXFileBatchUploader implements Closeable {
+
+    /**
+     * Builder class for creating a {@code DXFileBatchUploader}.
+     */
+    public static class Builder {
+        /**
+         * Creates a Builder object for a batch uploader that makes its requests with the
+         * specified environment.
+         *
+         * @param env environment
+         *
+         * @return new Builder object
+         */
+        public static Builder fromEnvironment(DXEnvironment env) {
+            return new Builder(env);
+        }
+
+        private final DXEnvironment env;
+        private int maxPendingFiles = 64;
+        private int maxConcurrentUploads = 8;
+        private long pollInterval = 500;
+
+        private Builder(DXEnvironment env) {
+            this.env = Preconditions.checkNotNull(env, "env may not be null");
+        }
+
+        /**
+         * Creates the batch uploader.
+         *
+         * @return batch uploader, which must be closed when no longer needed
+         */
+        public DXFileBatchUploader build() {
+            return new DXFileBatchUploader(this);
+        }
+
+        /**
+         * Sets the maximum number of files whose contents are uploaded at the same time (default:
+         * 8).
+         *
+         * @param maxConcurrentUploads number of files, at least 1
+         *
+         * @return the same Builder object
+         */
+        public Builder setMaxConcurrentUploads(int maxConcurrentUploads) {
+            Preconditions.checkArgument(maxConcurrentUploads >= 1,
+                    "maxConcurrentUploads must be positive");
+            this.maxConcurrentUploads = maxConcurrentUploads;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of files that may be in progress (being created, uploaded, or
+         * closed) at the same time (default: 64). {@link DXFileBatchUploader#upload} blocks while
+         * this many files are in progress.
+         *
+         * @param maxPendingFiles number of files, at least 1
+         *
+         * @return the same Builder object
+         */
+        public Builder setMaxPendingFiles(int maxPendingFiles) {
+            Preconditions.checkArgument(maxPendingFiles >= 1, "maxPendingFiles must be positive");
+            this.maxPendingFiles = maxPendingFiles;
+            return this;
+        }
+
+        /**
+         * Sets the time between polls of the states of files that are closing (default: 500
+         * milliseconds).
+         *
+         * @param interval time between polls
+         * @param unit unit of {@code interval}
+         *
+         * @return the same Builder object
+         */
+        public Builder setPollInterval(long interval, TimeUnit unit) {
+            Preconditions.checkArgument(interval > 0, "interval must be positive");
+            this.pollInterval = unit.toMillis(interval);
+            return this;
+        }
+    }
+
+    private static class DescribeDataObjectsRequest {
+        @JsonProperty
+        private final List<ObjectRequest> objects;
+
+        private DescribeDataObjectsRequest(List<ObjectRequest> objects) {
+            this.objects = objects;
+        }
+    }
+
+    private static class ObjectRequest {
+        @JsonProperty
+        private final String id;
+        @JsonProperty
+        private final DXDataObject.DescribeOptions describe;
+
+        private ObjectRequest(String id, DXDataObject.DescribeOptions describe) {
+            this.id = id;
+            this.describe = describe;
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class DescribeDataObjectsResponse {
+        @JsonProperty
+        private List<ObjectResult> results;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class ObjectResult {
+        @JsonProperty
+        private DXFile.Describe describe;
+        @JsonProperty
+        private JsonNode error;
+    }
+
+    /**
+     * A file that has been closed but is not yet known to be in the "closed" state.
+     */
+    private static class ClosingFile {
+        private final DXFile file;
+        private final SettableFuture<DXFile> future = SettableFuture.create();
+
+        private ClosingFile(DXFile file) {
+            this.file = file;
+        }
+    }
+
+    /**
+     * Largest number of objects described with one {@code /system/describeDataObjects} call.
+     */
+    private static final int MAX_OBJECTS_PER_POLL = 1000;
+
+    private static final DXDataObject.DescribeOptions STATE_ONLY = DXDataObject.DescribeOptions
+            .get().withCustomFields("state");
+
+    private final DXEnvironment env;
+    private final int maxPendingFiles;
+    private final Semaphore pendingFiles;
+    private final ListeningExecutorService uploadExecutor;
+    private final ScheduledExecutorService poller;
+
+    private volatile boolean closed;
+
+    /**
+     * Files that are closing, by ID.
+     */
+    private final Map<String, ClosingFile> closingFiles = Maps.newLinkedHashMap();
+
+    private DXFileBatchUploader(Builder builder) {
+        this.env = builder.env;
+        this.maxPendingFiles = builder.maxPendingFiles;
+        this.pendingFiles = new Semaphore(maxPendingFiles);
+        this.uploadExecutor = MoreExecutors.listeningDecorator(Executors.newFixedThreadPool(
+                builder.maxConcurrentUploads, new ThreadFactoryBuilder().setDaemon(true)
+                        .setNameFormat("dx-batch-upload-%d").build()));
+        this.poller = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setDaemon(true).setNameFormat("dx-batch-upload-poller").build());
+        poller.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    pollClosingFiles();
+                } catch (RuntimeException e) {
+                    // Keep polling (an exception would cancel all future polls), and try again for
+                    // the files that were not polled at the next interval
+                    System.err.println("Polling the states of closing files failed: " + e);
+                }
+            }
+        }, builder.pollInterval, builder.pollInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates a file, uploads the specified data to it, and closes it. Blocks first if the
+     * maximum number of files are already in progress.
+     *
+     * @param builder builder with which to create the file (which must not have data to upload
+     *        set)
+     * @param data contents of the file
+     *
+     * @return future of the new file, which completes when the file is in the "closed" state, or
+     *         fails if it could not be created, uploaded, or closed
+     *
+     * @throws IllegalStateException if the uploader has been closed
+     */
+    public ListenableFuture<DXFile> upload(DXFile.Builder builder, final byte[] data) {
+        Preconditions.checkNotNull(builder, "builder may not be null");
+        Preconditions.checkNotNull(data, "data may not be null");
+        Preconditions.checkState(!closed, "The uploader has been closed");
+        final JsonNode request = builder.buildRequestHash();
+        final DXContainer project = builder.project;
+        try {
+            pendingFiles.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        ListenableFuture<DXFile> closed;
+        try {
+            ListenableFuture<ObjectNewResponse> created = DXAPI.fileNewAsync(request,
+                    ObjectNewResponse.class, env);
+            ListenableFuture<DXFile> uploaded = Futures.transform(created,
+                    new Function<ObjectNewResponse, DXFile>() {
+                        @Override
+                        public DXFile apply(ObjectNewResponse response) {
+                            DXFile file = DXFile.getInstanceWithEnvironment(response.getId(),
+                                    project, env);
+                            file.upload(data);
+                            return file;
+                        }
+                    }, uploadExecutor);
+            closed = Futures.transform(uploaded, new AsyncFunction<DXFile, DXFile>() {
+                @Override
+                public ListenableFuture<DXFile> apply(DXFile file) {
+                    return waitUntilClosed(file);
+                }
+            });
+        } catch (RuntimeException e) {
+            pendingFiles.release();
+            throw e;
+        }
+        closed.addListener(new Runnable() {
+            @Override
+            public void run() {
+                pendingFiles.release();
+            }
+        }, MoreExecutors.directExecutor());
+        return closed;
+    }
+
+    /**
+     * Closes a file, and returns a future that the poller completes once the file is closed.
+     */
+    private ListenableFuture<DXFile> waitUntilClosed(final DXFile file) {
+        return Futures.transform(DXAPI.fileCloseAsync(file.getId(), JsonNode.class, env),
+                new AsyncFunction<JsonNode, DXFile>() {
+                    @Override
+                    public ListenableFuture<DXFile> apply(JsonNode response) {
+                        ClosingFile closingFile = new ClosingFile(file);
+                        synchronized (closingFiles) {
+                            closingFiles.put(file.getId(), closingFile);
+                        }
+                        // Completed by pollClosingFiles
+                        return closingFile.future;
+                    }
+                });
+    }
+
+    /**
+     * Describes the files that are closing, and completes the futures of those that have closed
+     * (or been abandoned).
+     */
+    private void pollClosingFiles() {
+        List<String> fileIds;
+        synchronized (closingFiles) {
+            fileIds = ImmutableList.copyOf(closingFiles.keySet());
+        }
+        for (List<String> batch : Lists.partition(fileIds, MAX_OBJECTS_PER_POLL)) {
+            List<ObjectRequest> objects = Lists.newArrayList();
+            for (String fileId : batch) {
+                objects.add(new ObjectRequest(fileId, STATE_ONLY));
+            }
+            // If the call fails, the files stay closing and are polled again at the next interval
+            List<ObjectResult> results = DXAPI.systemDescribeDataObjects(
+                    new DescribeDataObjectsRequest(objects), DescribeDataObjectsResponse.class,
+                    env).results;
+            for (int i = 0; i < batch.size(); ++i) {
+                String fileId = batch.get(i);
+                ObjectResult result = results.get(i);
+                if (result.error != null) {
+                    complete(fileId, new IllegalStateException("data object " + fileId
+                            + " could not be described: " + result.error.path("message")
+                            .asText()));
+                } else if (result.describe.getState() == DataObjectState.CLOSED) {
+                    complete(fileId, null);
+                } else if (result.describe.getState() == DataObjectState.ABANDONED) {
+                    complete(fileId, new IllegalStateException("data object " + fileId
+                            + " has been abandoned"));
+                }
+            }
+        }
+    }
+
+    /**
+     * Completes the future of a closing file with the file, or with an error if one is given.
+     */
+    private void complete(String fileId, Throwable error) {
+        ClosingFile closingFile;
+        synchronized (closingFiles) {
+            closingFile = closingFiles.remove(fileId);
+        }
+        if (error == null) {
+            closingFile.future.set(closingFile.file);
+        } else {
+            closingFile.future.setException(error);
+        }
+    }
+
+    /**
+     * Stops the uploader, after waiting for all the files that have been submitted to be closed
+     * (or fail).
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            pendingFiles.acquire(maxPendingFiles);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        uploadExecutor.shutdown();
+        poller.shutdown();
+    }
+
+}
@@ -0,0 +1,299 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Striped;
+
+/**
+ * Cache of the contents of closed files in a local directory, keyed by file ID.
+ *
+ * <p>
+ * The contents of a closed file never change, so once a file has been cached it is read from the
+ * cache without making any API calls. A cache is enabled for an environment with
+ * {@link DXEnvironment.Builder#setFileCache(DXFileCache)}; {@link DXFile#downloadBytes()} and
+ * {@link DXFile#downloadTo(java.nio.file.Path)} then read closed files through it.
+ * </p>
+ *
+ * <p>
+ * The cache may be shared by several processes on the same host. A file is downloaded to a
+ * temporary file in the cache directory and then renamed into place, so an entry is never seen
+ * partially written, and a lock file per entry makes other processes (and threads) that need the
+ * same file wait for the download instead of repeating it. When adding an entry would make the
+ * cache larger than its maximum size, the least recently used entries are deleted, along with
+ * their lock files; each hit updates the modification time of its entry, which is used to order
+ * them. Downloads in progress count toward the total at the full size of their files, and space is
+ * reserved for a download under a lock on the whole directory, so that concurrent misses (in any
+ * process) cannot together overfill the cache. (If a lock file is deleted while another process
+ * waits on it, both processes may download the same file, which is harmless because entries are
+ * renamed into place.)
+ * </p>
+ *
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ */
+public class DXFileCache {
+
+    private static final String LOCK_SUFFIX = ".lock";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    /**
+     * Name of the lock file held while entries are evicted and space is reserved for a download.
+     */
+    private static final String EVICTION_LOCK = ".eviction" + LOCK_SUFFIX;
+
+    /**
+     * Temporary files older than this are assumed to have been left behind by a process that was
+     * killed during a download, and are deleted, as are lock files this old that have no entry
+     * (for example, those of files that could not be cached).
+     */
+    private static final long STALE_FILE_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+    /**
+     * Opens a cache in the specified directory, creating the directory if necessary.
+     *
+     * @param directory cache directory, which should not contain any other files
+     * @param maxSize maximum total size of the cached files in bytes
+     *
+     * @return cache
+     */
+    public static DXFileCache open(Path directory, long maxSize) {
+        Preconditions.checkNotNull(directory, "directory may not be null");
+        Preconditions.checkArgument(maxSize > 0, "maxSize must be positive");
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return new DXFileCache(directory, maxSize);
+    }
+
+    private final Path directory;
+    private final long maxSize;
+
+    /**
+     * Serializes threads of this process that access the same entry; file locks only exclude
+     * other processes.
+     */
+    private final Striped<Lock> entryLocks = Striped.lock(64);
+
+    /**
+     * Serializes threads of this process that evict entries; the file lock on
+     * {@link #EVICTION_LOCK} only excludes other processes.
+     */
+    private final Lock evictionLock = new ReentrantLock();
+
+    private DXFileCache(Path directory, long maxSize) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the maximum total size of the cached files.
+     *
+     * @return size in bytes
+     */
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the path of the cached copy of a file, downloading the file into the cache first if
+     * it is not already there. A hit makes no API calls.
+     *
+     * <p>
+     * The returned path should be read promptly (or copied): the entry may be evicted when other
+     * files are added to the cache.
+     * </p>
+     *
+     * @param file file
+     *
+     * @return path of the cached copy, or {@code null} if the file cannot be cached because it is
+     *         not closed or is larger than the cache
+     */
+    public Path get(DXFile file) {
+        Path entry = directory.resolve(file.getId());
+        try {
+            if (touch(entry)) {
+                return entry;
+            }
+            Lock lock = entryLocks.get(file.getId());
+            lock.lock();
+            try (FileChannel lockChannel = FileChannel.open(directory.resolve(file.getId()
+                    + LOCK_SUFFIX), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                // Released when the channel is closed
+                lockChannel.lock();
+                // Another process may have downloaded the file while we waited for the lock
+                if (touch(entry)) {
+                    return entry;
+                }
+                DXFile.Describe describe = file.describe(DXDataObject.DescribeOptions.get()
+                        .withCustomFields("state", "size", "parts"));
+                if (describe.getState() != DataObjectState.CLOSED || describe.getSize() > maxSize) {
+                    return null;
+                }
+                Path temp = reserve(file.getId(), describe.getSize());
+                try {
+                    file.downloadTo(temp, DXFile.DownloadOptions.get(), describe);
+                    Files.move(temp, entry, StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+                return entry;
+            } finally {
+                lock.unlock();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Marks an entry as used, if it exists.
+     *
+     * @return whether the entry exists
+     */
+    private static boolean touch(Path entry) throws IOException {
+        try {
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Evicts entries to make room for a file of the specified size, and creates the temporary file
+     * it is downloaded to. The size is recorded in the name of the temporary file, so that until
+     * the download completes, other evictions count it at its full size.
+     *
+     * @return temporary file
+     */
+    private Path reserve(String fileId, long size) throws IOException {
+        evictionLock.lock();
+        try (FileChannel lockChannel = FileChannel.open(directory.resolve(EVICTION_LOCK),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            // Released when the channel is closed
+            lockChannel.lock();
+            evict(maxSize - size);
+            return Files.createTempFile(directory, fileId + "." + size + ".", TEMP_SUFFIX);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the size reserved for the download to the specified temporary file, or 0 if its name
+     * does not record one.
+     */
+    private static long getReservedSize(String tempName) {
+        // <file ID>.<size>.<random>.tmp
+        String[] fields = tempName.split("\\.");
+        try {
+            return (fields.length == 4) ? Long.parseLong(fields[1]) : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Deletes the least recently used entries until the cached files and the downloads in progress
+     * take up at most the specified number of bytes (or no entries are left), and deletes stale
+     * temporary and lock files. Must be called with the eviction lock held.
+     */
+    private void evict(long targetSize) throws IOException {
+        List<Path> entries = Lists.newArrayList();
+        final List<BasicFileAttributes> attributes = Lists.newArrayList();
+        long totalSize = 0;
+        long now = System.currentTimeMillis();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path path : files) {
+                String name = path.getFileName().toString();
+                if (name.equals(EVICTION_LOCK)) {
+                    continue;
+                }
+                BasicFileAttributes fileAttributes;
+                try {
+                    fileAttributes = Files.readAttributes(path, BasicFileAttributes.class);
+                } catch (NoSuchFileException e) {
+                    continue;
+                }
+                boolean stale = now - fileAttributes.lastModifiedTime().toMillis()
+                        > STALE_FILE_MILLIS;
+                if (name.endsWith(LOCK_SUFFIX)) {
+                    if (stale && Files.notExists(directory.resolve(name.substring(0, name.length()
+                            - LOCK_SUFFIX.length())))) {
+                        Files.deleteIfExists(path);
+                    }
+                    continue;
+                }
+                if (name.endsWith(TEMP_SUFFIX)) {
+                    if (stale) {
+                        Files.deleteIfExists(path);
+                    } else {
+                        // A download in progress, which cannot be evicted
+                        totalSize += Math.max(fileAttributes.size(), getReservedSize(name));
+                    }
+                    continue;
+                }
+                entries.add(path);
+                attributes.add(fileAttributes);
+                totalSize += fileAttributes.size();
+            }
+        }
+        List<Integer> order = Lists.newArrayList();
+        for (int i = 0; i < entries.size(); ++i) {
+            order.add(i);
+        }
+        Collections.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return attributes.get(a).lastModifiedTime().compareTo(
+                        attributes.get(b).lastModifiedTime());
+            }
+        });
+        for (int i : order) {
+            if (totalSize <= targetSize) {
+                break;
+            }
+            Path entry = entries.get(i);
+            Files.deleteIfExists(entry);
+            Files.deleteIfExists(entry.resolveSibling(entry.getFileName() + LOCK_SUFFIX));
+            totalSize -= attributes.get(i).size();
+        }
+    }
+
+}
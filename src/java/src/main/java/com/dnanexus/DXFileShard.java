@@ -0,0 +1,320 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.io.InputStream;
+import java.util.List;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+
+/**
+ * A byte range of a file that begins and ends at record boundaries, so that it can be processed
+ * independently of the rest of the file.
+ *
+ * <p>
+ * {@link #split(DXFile, int, RecordFormat)} divides a file into shards of about the same size,
+ * finding each boundary with a small HTTP Range read near it, without downloading the file. In a
+ * scatter job, the parent job splits the input file and passes the file and the start and end of
+ * one shard to each subjob (as job input); each subjob then reads only its own shard with
+ * {@link #openInputStream()}, so the file is downloaded once in total instead of once per subjob.
+ * </p>
+ *
+ * <p>
+ * Example:
+ * </p>
+ *
+ * <pre>
+ * // In the parent job
+ * for (DXFileShard shard : DXFileShard.split(reads, 16, DXFileShard.RecordFormat.FASTQ)) {
+ *     // Start a subjob with the input {file: reads, start: shard.getStart(), end: shard.getEnd()}
+ * }
+ *
+ * // In each subjob
+ * try (InputStream records = DXFileShard.getInstance(file, start, end).openInputStream()) {
+ *     ...
+ * }
+ * </pre>
+ */
+public class DXFileShard {
+
+    /**
+     * Format of the records of a file, which determines where shards may begin.
+     */
+    public static enum RecordFormat {
+        /**
+         * Lines of text terminated by {@code '\n'} (for example, SAM, VCF, or BED files). Shards
+         * begin after a newline.
+         */
+        LINES,
+        /**
+         * FASTQ records of four lines each. Shards begin at a line starting with {@code '@'}
+         * whose third line starts with {@code '+'} and whose second and fourth lines have the
+         * same length, which distinguishes record headers from quality lines that start with
+         * {@code '@'}.
+         */
+        FASTQ,
+        /**
+         * BGZF blocks (for example, BAM files or bgzipped VCF files). Shards begin at a block
+         * header that is followed by another block header (or the end of the file) where its
+         * size field says. Each shard can be decompressed on its own; records may still span
+         * blocks, so readers of formats such as BAM must resynchronize at the start of a shard.
+         */
+        BGZF
+    }
+
+    /**
+     * Number of bytes read around each boundary at first. The probe is doubled until it contains
+     * a record boundary (or reaches the end of the file).
+     */
+    private static final int INITIAL_PROBE_SIZE = 64 * 1024;
+
+    /**
+     * Splits a file into shards of about the same size that begin and end at record boundaries.
+     * The shards are contiguous, in order, and cover the whole file. A shard may be empty if a
+     * record is longer than a shard (or the file has fewer records than shards).
+     *
+     * <p>
+     * The file is described to get its size, and one Range request (rarely more) is made near
+     * each of the {@code count - 1} boundaries.
+     * </p>
+     *
+     * @param file file to split, which must be closed
+     * @param count number of shards, at least 1
+     * @param format format of the records of the file
+     *
+     * @return shards, in order
+     */
+    public static List<DXFileShard> split(DXFile file, int count, RecordFormat format) {
+        Preconditions.checkNotNull(file, "file may not be null");
+        Preconditions.checkArgument(count >= 1, "count must be positive");
+        Preconditions.checkNotNull(format, "format may not be null");
+        long size = file.describe(DXDataObject.DescribeOptions.get().withCustomFields("size"))
+                .getSize();
+        FileDownloader downloader = new FileDownloader(file, file.env, DXFile.DownloadOptions
+                .get());
+        ImmutableList.Builder<DXFileShard> shards = ImmutableList.builder();
+        long start = 0;
+        for (int i = 1; i <= count; ++i) {
+            long end = size;
+            if (i < count) {
+                long target = Math.max(start, (long) ((double) size * i / count));
+                end = findBoundary(downloader, size, target, format);
+            }
+            shards.add(new DXFileShard(file, start, end));
+            start = end;
+        }
+        return shards.build();
+    }
+
+    /**
+     * Returns the first record boundary at or after the target offset.
+     */
+    private static long findBoundary(FileDownloader downloader, long size, long target,
+            RecordFormat format) {
+        if (target == 0 || target >= size) {
+            return target;
+        }
+        // Include the byte before the target, so that a record starting at the target is found
+        long probeStart = target - 1;
+        int probeSize = INITIAL_PROBE_SIZE;
+        while (true) {
+            final byte[] probe = new byte[(int) Math.min(probeSize, size - probeStart)];
+            final long offset = probeStart;
+            downloader.fetch(probeStart, probeStart + probe.length, new FileDownloader.RangeSink() {
+                @Override
+                public void write(long position, byte[] buffer, int length) {
+                    System.arraycopy(buffer, 0, probe, (int) (position - offset), length);
+                }
+            });
+            boolean atEnd = probeStart + probe.length == size;
+            int boundary = findBoundary(probe, format, atEnd);
+            if (boundary >= 0) {
+                return probeStart + boundary;
+            }
+            if (atEnd) {
+                return size;
+            }
+            Preconditions.checkState(probeSize <= Integer.MAX_VALUE / 2,
+                    "No record boundary found in " + probeSize + " bytes");
+            probeSize *= 2;
+        }
+    }
+
+    /**
+     * Returns the index of the first record boundary in a probe at an index of at least 1 (the
+     * byte at index 0 precedes the target), or -1 if the probe does not contain enough data to
+     * tell.
+     */
+    private static int findBoundary(byte[] probe, RecordFormat format, boolean atEnd) {
+        switch (format) {
+            case LINES:
+                return nextLineStart(probe, 1);
+            case FASTQ:
+                for (int line = nextLineStart(probe, 1); line >= 0; line = nextLineStart(probe,
+                        line + 1)) {
+                    int line2 = nextLineStart(probe, line + 1);
+                    int line3 = nextLineStart(probe, line2 + 1);
+                    int line4 = nextLineStart(probe, line3 + 1);
+                    int end = nextLineStart(probe, line4 + 1);
+                    if (line2 < 0 || line3 < 0 || line4 < 0 || end < 0 && !atEnd) {
+                        // The record is not complete in the probe
+                        return atEnd ? probe.length : -1;
+                    }
+                    if (end < 0) {
+                        // The last line of the file has no newline
+                        end = probe.length + 1;
+                    }
+                    if (probe[line] == '@' && probe[line3] == '+'
+                            && line3 - line2 == end - line4) {
+                        return line;
+                    }
+                }
+                return -1;
+            case BGZF:
+                for (int i = 1; i + Bgzf.HEADER_SIZE <= probe.length; ++i) {
+                    if (!Bgzf.isBlockHeader(probe, i, probe.length - i)) {
+                        continue;
+                    }
+                    int next = i + Bgzf.getBlockSize(probe, i);
+                    if (next == probe.length && atEnd
+                            || next < probe.length && Bgzf.isBlockHeader(probe, next,
+                                    probe.length - next)) {
+                        return i;
+                    }
+                    if (next + Bgzf.HEADER_SIZE > probe.length && !atEnd) {
+                        // The following block header is not in the probe
+                        return -1;
+                    }
+                }
+                return -1;
+            default:
+                throw new IllegalArgumentException("Unknown record format " + format);
+        }
+    }
+
+    /**
+     * Returns the index of the first line start at or after {@code from}, that is, the index
+     * after the first newline at or after {@code from - 1}, or -1 if there is none in the probe.
+     */
+    private static int nextLineStart(byte[] probe, int from) {
+        if (from <= 0) {
+            return -1;
+        }
+        for (int i = from - 1; i < probe.length; ++i) {
+            if (probe[i] == '\n') {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a shard of a file with the specified bounds, for example to read a shard that was
+     * computed by another job.
+     *
+     * @param file file
+     * @param start offset of the first byte of the shard
+     * @param end offset after the last byte of the shard
+     *
+     * @return shard
+     */
+    public static DXFileShard getInstance(DXFile file, long start, long end) {
+        Preconditions.checkNotNull(file, "file may not be null");
+        Preconditions.checkArgument(start >= 0 && end >= start, "Invalid range");
+        return new DXFileShard(file, start, end);
+    }
+
+    private final DXFile file;
+    private final long start;
+    private final long end;
+
+    private DXFileShard(DXFile file, long start, long end) {
+        this.file = file;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Returns the file of which this is a shard.
+     *
+     * @return file
+     */
+    public DXFile getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the offset of the first byte of the shard.
+     *
+     * @return start offset
+     */
+    public long getStart() {
+        return start;
+    }
+
+    /**
+     * Returns the offset after the last byte of the shard.
+     *
+     * @return end offset
+     */
+    public long getEnd() {
+        return end;
+    }
+
+    /**
+     * Returns the size of the shard in bytes.
+     *
+     * @return size
+     */
+    public long getSize() {
+        return end - start;
+    }
+
+    /**
+     * Opens a stream of the contents of the shard, using the default
+     * {@link DXFile.DownloadOptions}.
+     *
+     * @return stream of the bytes of the shard, which must be closed when no longer needed
+     *
+     * @see DXFile#openInputStream(long, long, DXFile.DownloadOptions)
+     */
+    public InputStream openInputStream() {
+        return openInputStream(DXFile.DownloadOptions.get());
+    }
+
+    /**
+     * Opens a stream of the contents of the shard, which is downloaded as it is read.
+     *
+     * @param options chunk size, read-ahead, and retry options
+     *
+     * @return stream of the bytes of the shard, which must be closed when no longer needed
+     *
+     * @see DXFile#openInputStream(long, long, DXFile.DownloadOptions)
+     */
+    public InputStream openInputStream(DXFile.DownloadOptions options) {
+        return file.openInputStream(start, end, options);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("file", file.getId()).add("start", start)
+                .add("end", end).toString();
+    }
+
+}
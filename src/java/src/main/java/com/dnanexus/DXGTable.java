@@ -280,15 +280,12 @@ public class DXGTable extends DXDataObject {
 
     @Override
     public Describe describe() {
-        return DXJSON.safeTreeToValue(apiCallOnObject("describe", RetryStrategy.SAFE_TO_RETRY),
-                Describe.class);
+        return apiCallOnObject("describe", RetryStrategy.SAFE_TO_RETRY, Describe.class);
     }
 
     @Override
     public Describe describe(DescribeOptions options) {
-        return DXJSON.safeTreeToValue(
-                apiCallOnObject("describe", MAPPER.valueToTree(options),
-                        RetryStrategy.SAFE_TO_RETRY), Describe.class);
+        return apiCallOnObject("describe", options, RetryStrategy.SAFE_TO_RETRY, Describe.class);
     }
 
     @Override
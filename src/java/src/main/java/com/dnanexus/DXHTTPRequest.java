@@ -17,40 +17,162 @@
 package com.dnanexus;
 
 import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
 import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
-import org.apache.http.HttpResponse;
 import org.apache.http.HttpStatus;
-import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
 import org.apache.http.entity.StringEntity;
-import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.util.EntityUtils;
 
+import com.dnanexus.AdmissionController.Outcome;
 import com.dnanexus.exceptions.DXAPIException;
 import com.dnanexus.exceptions.DXHTTPException;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingInputStream;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 /**
  * Class for making a raw DNAnexus API call via HTTP.
  */
 public class DXHTTPRequest {
     /**
-     * Holds either the raw text of a response or a parsed JSON version of it.
+     * Reads the body of a 200 OK response into the value returned to the caller.
      */
-    private static class ParsedResponse {
-        public final String responseText;
-        public final JsonNode responseJson;
+    private static interface ResponseReader<T> {
+        /**
+         * Reads the response body.
+         *
+         * @throws IOException If the body could not be read completely or is truncated, in which
+         *         case the request may be retried (if the route permits it).
+         */
+        T read(HttpEntity entity) throws IOException;
+    }
+
+    /**
+     * Returns the raw text of the response.
+     */
+    private static final ResponseReader<String> TEXT_READER = new ResponseReader<String>() {
+        @Override
+        public String read(HttpEntity entity) throws IOException {
+            byte[] value = EntityUtils.toByteArray(entity);
+            int realLength = value.length;
+            if (entity.getContentLength() >= 0 && realLength != entity.getContentLength()) {
+                // Content length mismatch. Retry is possible (if the route permits it).
+                throw new IOException("Received response of " + realLength
+                        + " bytes but Content-Length was " + entity.getContentLength());
+            }
+            return new String(value, Charset.forName("UTF-8"));
+        }
+    };
+
+    /**
+     * Deserializes the response straight from the response stream, without buffering the body or
+     * building an intermediate JSON tree.
+     */
+    private static class JsonResponseReader<T> implements ResponseReader<T> {
+        private final ObjectReader objectReader;
+
+        private JsonResponseReader(ObjectReader objectReader) {
+            this.objectReader = objectReader;
+        }
+
+        @Override
+        public T read(HttpEntity entity) throws IOException {
+            long contentLength = entity.getContentLength();
+            CountingInputStream content = new CountingInputStream(entity.getContent());
+            T value;
+            try {
+                value = objectReader.readValue(content);
+            } catch (JsonProcessingException e) {
+                // Read whatever the parser left behind, so that we can tell a truncated response
+                // from one that is complete but doesn't parse.
+                checkContentLength(content, contentLength);
+                if (!(e instanceof JsonParseException)) {
+                    // The response is valid JSON that cannot be bound to the requested class.
+                    throw new RuntimeException(e);
+                }
+                if (contentLength < 0) {
+                    // content-length was not provided, and the JSON could not be parsed. Retry
+                    // (if the route permits it) since this is probably just a streaming request
+                    // that encountered a transient error.
+                    throw new IOException(
+                            "Content-length was not provided and the response JSON could not be parsed.");
+                }
+                // This is probably a real problem (the request is complete but doesn't parse),
+                // so avoid masking it as an IOException (which is rethrown as DXHTTPException
+                // below). If it comes up frequently we can revisit how these should be handled.
+                throw new RuntimeException("Request is of the correct length but is unparseable",
+                        e);
+            }
+            checkContentLength(content, contentLength);
+            return value;
+        }
 
-        public ParsedResponse(String responseText, JsonNode responseJson) {
-            this.responseText = responseText;
-            this.responseJson = responseJson;
+        /**
+         * Consumes the rest of the response (which also lets the connection be reused) and checks
+         * that the number of bytes received matches the Content-Length header, if there was one.
+         */
+        private static void checkContentLength(CountingInputStream content, long contentLength)
+                throws IOException {
+            ByteStreams.copy(content, ByteStreams.nullOutputStream());
+            content.close();
+            long realLength = content.getCount();
+            if (contentLength >= 0 && realLength != contentLength) {
+                // Content length mismatch. Retry is possible (if the route permits it).
+                throw new IOException("Received response of " + realLength
+                        + " bytes but Content-Length was " + contentLength);
+            }
         }
     }
 
+    /**
+     * Mapper used to deserialize responses. The parser must not close the response stream when
+     * it is done, so that we can read and count any remaining bytes ourselves.
+     */
+    private static final ObjectMapper responseMapper = new ObjectMapper().configure(
+            JsonParser.Feature.AUTO_CLOSE_SOURCE, false);
+
+    /**
+     * One reader per output class, so that the deserializer for each class is looked up only
+     * once.
+     */
+    private static final ConcurrentMap<Class<?>, JsonResponseReader<?>> jsonReaders =
+            new ConcurrentHashMap<Class<?>, JsonResponseReader<?>>();
+
+    @SuppressWarnings("unchecked")
+    private static <T> ResponseReader<T> jsonReader(Class<T> valueType) {
+        JsonResponseReader<?> reader = jsonReaders.get(valueType);
+        if (reader == null) {
+            reader = new JsonResponseReader<T>(responseMapper.reader(valueType));
+            jsonReaders.putIfAbsent(valueType, reader);
+        }
+        return (ResponseReader<T>) reader;
+    }
+
     /**
      * Indicates whether a particular API request can be retried.
      *
@@ -85,14 +207,44 @@ public class DXHTTPRequest {
         }
     }
 
+    /**
+     * Internal exception used to indicate that the request yielded a 5xx error (other than 503),
+     * which is always retried regardless of the route's retry strategy.
+     */
+    @SuppressWarnings("serial")
+    private static class InternalServerErrorException extends IOException {
+        public InternalServerErrorException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Status code of 429 Too Many Requests, for which {@link HttpStatus} has no constant.
+     */
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+
+    /**
+     * Returns whether the specified failure of an attempt suggests that the API server is
+     * overloaded: a 5xx error, or a connection that could not be made or timed out. Other errors
+     * (such as a connection reset or a response that cannot be parsed) do not.
+     */
+    private static boolean indicatesCongestion(IOException e) {
+        if (e instanceof ConnectionPoolTimeoutException) {
+            // Waiting for one of our own pooled connections says nothing about the server
+            return false;
+        }
+        return e instanceof InternalServerErrorException || e instanceof ConnectException
+                || e instanceof ConnectTimeoutException || e instanceof SocketTimeoutException;
+    }
+
     /**
      * Sleeps for the specified amount of time. Throws a {@link RuntimeException} if interrupted.
      *
-     * @param seconds number of seconds to sleep for
+     * @param millis number of milliseconds to sleep for
      */
-    private static void sleep(int seconds) {
+    private static void sleep(long millis) {
         try {
-            Thread.sleep(seconds * 1000);
+            Thread.sleep(millis);
         } catch (InterruptedException e) {
             throw new RuntimeException(e);
         }
@@ -102,38 +254,62 @@ public class DXHTTPRequest {
 
     private final String apiserver;
 
-    private final HttpClient httpclient;
+    private final DXTransport transport;
 
-    private static final int NUM_RETRIES = 6;
+    private final Executor requestExecutor;
 
-    private static final DXEnvironment defaultEnv = DXEnvironment.create();
+    private final RetryPolicy retryPolicy;
 
-    private static final String USER_AGENT = DXUserAgent.getUserAgent();
+    private final AdmissionController admissionController;
+
+    private final List<APICallListener> apiCallListeners;
+
+    /**
+     * Schedules the retries of asynchronous requests. The timer thread only hands each retry back
+     * to the request executor, so a single thread is enough for all environments.
+     */
+    private static final ScheduledExecutorService retryScheduler = Executors
+            .newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setDaemon(true)
+                    .setNameFormat("dx-api-retry-scheduler").build());
+
+    private static String errorMessage(String method, String resource, String errorString) {
+        return method + " " + resource + ": " + errorString + ".";
+    }
 
     private static String errorMessage(String method, String resource, String errorString,
-            int retryWait, int nextRetryNum, int maxRetries) {
-        String baseError = method + " " + resource + ": " + errorString + ".";
-        if (nextRetryNum <= maxRetries) {
-            return baseError + "  Waiting " + retryWait + " seconds before retry " + nextRetryNum
-                    + " of " + maxRetries;
-        }
-        return baseError;
+            long retryWaitMillis, int nextRetryNum, int maxRetries) {
+        return errorMessage(method, resource, errorString) + "  Waiting "
+                + formatSeconds(retryWaitMillis) + " seconds before retry " + nextRetryNum + " of "
+                + maxRetries;
+    }
+
+    private static String formatSeconds(long millis) {
+        return String.format(Locale.ROOT, "%.3f", millis / 1000.0);
     }
 
     /**
      * Construct the DXHTTPRequest using the default DXEnvironment.
      */
     public DXHTTPRequest() {
-        this(defaultEnv);
+        this(DXEnvironment.getDefault());
     }
 
     /**
      * Construct the DXHTTPRequest using the given DXEnvironment.
+     *
+     * <p>
+     * Requests made with the same DXEnvironment share a pool of keep-alive connections, so
+     * constructing a DXHTTPRequest is cheap and does not by itself open any connections.
+     * </p>
      */
     public DXHTTPRequest(DXEnvironment env) {
         this.securityContext = env.getSecurityContextJson();
         this.apiserver = env.getApiserverPath();
-        this.httpclient = HttpClientBuilder.create().setUserAgent(USER_AGENT).build();
+        this.transport = env.getTransport();
+        this.requestExecutor = env.getRequestExecutor();
+        this.retryPolicy = env.getRetryPolicy();
+        this.admissionController = AdmissionController.forApiserver(apiserver);
+        this.apiCallListeners = env.getAPICallListeners();
     }
 
     /**
@@ -168,8 +344,36 @@ public class DXHTTPRequest {
      *         response (includes HTTP protocol errors).
      */
     public JsonNode request(String resource, JsonNode data, RetryStrategy retryStrategy) {
-        String dataAsString = data.toString();
-        return requestImpl(resource, dataAsString, true, retryStrategy).responseJson;
+        return requestImpl(resource, new JsonEntity(data), jsonReader(JsonNode.class),
+                retryStrategy);
+    }
+
+    /**
+     * Issues a request against the specified resource and deserializes the result to an object of
+     * the specified class.
+     *
+     * <p>
+     * The request payload is serialized directly onto the connection, and the response is
+     * deserialized directly from the response stream, which avoids buffering either of them and
+     * building intermediate {@code JsonNode} trees. The payload is serialized again if the request
+     * is retried, so it must not be modified until the call returns.
+     * </p>
+     *
+     * @param resource Name of resource, e.g. "/file-XXXX/describe"
+     * @param data Request payload (a {@code JsonNode}, or any object that can be serialized to
+     *        JSON)
+     * @param retryStrategy Indicates whether the request is idempotent and can be retried
+     * @param outputClass class to deserialize the server response to
+     *
+     * @throws DXAPIException If the server returns a complete response with an HTTP status code
+     *         other than 200 (OK).
+     * @throws DXHTTPException If an error occurs while making the HTTP request or obtaining the
+     *         response (includes HTTP protocol errors).
+     * @throws IllegalArgumentException If the request payload cannot be serialized to JSON.
+     */
+    public <T> T request(String resource, Object data, RetryStrategy retryStrategy,
+            Class<T> outputClass) {
+        return requestImpl(resource, new JsonEntity(data), jsonReader(outputClass), retryStrategy);
     }
 
     /**
@@ -204,20 +408,143 @@ public class DXHTTPRequest {
      *         response (includes HTTP protocol errors).
      */
     public String request(String resource, String data, RetryStrategy retryStrategy) {
-        return requestImpl(resource, data, false, retryStrategy).responseText;
+        return requestImpl(resource, new StringEntity(data, Charset.forName("UTF-8")), TEXT_READER,
+                retryStrategy);
     }
 
     /**
-     * Issues a request against the specified resource and returns either the text of the response
-     * or the parsed JSON of the response (depending on whether parseResponse is set).
+     * Issues a request against the specified resource without blocking, and returns a future for
+     * the result as a JSON object.
      *
-     * @throws DXAPIException If the server returns a complete response with an HTTP status code
-     *         other than 200 (OK).
-     * @throws DXHTTPException If an error occurs while making the HTTP request or obtaining the
-     *         response (includes HTTP protocol errors).
+     * <p>
+     * The request is made on a thread owned by the environment, and waits between retries are
+     * scheduled on a timer, so no thread is occupied while a request is waiting to be retried.
+     * The future fails with the same exceptions that {@link #request(String, JsonNode,
+     * RetryStrategy)} would throw.
+     * </p>
+     *
+     * @param resource Name of resource, e.g. "/file-XXXX/describe"
+     * @param data Request payload (to be converted to JSON)
+     * @param retryStrategy Indicates whether the request is idempotent and can be retried
+     *
+     * @return future for the server response parsed from JSON
      */
-    private ParsedResponse requestImpl(String resource, String data, boolean parseResponse,
+    public ListenableFuture<JsonNode> requestAsync(String resource, JsonNode data,
             RetryStrategy retryStrategy) {
+        return requestImplAsync(resource, new JsonEntity(data), jsonReader(JsonNode.class),
+                retryStrategy);
+    }
+
+    /**
+     * Issues a request against the specified resource without blocking, and returns a future for
+     * the result deserialized to an object of the specified class.
+     *
+     * <p>
+     * See {@link #requestAsync(String, JsonNode, RetryStrategy)} and {@link #request(String,
+     * Object, RetryStrategy, Class)} for details.
+     * </p>
+     *
+     * @param resource Name of resource, e.g. "/file-XXXX/describe"
+     * @param data Request payload (a {@code JsonNode}, or any object that can be serialized to
+     *        JSON)
+     * @param retryStrategy Indicates whether the request is idempotent and can be retried
+     * @param outputClass class to deserialize the server response to
+     *
+     * @return future for the deserialized server response
+     */
+    public <T> ListenableFuture<T> requestAsync(String resource, Object data,
+            RetryStrategy retryStrategy, Class<T> outputClass) {
+        return requestImplAsync(resource, new JsonEntity(data), jsonReader(outputClass),
+                retryStrategy);
+    }
+
+    /**
+     * Issues a request against the specified resource without blocking, and returns a future for
+     * the result as a String.
+     *
+     * <p>
+     * See {@link #requestAsync(String, JsonNode, RetryStrategy)} for details.
+     * </p>
+     *
+     * @param resource Name of resource, e.g. "/file-XXXX/describe"
+     * @param data Request payload (String to be sent verbatim)
+     * @param retryStrategy Indicates whether the request is idempotent and can be retried
+     *
+     * @return future for the text of the server response
+     */
+    public ListenableFuture<String> requestAsync(String resource, String data,
+            RetryStrategy retryStrategy) {
+        return requestImplAsync(resource, new StringEntity(data, Charset.forName("UTF-8")),
+                TEXT_READER, retryStrategy);
+    }
+
+    /**
+     * Interprets a complete response from the API server. Returns the body of a 200 OK response as
+     * read by the specified reader, and otherwise throws the exception that describes how the
+     * caller should proceed.
+     *
+     * @throws IOException If the request failed in a way that can be retried (if the route
+     *         permits it).
+     * @throws ServiceUnavailableException If the server asked us to retry after some time.
+     * @throws DXAPIException If the server returned a 4xx error.
+     */
+    private static <T> T handleResponse(CloseableHttpResponse response,
+            ResponseReader<T> responseReader) throws IOException, ServiceUnavailableException {
+        int statusCode = response.getStatusLine().getStatusCode();
+        HttpEntity entity = response.getEntity();
+
+        if (statusCode == HttpStatus.SC_OK) {
+            // 200 OK
+            return responseReader.read(entity);
+        } else if (statusCode < 500) {
+            // 4xx errors should be considered not recoverable.
+            String responseStr = EntityUtils.toString(entity);
+            String errorType = null;
+            String errorMessage = responseStr;
+            try {
+                JsonNode responseJson = DXJSON.parseJson(responseStr);
+                JsonNode errorField = responseJson.get("error");
+                if (errorField != null) {
+                    JsonNode typeField = errorField.get("type");
+                    if (typeField != null) {
+                        errorType = typeField.asText();
+                    }
+                    JsonNode messageField = errorField.get("message");
+                    if (messageField != null) {
+                        errorMessage = messageField.asText();
+                    }
+                }
+            } catch (IOException e) {
+                // Just fall back to reproducing the entire response
+                // body.
+            }
+
+            throw DXAPIException.getInstance(errorType, errorMessage, statusCode);
+        } else {
+            // 500 InternalError should get retried unconditionally
+            if (statusCode == 503) {
+                int retryAfterSeconds = 60;
+                Header retryAfterHeader = response.getFirstHeader("retry-after");
+                // Consume the response to avoid leaking resources
+                EntityUtils.consume(entity);
+                if (retryAfterHeader != null) {
+                    try {
+                        retryAfterSeconds = Integer.parseInt(retryAfterHeader.getValue());
+                    } catch (NumberFormatException e) {
+                        // Just fall back to the default
+                    }
+                }
+                throw new ServiceUnavailableException(retryAfterSeconds);
+            }
+            throw new InternalServerErrorException(EntityUtils.toString(entity));
+        }
+    }
+
+    /**
+     * Builds the POST request for the specified resource, with the authorization header for this
+     * environment. The entity must be repeatable so that the request can be retried.
+     */
+    private HttpPost buildRequest(String resource, HttpEntity entity) {
         HttpPost request = new HttpPost(apiserver + resource);
 
         if (securityContext == null || securityContext.isNull()) {
@@ -225,150 +552,333 @@ public class DXHTTPRequest {
         }
 
         request.setHeader("Content-Type", "application/json");
-        request.setHeader("Connection", "close");
         request.setHeader("Authorization", securityContext.get("auth_token_type").textValue() + " "
                 + securityContext.get("auth_token").textValue());
-        request.setEntity(new StringEntity(data, Charset.forName("UTF-8")));
+        request.setEntity(entity);
+        return request;
+    }
 
-        // Retry with exponential backoff
-        int timeoutSeconds = 1;
-        int attempts = 0;
+    /**
+     * Holds the state of a single API call across all of its attempts, and decides whether and
+     * when a failed attempt should be retried. This is shared by the blocking and asynchronous
+     * request paths, which differ only in how they wait between attempts.
+     */
+    private class Call<T> {
+        private final String resource;
+        private final HttpPost request;
+        private final ResponseReader<T> responseReader;
+        private final RetryStrategy retryStrategy;
+        private final CountingEntity requestEntity;
+
+        // Retry with jittered exponential backoff, as determined by the retry policy
+        private long previousDelayMillis = 0;
+        private int retries = 0;
+        private final long startNanos = System.nanoTime();
+
+        // Statistics reported to APIMetrics and listeners when the call completes
+        private int attempts = 0;
+        private int serverErrors = 0;
+        private int serviceUnavailableResponses = 0;
+        private long bytesReceived = 0;
+        private long backoffNanos = 0;
+
+        private Call(String resource, HttpEntity entity, ResponseReader<T> responseReader,
+                RetryStrategy retryStrategy) {
+            this.resource = resource;
+            this.requestEntity = new CountingEntity(entity);
+            this.request = buildRequest(resource, requestEntity);
+            this.responseReader = responseReader;
+            this.retryStrategy = retryStrategy;
+        }
 
-        while (true) {
-            // This guarantees that we get at least one iteration around this loop before running
-            // out of retries, so we can check at the bottom of the loop instead of the top.
-            assert NUM_RETRIES > 0;
+        /**
+         * Makes one attempt at the request.
+         *
+         * <p>
+         * Any IOException will cause the request to be retried (up to the number of retries
+         * allowed by the retry policy). RuntimeException (including DXAPIException) instances are
+         * not caught and will immediately return control to the caller.
+         * </p>
+         */
+        private T attempt() throws IOException, ServiceUnavailableException {
+            // TODO: distinguish between errors during connection init and socket errors while
+            // sending or receiving data. The former can always be retried, but the latter can
+            // only be retried if the request is idempotent.
+            admit();
+            attempts++;
+            long attemptStartNanos = System.nanoTime();
+            Outcome outcome = Outcome.SUCCESS;
+            try {
+                CloseableHttpResponse response = transport.execute(request);
+                CountingEntity responseEntity = null;
+                if (response.getEntity() != null) {
+                    responseEntity = new CountingEntity(response.getEntity());
+                    response.setEntity(responseEntity);
+                }
+                try {
+                    return handleResponse(response, responseReader);
+                } finally {
+                    // Returns the connection to the pool if the entity was fully consumed, and
+                    // discards it otherwise
+                    response.close();
+                    if (responseEntity != null) {
+                        bytesReceived += responseEntity.getCount();
+                    }
+                }
+            } catch (ServiceUnavailableException e) {
+                outcome = Outcome.SERVICE_UNAVAILABLE;
+                serviceUnavailableResponses++;
+                throw e;
+            } catch (IOException e) {
+                outcome = indicatesCongestion(e) ? Outcome.ERROR : Outcome.OTHER_FAILURE;
+                if (e instanceof InternalServerErrorException) {
+                    serverErrors++;
+                }
+                throw e;
+            } catch (DXAPIException e) {
+                if (e.getStatusCode() == HTTP_TOO_MANY_REQUESTS) {
+                    outcome = Outcome.ERROR;
+                }
+                throw e;
+            } finally {
+                admissionController.release(outcome, APICallStats.getRoute(resource),
+                        System.nanoTime() - attemptStartNanos);
+            }
+        }
+
+        /**
+         * Waits until the admission controller allows another request to the API server.
+         *
+         * @throws DXHTTPException if the wait would exceed the maximum elapsed time
+         */
+        private void admit() {
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            long remainingMillis = retryPolicy.getMaxElapsedTimeMillis() - elapsedMillis;
+            long admitStartNanos = System.nanoTime();
+            try {
+                if (!admissionController.acquire(remainingMillis, TimeUnit.MILLISECONDS)) {
+                    throw new DXHTTPException(new IOException(
+                            "Timed out waiting for the API server to accept more requests"));
+                }
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            } finally {
+                backoffNanos += System.nanoTime() - admitStartNanos;
+            }
+        }
+
+        /**
+         * Records that the call will wait for the specified time before its next attempt.
+         */
+        private long backOff(long millis) {
+            backoffNanos += TimeUnit.MILLISECONDS.toNanos(millis);
+            return millis;
+        }
+
+        /**
+         * Reports the completed call to {@link APIMetrics} and the environment's listeners. Must
+         * be called exactly once, after the last attempt.
+         */
+        private void finish(boolean successful) {
+            APICallStats stats = new APICallStats(resource, successful, attempts, serverErrors,
+                    serviceUnavailableResponses, requestEntity.getCount(), bytesReceived,
+                    System.nanoTime() - startNanos, backoffNanos);
+            APIMetrics.getInstance().record(stats);
+            for (APICallListener listener : apiCallListeners) {
+                try {
+                    listener.callCompleted(stats);
+                } catch (RuntimeException e) {
+                    System.err.println("API call listener " + listener + " failed: " + e);
+                }
+            }
+        }
+
+        /**
+         * Returns whether waiting for the specified time before retrying would keep the call
+         * within the maximum elapsed time allowed by the retry policy.
+         */
+        private boolean isWithinDeadline(long delayMillis) {
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            return retryPolicy.getMaxElapsedTimeMillis() - elapsedMillis >= delayMillis;
+        }
 
+        /**
+         * Returns the number of milliseconds to wait before retrying after a 503 Service
+         * Unavailable.
+         *
+         * @throws DXHTTPException if waiting would exceed the maximum elapsed time
+         */
+        private long onServiceUnavailable(ServiceUnavailableException e) {
+            // Retries due to 503 Service Unavailable and Retry-After do NOT count against the
+            // allowed number of retries.
+            long millisToWait = retryPolicy.getServiceUnavailableDelayMillis(
+                    e.secondsToWaitForRetry);
+            // Hold back all other requests to the same server for the same amount of time, rather
+            // than letting them collect 503s of their own.
+            admissionController.pause(millisToWait);
+            if (!isWithinDeadline(millisToWait)) {
+                System.err.println("POST " + resource
+                        + ": 503 Service Unavailable, giving up after "
+                        + formatSeconds(TimeUnit.NANOSECONDS.toMillis(System.nanoTime()
+                                - startNanos)) + " seconds");
+                throw new DXHTTPException(new IOException("503 Service Unavailable"));
+            }
+            System.err.println("POST " + resource + ": 503 Service Unavailable, waiting for "
+                    + formatSeconds(millisToWait) + " seconds");
+            return backOff(millisToWait);
+        }
+
+        /**
+         * Returns the number of milliseconds to wait before retrying after the specified error.
+         *
+         * @throws DXHTTPException if the request may not be retried or has run out of retries
+         */
+        private long onIOException(IOException e) {
             // By default, our conservative strategy is to retry if the route permits it. Later we
             // may update this to unconditionally retry if we can definitely determine that the
             // server never saw the request.
             boolean retryRequest = (retryStrategy == RetryStrategy.SAFE_TO_RETRY);
 
-            try {
-                // In this block, any IOException will cause the request to be retried (up to a
-                // total of NUM_RETRIES retries). RuntimeException (including DXAPIException)
-                // instances are not caught and will immediately return control to the caller.
-
-                // TODO: distinguish between errors during connection init and socket errors while
-                // sending or receiving data. The former can always be retried, but the latter can
-                // only be retried if the request is idempotent.
-                HttpResponse response = httpclient.execute(request);
-
-                int statusCode = response.getStatusLine().getStatusCode();
-                HttpEntity entity = response.getEntity();
-
-                if (statusCode == HttpStatus.SC_OK) {
-                    // 200 OK
-                    byte[] value = EntityUtils.toByteArray(entity);
-                    int realLength = value.length;
-                    if (entity.getContentLength() >= 0 && realLength != entity.getContentLength()) {
-                        // Content length mismatch. Retry is possible (if the route permits it).
-                        throw new IOException("Received response of " + realLength
-                                + " bytes but Content-Length was " + entity.getContentLength());
-                    } else if (parseResponse) {
-                        JsonNode responseJson = null;
-                        try {
-                            responseJson = DXJSON.parseJson(new String(value, "UTF-8"));
-                        } catch (JsonProcessingException e) {
-                            if (entity.getContentLength() < 0) {
-                                // content-length was not provided, and the JSON could not be
-                                // parsed. Retry (if the route permits it) since this is probably
-                                // just a streaming request that encountered a transient error.
-                                throw new IOException(
-                                        "Content-length was not provided and the response JSON could not be parsed.");
-                            }
-                            // This is probably a real problem (the request
-                            // is complete but doesn't parse), so avoid
-                            // masking it as an IOException (which is
-                            // rethrown as DXHTTPException below). If it
-                            // comes up frequently we can revisit how these
-                            // should be handled.
-                            throw new RuntimeException(
-                                    "Request is of the correct length but is unparseable", e);
-                        } catch (IOException e) {
-                            // TODO: characterize what kinds of errors
-                            // DXJSON.parseJson can emit, determine how we can
-                            // get here and what to do about it.
-                            throw new RuntimeException(e);
-                        }
-                        return new ParsedResponse(null, responseJson);
-                    } else {
-                        return new ParsedResponse(new String(value, Charset.forName("UTF-8")), null);
-                    }
-                } else if (statusCode < 500) {
-                    // 4xx errors should be considered not recoverable.
-                    String responseStr = EntityUtils.toString(entity);
-                    String errorType = null;
-                    String errorMessage = responseStr;
-                    try {
-                        JsonNode responseJson = DXJSON.parseJson(responseStr);
-                        JsonNode errorField = responseJson.get("error");
-                        if (errorField != null) {
-                            JsonNode typeField = errorField.get("type");
-                            if (typeField != null) {
-                                errorType = typeField.asText();
-                            }
-                            JsonNode messageField = errorField.get("message");
-                            if (messageField != null) {
-                                errorMessage = messageField.asText();
-                            }
-                        }
-                    } catch (IOException e) {
-                        // Just fall back to reproducing the entire response
-                        // body.
-                    }
+            // Note, this catches both exceptions directly thrown from transport.execute (e.g. no
+            // connectivity to server) and exceptions thrown by handleResponse after parsing the
+            // response.
+            if (e instanceof InternalServerErrorException) {
+                retryRequest = true;
+            }
 
-                    throw DXAPIException.getInstance(errorType, errorMessage, statusCode);
-                } else {
-                    // 500 InternalError should get retried unconditionally
-                    retryRequest = true;
-                    if (statusCode == 503) {
-                        int retryAfterSeconds = 60;
-                        Header retryAfterHeader = response.getFirstHeader("retry-after");
-                        // Consume the response to avoid leaking resources
-                        EntityUtils.consume(entity);
-                        if (retryAfterHeader != null) {
-                            try {
-                                retryAfterSeconds = Integer.parseInt(retryAfterHeader.getValue());
-                            } catch (NumberFormatException e) {
-                                // Just fall back to the default
-                            }
-                        }
-                        throw new ServiceUnavailableException(retryAfterSeconds);
-                    }
-                    throw new IOException(EntityUtils.toString(entity));
-                }
-            } catch (ServiceUnavailableException e) {
-                // Retries due to 503 Service Unavailable and Retry-After do NOT count against the
-                // allowed number of retries.
-                int secondsToWait = e.secondsToWaitForRetry;
-                System.err.println("POST " + resource + ": 503 Service Unavailable, waiting for "
-                        + Integer.toString(secondsToWait) + " seconds");
-                sleep(secondsToWait);
-                continue;
-            } catch (IOException e) {
-                // Note, this catches both exceptions directly thrown from httpclient.execute (e.g.
-                // no connectivity to server) and exceptions thrown by our code above after parsing
-                // the response.
-                System.err.println(errorMessage("POST", resource, e.toString(), timeoutSeconds,
-                        attempts + 1, NUM_RETRIES));
-                if (attempts == NUM_RETRIES || !retryRequest) {
-                    throw new DXHTTPException(e);
+            long millisToWait = retryPolicy.getRetryDelayMillis(retryStrategy, previousDelayMillis);
+            if (retries >= retryPolicy.getMaxRetries() || !retryRequest
+                    || !isWithinDeadline(millisToWait)) {
+                System.err.println(errorMessage("POST", resource, e.toString()));
+                throw new DXHTTPException(e);
+            }
+
+            // The number of failed attempts is less than the number of retries allowed, so there
+            // is at least one more retry left; wait before we retry.
+            retries++;
+            previousDelayMillis = millisToWait;
+            System.err.println(errorMessage("POST", resource, e.toString(), millisToWait, retries,
+                    retryPolicy.getMaxRetries()));
+            return backOff(millisToWait);
+        }
+    }
+
+    /**
+     * Makes the attempts of an asynchronous call. Each attempt runs on the environment's request
+     * executor, where it blocks while it waits for admission and for the response; waits between
+     * attempts are scheduled on a timer rather than blocking a thread.
+     */
+    private class AsyncAttempt<T> implements Runnable {
+        private final Call<T> call;
+        private final SettableFuture<T> result;
+
+        private AsyncAttempt(Call<T> call, SettableFuture<T> result) {
+            this.call = call;
+            this.result = result;
+        }
+
+        @Override
+        public void run() {
+            if (result.isDone()) {
+                // Cancelled while waiting for a retry
+                call.finish(false);
+                return;
+            }
+            long pauseMillis = admissionController.getPauseMillis();
+            if (pauseMillis > 0) {
+                // Wait for the server to accept requests again without occupying a thread. This
+                // does not count as an attempt.
+                retryAfter(call.backOff(pauseMillis));
+                return;
+            }
+            long millisToWait;
+            try {
+                try {
+                    T value = call.attempt();
+                    call.finish(true);
+                    result.set(value);
+                    return;
+                } catch (ServiceUnavailableException e) {
+                    millisToWait = call.onServiceUnavailable(e);
+                } catch (IOException e) {
+                    millisToWait = call.onIOException(e);
                 }
+            } catch (Throwable e) {
+                fail(e);
+                return;
             }
+            retryAfter(millisToWait);
+        }
 
-            assert attempts < NUM_RETRIES;
-            assert retryRequest;
+        private void fail(Throwable e) {
+            call.finish(false);
+            result.setException(e);
+        }
 
-            attempts++;
+        private void retryAfter(long millis) {
+            retryScheduler.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    submit();
+                }
+            }, millis, TimeUnit.MILLISECONDS);
+        }
 
-            // The number of failed attempts is now no more than NUM_RETRIES, and the total number
-            // of attempts allowed is NUM_RETRIES + 1 (the first attempt, plus up to NUM_RETRIES
-            // retries). So there is at least one more retry left; sleep before we retry.
-            assert attempts <= NUM_RETRIES;
+        private void submit() {
+            try {
+                requestExecutor.execute(this);
+            } catch (RejectedExecutionException e) {
+                fail(e);
+            }
+        }
+    }
 
-            sleep(timeoutSeconds);
-            timeoutSeconds *= 2;
+    /**
+     * Issues a request against the specified resource and returns the response as read by the
+     * specified reader.
+     *
+     * @throws DXAPIException If the server returns a complete response with an HTTP status code
+     *         other than 200 (OK).
+     * @throws DXHTTPException If an error occurs while making the HTTP request or obtaining the
+     *         response (includes HTTP protocol errors).
+     */
+    private <T> T requestImpl(String resource, HttpEntity entity,
+            ResponseReader<T> responseReader, RetryStrategy retryStrategy) {
+        Call<T> call = new Call<T>(resource, entity, responseReader, retryStrategy);
+        boolean successful = false;
+        try {
+            while (true) {
+                try {
+                    T value = call.attempt();
+                    successful = true;
+                    return value;
+                } catch (ServiceUnavailableException e) {
+                    sleep(call.onServiceUnavailable(e));
+                } catch (IOException e) {
+                    sleep(call.onIOException(e));
+                }
+            }
+        } finally {
+            call.finish(successful);
+        }
+    }
+
+    /**
+     * Asynchronous version of {@link #requestImpl(String, HttpEntity, ResponseReader,
+     * RetryStrategy)}.
+     * The returned future fails with the exception that requestImpl would have thrown.
+     */
+    private <T> ListenableFuture<T> requestImplAsync(String resource, HttpEntity entity,
+            ResponseReader<T> responseReader, RetryStrategy retryStrategy) {
+        SettableFuture<T> result = SettableFuture.create();
+        Call<T> call;
+        try {
+            call = new Call<T>(resource, entity, responseReader, retryStrategy);
+        } catch (DXHTTPException e) {
+            result.setException(e);
+            return result;
         }
+        new AsyncAttempt<T>(call, result).submit();
+        return result;
     }
 }
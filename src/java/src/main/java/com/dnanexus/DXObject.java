@@ -37,8 +37,6 @@ public abstract class DXObject {
 
     protected static final ObjectMapper MAPPER = new ObjectMapper();
 
-    private static final DXEnvironment DEFAULT_ENVIRONMENT = DXEnvironment.create();
-
     private static final Pattern CLASS_NAME_RE = Pattern.compile("^[a-z]+$");
 
     /**
@@ -70,7 +68,7 @@ public abstract class DXObject {
                     + regexp);
         }
         if (env == null) {
-            this.env = DEFAULT_ENVIRONMENT;
+            this.env = DXEnvironment.getDefault();
         } else {
             this.env = env;
         }
@@ -100,6 +98,37 @@ public abstract class DXObject {
         return new DXHTTPRequest(env).request("/" + this.dxId + "/" + method, input, retryStrategy);
     }
 
+    /**
+     * Calls the specified API method on this object (with the specified input hash) and
+     * deserializes its result to an object of the specified class. The input is serialized and
+     * the response is deserialized directly on the connection, without building intermediate JSON
+     * trees.
+     *
+     * @param method Name of method, e.g. "describe"
+     * @param input Request payload (a {@code JsonNode}, or any object that can be serialized to
+     *        JSON)
+     * @param retryStrategy Indicates whether the request is idempotent and can be retried
+     * @param outputClass class to deserialize the server response to
+     */
+    protected <T> T apiCallOnObject(String method, Object input, RetryStrategy retryStrategy,
+            Class<T> outputClass) {
+        return new DXHTTPRequest(env).request("/" + this.dxId + "/" + method, input,
+                retryStrategy, outputClass);
+    }
+
+    /**
+     * Calls the specified API method on this object (with an empty input hash) and deserializes
+     * its result to an object of the specified class.
+     *
+     * @param method Name of method, e.g. "describe"
+     * @param retryStrategy Indicates whether the request is idempotent and can be retried
+     * @param outputClass class to deserialize the server response to
+     */
+    protected <T> T apiCallOnObject(String method, RetryStrategy retryStrategy,
+            Class<T> outputClass) {
+        return apiCallOnObject(method, MAPPER.createObjectNode(), retryStrategy, outputClass);
+    }
+
     /**
      * Calls the specified API method on this object (with an empty input hash) and returns its
      * result. Subclasses can use this method to call API methods with the correct object ID and
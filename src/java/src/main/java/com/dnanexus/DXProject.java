@@ -74,7 +74,7 @@ public class DXProject extends DXContainer {
         private final DXEnvironment env;
 
         private Builder() {
-            this.env = DXEnvironment.create();
+            this.env = DXEnvironment.getDefault();
         }
 
         private Builder(DXEnvironment env) {
@@ -197,8 +197,7 @@ public class DXProject extends DXContainer {
      * @return a {@code Describe} object containing metadata
      */
     public Describe describe() {
-        return DXJSON.safeTreeToValue(apiCallOnObject("describe", RetryStrategy.SAFE_TO_RETRY),
-                Describe.class);
+        return apiCallOnObject("describe", RetryStrategy.SAFE_TO_RETRY, Describe.class);
     }
 
     /**
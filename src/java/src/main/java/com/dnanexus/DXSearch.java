@@ -237,7 +237,7 @@ public final class DXSearch {
         private final DXEnvironment env;
 
         private FindDataObjectsRequestBuilder() {
-            this.env = DXEnvironment.create();
+            this.env = DXEnvironment.getDefault();
         }
 
         private FindDataObjectsRequestBuilder(DXEnvironment env) {
@@ -1162,7 +1162,7 @@ public final class DXSearch {
         private final DXEnvironment env;
 
         private FindExecutionsRequestBuilder() {
-            this.env = DXEnvironment.create();
+            this.env = DXEnvironment.getDefault();
         }
 
         private FindExecutionsRequestBuilder(DXEnvironment env) {
@@ -0,0 +1,636 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.HttpEntityWrapper;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Uploads and downloads many files, with a global limit on the number of files transferred at
+ * the same time and, optionally, on the total bandwidth used.
+ *
+ * <p>
+ * Transfers are queued as they are submitted and started smallest file first, so that a batch of
+ * many small files and a few large ones does not leave the small files waiting behind the large
+ * ones. Every transfer made through a manager sends its requests through the transport of the
+ * manager's environment, so they share its connection pool, and uses the environment's cache of
+ * download URLs and its download thread pool.
+ * </p>
+ *
+ * <p>
+ * Example:
+ * </p>
+ *
+ * <pre>
+ * try (DXTransferManager manager = DXTransferManager.Builder.fromEnvironment(env)
+ *         .setMaxConcurrentTransfers(16).addProgressListener(listener).build()) {
+ *     for (Path fastq : fastqs) {
+ *         manager.upload(fastq, DXFile.newFile().setProject(project)
+ *                 .setName(fastq.getFileName().toString()));
+ *     }
+ * } // Waits for all uploads to finish
+ * </pre>
+ *
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ */
+public class DXTransferManager implements Closeable {
+
+    /**
+     * Builder class for creating a {@code DXTransferManager}.
+     */
+    public static class Builder {
+        /**
+         * Creates a Builder object for a transfer manager that makes its requests with the
+         * specified environment.
+         *
+         * @param env environment
+         *
+         * @return new Builder object
+         */
+        public static Builder fromEnvironment(DXEnvironment env) {
+            return new Builder(env);
+        }
+
+        private final DXEnvironment env;
+        private int maxConcurrentTransfers = 8;
+        private long maxBytesPerSecond = 0;
+        private long progressInterval = 1000;
+        private DXFile.UploadOptions uploadOptions = DXFile.UploadOptions.get();
+        private DXFile.DownloadOptions downloadOptions = DXFile.DownloadOptions.get();
+        private final List<ProgressListener> progressListeners = Lists.newArrayList();
+
+        private Builder(DXEnvironment env) {
+            this.env = Preconditions.checkNotNull(env, "env may not be null");
+        }
+
+        /**
+         * Adds a listener that is notified of the progress of the transfers.
+         *
+         * @param listener progress listener
+         *
+         * @return the same Builder object
+         */
+        public Builder addProgressListener(ProgressListener listener) {
+            progressListeners.add(Preconditions.checkNotNull(listener, "listener may not be null"));
+            return this;
+        }
+
+        /**
+         * Creates the transfer manager.
+         *
+         * @return transfer manager, which must be closed when no longer needed
+         */
+        public DXTransferManager build() {
+            return new DXTransferManager(this);
+        }
+
+        /**
+         * Sets the options of each download (default: {@link DXFile.DownloadOptions#get()}).
+         *
+         * @param options download options
+         *
+         * @return the same Builder object
+         */
+        public Builder setDownloadOptions(DXFile.DownloadOptions options) {
+            this.downloadOptions = Preconditions.checkNotNull(options, "options may not be null");
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of bytes sent and received per second by all transfers
+         * together (default: unlimited).
+         *
+         * @param maxBytesPerSecond bandwidth limit, or 0 for no limit
+         *
+         * @return the same Builder object
+         */
+        public Builder setMaxBytesPerSecond(long maxBytesPerSecond) {
+            Preconditions.checkArgument(maxBytesPerSecond >= 0,
+                    "maxBytesPerSecond may not be negative");
+            this.maxBytesPerSecond = maxBytesPerSecond;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of files transferred at the same time (default: 8). Each file
+         * may itself be transferred in several parts or chunks at once, as its upload or download
+         * options specify.
+         *
+         * @param maxConcurrentTransfers number of files, at least 1
+         *
+         * @return the same Builder object
+         */
+        public Builder setMaxConcurrentTransfers(int maxConcurrentTransfers) {
+            Preconditions.checkArgument(maxConcurrentTransfers >= 1,
+                    "maxConcurrentTransfers must be positive");
+            this.maxConcurrentTransfers = maxConcurrentTransfers;
+            return this;
+        }
+
+        /**
+         * Sets the minimum time between progress notifications made while data is being
+         * transferred (default: 1 second). Listeners are also notified whenever a transfer
+         * completes or fails.
+         *
+         * @param interval minimum time between notifications
+         * @param unit unit of {@code interval}
+         *
+         * @return the same Builder object
+         */
+        public Builder setProgressInterval(long interval, TimeUnit unit) {
+            Preconditions.checkArgument(interval >= 0, "interval may not be negative");
+            this.progressInterval = unit.toMillis(interval);
+            return this;
+        }
+
+        /**
+         * Sets the options of each upload (default: {@link DXFile.UploadOptions#get()}).
+         *
+         * @param options upload options
+         *
+         * @return the same Builder object
+         */
+        public Builder setUploadOptions(DXFile.UploadOptions options) {
+            this.uploadOptions = Preconditions.checkNotNull(options, "options may not be null");
+            return this;
+        }
+    }
+
+    /**
+     * Snapshot of the progress of the transfers submitted to a manager.
+     */
+    public static class Progress {
+        private final long submittedTransfers;
+        private final long completedTransfers;
+        private final long failedTransfers;
+        private final long submittedBytes;
+        private final long transferredBytes;
+        private final long elapsedNanos;
+
+        private Progress(long submittedTransfers, long completedTransfers, long failedTransfers,
+                long submittedBytes, long transferredBytes, long elapsedNanos) {
+            this.submittedTransfers = submittedTransfers;
+            this.completedTransfers = completedTransfers;
+            this.failedTransfers = failedTransfers;
+            this.submittedBytes = submittedBytes;
+            this.transferredBytes = transferredBytes;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * Returns the number of transfers submitted.
+         *
+         * @return number of transfers
+         */
+        public long getSubmittedTransfers() {
+            return submittedTransfers;
+        }
+
+        /**
+         * Returns the number of transfers that have completed successfully.
+         *
+         * @return number of transfers
+         */
+        public long getCompletedTransfers() {
+            return completedTransfers;
+        }
+
+        /**
+         * Returns the number of transfers that have failed.
+         *
+         * @return number of transfers
+         */
+        public long getFailedTransfers() {
+            return failedTransfers;
+        }
+
+        /**
+         * Returns the total size of the files submitted.
+         *
+         * @return number of bytes
+         */
+        public long getSubmittedBytes() {
+            return submittedBytes;
+        }
+
+        /**
+         * Returns the number of bytes of file data sent and received so far. Data that is sent
+         * again when a part or chunk is retried is counted again.
+         *
+         * @return number of bytes
+         */
+        public long getTransferredBytes() {
+            return transferredBytes;
+        }
+
+        /**
+         * Returns the time elapsed since the manager was created.
+         *
+         * @param unit unit of the returned value
+         *
+         * @return elapsed time
+         */
+        public long getElapsedTime(TimeUnit unit) {
+            return unit.convert(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Returns the average throughput since the manager was created.
+         *
+         * @return bytes per second
+         */
+        public double getBytesPerSecond() {
+            return (elapsedNanos == 0) ? 0 : transferredBytes * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this).add("submittedTransfers", submittedTransfers)
+                    .add("completedTransfers", completedTransfers)
+                    .add("failedTransfers", failedTransfers).add("submittedBytes", submittedBytes)
+                    .add("transferredBytes", transferredBytes)
+                    .add("bytesPerSecond", (long) getBytesPerSecond()).toString();
+        }
+    }
+
+    /**
+     * Receives the progress of the transfers made by a manager.
+     *
+     * <p>
+     * Listeners are called on the threads that perform the transfers, so they should return
+     * quickly and must be thread-safe. Exceptions thrown by a listener are reported to stderr and
+     * otherwise ignored.
+     * </p>
+     */
+    public interface ProgressListener {
+        /**
+         * Called periodically while data is being transferred, and whenever a transfer completes
+         * or fails.
+         *
+         * @param progress progress of all transfers submitted to the manager
+         */
+        void progressUpdated(Progress progress);
+    }
+
+    /**
+     * A queued transfer. Transfers of smaller files are started first; transfers of files of the
+     * same size are started in the order in which they were submitted.
+     */
+    private abstract class Transfer<T> implements Runnable, Comparable<Transfer<?>> {
+        private final long size;
+        private final long sequence = nextSequence.getAndIncrement();
+        private final SettableFuture<T> future = SettableFuture.create();
+
+        private Transfer(long size) {
+            this.size = size;
+        }
+
+        abstract T transfer() throws IOException;
+
+        @Override
+        public void run() {
+            if (future.isCancelled()) {
+                return;
+            }
+            try {
+                T result = transfer();
+                completedTransfers.incrementAndGet();
+                future.set(result);
+            } catch (Throwable e) {
+                failedTransfers.incrementAndGet();
+                future.setException(e);
+            }
+            notifyProgressListeners();
+        }
+
+        @Override
+        public int compareTo(Transfer<?> other) {
+            if (size != other.size) {
+                return (size < other.size) ? -1 : 1;
+            }
+            return (sequence < other.sequence) ? -1 : (sequence == other.sequence ? 0 : 1);
+        }
+    }
+
+    /**
+     * Transport through which transfers are made. It counts (and, if there is a bandwidth limit,
+     * throttles) the data of requests to upload URLs and responses from download URLs, passing API
+     * calls through unchanged.
+     */
+    private class MeteredTransport implements DXTransport {
+        private final DXTransport transport;
+
+        private MeteredTransport(DXTransport transport) {
+            this.transport = transport;
+        }
+
+        @Override
+        public CloseableHttpResponse execute(HttpUriRequest request) throws IOException {
+            if (request.getMethod().equals("PUT") && request instanceof HttpEntityEnclosingRequest) {
+                HttpEntityEnclosingRequest upload = (HttpEntityEnclosingRequest) request;
+                if (upload.getEntity() != null) {
+                    upload.setEntity(new HttpEntityWrapper(upload.getEntity()) {
+                        @Override
+                        public void writeTo(OutputStream out) throws IOException {
+                            super.writeTo(new MeteredOutputStream(out));
+                        }
+                    });
+                }
+            }
+            CloseableHttpResponse response = transport.execute(request);
+            final HttpEntity entity = response.getEntity();
+            if (request.getMethod().equals("GET") && entity != null) {
+                response.setEntity(new HttpEntityWrapper(entity) {
+                    @Override
+                    public InputStream getContent() throws IOException {
+                        return new MeteredInputStream(entity.getContent());
+                    }
+                });
+            }
+            return response;
+        }
+
+        @Override
+        public void close() {
+            // The underlying transport belongs to the environment
+        }
+    }
+
+    private class MeteredOutputStream extends FilterOutputStream {
+        private MeteredOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            meter(1);
+            out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            // Meter large writes in pieces, so that the bandwidth limit is applied smoothly
+            while (len > 0) {
+                int n = Math.min(len, METERING_UNIT);
+                meter(n);
+                out.write(b, off, n);
+                off += n;
+                len -= n;
+            }
+        }
+    }
+
+    private class MeteredInputStream extends FilterInputStream {
+        private MeteredInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            if (b >= 0) {
+                meter(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = in.read(b, off, Math.min(len, METERING_UNIT));
+            if (n > 0) {
+                meter(n);
+            }
+            return n;
+        }
+    }
+
+    /**
+     * Largest number of bytes metered at once.
+     */
+    private static final int METERING_UNIT = 64 * 1024;
+
+    private final DXEnvironment env;
+    private final DXFile.UploadOptions uploadOptions;
+    private final DXFile.DownloadOptions downloadOptions;
+    private final List<ProgressListener> progressListeners;
+    private final long progressIntervalNanos;
+    private final RateLimiter rateLimiter;
+    private final ThreadPoolExecutor executor;
+    private final long startNanos = System.nanoTime();
+
+    private final AtomicLong nextSequence = new AtomicLong();
+    private final AtomicLong submittedTransfers = new AtomicLong();
+    private final AtomicLong completedTransfers = new AtomicLong();
+    private final AtomicLong failedTransfers = new AtomicLong();
+    private final AtomicLong submittedBytes = new AtomicLong();
+    private final AtomicLong transferredBytes = new AtomicLong();
+    private final AtomicLong lastNotificationNanos = new AtomicLong(startNanos);
+
+    private DXTransferManager(Builder builder) {
+        this.env = builder.env.withTransport(new MeteredTransport(builder.env.getTransport()));
+        this.uploadOptions = builder.uploadOptions;
+        this.downloadOptions = builder.downloadOptions;
+        this.progressListeners = ImmutableList.copyOf(builder.progressListeners);
+        this.progressIntervalNanos = TimeUnit.MILLISECONDS.toNanos(builder.progressInterval);
+        this.rateLimiter = (builder.maxBytesPerSecond == 0) ? null : RateLimiter
+                .create(builder.maxBytesPerSecond);
+        this.executor = new ThreadPoolExecutor(builder.maxConcurrentTransfers,
+                builder.maxConcurrentTransfers, 0, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<Runnable>(), new ThreadFactoryBuilder().setDaemon(true)
+                        .setNameFormat("dx-transfer-manager-%d").build());
+    }
+
+    /**
+     * Queues the upload of a local file to a new file.
+     *
+     * <p>
+     * When the upload starts, the file is created with the specified builder (which must not have
+     * data to upload set), the contents of the local file are uploaded to it, and it is closed.
+     * The returned future completes once the file has been closed (which may be before it is in
+     * the "closed" state).
+     * </p>
+     *
+     * @param source local file
+     * @param builder builder with which to create the file
+     *
+     * @return future of the new file
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if the manager has been closed
+     */
+    public ListenableFuture<DXFile> upload(final Path source, final DXFile.Builder builder) {
+        Preconditions.checkNotNull(source, "source may not be null");
+        Preconditions.checkNotNull(builder, "builder may not be null");
+        long size;
+        try {
+            size = Files.size(source);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return submit(new Transfer<DXFile>(size) {
+            @Override
+            DXFile transfer() {
+                DXFile file = withEnvironment(builder.build());
+                file.upload(source, uploadOptions);
+                return file.close();
+            }
+        });
+    }
+
+    /**
+     * Queues the download of a file to a local path. The local file is created if necessary, and
+     * overwritten if it exists.
+     *
+     * <p>
+     * The size of the file is taken from its cached describe data if that includes it (for
+     * example, if it was found with {@link DXSearch} with describe output included); otherwise it
+     * is described before this method returns.
+     * </p>
+     *
+     * @param file file, which must be closed
+     * @param destination local path
+     *
+     * @return future of the local path, which completes when the download has completed
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if the manager has been closed
+     */
+    public ListenableFuture<Path> download(DXFile file, final Path destination) {
+        Preconditions.checkNotNull(file, "file may not be null");
+        Preconditions.checkNotNull(destination, "destination may not be null");
+        final DXFile source = withEnvironment(file);
+        long cachedSize;
+        try {
+            cachedSize = file.getCachedDescribe().getSize();
+        } catch (IllegalStateException e) {
+            cachedSize = source.describe(
+                    DXDataObject.DescribeOptions.get().withCustomFields("size")).getSize();
+        }
+        final long size = cachedSize;
+        return submit(new Transfer<Path>(size) {
+            @Override
+            Path transfer() {
+                source.downloadTo(destination, downloadOptions, size);
+                return destination;
+            }
+        });
+    }
+
+    /**
+     * Returns the progress of the transfers submitted so far.
+     *
+     * @return progress snapshot
+     */
+    public Progress getProgress() {
+        return new Progress(submittedTransfers.get(), completedTransfers.get(),
+                failedTransfers.get(), submittedBytes.get(), transferredBytes.get(),
+                System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Stops accepting transfers, and waits for all the transfers that have been submitted to
+     * complete or fail.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                // Keep waiting
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private DXFile withEnvironment(DXFile file) {
+        return (file.getProject() == null) ? DXFile.getInstanceWithEnvironment(file.getId(), env)
+                : DXFile.getInstanceWithEnvironment(file.getId(), file.getProject(), env);
+    }
+
+    private <T> ListenableFuture<T> submit(Transfer<T> transfer) {
+        // Counted before it is queued, so that it cannot complete before it has been submitted
+        submittedTransfers.incrementAndGet();
+        submittedBytes.addAndGet(transfer.size);
+        try {
+            executor.execute(transfer);
+        } catch (RejectedExecutionException e) {
+            submittedTransfers.decrementAndGet();
+            submittedBytes.addAndGet(-transfer.size);
+            throw e;
+        }
+        return transfer.future;
+    }
+
+    /**
+     * Accounts for data sent or received, waiting first if that would exceed the bandwidth limit.
+     */
+    private void meter(int bytes) {
+        if (rateLimiter != null) {
+            rateLimiter.acquire(bytes);
+        }
+        transferredBytes.addAndGet(bytes);
+        long now = System.nanoTime();
+        long last = lastNotificationNanos.get();
+        if (now - last >= progressIntervalNanos
+                && lastNotificationNanos.compareAndSet(last, now)) {
+            notifyProgressListeners();
+        }
+    }
+
+    private void notifyProgressListeners() {
+        if (progressListeners.isEmpty()) {
+            return;
+        }
+        Progress progress = getProgress();
+        for (ProgressListener listener : progressListeners) {
+            try {
+                listener.progressUpdated(progress);
+            } catch (RuntimeException e) {
+                System.err.println("Progress listener " + listener + " failed: " + e);
+            }
+        }
+    }
+
+}
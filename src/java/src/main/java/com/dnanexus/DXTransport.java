@@ -0,0 +1,55 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+
+/**
+ * Sends the HTTP requests made by the bindings: API calls made with {@link DXHTTPRequest}, as well
+ * as the requests to the upload and download URLs of files.
+ *
+ * <p>
+ * The transport used by an environment is set with
+ * {@link DXEnvironment.Builder#setTransport(DXTransport)}. By default, each environment uses its
+ * own {@link ApacheHttpTransport}. {@link InMemoryApiserver} is a transport that serves requests
+ * in-process without using the network, for testing and benchmarking.
+ * </p>
+ *
+ * <p>
+ * Implementations must be thread-safe.
+ * </p>
+ */
+public interface DXTransport extends Closeable {
+
+    /**
+     * Sends the specified request and returns the response. The caller must close the response
+     * when it is done with it. Request entities may be written more than once if a request is
+     * retried.
+     *
+     * @param request HTTP request
+     *
+     * @return HTTP response (with any status code)
+     *
+     * @throws IOException if the request could not be sent or the response could not be received
+     */
+    CloseableHttpResponse execute(HttpUriRequest request) throws IOException;
+
+}
@@ -0,0 +1,198 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import com.dnanexus.DXHTTPRequest.RetryStrategy;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * Cache of the preauthenticated download URLs of files, keyed by file ID, so that repeated and
+ * concurrent downloads of the same file (whole-file, ranged, streaming, or random-access) make one
+ * /file-xxxx/download call between them instead of one each.
+ *
+ * <p>
+ * URLs are requested with a fixed lifetime and are discarded a few minutes before they expire.
+ * A URL that the server rejects before then is invalidated by the downloader, so that the next
+ * attempt requests a fresh one.
+ * </p>
+ *
+ * <p>
+ * Each {@link DXEnvironment} has its own cache (see {@link DXEnvironment#getDownloadUrlCache()}),
+ * since the URLs are obtained with its credentials. This class is thread-safe.
+ * </p>
+ */
+class DownloadUrlCache {
+
+    /**
+     * Preauthenticated URL of a file, and the headers to send with requests to it.
+     */
+    static class DownloadUrl {
+        private final String url;
+        private final Map<String, String> headers;
+        private final long expiresAtNanos;
+
+        private DownloadUrl(String url, Map<String, String> headers, long expiresAtNanos) {
+            this.url = url;
+            this.headers = headers;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        /**
+         * Returns the URL.
+         *
+         * @return URL
+         */
+        String getUrl() {
+            return url;
+        }
+
+        /**
+         * Returns the headers that must be sent with requests to the URL.
+         *
+         * @return map from header name to value
+         */
+        Map<String, String> getHeaders() {
+            return headers;
+        }
+    }
+
+    /**
+     * Request to /file-xxxx/download.
+     */
+    @JsonInclude(Include.NON_NULL)
+    private static class FileDownloadRequest {
+        @JsonProperty("preauthenticated")
+        private boolean preauth;
+        @JsonProperty
+        private long duration;
+
+        private FileDownloadRequest(boolean preauth, long duration) {
+            this.preauth = preauth;
+            this.duration = duration;
+        }
+    }
+
+    /**
+     * Deserialized output from the /file-xxxx/download route.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class FileDownloadResponse {
+        @JsonProperty
+        private String url;
+        @JsonProperty
+        private Map<String, String> headers;
+    }
+
+    /**
+     * Lifetime requested for download URLs (the API's default).
+     */
+    private static final long URL_LIFETIME_SECONDS = TimeUnit.DAYS.toSeconds(1);
+
+    /**
+     * URLs are not handed out once they are this close to expiring, so that a transfer started
+     * with one does not fail partway through.
+     */
+    private static final long EXPIRY_MARGIN_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private static final int MAX_ENTRIES = 1000;
+
+    private final Ticker ticker;
+    private final Cache<String, DownloadUrl> urls;
+
+    /**
+     * Creates an empty cache.
+     */
+    DownloadUrlCache() {
+        this(Ticker.systemTicker());
+    }
+
+    /**
+     * Creates an empty cache that measures the lifetime of URLs with the specified clock (for
+     * testing).
+     *
+     * @param ticker clock
+     */
+    DownloadUrlCache(Ticker ticker) {
+        this.ticker = Preconditions.checkNotNull(ticker);
+        this.urls = CacheBuilder.newBuilder().maximumSize(MAX_ENTRIES).build();
+    }
+
+    /**
+     * Returns a download URL for the specified file, calling /file-xxxx/download if there is no
+     * cached URL that is still valid. Concurrent callers asking for the same file wait for a
+     * single call.
+     *
+     * @param file file, which must be closed
+     *
+     * @return download URL
+     */
+    DownloadUrl get(final DXFile file) {
+        String fileId = file.getId();
+        DownloadUrl cached = urls.getIfPresent(fileId);
+        if (cached != null && ticker.read() >= cached.expiresAtNanos) {
+            urls.asMap().remove(fileId, cached);
+        }
+        try {
+            return urls.get(fileId, new Callable<DownloadUrl>() {
+                @Override
+                public DownloadUrl call() {
+                    long requestedAt = ticker.read();
+                    FileDownloadResponse response = file.apiCallOnObject("download",
+                            new FileDownloadRequest(true, URL_LIFETIME_SECONDS),
+                            RetryStrategy.SAFE_TO_RETRY, FileDownloadResponse.class);
+                    return new DownloadUrl(response.url,
+                            (response.headers == null) ? ImmutableMap.<String, String>of()
+                                    : ImmutableMap.copyOf(response.headers),
+                            requestedAt + TimeUnit.SECONDS.toNanos(URL_LIFETIME_SECONDS)
+                                    - EXPIRY_MARGIN_NANOS);
+                }
+            });
+        } catch (ExecutionException e) {
+            throw Throwables.propagate(e.getCause());
+        } catch (UncheckedExecutionException e) {
+            // Rethrow the API error unwrapped
+            throw Throwables.propagate(e.getCause());
+        }
+    }
+
+    /**
+     * Forgets a download URL that the server rejected (e.g. because it expired early), unless it
+     * has already been replaced.
+     *
+     * @param file file whose URL was rejected
+     * @param rejected the rejected URL
+     */
+    void invalidate(DXFile file, DownloadUrl rejected) {
+        urls.asMap().remove(file.getId(), rejected);
+    }
+
+}
@@ -58,8 +58,8 @@ public abstract class ExecutableRunner<T extends DXExecution> {
         @Override
         public DXJob run() {
             ExecutableRunResult runResult =
-                    DXJSON.safeTreeToValue(new DXHTTPRequest(env).request("/" + this.executableId
-                            + "/run", buildRequestHash(), RetryStrategy.UNSAFE_TO_RETRY),
+                    new DXHTTPRequest(env).request("/" + this.executableId + "/run",
+                            buildRequestHash(), RetryStrategy.UNSAFE_TO_RETRY,
                             ExecutableRunResult.class);
             return DXJob.getInstanceWithEnvironment(runResult.id, env);
         }
@@ -130,8 +130,8 @@ public abstract class ExecutableRunner<T extends DXExecution> {
         @Override
         public DXAnalysis run() {
             ExecutableRunResult runResult =
-                    DXJSON.safeTreeToValue(new DXHTTPRequest(env).request("/" + this.executableId
-                            + "/run", buildRequestHash(), RetryStrategy.UNSAFE_TO_RETRY),
+                    new DXHTTPRequest(env).request("/" + this.executableId + "/run",
+                            buildRequestHash(), RetryStrategy.UNSAFE_TO_RETRY,
                             ExecutableRunResult.class);
             return DXAnalysis.getInstanceWithEnvironment(runResult.id, env);
         }
@@ -0,0 +1,635 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+
+package com.dnanexus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.util.EntityUtils;
+
+import com.dnanexus.DXHTTPRequest.RetryStrategy;
+import com.dnanexus.exceptions.DXHTTPException;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.io.ByteStreams;
+
+/**
+ * Downloads byte ranges of a file with HTTP Range requests against its preauthenticated download
+ * URL.
+ *
+ * <p>
+ * A range whose transfer fails is resumed from the first byte not yet received, waiting between
+ * attempts as the environment's {@link RetryPolicy} specifies. The retry count is reset whenever
+ * an attempt makes progress, so a long transfer over a flaky connection is not abandoned as long
+ * as it keeps moving. Download URLs are shared through the environment's {@link DownloadUrlCache};
+ * if the server rejects one (e.g. because it has expired), a new one is requested for the next
+ * attempt.
+ * </p>
+ *
+ * <p>
+ * This class is thread-safe; ranges may be downloaded from several threads at once.
+ * </p>
+ */
+class FileDownloader {
+
+    /**
+     * Receives the bytes of a range as they are downloaded.
+     */
+    interface RangeSink {
+        /**
+         * Consumes bytes downloaded from the file.
+         *
+         * @param position offset in the file of the first byte
+         * @param buffer array containing the bytes
+         * @param length number of bytes (starting at index 0 of {@code buffer})
+         *
+         * @throws IOException if the bytes could not be stored; this is not retried
+         */
+        void write(long position, byte[] buffer, int length) throws IOException;
+    }
+
+    /**
+     * Thrown (wrapped in an unchecked exception) when a sink fails, so that local errors are not
+     * mistaken for network errors and retried.
+     */
+    @SuppressWarnings("serial")
+    private static class SinkException extends RuntimeException {
+        private SinkException(IOException cause) {
+            super(cause);
+        }
+    }
+
+    /**
+     * Reads back bytes that have been downloaded, so that their digest can be checked.
+     */
+    interface LocalCopy {
+        /**
+         * Returns the MD5 digest of a range of the downloaded bytes.
+         *
+         * @param start offset in the file of the first byte
+         * @param end offset in the file after the last byte
+         *
+         * @return MD5 digest (hex-encoded), or {@code null} if the local copy ends before the range
+         *         does
+         *
+         * @throws IOException if the bytes could not be read
+         */
+        String md5Hex(long start, long end) throws IOException;
+    }
+
+    /**
+     * A part of a file as it was uploaded, with the MD5 digest the server recorded for it. The
+     * chunks of a part are downloaded independently, and the part is verified once all of them
+     * have been downloaded.
+     */
+    static class Part {
+        private final long start;
+        private final long end;
+        private final String md5;
+
+        private Part(long start, long end, String md5) {
+            this.start = start;
+            this.end = end;
+            this.md5 = md5;
+        }
+    }
+
+    /**
+     * A byte range of a file that is downloaded as a unit, and optionally the part it belongs to.
+     */
+    static class Chunk {
+        /**
+         * Splits a file into chunks of at most the specified size, without expected digests.
+         *
+         * @param size size of the file
+         * @param chunkSize maximum size of each chunk
+         *
+         * @return chunks, in order
+         */
+        static List<Chunk> split(long size, long chunkSize) {
+            List<Chunk> chunks = Lists.newArrayList();
+            for (long start = 0; start < size; start += chunkSize) {
+                chunks.add(new Chunk(start, Math.min(size, start + chunkSize), null));
+            }
+            return chunks;
+        }
+
+        /**
+         * Splits each part of a file into chunks of at most the specified size, which are verified
+         * together against the digest of the part.
+         *
+         * @param parts parts of the file, in order
+         * @param chunkSize maximum size of each chunk
+         *
+         * @return chunks, in order (empty parts have none)
+         */
+        static List<Chunk> fromParts(Collection<DXFile.Describe.Part> parts, long chunkSize) {
+            List<Chunk> chunks = Lists.newArrayList();
+            long partStart = 0;
+            for (DXFile.Describe.Part describedPart : parts) {
+                long partEnd = partStart + describedPart.getSize();
+                Part part = new Part(partStart, partEnd, describedPart.getMd5());
+                for (long start = partStart; start < partEnd; start += chunkSize) {
+                    chunks.add(new Chunk(start, Math.min(partEnd, start + chunkSize), part));
+                }
+                partStart = partEnd;
+            }
+            return chunks;
+        }
+
+        /**
+         * Returns whether the contents of a whole file match the expected digests of the parts of
+         * its chunks.
+         *
+         * @param data contents of the file
+         * @param chunks chunks of the file
+         *
+         * @return whether every part that has an expected digest matches it
+         */
+        static boolean matches(byte[] data, List<Chunk> chunks) {
+            for (Chunk chunk : chunks) {
+                if (chunk.end > data.length) {
+                    return false;
+                }
+                Part part = chunk.part;
+                if (part != null && chunk.start == part.start && (part.end > data.length
+                        || !part.md5.equalsIgnoreCase(FileUploader.md5Hex(data, (int) part.start,
+                                (int) (part.end - part.start))))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private final long start;
+        private final long end;
+        private final Part part;
+
+        private Chunk(long start, long end, Part part) {
+            this.start = start;
+            this.end = end;
+            this.part = part;
+        }
+    }
+
+    /**
+     * Size of the buffer through which data is copied from the connection.
+     */
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final DXFile file;
+    private final DXEnvironment env;
+    private final DXFile.DownloadOptions options;
+
+    /**
+     * Creates a downloader for the specified file.
+     *
+     * @param file file to download, which must be closed
+     * @param env environment whose transport and retry policy are used
+     * @param options download options
+     */
+    FileDownloader(DXFile file, DXEnvironment env, DXFile.DownloadOptions options) {
+        this.file = Preconditions.checkNotNull(file);
+        this.env = Preconditions.checkNotNull(env);
+        this.options = Preconditions.checkNotNull(options, "options may not be null");
+    }
+
+    /**
+     * Downloads the specified range of the file.
+     *
+     * @param start offset of the first byte
+     * @param end offset after the last byte, or -1 to download to the end of the file
+     * @param sink receives the data
+     *
+     * @return number of bytes downloaded
+     *
+     * @throws DXHTTPException if the range could not be downloaded after all retries
+     */
+    long fetch(long start, long end, RangeSink sink) {
+        return fetch(start, end, sink, -1);
+    }
+
+    /**
+     * Downloads the whole file with a single request (retried as usual), as long as it is at most
+     * the specified size, without having to know its size in advance. If the server reports that
+     * the file is larger (or does not report its size), none of its contents are read.
+     *
+     * @param maxSize maximum size of the file
+     *
+     * @return contents of the file, or {@code null} if it is larger than {@code maxSize}
+     *
+     * @throws DXHTTPException if the file could not be downloaded after all retries
+     */
+    byte[] fetchSmallFile(int maxSize) {
+        final ByteArrayOutputStream data = new ByteArrayOutputStream();
+        long size = fetch(0, maxSize, new RangeSink() {
+            @Override
+            public void write(long position, byte[] buffer, int length) {
+                // Retries resume at the first byte not yet received, so bytes arrive in order
+                data.write(buffer, 0, length);
+            }
+        }, maxSize);
+        return (size == -1) ? null : data.toByteArray();
+    }
+
+    /**
+     * Downloads the specified range of the file. If {@code maxFileSize} is not -1, the range is
+     * cut short at the end of the file, and -1 is returned without reading any data if the server
+     * reports that the file is larger than {@code maxFileSize} or does not report its size.
+     */
+    private long fetch(long start, long end, RangeSink sink, long maxFileSize) {
+        Preconditions.checkArgument(start >= 0 && (end == -1 || end >= start), "Invalid range");
+        RetryPolicy retryPolicy = env.getRetryPolicy();
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        long position = start;
+        long delayMillis = 0;
+        int retries = 0;
+        while (true) {
+            if (position == end) {
+                return position - start;
+            }
+            DownloadUrlCache.DownloadUrl download = env.getDownloadUrlCache().get(file);
+            HttpGet request = new HttpGet(download.getUrl());
+            for (Map.Entry<String, String> header : download.getHeaders().entrySet()) {
+                request.setHeader(header.getKey(), header.getValue());
+            }
+            if (position > 0 || end != -1) {
+                request.setHeader("Range", "bytes=" + position + "-" + (end == -1 ? "" : end - 1));
+            }
+
+            IOException error;
+            long positionBefore = position;
+            try {
+                CloseableHttpResponse response = env.getTransport().execute(request);
+                try {
+                    int statusCode = response.getStatusLine().getStatusCode();
+                    HttpEntity entity = response.getEntity();
+                    if (statusCode == HttpStatus.SC_OK || statusCode == HttpStatus.SC_PARTIAL_CONTENT) {
+                        if (maxFileSize != -1) {
+                            long fileSize = getFileSize(response);
+                            if (fileSize == -1 || fileSize > maxFileSize) {
+                                return -1;
+                            }
+                            end = Math.min(end, fileSize);
+                        }
+                        InputStream content = (entity == null) ? null : entity.getContent();
+                        if (content != null) {
+                            if (statusCode == HttpStatus.SC_OK) {
+                                // The server ignored the range and is sending the whole file
+                                ByteStreams.skipFully(content, position);
+                            }
+                            while (end == -1 || position < end) {
+                                int n = content.read(buffer, 0, (end == -1) ? buffer.length
+                                        : (int) Math.min(buffer.length, end - position));
+                                if (n < 0) {
+                                    break;
+                                }
+                                try {
+                                    sink.write(position, buffer, n);
+                                } catch (IOException e) {
+                                    throw new SinkException(e);
+                                }
+                                position += n;
+                            }
+                        }
+                        if (end == -1 || position == end) {
+                            EntityUtils.consume(entity);
+                            return position - start;
+                        }
+                        error = new IOException("Download of " + file.getId()
+                                + " ended prematurely at byte " + position);
+                    } else if (statusCode == HttpStatus.SC_REQUESTED_RANGE_NOT_SATISFIABLE
+                            && (end == -1 && position > start
+                                    || maxFileSize != -1 && getFileSize(response) == position)) {
+                        // A previous attempt stopped exactly at the end of the file (or the file
+                        // is empty)
+                        return position - start;
+                    } else {
+                        EntityUtils.consume(entity);
+                        if (statusCode / 100 == 4) {
+                            // The URL may have expired; get a new one
+                            env.getDownloadUrlCache().invalidate(file, download);
+                        }
+                        error = new IOException("Download of " + file.getId() + " failed: "
+                                + response.getStatusLine());
+                    }
+                } finally {
+                    response.close();
+                }
+            } catch (SinkException e) {
+                throw new RuntimeException(e.getCause());
+            } catch (IOException e) {
+                error = e;
+            }
+
+            if (position > positionBefore) {
+                // The attempt made progress; start counting retries again
+                retries = 0;
+                delayMillis = 0;
+            }
+            if (retries >= options.getMaxChunkRetries()) {
+                throw new DXHTTPException(error);
+            }
+            ++retries;
+            delayMillis = retryPolicy.getRetryDelayMillis(RetryStrategy.SAFE_TO_RETRY,
+                    delayMillis);
+            System.err.println("Download of " + file.getId() + " failed at byte " + position
+                    + " (" + error.getMessage() + "); retrying in " + delayMillis + "ms");
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DXHTTPException(e);
+            }
+        }
+    }
+
+    /**
+     * Returns the size of the whole file, as reported in a response to a download request, or -1
+     * if the response does not report it.
+     */
+    private static long getFileSize(CloseableHttpResponse response) {
+        if (response.getStatusLine().getStatusCode() == HttpStatus.SC_OK) {
+            HttpEntity entity = response.getEntity();
+            return (entity == null) ? 0 : entity.getContentLength();
+        }
+        // Content-Range: bytes 0-99/1234, or bytes */1234
+        Header contentRange = response.getFirstHeader("Content-Range");
+        if (contentRange == null) {
+            return -1;
+        }
+        String value = contentRange.getValue();
+        String total = value.substring(value.lastIndexOf('/') + 1).trim();
+        try {
+            return Long.parseLong(total);
+        } catch (NumberFormatException e) {
+            // The size is unknown ("*")
+            return -1;
+        }
+    }
+
+    /**
+     * Downloads the specified chunks of the file into a local file, up to
+     * {@link DXFile.DownloadOptions#getParallelism()} chunks at a time. Each chunk is written at
+     * its offset with positional writes, so chunks may complete in any order. The chunks are
+     * fetched on the environment's download executor. Once a chunk has failed, chunks that have not
+     * started yet are not downloaded, and this method waits for the chunks in progress to stop
+     * before it throws, so nothing is written to the file after it returns.
+     *
+     * <p>
+     * If a journal is given, chunks that it records as completed are not downloaded again, as
+     * long as the local copy still matches the recorded digest; each chunk that is downloaded is
+     * recorded in the journal once it has been written.
+     * </p>
+     *
+     * @param channel channel of the local file, open for reading and writing
+     * @param chunks chunks to download
+     * @param journal journal of the download, or {@code null} to download all chunks without
+     *        keeping a journal
+     *
+     * @throws DXHTTPException if a chunk could not be downloaded (or its part did not match its
+     *         digest) after all retries
+     */
+    void fetchTo(final FileChannel channel, List<Chunk> chunks, final TransferJournal journal) {
+        fetchAll(chunks, new RangeSink() {
+            @Override
+            public void write(long position, byte[] buffer, int length) throws IOException {
+                ByteBuffer data = ByteBuffer.wrap(buffer, 0, length);
+                while (data.hasRemaining()) {
+                    position += channel.write(data, position);
+                }
+            }
+        }, new LocalCopy() {
+            @Override
+            public String md5Hex(long start, long end) throws IOException {
+                return FileDownloader.md5Hex(channel, start, end);
+            }
+        }, journal);
+    }
+
+    /**
+     * Downloads the specified chunks of the file into an array, up to
+     * {@link DXFile.DownloadOptions#getParallelism()} chunks at a time.
+     *
+     * @param data array into which each chunk is copied at its offset
+     * @param chunks chunks to download
+     *
+     * @throws DXHTTPException if a chunk could not be downloaded (or its part did not match its
+     *         digest) after all retries
+     */
+    void fetchTo(final byte[] data, List<Chunk> chunks) {
+        fetchAll(chunks, new RangeSink() {
+            @Override
+            public void write(long position, byte[] buffer, int length) {
+                System.arraycopy(buffer, 0, data, (int) position, length);
+            }
+        }, new LocalCopy() {
+            @Override
+            public String md5Hex(long start, long end) {
+                return FileUploader.md5Hex(data, (int) start, (int) (end - start));
+            }
+        }, null);
+    }
+
+    private void fetchAll(final List<Chunk> chunks, final RangeSink sink,
+            final LocalCopy localCopy, final TransferJournal journal) {
+        // The chunks of each part, and how many of them have yet to arrive
+        final ListMultimap<Part, Integer> partChunks = ArrayListMultimap.create();
+        for (int i = 0; i < chunks.size(); ++i) {
+            if (chunks.get(i).part != null) {
+                partChunks.put(chunks.get(i).part, i);
+            }
+        }
+        final Map<Part, AtomicInteger> chunksLeft = Maps.newHashMap();
+        for (Part part : partChunks.keySet()) {
+            chunksLeft.put(part, new AtomicInteger(partChunks.get(part).size()));
+        }
+
+        // Up to the configured number of workers share the chunks, each taking the next chunk
+        // that has not been started until they run out or one of them fails
+        final AtomicInteger nextChunk = new AtomicInteger();
+        final AtomicBoolean failed = new AtomicBoolean();
+        ExecutorService executor = env.getDownloadExecutor();
+        List<Future<Void>> workers = Lists.newArrayList();
+        for (int i = 0; i < Math.min(options.getParallelism(), chunks.size()); ++i) {
+            workers.add(executor.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws IOException {
+                    while (!failed.get()) {
+                        int index = nextChunk.getAndIncrement();
+                        if (index >= chunks.size()) {
+                            break;
+                        }
+                        Chunk chunk = chunks.get(index);
+                        try {
+                            String md5 = (journal == null) ? null : journal.getCompleted().get(
+                                    index);
+                            if (md5 == null
+                                    || !md5.equals(localCopy.md5Hex(chunk.start, chunk.end))) {
+                                md5 = fetchChunk(chunk, sink, null);
+                                if (journal != null) {
+                                    journal.record(index, md5);
+                                }
+                            }
+                            if (chunk.part != null
+                                    && chunksLeft.get(chunk.part).decrementAndGet() == 0) {
+                                // This was the last chunk of its part to arrive
+                                verifyPart(chunk.part, partChunks.get(chunk.part), chunks, sink,
+                                        localCopy, journal);
+                            }
+                        } catch (IOException | RuntimeException e) {
+                            failed.set(true);
+                            throw e;
+                        }
+                    }
+                    return null;
+                }
+            }));
+        }
+
+        // Waits for every worker to stop, even after a failure or an interrupt, so that none of
+        // them is still writing to the destination once this method returns. Once a chunk has
+        // failed, the other workers stop after the chunk they are fetching.
+        Throwable error = null;
+        boolean interrupted = false;
+        for (Future<Void> worker : workers) {
+            while (true) {
+                try {
+                    worker.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    failed.set(true);
+                } catch (ExecutionException e) {
+                    if (error == null) {
+                        error = e.getCause();
+                    }
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+            throw new DXHTTPException(new InterruptedException());
+        }
+        if (error != null) {
+            throw Throwables.propagate(error);
+        }
+    }
+
+    /**
+     * Downloads a chunk, computing its MD5 digest as the bytes arrive.
+     *
+     * @param partDigest digest that is also updated with the bytes of the chunk, or {@code null}
+     *
+     * @return MD5 digest of the chunk (hex-encoded)
+     */
+    private String fetchChunk(Chunk chunk, final RangeSink sink,
+            final MessageDigest partDigest) {
+        final MessageDigest digest = DigestUtils.getMd5Digest();
+        fetch(chunk.start, chunk.end, new RangeSink() {
+            @Override
+            public void write(long position, byte[] buffer, int length) throws IOException {
+                digest.update(buffer, 0, length);
+                if (partDigest != null) {
+                    partDigest.update(buffer, 0, length);
+                }
+                sink.write(position, buffer, length);
+            }
+        });
+        return Hex.encodeHexString(digest.digest());
+    }
+
+    /**
+     * Checks the digest of a part whose chunks have all arrived, reading the part back from the
+     * local copy. If it does not match, the chunks of the part (and only those) are downloaded
+     * again, one after another, so that the digest of the part is computed as the bytes arrive.
+     *
+     * @param indexes indexes of the chunks of the part, in order
+     *
+     * @throws DXHTTPException if the part still does not match after all retries
+     */
+    private void verifyPart(Part part, List<Integer> indexes, List<Chunk> chunks, RangeSink sink,
+            LocalCopy localCopy, TransferJournal journal) throws IOException {
+        String md5 = localCopy.md5Hex(part.start, part.end);
+        int retries = 0;
+        while (!part.md5.equalsIgnoreCase(md5)) {
+            String error = "MD5 of bytes " + part.start + "-" + (part.end - 1) + " of "
+                    + file.getId() + " is " + md5 + ", expected " + part.md5;
+            if (retries >= options.getMaxChunkRetries()) {
+                throw new DXHTTPException(new IOException(error));
+            }
+            ++retries;
+            System.err.println(error + "; downloading it again");
+            MessageDigest partDigest = DigestUtils.getMd5Digest();
+            for (int index : indexes) {
+                String chunkMd5 = fetchChunk(chunks.get(index), sink, partDigest);
+                if (journal != null) {
+                    journal.record(index, chunkMd5);
+                }
+            }
+            md5 = Hex.encodeHexString(partDigest.digest());
+        }
+    }
+
+    /**
+     * Returns the MD5 digest (hex-encoded) of a region of a local file, or {@code null} if the
+     * file ends before the region does.
+     */
+    private static String md5Hex(FileChannel channel, long start, long end) throws IOException {
+        MessageDigest digest = DigestUtils.getMd5Digest();
+        ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+        long position = start;
+        while (position < end) {
+            buffer.clear().limit((int) Math.min(buffer.capacity(), end - position));
+            int n = channel.read(buffer, position);
+            if (n < 0) {
+                return null;
+            }
+            buffer.flip();
+            digest.update(buffer);
+            position += n;
+        }
+        return Hex.encodeHexString(digest.digest());
+    }
+
+}
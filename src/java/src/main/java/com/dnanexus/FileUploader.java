@@ -0,0 +1,529 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+
+package com.dnanexus;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.util.EntityUtils;
+
+import com.dnanexus.DXHTTPRequest.RetryStrategy;
+import com.dnanexus.exceptions.DXHTTPException;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Uploads the contents of a file as a sequence of parts, several at a time.
+ *
+ * <p>
+ * Parts are produced, in order, by a {@link PartSource} on the calling thread. Each part is
+ * hashed and uploaded (with its own upload URL, obtained from /file-xxxx/upload) on a worker
+ * thread, and retried independently if the PUT fails. At most
+ * {@link DXFile.UploadOptions#getParallelism()} parts exist at any time, so a source that produces
+ * parts lazily is read no faster than the parts can be uploaded.
+ * </p>
+ */
+class FileUploader {
+
+    /**
+     * One part of a file, identified by its (1-based) index.
+     */
+    abstract static class Part {
+        private final int index;
+
+        Part(int index) {
+            this.index = index;
+        }
+
+        /**
+         * Returns the index of this part.
+         *
+         * @return part index
+         */
+        int getIndex() {
+            return index;
+        }
+
+        /**
+         * Returns the number of bytes in this part.
+         *
+         * @return part size
+         */
+        abstract long getSize();
+
+        /**
+         * Returns the MD5 digest of the contents of this part. Called once, on a worker thread.
+         *
+         * @return digest as a 32-character hex string
+         */
+        abstract String computeMD5();
+
+        /**
+         * Returns an entity containing the contents of this part. The entity must be repeatable
+         * so that the part can be retried.
+         *
+         * @return request entity
+         */
+        abstract HttpEntity getEntity();
+
+        /**
+         * Releases any resources held by this part once it has been uploaded or has failed.
+         */
+        void release() {}
+    }
+
+    /**
+     * Produces the parts of a file.
+     */
+    interface PartSource {
+        /**
+         * Returns the next part, or {@code null} if there are no more parts. The first call must
+         * return a part, even if the file is empty.
+         *
+         * @return next part, or {@code null}
+         *
+         * @throws IOException if the data could not be read
+         */
+        Part nextPart() throws IOException;
+    }
+
+    /**
+     * Part that is a slice of a byte array.
+     */
+    private static class ByteArrayPart extends Part {
+        private final byte[] data;
+        private final int offset;
+        private final int length;
+
+        private ByteArrayPart(int index, byte[] data, int offset, int length) {
+            super(index);
+            this.data = data;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        long getSize() {
+            return length;
+        }
+
+        @Override
+        String computeMD5() {
+            return md5Hex(data, offset, length);
+        }
+
+        @Override
+        HttpEntity getEntity() {
+            return new ByteArrayEntity(data, offset, length);
+        }
+    }
+
+    /**
+     * Part that is the remaining bytes of a buffer, such as a memory-mapped region of a file.
+     */
+    private static class ByteBufferPart extends Part {
+        private final ByteBuffer region;
+
+        private ByteBufferPart(int index, ByteBuffer region) {
+            super(index);
+            this.region = region;
+        }
+
+        @Override
+        long getSize() {
+            return region.remaining();
+        }
+
+        @Override
+        String computeMD5() {
+            MessageDigest digest = DigestUtils.getMd5Digest();
+            digest.update(region.duplicate());
+            return Hex.encodeHexString(digest.digest());
+        }
+
+        @Override
+        HttpEntity getEntity() {
+            return new ByteBufferEntity(region);
+        }
+    }
+
+    /**
+     * Part held in a buffer that is returned to a pool once the part has been uploaded.
+     */
+    private static class PooledBufferPart extends ByteArrayPart {
+        private final TransferBufferPool pool;
+        private final byte[] buffer;
+
+        private PooledBufferPart(int index, byte[] buffer, int length, TransferBufferPool pool) {
+            super(index, buffer, 0, length);
+            this.buffer = buffer;
+            this.pool = pool;
+        }
+
+        @Override
+        void release() {
+            pool.release(buffer);
+        }
+    }
+
+    /**
+     * Request to /file-xxxx/upload.
+     */
+    @JsonInclude(Include.NON_NULL)
+    private static class FileUploadRequest {
+        @JsonProperty
+        private final int index;
+        @JsonProperty
+        private final long size;
+        @JsonProperty
+        private final String md5;
+
+        private FileUploadRequest(int index, long size, String md5) {
+            this.index = index;
+            this.size = size;
+            this.md5 = md5;
+        }
+    }
+
+    /**
+     * Response from /file-xxxx/upload.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private static class FileUploadResponse {
+        @JsonProperty
+        private Map<String, String> headers;
+        @JsonProperty
+        private String url;
+    }
+
+    /**
+     * Returns the MD5 digest of a slice of an array.
+     *
+     * @param data array
+     * @param offset start of the slice
+     * @param length length of the slice
+     *
+     * @return digest as a 32-character hex string
+     */
+    static String md5Hex(byte[] data, int offset, int length) {
+        MessageDigest digest = DigestUtils.getMd5Digest();
+        digest.update(data, offset, length);
+        return Hex.encodeHexString(digest.digest());
+    }
+
+    /**
+     * Returns a source that splits a byte array into parts.
+     *
+     * @param data data to upload
+     * @param partSize maximum size of each part
+     *
+     * @return part source
+     */
+    static PartSource byteArraySource(final byte[] data, final long partSize) {
+        return new PartSource() {
+            private int offset = 0;
+            private int index = 1;
+
+            @Override
+            public Part nextPart() {
+                if (offset == data.length && index > 1) {
+                    return null;
+                }
+                int length = (int) Math.min(partSize, data.length - offset);
+                Part part = new ByteArrayPart(index++, data, offset, length);
+                offset += length;
+                return part;
+            }
+        };
+    }
+
+    /**
+     * Returns a source that reads a stream into parts, one at a time. Each part is held in a
+     * part-sized buffer from the pool, which is given back once the part has been uploaded, so the
+     * number of buffers in use is bounded by the number of parts that exist at once
+     * ({@link DXFile.UploadOptions#getParallelism()}), no matter how long the stream is, and
+     * buffers are reused across uploads.
+     *
+     * @param data stream to upload; it is read to the end but not closed
+     * @param partSize size of each part (except the last)
+     * @param pool pool from which part buffers are taken
+     *
+     * @return part source
+     */
+    static PartSource inputStreamSource(final InputStream data, final int partSize,
+            final TransferBufferPool pool) {
+        return new PartSource() {
+            private int index = 1;
+            private boolean eof = false;
+
+            @Override
+            public Part nextPart() throws IOException {
+                if (eof) {
+                    return null;
+                }
+                byte[] buffer = pool.acquire(partSize);
+                int length;
+                try {
+                    length = ByteStreams.read(data, buffer, 0, partSize);
+                } catch (IOException | RuntimeException e) {
+                    pool.release(buffer);
+                    throw e;
+                }
+                if (length < partSize) {
+                    eof = true;
+                    if (length == 0 && index > 1) {
+                        pool.release(buffer);
+                        return null;
+                    }
+                }
+                return new PooledBufferPart(index++, buffer, length, pool);
+            }
+        };
+    }
+
+    /**
+     * Returns a source that maps each part of a file into memory, so that parts are hashed and
+     * sent straight from the page cache without being copied into part-sized heap arrays.
+     *
+     * <p>
+     * The regions are unmapped when they are garbage collected; the channel may be closed once the
+     * upload has completed.
+     * </p>
+     *
+     * @param channel channel of the file to upload
+     * @param size number of bytes to upload, starting at the beginning of the file
+     * @param partSize size of each part (except the last), at most {@code Integer.MAX_VALUE}
+     *
+     * @return part source
+     */
+    static PartSource fileChannelSource(final FileChannel channel, final long size,
+            final long partSize) {
+        Preconditions.checkArgument(partSize <= Integer.MAX_VALUE,
+                "Part size is too large to map parts of a file");
+        return new PartSource() {
+            private long position = 0;
+            private int index = 1;
+
+            @Override
+            public Part nextPart() throws IOException {
+                if (position == size && index > 1) {
+                    return null;
+                }
+                long length = Math.min(partSize, size - position);
+                ByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                position += length;
+                return new ByteBufferPart(index++, region);
+            }
+        };
+    }
+
+    private final DXFile file;
+    private final DXEnvironment env;
+    private final DXFile.UploadOptions options;
+
+    /**
+     * Creates an uploader for the specified file.
+     *
+     * @param file file to upload to, which must be open
+     * @param env environment whose transport and retry policy are used
+     * @param options upload options
+     */
+    FileUploader(DXFile file, DXEnvironment env, DXFile.UploadOptions options) {
+        this.file = Preconditions.checkNotNull(file);
+        this.env = Preconditions.checkNotNull(env);
+        this.options = Preconditions.checkNotNull(options, "options may not be null");
+    }
+
+    /**
+     * Uploads all parts produced by the source and returns once they have all been uploaded.
+     *
+     * @param source source of parts
+     *
+     * @throws DXHTTPException if a part could not be uploaded after all retries
+     */
+    void upload(PartSource source) {
+        upload(source, null);
+    }
+
+    /**
+     * Uploads the parts produced by the source that are not recorded as completed in the
+     * specified journal, recording each part in the journal as it completes, and returns once they
+     * have all been uploaded.
+     *
+     * @param source source of parts
+     * @param journal journal of the upload, or {@code null} to upload all parts without keeping a
+     *        journal
+     *
+     * @throws DXHTTPException if a part could not be uploaded after all retries
+     */
+    void upload(PartSource source, final TransferJournal journal) {
+        final int parallelism = options.getParallelism();
+        final Semaphore slots = new Semaphore(parallelism);
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism,
+                new ThreadFactoryBuilder().setDaemon(true)
+                        .setNameFormat("dx-file-upload-" + file.getId() + "-%d").build());
+        try {
+            while (failure.get() == null) {
+                // Don't read the next part until there is a free slot to upload it in
+                slots.acquireUninterruptibly();
+                final Part part;
+                try {
+                    part = source.nextPart();
+                } catch (IOException e) {
+                    slots.release();
+                    failure.compareAndSet(null, new RuntimeException(e));
+                    break;
+                }
+                if (part == null) {
+                    slots.release();
+                    break;
+                }
+                if (part.getIndex() > DXFile.UploadOptions.MAX_PARTS) {
+                    // Stop reading, and let the parts in flight finish before failing
+                    part.release();
+                    slots.release();
+                    failure.compareAndSet(null, new IllegalStateException("More than "
+                            + DXFile.UploadOptions.MAX_PARTS + " parts; use a larger part size"));
+                    break;
+                }
+                if (journal != null && journal.getCompleted().containsKey(part.getIndex())) {
+                    // Uploaded before the previous attempt was interrupted
+                    part.release();
+                    slots.release();
+                    continue;
+                }
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            if (failure.get() == null) {
+                                String md5 = uploadPart(part);
+                                if (journal != null) {
+                                    journal.record(part.getIndex(), md5);
+                                }
+                            }
+                        } catch (Throwable e) {
+                            failure.compareAndSet(null, e);
+                        } finally {
+                            part.release();
+                            slots.release();
+                        }
+                    }
+                });
+            }
+            // Wait for the parts in flight
+            slots.acquireUninterruptibly(parallelism);
+        } finally {
+            executor.shutdownNow();
+        }
+        Throwable e = failure.get();
+        if (e != null) {
+            throw Throwables.propagate(e);
+        }
+    }
+
+    /**
+     * Uploads one part, retrying (with a new upload URL each time) if the PUT fails, and returns
+     * its MD5 digest.
+     */
+    private String uploadPart(Part part) {
+        String md5 = part.computeMD5();
+        RetryPolicy retryPolicy = env.getRetryPolicy();
+        long delayMillis = 0;
+        for (int attempt = 0;; ++attempt) {
+            FileUploadResponse apiResponse = file.apiCallOnObject("upload", new FileUploadRequest(
+                    part.getIndex(), part.getSize(), md5), RetryStrategy.SAFE_TO_RETRY,
+                    FileUploadResponse.class);
+
+            // Check that the content-length received by the apiserver is the same as the length
+            // of the data
+            if (apiResponse.headers.containsKey("content-length")) {
+                long apiserverContentLength =
+                        Long.parseLong(apiResponse.headers.get("content-length"));
+                if (apiserverContentLength != part.getSize()) {
+                    throw new AssertionError(
+                            "Content-length received by the apiserver did not match that of the input data");
+                }
+            }
+
+            HttpPut request = new HttpPut(apiResponse.url);
+            request.setEntity(part.getEntity());
+            for (Map.Entry<String, String> header : apiResponse.headers.entrySet()) {
+                // The request implicitly supplies the content length in the headers when executed
+                if (!header.getKey().equals("content-length")) {
+                    request.setHeader(header.getKey(), header.getValue());
+                }
+            }
+
+            IOException error;
+            try {
+                CloseableHttpResponse response = env.getTransport().execute(request);
+                try {
+                    // Consume the response so that the connection can be reused
+                    EntityUtils.consume(response.getEntity());
+                    int statusCode = response.getStatusLine().getStatusCode();
+                    if (statusCode / 100 == 2) {
+                        return md5;
+                    }
+                    error = new IOException("Upload of part " + part.getIndex() + " of "
+                            + file.getId() + " failed: " + response.getStatusLine());
+                } finally {
+                    response.close();
+                }
+            } catch (IOException e) {
+                error = e;
+            }
+
+            if (attempt >= options.getMaxPartRetries()) {
+                throw new DXHTTPException(error);
+            }
+            delayMillis = retryPolicy.getRetryDelayMillis(RetryStrategy.SAFE_TO_RETRY,
+                    delayMillis);
+            System.err.println("Upload of part " + part.getIndex() + " of " + file.getId()
+                    + " failed (" + error.getMessage() + "); retrying in " + delayMillis + "ms");
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DXHTTPException(e);
+            }
+        }
+    }
+
+}
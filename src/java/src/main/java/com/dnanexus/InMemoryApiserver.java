@@ -0,0 +1,1180 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.impl.EnglishReasonPhraseCatalog;
+import org.apache.http.message.BasicHttpResponse;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+/**
+ * A stand-in for the API server that keeps all of its state in memory and serves requests
+ * in-process, for testing and benchmarking code that uses the bindings without a network or a
+ * real API server.
+ *
+ * <p>
+ * The following routes are implemented, following the <a
+ * href="https://wiki.dnanexus.com/API-Specification-v1.0.0">API specification</a> closely enough
+ * for the bindings in this package:
+ * </p>
+ * <ul>
+ * <li>{@code /project/new} and the project and container routes {@code describe},
+ * {@code destroy}, {@code listFolder}, {@code newFolder}, {@code move}, {@code removeFolder},
+ * {@code renameFolder}, and {@code removeObjects}</li>
+ * <li>{@code /file/new}, {@code /gtable/new}, {@code /record/new}, and the data object routes
+ * {@code describe}, {@code close}, {@code addTags}, {@code removeTags}, {@code addTypes},
+ * {@code removeTypes}, {@code rename}, {@code setProperties}, {@code setDetails},
+ * {@code getDetails}, {@code setVisibility}, and {@code listProjects}</li>
+ * <li>the file routes {@code upload} and {@code download}, together with the upload and download
+ * URLs they return (downloads support HTTP {@code Range} requests)</li>
+ * <li>the GTable routes {@code addRows} and {@code get}</li>
+ * <li>{@code /system/whoami}, {@code /system/findDataObjects}, and
+ * {@code /system/describeDataObjects}</li>
+ * </ul>
+ *
+ * <p>
+ * Other routes fail with 404 ResourceNotFound. Objects belong to exactly one project, closing an
+ * object takes effect immediately, and authentication is not checked. Requests that only read
+ * state are served concurrently, while requests that change it are processed one at a time.
+ * Request and response bodies are parsed, hashed, copied, and serialized outside the lock, so
+ * parallel transfers are not serialized by it.
+ * </p>
+ *
+ * <p>
+ * To use it, set it as the transport of an environment, or call {@link #createEnvironment()}.
+ * </p>
+ */
+public class InMemoryApiserver implements DXTransport {
+
+    /**
+     * Host name used in the API server address and in file upload and download URLs. The
+     * {@code .invalid} top-level domain guarantees that such requests cannot reach a real server
+     * by mistake.
+     */
+    public static final String HOST = "in-memory-apiserver.invalid";
+
+    private static final String URL_BASE = "http://" + HOST;
+    private static final String UPLOAD_PATH = "/F/upload/";
+    private static final String DOWNLOAD_PATH = "/F/download/";
+
+    private static final Set<String> DATA_OBJECT_CLASSES = Sets.newHashSet("file", "gtable",
+            "record");
+    private static final Set<String> CONTAINER_CLASSES = Sets.newHashSet("project", "container");
+
+    /**
+     * Methods that do not change any state, which are served under the read lock.
+     */
+    private static final Set<String> READ_ONLY_METHODS = Sets.newHashSet("describe",
+            "getDetails", "listProjects", "upload", "download", "get", "listFolder", "whoami",
+            "findDataObjects", "describeDataObjects");
+
+    private static final Pattern RANGE_RE = Pattern.compile("^bytes=(\\d*)-(\\d*)$");
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    /**
+     * An error response from the API server.
+     */
+    @SuppressWarnings("serial")
+    private static class ApiError extends RuntimeException {
+        private final int statusCode;
+        private final String type;
+
+        private ApiError(int statusCode, String type, String message) {
+            super(message);
+            this.statusCode = statusCode;
+            this.type = type;
+        }
+    }
+
+    /**
+     * An HTTP response that does not hold any resources.
+     */
+    private static class InMemoryResponse extends BasicHttpResponse implements
+            CloseableHttpResponse {
+        private InMemoryResponse(int statusCode) {
+            super(HttpVersion.HTTP_1_1, statusCode, EnglishReasonPhraseCatalog.INSTANCE.getReason(
+                    statusCode, Locale.ENGLISH));
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    private static class Container {
+        private final String id;
+        private final String name;
+        private final long created;
+        private final Set<String> folders = Sets.newTreeSet(Arrays.asList("/"));
+
+        private Container(String id, String name, long created) {
+            this.id = id;
+            this.name = name;
+            this.created = created;
+        }
+    }
+
+    private static class DataObject {
+        private final String id;
+        private final String objectClass;
+        private final long created;
+        private String project;
+        private String folder;
+        private String name;
+        private String state = "open";
+        private boolean hidden;
+        private final Set<String> types = Sets.newTreeSet();
+        private final Set<String> tags = Sets.newTreeSet();
+        private final SortedMap<String, String> properties = Maps.newTreeMap();
+        private JsonNode details = mapper.createObjectNode();
+        private long modified;
+
+        // Files
+        private String media;
+        private final SortedMap<Integer, byte[]> parts = Maps.newTreeMap();
+        private final SortedMap<Integer, ObjectNode> partDescriptions = Maps.newTreeMap();
+        // Parts of a closed file, in order. They are not concatenated, so that closing a file
+        // does not copy its data while holding the lock.
+        private List<byte[]> content;
+
+        // GTables
+        private JsonNode columns;
+        private final SortedMap<Integer, List<JsonNode>> rowParts = Maps.newTreeMap();
+        private List<JsonNode> rows;
+
+        private DataObject(String id, String objectClass, long created) {
+            this.id = id;
+            this.objectClass = objectClass;
+            this.created = created;
+            this.modified = created;
+        }
+    }
+
+    /**
+     * Guards all of the state below, and the state of the containers and objects.
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Container> containers = Maps.newHashMap();
+    private final SortedMap<String, DataObject> objects = Maps.newTreeMap();
+    private long nextId = 1;
+
+    /**
+     * Creates an API server with no projects or objects.
+     */
+    public InMemoryApiserver() {}
+
+    /**
+     * Creates an environment that sends its requests to this API server, with a new project as
+     * its project context and workspace.
+     *
+     * @return new environment
+     */
+    public DXEnvironment createEnvironment() {
+        DXEnvironment env = DXEnvironment.Builder.fromDefaults().setApiserverHost(HOST)
+                .setApiserverPort(80).setApiserverProtocol("http").setBearerToken("in-memory")
+                .setTransport(this).build();
+        DXProject project = DXProject.newProjectWithEnvironment(env).setName("in-memory project")
+                .build();
+        return DXEnvironment.Builder.fromEnvironment(env).setProjectContext(project)
+                .setWorkspace(project).build();
+    }
+
+    @Override
+    public CloseableHttpResponse execute(HttpUriRequest request) throws IOException {
+        String path = request.getURI().getPath();
+        byte[] body = readBody(request);
+        try {
+            if (path.startsWith(UPLOAD_PATH)) {
+                Preconditions.checkArgument(request.getMethod().equals("PUT"),
+                        "Upload URLs only support PUT");
+                String md5 = DigestUtils.md5Hex(body);
+                lock.writeLock().lock();
+                try {
+                    return putPart(path.substring(UPLOAD_PATH.length()), body, md5,
+                            request.getFirstHeader("content-md5"));
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+            if (path.startsWith(DOWNLOAD_PATH)) {
+                Preconditions.checkArgument(request.getMethod().equals("GET"),
+                        "Download URLs only support GET");
+                List<byte[]> content;
+                lock.readLock().lock();
+                try {
+                    DataObject o = objects.get(path.substring(DOWNLOAD_PATH.length()));
+                    content = (o == null) ? null : o.content;
+                } finally {
+                    lock.readLock().unlock();
+                }
+                if (content == null) {
+                    return new InMemoryResponse(HttpStatus.SC_NOT_FOUND);
+                }
+                return getContent(content, request.getFirstHeader("range"));
+            }
+            JsonNode input;
+            try {
+                input = body.length == 0 ? mapper.createObjectNode() : mapper.readTree(body);
+            } catch (IOException e) {
+                throw invalidInput("Request body is not valid JSON: " + e.getMessage());
+            }
+            String method = path.substring(path.lastIndexOf('/') + 1);
+            Lock routeLock = READ_ONLY_METHODS.contains(method) ? lock.readLock() : lock
+                    .writeLock();
+            JsonNode output;
+            routeLock.lock();
+            try {
+                output = route(path, input);
+            } finally {
+                routeLock.unlock();
+            }
+            // Nodes kept in the state (such as details) are replaced rather than modified, so the
+            // output can be serialized after the lock has been released
+            return jsonResponse(HttpStatus.SC_OK, output);
+        } catch (ApiError e) {
+            ObjectNode error = mapper.createObjectNode();
+            error.putObject("error").put("type", e.type).put("message", e.getMessage());
+            return jsonResponse(e.statusCode, error);
+        }
+    }
+
+    @Override
+    public void close() {}
+
+    private static byte[] readBody(HttpUriRequest request) throws IOException {
+        if (!(request instanceof HttpEntityEnclosingRequest)) {
+            return new byte[0];
+        }
+        HttpEntity entity = ((HttpEntityEnclosingRequest) request).getEntity();
+        if (entity == null) {
+            return new byte[0];
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        entity.writeTo(out);
+        return out.toByteArray();
+    }
+
+    private static CloseableHttpResponse jsonResponse(int statusCode, JsonNode body)
+            throws IOException {
+        InMemoryResponse response = new InMemoryResponse(statusCode);
+        response.setEntity(new ByteArrayEntity(mapper.writeValueAsBytes(body),
+                ContentType.APPLICATION_JSON));
+        return response;
+    }
+
+    private static ApiError invalidInput(String message) {
+        return new ApiError(422, "InvalidInput", message);
+    }
+
+    private static ApiError invalidState(String message) {
+        return new ApiError(422, "InvalidState", message);
+    }
+
+    private static ApiError notFound(String message) {
+        return new ApiError(404, "ResourceNotFound", message);
+    }
+
+    private String newId(String objectClass) {
+        return String.format("%s-%024d", objectClass, nextId++);
+    }
+
+    private static String getClass(String id) {
+        int dash = id.indexOf('-');
+        return dash < 0 ? id : id.substring(0, dash);
+    }
+
+    // Routing
+
+    private JsonNode route(String path, JsonNode input) {
+        String[] parts = path.substring(1).split("/");
+        if (parts.length != 2) {
+            throw notFound("The route " + path + " was not found");
+        }
+        String target = parts[0];
+        String method = parts[1];
+        if (target.equals("system")) {
+            return routeSystem(method, input);
+        }
+        if (method.equals("new")) {
+            if (DATA_OBJECT_CLASSES.contains(target)) {
+                return newDataObject(target, input);
+            }
+            if (target.equals("project")) {
+                return newProject(input);
+            }
+        }
+        String targetClass = getClass(target);
+        if (DATA_OBJECT_CLASSES.contains(targetClass)) {
+            return routeDataObject(getDataObject(target), method, input);
+        }
+        if (CONTAINER_CLASSES.contains(targetClass)) {
+            return routeContainer(getContainer(target), method, input);
+        }
+        throw notFound("The route " + path + " was not found");
+    }
+
+    private JsonNode routeSystem(String method, JsonNode input) {
+        if (method.equals("whoami")) {
+            return mapper.createObjectNode().put("id", "user-inmemory");
+        } else if (method.equals("findDataObjects")) {
+            return findDataObjects(input);
+        } else if (method.equals("describeDataObjects")) {
+            return describeDataObjects(input);
+        }
+        throw notFound("The route /system/" + method + " was not found");
+    }
+
+    private JsonNode routeDataObject(DataObject o, String method, JsonNode input) {
+        ObjectNode output = mapper.createObjectNode().put("id", o.id);
+        if (method.equals("describe")) {
+            return describe(o, input);
+        } else if (method.equals("close")) {
+            close(o);
+        } else if (method.equals("addTags")) {
+            o.tags.addAll(getStrings(input, "tags"));
+        } else if (method.equals("removeTags")) {
+            o.tags.removeAll(getStrings(input, "tags"));
+        } else if (method.equals("addTypes")) {
+            o.types.addAll(getStrings(input, "types"));
+        } else if (method.equals("removeTypes")) {
+            o.types.removeAll(getStrings(input, "types"));
+        } else if (method.equals("rename")) {
+            o.name = getRequiredText(input, "name");
+        } else if (method.equals("setProperties")) {
+            setProperties(o, input.get("properties"));
+        } else if (method.equals("setDetails")) {
+            checkOpen(o);
+            o.details = input;
+        } else if (method.equals("getDetails")) {
+            return o.details;
+        } else if (method.equals("setVisibility")) {
+            o.hidden = input.path("hidden").asBoolean();
+        } else if (method.equals("listProjects")) {
+            return mapper.createObjectNode().put(o.project, "ADMINISTER");
+        } else if (o.objectClass.equals("file") && method.equals("upload")) {
+            return upload(o, input);
+        } else if (o.objectClass.equals("file") && method.equals("download")) {
+            return download(o);
+        } else if (o.objectClass.equals("gtable") && method.equals("addRows")) {
+            addRows(o, input);
+        } else if (o.objectClass.equals("gtable") && method.equals("get")) {
+            return getRows(o, input);
+        } else {
+            throw notFound("The route /" + o.id + "/" + method + " was not found");
+        }
+        o.modified = System.currentTimeMillis();
+        return output;
+    }
+
+    private JsonNode routeContainer(Container c, String method, JsonNode input) {
+        ObjectNode output = mapper.createObjectNode().put("id", c.id);
+        if (method.equals("describe")) {
+            ObjectNode describe = mapper.createObjectNode().put("id", c.id)
+                    .put("class", getClass(c.id)).put("name", c.name).put("created", c.created);
+            ArrayNode folders = describe.putArray("folders");
+            for (String folder : c.folders) {
+                folders.add(folder);
+            }
+            return describe;
+        } else if (method.equals("destroy")) {
+            removeObjects(c, Lists.newArrayList(getObjectsInFolder(c, "/", true)));
+            containers.remove(c.id);
+        } else if (method.equals("newFolder")) {
+            addFolder(c, getRequiredText(input, "folder"), input.path("parents").asBoolean());
+        } else if (method.equals("listFolder")) {
+            return listFolder(c, input);
+        } else if (method.equals("move")) {
+            move(c, input);
+        } else if (method.equals("removeFolder")) {
+            removeFolder(c, getRequiredText(input, "folder"), input.path("recurse").asBoolean());
+        } else if (method.equals("renameFolder")) {
+            renameFolder(c, getRequiredText(input, "folder"), getRequiredText(input, "name"));
+        } else if (method.equals("removeObjects")) {
+            List<DataObject> toRemove = Lists.newArrayList();
+            for (String id : getStrings(input, "objects")) {
+                DataObject o = getDataObject(id);
+                if (!o.project.equals(c.id)) {
+                    throw notFound("The object " + id + " is not in " + c.id);
+                }
+                toRemove.add(o);
+            }
+            removeObjects(c, toRemove);
+        } else {
+            throw notFound("The route /" + c.id + "/" + method + " was not found");
+        }
+        return output;
+    }
+
+    // Input helpers
+
+    private static String getRequiredText(JsonNode input, String field) {
+        JsonNode value = input.get(field);
+        if (value == null || !value.isTextual()) {
+            throw invalidInput("Expected key \"" + field + "\" of input to be a string");
+        }
+        return value.asText();
+    }
+
+    private static List<String> getStrings(JsonNode input, String field) {
+        JsonNode value = input.get(field);
+        if (value == null || !value.isArray()) {
+            throw invalidInput("Expected key \"" + field + "\" of input to be an array");
+        }
+        List<String> strings = Lists.newArrayList();
+        for (JsonNode element : value) {
+            if (!element.isTextual()) {
+                throw invalidInput("Expected key \"" + field + "\" of input to be an array of strings");
+            }
+            strings.add(element.asText());
+        }
+        return strings;
+    }
+
+    private static String normalizeFolder(String folder) {
+        if (!folder.startsWith("/")) {
+            throw invalidInput("Folder paths must start with /");
+        }
+        if (folder.length() > 1 && folder.endsWith("/")) {
+            return folder.substring(0, folder.length() - 1);
+        }
+        return folder;
+    }
+
+    private static String getParentFolder(String folder) {
+        int lastSlash = folder.lastIndexOf('/');
+        return lastSlash == 0 ? "/" : folder.substring(0, lastSlash);
+    }
+
+    private static boolean isInFolder(String folder, String ancestor, boolean recurse) {
+        if (folder.equals(ancestor)) {
+            return true;
+        }
+        return recurse
+                && folder.startsWith(ancestor.equals("/") ? ancestor : ancestor + "/");
+    }
+
+    // Containers
+
+    private Container getContainer(String id) {
+        Container c = containers.get(id);
+        if (c == null) {
+            throw notFound("The entity " + id + " could not be found");
+        }
+        return c;
+    }
+
+    private JsonNode newProject(JsonNode input) {
+        String id = newId("project");
+        containers.put(id, new Container(id, getRequiredText(input, "name"),
+                System.currentTimeMillis()));
+        return mapper.createObjectNode().put("id", id);
+    }
+
+    private void checkFolder(Container c, String folder) {
+        if (!c.folders.contains(folder)) {
+            throw notFound("The folder " + folder + " could not be found in " + c.id);
+        }
+    }
+
+    private void addFolder(Container c, String folder, boolean parents) {
+        folder = normalizeFolder(folder);
+        if (!parents) {
+            checkFolder(c, getParentFolder(folder));
+        }
+        while (c.folders.add(folder)) {
+            folder = getParentFolder(folder);
+        }
+    }
+
+    private List<DataObject> getObjectsInFolder(Container c, String folder, boolean recurse) {
+        List<DataObject> result = Lists.newArrayList();
+        for (DataObject o : objects.values()) {
+            if (o.project.equals(c.id) && isInFolder(o.folder, folder, recurse)) {
+                result.add(o);
+            }
+        }
+        return result;
+    }
+
+    private JsonNode listFolder(Container c, JsonNode input) {
+        String folder = normalizeFolder(input.path("folder").asText("/"));
+        checkFolder(c, folder);
+        String only = input.path("only").asText("all");
+        ObjectNode output = mapper.createObjectNode();
+        if (!only.equals("folders")) {
+            ArrayNode objectsOutput = output.putArray("objects");
+            for (DataObject o : getObjectsInFolder(c, folder, false)) {
+                ObjectNode entry = objectsOutput.addObject().put("id", o.id);
+                JsonNode describe = input.get("describe");
+                if (describe != null && !describe.isBoolean() || describe != null
+                        && describe.asBoolean()) {
+                    entry.set("describe", describe(o, describe));
+                }
+            }
+        }
+        if (!only.equals("objects")) {
+            ArrayNode foldersOutput = output.putArray("folders");
+            for (String subfolder : c.folders) {
+                if (!subfolder.equals(folder) && getParentFolder(subfolder).equals(folder)) {
+                    foldersOutput.add(subfolder);
+                }
+            }
+        }
+        return output;
+    }
+
+    private void move(Container c, JsonNode input) {
+        String destination = normalizeFolder(getRequiredText(input, "destination"));
+        checkFolder(c, destination);
+        if (input.has("objects")) {
+            for (String id : getStrings(input, "objects")) {
+                DataObject o = getDataObject(id);
+                if (!o.project.equals(c.id)) {
+                    throw notFound("The object " + id + " is not in " + c.id);
+                }
+                o.folder = destination;
+            }
+        }
+        if (input.has("folders")) {
+            for (String folder : getStrings(input, "folders")) {
+                folder = normalizeFolder(folder);
+                checkFolder(c, folder);
+                if (isInFolder(destination, folder, true)) {
+                    throw invalidInput("Cannot move " + folder + " into itself");
+                }
+                String newFolder = (destination.equals("/") ? "" : destination)
+                        + folder.substring(folder.lastIndexOf('/'));
+                replaceFolderPrefix(c, folder, newFolder);
+            }
+        }
+    }
+
+    private void renameFolder(Container c, String folder, String name) {
+        folder = normalizeFolder(folder);
+        checkFolder(c, folder);
+        if (folder.equals("/") || name.isEmpty() || name.contains("/")) {
+            throw invalidInput("Invalid folder rename");
+        }
+        String parent = getParentFolder(folder);
+        replaceFolderPrefix(c, folder, (parent.equals("/") ? "" : parent) + "/" + name);
+    }
+
+    /**
+     * Moves a folder, with its subfolders and objects, to a new path.
+     */
+    private void replaceFolderPrefix(Container c, String folder, String newFolder) {
+        if (c.folders.contains(newFolder)) {
+            throw invalidInput("The folder " + newFolder + " already exists");
+        }
+        Set<String> renamed = new TreeSet<String>();
+        for (Iterator<String> it = c.folders.iterator(); it.hasNext();) {
+            String f = it.next();
+            if (isInFolder(f, folder, true)) {
+                it.remove();
+                renamed.add(newFolder + f.substring(folder.length()));
+            }
+        }
+        c.folders.addAll(renamed);
+        for (DataObject o : getObjectsInFolder(c, folder, true)) {
+            o.folder = newFolder + o.folder.substring(folder.length());
+        }
+    }
+
+    private void removeFolder(Container c, String folder, boolean recurse) {
+        folder = normalizeFolder(folder);
+        checkFolder(c, folder);
+        if (folder.equals("/")) {
+            throw invalidInput("Cannot remove the root folder");
+        }
+        List<DataObject> contents = getObjectsInFolder(c, folder, true);
+        boolean hasSubfolders = false;
+        for (String f : c.folders) {
+            hasSubfolders |= !f.equals(folder) && isInFolder(f, folder, true);
+        }
+        if (!recurse && (hasSubfolders || !contents.isEmpty())) {
+            throw invalidState("The folder " + folder + " is not empty");
+        }
+        removeObjects(c, contents);
+        for (Iterator<String> it = c.folders.iterator(); it.hasNext();) {
+            if (isInFolder(it.next(), folder, true)) {
+                it.remove();
+            }
+        }
+    }
+
+    private void removeObjects(Container c, List<DataObject> toRemove) {
+        for (DataObject o : toRemove) {
+            objects.remove(o.id);
+        }
+    }
+
+    // Data objects
+
+    private DataObject getDataObject(String id) {
+        DataObject o = objects.get(id);
+        if (o == null) {
+            throw notFound("The entity " + id + " could not be found");
+        }
+        return o;
+    }
+
+    private static void checkOpen(DataObject o) {
+        if (!o.state.equals("open")) {
+            throw invalidState("The object " + o.id + " is not open");
+        }
+    }
+
+    private JsonNode newDataObject(String objectClass, JsonNode input) {
+        Container c = getContainer(getRequiredText(input, "project"));
+        String folder = normalizeFolder(input.path("folder").asText("/"));
+        if (input.path("parents").asBoolean()) {
+            addFolder(c, folder, true);
+        } else {
+            checkFolder(c, folder);
+        }
+        if (objectClass.equals("gtable") && !input.path("columns").isArray()) {
+            throw invalidInput("Expected key \"columns\" of input to be an array");
+        }
+
+        DataObject o = new DataObject(newId(objectClass), objectClass, System.currentTimeMillis());
+        o.project = c.id;
+        o.folder = folder;
+        o.name = input.has("name") ? getRequiredText(input, "name") : o.id;
+        o.hidden = input.path("hidden").asBoolean();
+        if (input.has("types")) {
+            o.types.addAll(getStrings(input, "types"));
+        }
+        if (input.has("tags")) {
+            o.tags.addAll(getStrings(input, "tags"));
+        }
+        if (input.has("properties")) {
+            setProperties(o, input.get("properties"));
+        }
+        if (input.has("details")) {
+            o.details = input.get("details");
+        }
+        o.media = input.path("media").asText("");
+        o.columns = input.get("columns");
+        objects.put(o.id, o);
+        return mapper.createObjectNode().put("id", o.id);
+    }
+
+    private static void setProperties(DataObject o, JsonNode properties) {
+        if (properties == null || !properties.isObject()) {
+            throw invalidInput("Expected key \"properties\" of input to be a hash");
+        }
+        for (Iterator<Map.Entry<String, JsonNode>> it = properties.fields(); it.hasNext();) {
+            Map.Entry<String, JsonNode> property = it.next();
+            if (property.getValue().isNull()) {
+                o.properties.remove(property.getKey());
+            } else {
+                o.properties.put(property.getKey(), property.getValue().asText());
+            }
+        }
+    }
+
+    private static boolean isFieldRequested(JsonNode options, String field, boolean byDefault) {
+        JsonNode fields = options.get("fields");
+        if (fields != null && fields.isObject()) {
+            return fields.path(field).asBoolean();
+        }
+        JsonNode value = options.get(field);
+        return value == null ? byDefault : value.asBoolean();
+    }
+
+    private static JsonNode describe(DataObject o, JsonNode options) {
+        if (!options.isObject()) {
+            options = mapper.createObjectNode();
+        }
+        ObjectNode describe = mapper.createObjectNode();
+        describe.put("id", o.id);
+        String[] defaultFields = {"class", "project", "folder", "name", "state", "hidden",
+                "types", "tags", "created", "modified"};
+        for (String field : defaultFields) {
+            if (!isFieldRequested(options, field, true)) {
+                continue;
+            }
+            if (field.equals("class")) {
+                describe.put("class", o.objectClass);
+            } else if (field.equals("project")) {
+                describe.put("project", o.project);
+            } else if (field.equals("folder")) {
+                describe.put("folder", o.folder);
+            } else if (field.equals("name")) {
+                describe.put("name", o.name);
+            } else if (field.equals("state")) {
+                describe.put("state", o.state);
+            } else if (field.equals("hidden")) {
+                describe.put("hidden", o.hidden);
+            } else if (field.equals("types")) {
+                ArrayNode types = describe.putArray("types");
+                for (String type : o.types) {
+                    types.add(type);
+                }
+            } else if (field.equals("tags")) {
+                ArrayNode tags = describe.putArray("tags");
+                for (String tag : o.tags) {
+                    tags.add(tag);
+                }
+            } else if (field.equals("created")) {
+                describe.put("created", o.created);
+            } else if (field.equals("modified")) {
+                describe.put("modified", o.modified);
+            }
+        }
+        if (isFieldRequested(options, "properties", false)) {
+            ObjectNode properties = describe.putObject("properties");
+            for (Map.Entry<String, String> property : o.properties.entrySet()) {
+                properties.put(property.getKey(), property.getValue());
+            }
+        }
+        if (isFieldRequested(options, "details", false)) {
+            describe.set("details", o.details);
+        }
+        if (o.objectClass.equals("file")) {
+            if (isFieldRequested(options, "media", true)) {
+                describe.put("media", o.media);
+            }
+            if (isFieldRequested(options, "size", true)) {
+                describe.put("size", getFileSize(o));
+            }
+            if (isFieldRequested(options, "parts", false)) {
+                ObjectNode parts = describe.putObject("parts");
+                for (Map.Entry<Integer, ObjectNode> part : o.partDescriptions.entrySet()) {
+                    parts.set(part.getKey().toString(), part.getValue());
+                }
+            }
+        } else if (o.objectClass.equals("gtable")) {
+            if (isFieldRequested(options, "columns", true)) {
+                describe.set("columns", o.columns);
+            }
+            if (isFieldRequested(options, "size", true)) {
+                describe.put("size", getTableSize(o));
+            }
+            if (o.rows != null && isFieldRequested(options, "length", true)) {
+                describe.put("length", o.rows.size());
+            }
+        }
+        return describe;
+    }
+
+    private void close(DataObject o) {
+        checkOpen(o);
+        if (o.objectClass.equals("file")) {
+            o.content = ImmutableList.copyOf(o.parts.values());
+            o.parts.clear();
+        } else if (o.objectClass.equals("gtable")) {
+            o.rows = Lists.newArrayList();
+            for (List<JsonNode> part : o.rowParts.values()) {
+                o.rows.addAll(part);
+            }
+            o.rowParts.clear();
+        }
+        o.state = "closed";
+    }
+
+    // Search
+
+    private JsonNode findDataObjects(JsonNode input) {
+        int limit = input.path("limit").asInt(1000);
+        String starting = input.path("starting").asText(null);
+        JsonNode describeOptions = input.get("describe");
+
+        ObjectNode output = mapper.createObjectNode();
+        ArrayNode results = output.putArray("results");
+        output.putNull("next");
+        SortedMap<String, DataObject> candidates = (starting == null) ? objects : objects
+                .tailMap(starting);
+        for (DataObject o : candidates.values()) {
+            if (!matches(o, input)) {
+                continue;
+            }
+            if (results.size() == limit) {
+                output.put("next", o.id);
+                break;
+            }
+            ObjectNode entry = results.addObject().put("id", o.id).put("project", o.project);
+            if (describeOptions != null && (describeOptions.isObject() || describeOptions
+                    .asBoolean())) {
+                entry.set("describe", describe(o, describeOptions));
+            }
+        }
+        return output;
+    }
+
+    private JsonNode describeDataObjects(JsonNode input) {
+        JsonNode requested = input.get("objects");
+        if (requested == null || !requested.isArray()) {
+            throw invalidInput("Expected key \"objects\" of input to be an array");
+        }
+        ObjectNode output = mapper.createObjectNode();
+        ArrayNode results = output.putArray("results");
+        for (JsonNode entry : requested) {
+            String id = entry.isTextual() ? entry.asText() : entry.path("id").asText();
+            JsonNode options = entry.path("describe");
+            DataObject o = objects.get(id);
+            if (o == null) {
+                results.addObject().putObject("error").put("type", "ResourceNotFound")
+                        .put("message", "The entity " + id + " could not be found");
+            } else {
+                results.addObject().set("describe", describe(o, options));
+            }
+        }
+        return output;
+    }
+
+    private boolean matches(DataObject o, JsonNode query) {
+        if (query.has("class") && !query.get("class").asText().equals(o.objectClass)) {
+            return false;
+        }
+        if (query.has("id") && !getStrings(query, "id").contains(o.id)) {
+            return false;
+        }
+        if (query.has("state") && !query.get("state").asText().equals("any")
+                && !query.get("state").asText().equals(o.state)) {
+            return false;
+        }
+        String visibility = query.path("visibility").asText("visible");
+        if (visibility.equals("visible") && o.hidden || visibility.equals("hidden") && !o.hidden) {
+            return false;
+        }
+        if (query.has("name") && !matchesName(o.name, query.get("name"))) {
+            return false;
+        }
+        if (query.has("type") && !matchesSet(o.types, query.get("type"))) {
+            return false;
+        }
+        if (query.has("tags") && !matchesSet(o.tags, query.get("tags"))) {
+            return false;
+        }
+        if (query.has("properties") && !matchesProperties(o.properties, query.get("properties"))) {
+            return false;
+        }
+        JsonNode scope = query.get("scope");
+        if (scope != null) {
+            if (!scope.path("project").asText().equals(o.project)) {
+                return false;
+            }
+            String folder = normalizeFolder(scope.path("folder").asText("/"));
+            if (!isInFolder(o.folder, folder, scope.path("recurse").asBoolean(true))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matchesName(String name, JsonNode query) {
+        if (query.isTextual()) {
+            return query.asText().equals(name);
+        }
+        if (query.has("glob")) {
+            return globToPattern(query.get("glob").asText()).matcher(name).matches();
+        }
+        if (query.has("regexp")) {
+            int flags = query.path("flags").asText("").contains("i") ? Pattern.CASE_INSENSITIVE
+                    : 0;
+            return Pattern.compile(query.get("regexp").asText(), flags).matcher(name).find();
+        }
+        throw invalidInput("Invalid name query");
+    }
+
+    private static Pattern globToPattern(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (char ch : glob.toCharArray()) {
+            if (ch == '*') {
+                regex.append(".*");
+            } else if (ch == '?') {
+                regex.append('.');
+            } else {
+                regex.append(Pattern.quote(String.valueOf(ch)));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    /**
+     * Matches a set of types or tags against a query that is either a single string or a
+     * compound {@code $and} or {@code $or} query.
+     */
+    private static boolean matchesSet(Set<String> values, JsonNode query) {
+        if (query.isTextual()) {
+            return values.contains(query.asText());
+        }
+        if (query.has("$and")) {
+            for (JsonNode operand : query.get("$and")) {
+                if (!matchesSet(values, operand)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (query.has("$or")) {
+            for (JsonNode operand : query.get("$or")) {
+                if (matchesSet(values, operand)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        throw invalidInput("Invalid query " + query);
+    }
+
+    private static boolean matchesProperties(Map<String, String> properties, JsonNode query) {
+        if (query.has("$and")) {
+            for (JsonNode operand : query.get("$and")) {
+                if (!matchesProperties(properties, operand)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (query.has("$or")) {
+            for (JsonNode operand : query.get("$or")) {
+                if (matchesProperties(properties, operand)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        for (Iterator<Map.Entry<String, JsonNode>> it = query.fields(); it.hasNext();) {
+            Map.Entry<String, JsonNode> entry = it.next();
+            String value = properties.get(entry.getKey());
+            if (entry.getValue().isBoolean()) {
+                if ((value != null) != entry.getValue().asBoolean()) {
+                    return false;
+                }
+            } else if (!entry.getValue().asText().equals(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Files
+
+    private static long getFileSize(DataObject o) {
+        return getSize((o.content != null) ? o.content : o.parts.values());
+    }
+
+    private static long getSize(Iterable<byte[]> parts) {
+        long size = 0;
+        for (byte[] part : parts) {
+            size += part.length;
+        }
+        return size;
+    }
+
+    /**
+     * Copies the specified range (from {@code start} inclusive to {@code end} exclusive) of the
+     * concatenation of the parts of a file.
+     */
+    private static byte[] copyRange(List<byte[]> parts, long start, long end) {
+        byte[] range = new byte[(int) (end - start)];
+        long partStart = 0;
+        for (byte[] part : parts) {
+            long from = Math.max(start, partStart);
+            long to = Math.min(end, partStart + part.length);
+            if (from < to) {
+                System.arraycopy(part, (int) (from - partStart), range, (int) (from - start),
+                        (int) (to - from));
+            }
+            partStart += part.length;
+        }
+        return range;
+    }
+
+    private static JsonNode upload(DataObject o, JsonNode input) {
+        checkOpen(o);
+        int index = input.path("index").asInt(1);
+        if (index < 1 || index > 10000) {
+            throw invalidInput("Part index must be between 1 and 10000");
+        }
+        ObjectNode output = mapper.createObjectNode();
+        output.put("url", URL_BASE + UPLOAD_PATH + o.id + "/" + index);
+        ObjectNode headers = output.putObject("headers");
+        if (input.has("size")) {
+            headers.put("content-length", input.get("size").asText());
+        }
+        if (input.has("md5")) {
+            headers.put("content-md5", input.get("md5").asText());
+        }
+        return output;
+    }
+
+    private static JsonNode download(DataObject o) {
+        if (!o.state.equals("closed")) {
+            throw invalidState("The file " + o.id + " is not closed");
+        }
+        ObjectNode output = mapper.createObjectNode();
+        output.put("url", URL_BASE + DOWNLOAD_PATH + o.id);
+        output.putObject("headers");
+        return output;
+    }
+
+    private CloseableHttpResponse putPart(String filePart, byte[] body, String md5,
+            Header md5Header) {
+        int slash = filePart.indexOf('/');
+        DataObject o = objects.get(slash < 0 ? filePart : filePart.substring(0, slash));
+        if (o == null || slash < 0 || !o.objectClass.equals("file")) {
+            return new InMemoryResponse(HttpStatus.SC_NOT_FOUND);
+        }
+        if (!o.state.equals("open")) {
+            return new InMemoryResponse(HttpStatus.SC_FORBIDDEN);
+        }
+        if (md5Header != null && !md5Header.getValue().equalsIgnoreCase(md5)) {
+            return new InMemoryResponse(HttpStatus.SC_BAD_REQUEST);
+        }
+        int index = Integer.valueOf(filePart.substring(slash + 1));
+        o.parts.put(index, body);
+        o.partDescriptions.put(index, mapper.createObjectNode().put("md5", md5)
+                .put("size", body.length).put("state", "complete"));
+        return new InMemoryResponse(HttpStatus.SC_OK);
+    }
+
+    /**
+     * Returns the response to a GET of a file's download URL. It is called without the lock, since
+     * the parts of a closed file do not change.
+     */
+    private static CloseableHttpResponse getContent(List<byte[]> parts, Header rangeHeader) {
+        long length = getSize(parts);
+        if (rangeHeader == null) {
+            InMemoryResponse response = new InMemoryResponse(HttpStatus.SC_OK);
+            response.setEntity(new ByteArrayEntity(copyRange(parts, 0, length)));
+            return response;
+        }
+
+        Matcher range = RANGE_RE.matcher(rangeHeader.getValue().trim());
+        long start;
+        long end;
+        if (!range.matches() || range.group(1).isEmpty() && range.group(2).isEmpty()) {
+            return new InMemoryResponse(HttpStatus.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+        } else if (range.group(1).isEmpty()) {
+            // Suffix range: the last N bytes
+            start = Math.max(length - Long.parseLong(range.group(2)), 0);
+            end = length - 1;
+        } else {
+            start = Long.parseLong(range.group(1));
+            end = range.group(2).isEmpty() ? length - 1 : Math.min(
+                    Long.parseLong(range.group(2)), length - 1);
+        }
+        if (start >= length || start > end) {
+            InMemoryResponse response =
+                    new InMemoryResponse(HttpStatus.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader("Content-Range", "bytes */" + length);
+            return response;
+        }
+        InMemoryResponse response = new InMemoryResponse(HttpStatus.SC_PARTIAL_CONTENT);
+        response.setHeader("Content-Range", "bytes " + start + "-" + end + "/" + length);
+        response.setEntity(new ByteArrayEntity(copyRange(parts, start, end + 1)));
+        return response;
+    }
+
+    // GTables
+
+    private static long getTableSize(DataObject o) {
+        long size = 0;
+        for (List<JsonNode> part : o.rowParts.values()) {
+            for (JsonNode row : part) {
+                size += row.toString().length();
+            }
+        }
+        if (o.rows != null) {
+            for (JsonNode row : o.rows) {
+                size += row.toString().length();
+            }
+        }
+        return size;
+    }
+
+    private static void addRows(DataObject o, JsonNode input) {
+        checkOpen(o);
+        JsonNode data = input.get("data");
+        if (data == null || !data.isArray()) {
+            throw invalidInput("Expected key \"data\" of input to be an array");
+        }
+        int part = input.path("part").asInt(1);
+        List<JsonNode> rows = o.rowParts.get(part);
+        if (rows == null) {
+            rows = Lists.newArrayList();
+            o.rowParts.put(part, rows);
+        }
+        for (JsonNode row : data) {
+            if (!row.isArray() || row.size() != o.columns.size()) {
+                throw invalidInput("Each row must be an array with one value per column");
+            }
+            rows.add(row);
+        }
+    }
+
+    private static JsonNode getRows(DataObject o, JsonNode input) {
+        if (o.rows == null) {
+            throw invalidState("The GTable " + o.id + " is not closed");
+        }
+        int starting = input.path("starting").asInt(0);
+        int limit = input.path("limit").asInt(1000);
+        int end = Math.min(o.rows.size(), starting + limit);
+        ObjectNode output = mapper.createObjectNode();
+        output.put("length", Math.max(end - starting, 0));
+        if (end < o.rows.size()) {
+            output.put("next", end);
+        } else {
+            output.putNull("next");
+        }
+        ArrayNode data = output.putArray("data");
+        for (int i = starting; i < end; ++i) {
+            ArrayNode row = data.addArray();
+            row.add(i);
+            row.addAll((ArrayNode) o.rows.get(i));
+        }
+        return output;
+    }
+
+}
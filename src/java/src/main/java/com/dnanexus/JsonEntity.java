@@ -0,0 +1,190 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ContentType;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.common.base.Preconditions;
+
+/**
+ * HTTP request entity that serializes an object to JSON directly onto the connection, without
+ * building an intermediate JSON tree or String.
+ *
+ * <p>
+ * Small payloads (up to {@link #MAX_BUFFERED_LENGTH} bytes, which covers nearly all API calls) are
+ * serialized once, the first time the body is needed, and sent with a fixed Content-Length; a
+ * retried request resends the same bytes. Larger payloads are never held in memory: they are sent
+ * with chunked transfer encoding and serialized again straight onto the connection each time the
+ * entity is written, so the entity is repeatable either way. The object must not be modified until
+ * the request has been sent.
+ * </p>
+ */
+class JsonEntity extends AbstractHttpEntity {
+
+    /**
+     * Largest serialized payload that is buffered and sent with a fixed Content-Length.
+     */
+    static final int MAX_BUFFERED_LENGTH = 64 * 1024;
+
+    /**
+     * Writer used to serialize request payloads. The generator must not close the connection's
+     * output stream, which is owned by the HTTP client.
+     */
+    private static final ObjectWriter writer = new ObjectMapper().configure(
+            JsonGenerator.Feature.AUTO_CLOSE_TARGET, false).writer();
+
+    /**
+     * Thrown by {@link BoundedOutputStream} to abandon buffering a payload that is too large.
+     */
+    private static class PayloadTooLargeException extends IOException {
+        private static final long serialVersionUID = 1L;
+    }
+
+    /**
+     * Output stream that collects at most {@link #MAX_BUFFERED_LENGTH} bytes.
+     */
+    private static class BoundedOutputStream extends OutputStream {
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (buffer.size() + len > MAX_BUFFERED_LENGTH) {
+                throw new PayloadTooLargeException();
+            }
+            buffer.write(b, off, len);
+        }
+    }
+
+    private final Object value;
+
+    /**
+     * Serialized value, once it has been needed, or null if it has not been needed yet or is too
+     * large to buffer.
+     */
+    private byte[] content;
+
+    /**
+     * Whether the value has been serialized (or found to be too large) to determine the length of
+     * the body.
+     */
+    private boolean measured = false;
+
+    /**
+     * Creates an entity that serializes the specified object.
+     *
+     * @param value object to be serialized to JSON (a {@code JsonNode} or any object that can be
+     *        serialized by Jackson)
+     */
+    public JsonEntity(Object value) {
+        this.value = Preconditions.checkNotNull(value, "value may not be null");
+        setContentType(ContentType.APPLICATION_JSON.toString());
+    }
+
+    /**
+     * Returns the serialized value, serializing it on the first call, or null if it is longer than
+     * {@link #MAX_BUFFERED_LENGTH} bytes.
+     *
+     * @throws IllegalArgumentException if the value cannot be serialized. This is a programming
+     *         error rather than a transient I/O error, so it must not be retried.
+     */
+    private synchronized byte[] getBytes() {
+        if (!measured) {
+            BoundedOutputStream out = new BoundedOutputStream();
+            try {
+                writer.writeValue(out, value);
+                content = out.buffer.toByteArray();
+            } catch (PayloadTooLargeException e) {
+                setChunked(true);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException(e);
+            } catch (IOException e) {
+                // Writing to a byte array does not fail
+                throw new AssertionError(e);
+            }
+            measured = true;
+        }
+        return content;
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public boolean isChunked() {
+        getBytes();
+        return super.isChunked();
+    }
+
+    @Override
+    public long getContentLength() {
+        byte[] bytes = getBytes();
+        return bytes == null ? -1 : bytes.length;
+    }
+
+    @Override
+    public InputStream getContent() {
+        byte[] bytes = getBytes();
+        if (bytes == null) {
+            try {
+                bytes = writer.writeValueAsBytes(value);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+        return new ByteArrayInputStream(bytes);
+    }
+
+    @Override
+    public void writeTo(OutputStream outstream) throws IOException {
+        Preconditions.checkNotNull(outstream, "outstream may not be null");
+        byte[] bytes = getBytes();
+        if (bytes != null) {
+            outstream.write(bytes);
+        } else {
+            try {
+                writer.writeValue(outstream, value);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+        outstream.flush();
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+
+}
@@ -0,0 +1,311 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+
+package com.dnanexus;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Sequential reader of the contents of a file (or of a byte range of it) that downloads chunks
+ * ahead of the reader.
+ *
+ * <p>
+ * Up to {@link DXFile.DownloadOptions#getParallelism()} chunks of
+ * {@link DXFile.DownloadOptions#getChunkSize()} bytes are downloaded in the background while the
+ * current chunk is being read, so that the reader rarely has to wait for the network, and at most
+ * that many chunks (plus the one being read) are held in memory no matter how large the file is. A
+ * chunk whose transfer fails is resumed from where it stopped (see {@link FileDownloader}).
+ * </p>
+ *
+ * <p>
+ * Chunks are held in buffers from the environment's {@link TransferBufferPool}, which are given
+ * back as soon as the chunk has been read (or the reader is closed).
+ * </p>
+ *
+ * <p>
+ * This class is both an {@link InputStream} and a {@link ReadableByteChannel}. Reads are
+ * synchronized. Closing the reader stops any downloads in progress.
+ * </p>
+ */
+class ReadAheadStream extends InputStream implements ReadableByteChannel {
+
+    /**
+     * A chunk that has been submitted for download.
+     */
+    private class PendingChunk implements Callable<Void> {
+        private final long start;
+        private final int length;
+        private Future<?> future;
+
+        /**
+         * Downloaded contents of the chunk, until they are taken by the reader.
+         */
+        private byte[] data;
+
+        /**
+         * Whether the reader was closed, in which case the contents are given back to the pool
+         * as soon as they have been downloaded.
+         */
+        private boolean abandoned = false;
+
+        private PendingChunk(long start, int length) {
+            this.start = start;
+            this.length = length;
+        }
+
+        @Override
+        public Void call() {
+            final byte[] buffer = pool.acquire(length);
+            try {
+                downloader.fetch(start, start + length, new FileDownloader.RangeSink() {
+                    @Override
+                    public void write(long position, byte[] bytes, int n) {
+                        System.arraycopy(bytes, 0, buffer, (int) (position - start), n);
+                    }
+                });
+            } catch (RuntimeException | Error e) {
+                pool.release(buffer);
+                throw e;
+            }
+            synchronized (this) {
+                if (abandoned) {
+                    pool.release(buffer);
+                } else {
+                    data = buffer;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Returns the downloaded contents of the chunk, waiting for the download to complete. If
+         * the download failed, every call throws.
+         */
+        private byte[] take() throws IOException {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            } catch (ExecutionException e) {
+                throw new IOException(e.getCause());
+            }
+            synchronized (this) {
+                byte[] result = data;
+                data = null;
+                return result;
+            }
+        }
+
+        /**
+         * Stops the download, and gives back the contents of the chunk if it has been downloaded.
+         */
+        private void abandon() {
+            future.cancel(true);
+            synchronized (this) {
+                abandoned = true;
+                if (data != null) {
+                    pool.release(data);
+                    data = null;
+                }
+            }
+        }
+    }
+
+    private final FileDownloader downloader;
+    private final TransferBufferPool pool;
+    private final long end;
+    private final long chunkSize;
+    private final int window;
+    private final ExecutorService executor;
+
+    /**
+     * Chunks being downloaded, in order.
+     */
+    private final Deque<PendingChunk> pending = new ArrayDeque<PendingChunk>();
+    private long nextChunkStart;
+
+    /**
+     * Chunk being read, positioned at the next byte to read.
+     */
+    private ByteBuffer chunk;
+
+    private boolean closed = false;
+
+    /**
+     * Creates a reader of the specified range of a file. No data is downloaded until the first
+     * read.
+     *
+     * @param file file to read, which must be closed
+     * @param env environment whose transport and retry policy are used
+     * @param options chunk size (at most {@code Integer.MAX_VALUE - 8}), parallelism, and retry
+     *        options
+     * @param start offset of the first byte to read
+     * @param end offset after the last byte to read (at most the size of the file)
+     */
+    ReadAheadStream(DXFile file, DXEnvironment env, DXFile.DownloadOptions options, long start,
+            long end) {
+        Preconditions.checkArgument(options.getChunkSize() <= Integer.MAX_VALUE - 8,
+                "Chunk size is too large to buffer chunks in memory");
+        this.downloader = new FileDownloader(file, env, options);
+        this.pool = env.getTransferBufferPool();
+        this.nextChunkStart = start;
+        this.end = end;
+        this.chunkSize = options.getChunkSize();
+        this.window = options.getParallelism();
+        this.executor = Executors.newFixedThreadPool(window, new ThreadFactoryBuilder()
+                .setDaemon(true).setNameFormat("dx-file-read-ahead-" + file.getId() + "-%d")
+                .build());
+    }
+
+    /**
+     * Starts downloading chunks until the read-ahead window is full or the end of the file has
+     * been reached.
+     */
+    private void fillWindow() {
+        while (pending.size() < window && nextChunkStart < end) {
+            int length = (int) Math.min(chunkSize, end - nextChunkStart);
+            PendingChunk next = new PendingChunk(nextChunkStart, length);
+            next.future = executor.submit(next);
+            pending.add(next);
+            nextChunkStart += length;
+        }
+    }
+
+    /**
+     * Makes sure that there is a current chunk with bytes left to read, waiting for the next
+     * chunk to be downloaded if necessary.
+     *
+     * @return whether there is anything left to read
+     */
+    private boolean ensureChunk() throws IOException {
+        if (closed) {
+            throw new ClosedChannelException();
+        }
+        while (chunk == null || !chunk.hasRemaining()) {
+            if (chunk != null) {
+                // Give back the chunk that has been read, so that it can be reused for the next
+                pool.release(chunk.array());
+                chunk = null;
+            }
+            fillWindow();
+            PendingChunk next = pending.peek();
+            if (next == null) {
+                return false;
+            }
+            // The chunk stays at the head of the window until it has been taken, so that if its
+            // download failed, every later read fails too instead of skipping it
+            chunk = ByteBuffer.wrap(next.take());
+            pending.poll();
+            // Replace the chunk that was just taken from the window
+            fillWindow();
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized int read() throws IOException {
+        if (!ensureChunk()) {
+            return -1;
+        }
+        return chunk.get() & 0xff;
+    }
+
+    @Override
+    public synchronized int read(byte[] b, int off, int len) throws IOException {
+        Preconditions.checkPositionIndexes(off, off + len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensureChunk()) {
+            return -1;
+        }
+        int n = Math.min(len, chunk.remaining());
+        chunk.get(b, off, n);
+        return n;
+    }
+
+    @Override
+    public synchronized int read(ByteBuffer dst) throws IOException {
+        if (!dst.hasRemaining()) {
+            return 0;
+        }
+        if (!ensureChunk()) {
+            return -1;
+        }
+        int n = Math.min(dst.remaining(), chunk.remaining());
+        ByteBuffer src = chunk.duplicate();
+        src.limit(src.position() + n);
+        dst.put(src);
+        chunk.position(src.position());
+        return n;
+    }
+
+    @Override
+    public synchronized long skip(long n) throws IOException {
+        long skipped = 0;
+        while (skipped < n && ensureChunk()) {
+            int k = (int) Math.min(n - skipped, chunk.remaining());
+            chunk.position(chunk.position() + k);
+            skipped += k;
+        }
+        return skipped;
+    }
+
+    @Override
+    public synchronized int available() {
+        return (closed || chunk == null) ? 0 : chunk.remaining();
+    }
+
+    @Override
+    public synchronized boolean isOpen() {
+        return !closed;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (chunk != null) {
+            pool.release(chunk.array());
+            chunk = null;
+        }
+        for (PendingChunk next : pending) {
+            next.abandon();
+        }
+        pending.clear();
+        executor.shutdownNow();
+    }
+
+}
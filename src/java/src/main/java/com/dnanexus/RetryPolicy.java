@@ -0,0 +1,290 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.dnanexus.DXHTTPRequest.RetryStrategy;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+
+/**
+ * Immutable class describing how and when failed API requests are retried.
+ *
+ * <p>
+ * Which failures may be retried at all is determined by the {@link RetryStrategy} of each request
+ * (see the <a
+ * href="https://github.com/dnanexus/dx-toolkit/blob/master/src/api_wrappers/README.md">API
+ * wrappers common documentation</a>). The retry policy determines how long to wait before each
+ * retry and when to give up.
+ * </p>
+ *
+ * <p>
+ * Waits between retries use "decorrelated jitter": each wait is chosen uniformly at random between
+ * the base delay and three times the previous wait, and is then capped at the maximum delay. This
+ * grows the waits roughly exponentially while keeping many clients that failed at the same time
+ * from retrying in lockstep. Waits requested by the server with 503 Service Unavailable and
+ * Retry-After are honored (up to a configurable cap), are spread out by a small random amount, and
+ * do not count against the maximum number of retries.
+ * </p>
+ *
+ * <p>
+ * A retry policy is set on a {@link DXEnvironment} with
+ * {@link DXEnvironment.Builder#setRetryPolicy(RetryPolicy)} and applies to all requests made with
+ * that environment.
+ * </p>
+ */
+public class RetryPolicy {
+
+    /**
+     * Builder class for creating RetryPolicy objects.
+     */
+    public static class Builder {
+        /**
+         * Creates a Builder object with the default settings.
+         *
+         * @return new Builder object
+         */
+        public static Builder fromDefaults() {
+            return new Builder(DEFAULT);
+        }
+
+        /**
+         * Creates a Builder object with initial settings copied from the specified policy.
+         *
+         * @param templatePolicy policy to initialize this Builder from
+         *
+         * @return new Builder object
+         */
+        public static Builder fromPolicy(RetryPolicy templatePolicy) {
+            return new Builder(Preconditions.checkNotNull(templatePolicy));
+        }
+
+        private int maxRetries;
+        private long baseDelayMillis;
+        private long safeToRetryBaseDelayMillis;
+        private long maxDelayMillis;
+        private long maxElapsedTimeMillis;
+        private long maxServiceUnavailableWaitMillis;
+
+        private Builder(RetryPolicy templatePolicy) {
+            maxRetries = templatePolicy.maxRetries;
+            baseDelayMillis = templatePolicy.baseDelayMillis;
+            safeToRetryBaseDelayMillis = templatePolicy.safeToRetryBaseDelayMillis;
+            maxDelayMillis = templatePolicy.maxDelayMillis;
+            maxElapsedTimeMillis = templatePolicy.maxElapsedTimeMillis;
+            maxServiceUnavailableWaitMillis = templatePolicy.maxServiceUnavailableWaitMillis;
+        }
+
+        /**
+         * Builds the RetryPolicy from the settings configured so far.
+         *
+         * @return newly created RetryPolicy
+         */
+        public RetryPolicy build() {
+            return new RetryPolicy(maxRetries, baseDelayMillis, safeToRetryBaseDelayMillis,
+                    Math.max(maxDelayMillis, Math.max(baseDelayMillis, safeToRetryBaseDelayMillis)),
+                    maxElapsedTimeMillis, maxServiceUnavailableWaitMillis);
+        }
+
+        /**
+         * Sets the minimum wait before retrying a request that is not safe to retry (such a
+         * request is only retried if the server reported an internal error).
+         *
+         * @param delay minimum wait before each retry
+         * @param unit unit of {@code delay}
+         *
+         * @return the same Builder object
+         */
+        public Builder setBaseDelay(long delay, TimeUnit unit) {
+            Preconditions.checkArgument(delay > 0, "delay must be positive");
+            this.baseDelayMillis = Math.max(unit.toMillis(delay), 1);
+            return this;
+        }
+
+        /**
+         * Sets the maximum wait before any one retry, not including waits requested by the server
+         * with 503 Service Unavailable.
+         *
+         * @param delay maximum wait before each retry
+         * @param unit unit of {@code delay}
+         *
+         * @return the same Builder object
+         */
+        public Builder setMaxDelay(long delay, TimeUnit unit) {
+            Preconditions.checkArgument(delay > 0, "delay must be positive");
+            this.maxDelayMillis = Math.max(unit.toMillis(delay), 1);
+            return this;
+        }
+
+        /**
+         * Sets the maximum time that may elapse between the start of a request and its last
+         * retry. A request that would have to wait beyond this time before retrying fails instead.
+         *
+         * @param time maximum elapsed time per request
+         * @param unit unit of {@code time}
+         *
+         * @return the same Builder object
+         */
+        public Builder setMaxElapsedTime(long time, TimeUnit unit) {
+            Preconditions.checkArgument(time > 0, "time must be positive");
+            this.maxElapsedTimeMillis = unit.toMillis(time);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of retries after errors. Retries after 503 Service Unavailable
+         * are not counted.
+         *
+         * @param maxRetries maximum number of retries, or 0 to not retry after errors
+         *
+         * @return the same Builder object
+         */
+        public Builder setMaxRetries(int maxRetries) {
+            Preconditions.checkArgument(maxRetries >= 0, "maxRetries may not be negative");
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * Sets the maximum time to wait after a 503 Service Unavailable response, even if the
+         * server asked us to wait longer with a Retry-After header.
+         *
+         * @param wait maximum wait after each 503 response
+         * @param unit unit of {@code wait}
+         *
+         * @return the same Builder object
+         */
+        public Builder setMaxServiceUnavailableWait(long wait, TimeUnit unit) {
+            Preconditions.checkArgument(wait > 0, "wait must be positive");
+            this.maxServiceUnavailableWaitMillis = unit.toMillis(wait);
+            return this;
+        }
+
+        /**
+         * Sets the minimum wait before retrying a request that is safe to retry. Since such
+         * requests are idempotent, they can usually be retried sooner than other requests.
+         *
+         * @param delay minimum wait before each retry
+         * @param unit unit of {@code delay}
+         *
+         * @return the same Builder object
+         */
+        public Builder setSafeToRetryBaseDelay(long delay, TimeUnit unit) {
+            Preconditions.checkArgument(delay > 0, "delay must be positive");
+            this.safeToRetryBaseDelayMillis = Math.max(unit.toMillis(delay), 1);
+            return this;
+        }
+    }
+
+    /**
+     * The default retry policy: up to 6 retries, waiting at least 1 second and at most 32 seconds
+     * before each retry, with no limit on the total time spent or on waits requested by the server.
+     */
+    public static final RetryPolicy DEFAULT = new RetryPolicy(6, 1000, 1000, 32000,
+            Long.MAX_VALUE, Long.MAX_VALUE);
+
+    /**
+     * Fraction of the wait requested by a 503 response by which the actual wait is randomly
+     * extended.
+     */
+    private static final double SERVICE_UNAVAILABLE_JITTER = 0.2;
+
+    private final int maxRetries;
+    private final long baseDelayMillis;
+    private final long safeToRetryBaseDelayMillis;
+    private final long maxDelayMillis;
+    private final long maxElapsedTimeMillis;
+    private final long maxServiceUnavailableWaitMillis;
+
+    private RetryPolicy(int maxRetries, long baseDelayMillis, long safeToRetryBaseDelayMillis,
+            long maxDelayMillis, long maxElapsedTimeMillis, long maxServiceUnavailableWaitMillis) {
+        this.maxRetries = maxRetries;
+        this.baseDelayMillis = baseDelayMillis;
+        this.safeToRetryBaseDelayMillis = safeToRetryBaseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.maxElapsedTimeMillis = maxElapsedTimeMillis;
+        this.maxServiceUnavailableWaitMillis = maxServiceUnavailableWaitMillis;
+    }
+
+    /**
+     * Returns the maximum number of retries after errors.
+     *
+     * @return maximum number of retries
+     */
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * Returns the maximum time that may elapse between the start of a request and its last
+     * retry, in milliseconds.
+     *
+     * @return maximum elapsed time, or {@code Long.MAX_VALUE} if there is no limit
+     */
+    public long getMaxElapsedTimeMillis() {
+        return maxElapsedTimeMillis;
+    }
+
+    /**
+     * Returns the time to wait before the next retry after an error (for use by
+     * {@link DXHTTPRequest}).
+     *
+     * @param retryStrategy retry strategy of the request
+     * @param previousDelayMillis the previous wait for the same request, or 0 if this is the first
+     *        retry
+     *
+     * @return time to wait, in milliseconds
+     */
+    long getRetryDelayMillis(RetryStrategy retryStrategy, long previousDelayMillis) {
+        long base = (retryStrategy == RetryStrategy.SAFE_TO_RETRY) ? safeToRetryBaseDelayMillis
+                : baseDelayMillis;
+        long upper = Math.min(maxDelayMillis, Math.max(base, previousDelayMillis) * 3);
+        if (upper <= base) {
+            return base;
+        }
+        return ThreadLocalRandom.current().nextLong(base, upper + 1);
+    }
+
+    /**
+     * Returns the time to wait before retrying after a 503 Service Unavailable response (for use
+     * by {@link DXHTTPRequest}).
+     *
+     * @param retryAfterSeconds time the server asked us to wait
+     *
+     * @return time to wait, in milliseconds
+     */
+    long getServiceUnavailableDelayMillis(int retryAfterSeconds) {
+        long requested = TimeUnit.SECONDS.toMillis(Math.max(retryAfterSeconds, 0));
+        long jitter = (long) (requested * SERVICE_UNAVAILABLE_JITTER
+                * ThreadLocalRandom.current().nextDouble());
+        return Math.min(requested + jitter, maxServiceUnavailableWaitMillis);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("maxRetries", maxRetries)
+                .add("baseDelayMillis", baseDelayMillis)
+                .add("safeToRetryBaseDelayMillis", safeToRetryBaseDelayMillis)
+                .add("maxDelayMillis", maxDelayMillis)
+                .add("maxElapsedTimeMillis", maxElapsedTimeMillis)
+                .add("maxServiceUnavailableWaitMillis", maxServiceUnavailableWaitMillis)
+                .toString();
+    }
+
+}
@@ -0,0 +1,422 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+/**
+ * Pool of reusable buffers for the parts and chunks of file transfers.
+ *
+ * <p>
+ * Streaming uploads ({@link DXFile#upload(java.io.InputStream)}) read each part, and read-ahead
+ * downloads ({@link DXFile#openInputStream()}) download each chunk, straight into an array taken
+ * from the pool of their environment, and give it back when the part has been uploaded or the
+ * chunk has been read. Arrays are kept in the pool by size, so a process that moves many files
+ * with the same part or chunk size allocates its part-sized arrays once instead of allocating
+ * (and garbage collecting) new ones for every part.
+ * </p>
+ *
+ * <p>
+ * The total size of the arrays owned by a pool (in use or idle) is capped. Idle arrays of other
+ * sizes are discarded to make room for a new array; when arrays in use alone reach the cap, the
+ * pool hands out arrays that are not pooled, so transfers never wait for a buffer.
+ * </p>
+ *
+ * <p>
+ * Unless another pool is set with {@link DXEnvironment.Builder#setTransferBufferPool}, all
+ * environments share the pool returned by {@link #getDefault()}. {@link #getStats()} reports the
+ * hit rate and occupancy of a pool. The default pool, and pools created with a name, are also
+ * published as an MXBean named {@code com.dnanexus:type=TransferBufferPool,name=<name>} on the
+ * platform MBean server, next to the {@link APIMetrics} beans.
+ * </p>
+ *
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ */
+public final class TransferBufferPool {
+
+    /**
+     * Management interface of a pool.
+     */
+    public static interface PoolMetricsMXBean {
+        /**
+         * Returns the number of buffers handed out that were reused from the pool.
+         *
+         * @return number of buffers
+         */
+        long getHits();
+
+        /**
+         * Returns the number of buffers allocated for the pool because no idle buffer of the
+         * requested size was available.
+         *
+         * @return number of buffers
+         */
+        long getMisses();
+
+        /**
+         * Returns the number of buffers handed out without being pooled because the pool was at
+         * its cap.
+         *
+         * @return number of buffers
+         */
+        long getOverflows();
+
+        /**
+         * Returns the fraction of buffers handed out that were reused from the pool.
+         *
+         * @return hit rate between 0 and 1 (0 if no buffers have been handed out)
+         */
+        double getHitRate();
+
+        /**
+         * Returns the maximum total size of the buffers owned by the pool.
+         *
+         * @return number of bytes
+         */
+        long getMaxBytes();
+
+        /**
+         * Returns the total size of the buffers owned by the pool, whether in use or idle.
+         *
+         * @return number of bytes
+         */
+        long getPooledBytes();
+
+        /**
+         * Returns the total size of the pooled buffers in use by transfers.
+         *
+         * @return number of bytes
+         */
+        long getInUseBytes();
+
+        /**
+         * Returns the total size of the idle buffers waiting in the pool to be reused.
+         *
+         * @return number of bytes
+         */
+        long getIdleBytes();
+    }
+
+    /**
+     * Snapshot of the usage of a pool.
+     */
+    public static final class Stats implements PoolMetricsMXBean {
+        private final long hits;
+        private final long misses;
+        private final long overflows;
+        private final long maxBytes;
+        private final long pooledBytes;
+        private final long idleBytes;
+
+        private Stats(long hits, long misses, long overflows, long maxBytes, long pooledBytes,
+                long idleBytes) {
+            this.hits = hits;
+            this.misses = misses;
+            this.overflows = overflows;
+            this.maxBytes = maxBytes;
+            this.pooledBytes = pooledBytes;
+            this.idleBytes = idleBytes;
+        }
+
+        @Override
+        public long getHits() {
+            return hits;
+        }
+
+        @Override
+        public long getMisses() {
+            return misses;
+        }
+
+        @Override
+        public long getOverflows() {
+            return overflows;
+        }
+
+        @Override
+        public double getHitRate() {
+            long requests = hits + misses + overflows;
+            return (requests == 0) ? 0 : (double) hits / requests;
+        }
+
+        @Override
+        public long getMaxBytes() {
+            return maxBytes;
+        }
+
+        @Override
+        public long getPooledBytes() {
+            return pooledBytes;
+        }
+
+        @Override
+        public long getInUseBytes() {
+            return pooledBytes - idleBytes;
+        }
+
+        @Override
+        public long getIdleBytes() {
+            return idleBytes;
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this).add("hits", hits).add("misses", misses)
+                    .add("overflows", overflows).add("maxBytes", maxBytes)
+                    .add("pooledBytes", pooledBytes).add("idleBytes", idleBytes).toString();
+        }
+    }
+
+    /**
+     * Live view of the counters of a pool, published through JMX.
+     */
+    private static class LiveMetrics implements PoolMetricsMXBean {
+        private final TransferBufferPool pool;
+
+        private LiveMetrics(TransferBufferPool pool) {
+            this.pool = pool;
+        }
+
+        @Override
+        public long getHits() {
+            return pool.getStats().getHits();
+        }
+
+        @Override
+        public long getMisses() {
+            return pool.getStats().getMisses();
+        }
+
+        @Override
+        public long getOverflows() {
+            return pool.getStats().getOverflows();
+        }
+
+        @Override
+        public double getHitRate() {
+            return pool.getStats().getHitRate();
+        }
+
+        @Override
+        public long getMaxBytes() {
+            return pool.getStats().getMaxBytes();
+        }
+
+        @Override
+        public long getPooledBytes() {
+            return pool.getStats().getPooledBytes();
+        }
+
+        @Override
+        public long getInUseBytes() {
+            return pool.getStats().getInUseBytes();
+        }
+
+        @Override
+        public long getIdleBytes() {
+            return pool.getStats().getIdleBytes();
+        }
+    }
+
+    private static final String JMX_DOMAIN = "com.dnanexus";
+
+    /**
+     * Cap of the default pool, enough for a few concurrent transfers with the default part and
+     * chunk sizes.
+     */
+    private static final long DEFAULT_MAX_BYTES = 256L * 1024 * 1024;
+
+    private static final TransferBufferPool DEFAULT = create("default", DEFAULT_MAX_BYTES);
+
+    /**
+     * Returns the pool shared by all environments for which no other pool was set.
+     *
+     * @return default pool
+     */
+    public static TransferBufferPool getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Creates a pool whose buffers take up at most the specified number of bytes in total.
+     *
+     * @param maxBytes maximum total size of the buffers owned by the pool; 0 disables pooling, so
+     *        that every buffer is newly allocated
+     *
+     * @return new pool
+     */
+    public static TransferBufferPool create(long maxBytes) {
+        Preconditions.checkArgument(maxBytes >= 0, "maxBytes may not be negative");
+        return new TransferBufferPool(maxBytes);
+    }
+
+    /**
+     * Creates a pool whose buffers take up at most the specified number of bytes in total, and
+     * publishes its metrics as an MXBean named
+     * {@code com.dnanexus:type=TransferBufferPool,name=<name>}. The MBean server keeps the pool
+     * (and its idle buffers) alive, so named pools should be long-lived.
+     *
+     * @param name name of the pool
+     * @param maxBytes maximum total size of the buffers owned by the pool; 0 disables pooling, so
+     *        that every buffer is newly allocated
+     *
+     * @return new pool
+     */
+    public static TransferBufferPool create(String name, long maxBytes) {
+        Preconditions.checkNotNull(name, "name may not be null");
+        TransferBufferPool pool = create(maxBytes);
+        register(pool, name);
+        return pool;
+    }
+
+    /**
+     * Publishes the metrics of a pool through JMX. Failure to do so (for example, because another
+     * pool was already registered with the same name) is not an error.
+     */
+    private static void register(TransferBufferPool pool, String name) {
+        try {
+            ObjectName objectName = new ObjectName(JMX_DOMAIN + ":type=TransferBufferPool,name="
+                    + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new LiveMetrics(pool),
+                    objectName);
+        } catch (JMException e) {
+            // Metrics are still available through getStats
+        } catch (SecurityException e) {
+            // Metrics are still available through getStats
+        }
+    }
+
+    private final long maxBytes;
+
+    /**
+     * Idle buffers by size, most recently used size last.
+     */
+    private final Map<Integer, Deque<byte[]>> idle = Maps.newLinkedHashMap();
+
+    /**
+     * Pooled buffers that have been handed out, by identity.
+     */
+    private final Set<byte[]> inUse = Sets.newIdentityHashSet();
+
+    private long hits;
+    private long misses;
+    private long overflows;
+    private long pooledBytes;
+    private long idleBytes;
+
+    private TransferBufferPool(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns a buffer of exactly the specified size. Its contents are undefined. The buffer must
+     * be given back with {@link #release(byte[])} once it is no longer used; a buffer that is not
+     * given back is garbage collected, but its size continues to count toward the cap of the
+     * pool.
+     *
+     * @param size size of the buffer
+     *
+     * @return buffer
+     */
+    synchronized byte[] acquire(int size) {
+        Preconditions.checkArgument(size >= 0, "size may not be negative");
+        Deque<byte[]> buffers = idle.remove(size);
+        if (buffers != null) {
+            byte[] buffer = buffers.pollLast();
+            if (!buffers.isEmpty()) {
+                idle.put(size, buffers);
+            }
+            idleBytes -= size;
+            ++hits;
+            inUse.add(buffer);
+            return buffer;
+        }
+        // Discard idle buffers of other sizes, least recently used first, to make room
+        Iterator<Deque<byte[]>> sizes = idle.values().iterator();
+        while (pooledBytes + size > maxBytes && sizes.hasNext()) {
+            Deque<byte[]> discarded = sizes.next();
+            while (pooledBytes + size > maxBytes && !discarded.isEmpty()) {
+                int length = discarded.pollFirst().length;
+                pooledBytes -= length;
+                idleBytes -= length;
+            }
+            if (discarded.isEmpty()) {
+                sizes.remove();
+            }
+        }
+        byte[] buffer = new byte[size];
+        if (pooledBytes + size <= maxBytes) {
+            pooledBytes += size;
+            ++misses;
+            inUse.add(buffer);
+        } else {
+            ++overflows;
+        }
+        return buffer;
+    }
+
+    /**
+     * Gives back a buffer obtained from {@link #acquire(int)}, so that it can be reused. The
+     * buffer must not be used after it has been given back.
+     *
+     * @param buffer buffer to give back
+     */
+    synchronized void release(byte[] buffer) {
+        if (!inUse.remove(buffer)) {
+            // Buffers handed out at the cap are not pooled
+            return;
+        }
+        int size = buffer.length;
+        Deque<byte[]> buffers = idle.remove(size);
+        if (buffers == null) {
+            buffers = new ArrayDeque<byte[]>();
+        }
+        buffers.addLast(buffer);
+        idle.put(size, buffers);
+        idleBytes += size;
+    }
+
+    /**
+     * Returns the current usage of this pool.
+     *
+     * @return snapshot of the pool's counters
+     */
+    public synchronized Stats getStats() {
+        return new Stats(hits, misses, overflows, maxBytes, pooledBytes, idleBytes);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("stats", getStats()).toString();
+    }
+
+}
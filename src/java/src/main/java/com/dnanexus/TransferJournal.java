@@ -0,0 +1,274 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+
+/**
+ * Journal of the parts of a transfer that have completed, kept in a small local file so that a
+ * transfer that is interrupted (for example, because the process is killed) can be resumed by
+ * transferring only the missing parts.
+ *
+ * <p>
+ * The journal is a sequence of JSON lines. The first line is a {@link Header} describing the
+ * transfer; each subsequent line records one completed part and its MD5 digest. Lines are only
+ * appended, and each is forced to disk as it is written, so a journal left behind by a process
+ * that was killed is at worst missing its last line.
+ * </p>
+ *
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ */
+class TransferJournal implements Closeable {
+
+    /**
+     * Suffix appended to the name of the local file to get the name of its journal.
+     */
+    static final String SUFFIX = ".dxjournal";
+
+    /**
+     * Identifies a transfer. A journal is only used to resume a transfer with an equal header.
+     */
+    @JsonInclude(Include.NON_NULL)
+    static class Header {
+        @JsonProperty
+        private String type;
+        @JsonProperty
+        private String fileId;
+        @JsonProperty
+        private long size;
+        @JsonProperty
+        private long partSize;
+        @JsonProperty
+        private Long lastModified;
+
+        private Header() {}
+
+        /**
+         * Creates a header.
+         *
+         * @param type kind of transfer, e.g. "upload"
+         * @param fileId ID of the remote file
+         * @param size size of the data transferred
+         * @param partSize size of each part
+         * @param lastModified modification time of the local source file in milliseconds, or
+         *        {@code null} if it is the destination
+         */
+        Header(String type, String fileId, long size, long partSize, Long lastModified) {
+            this.type = Preconditions.checkNotNull(type);
+            this.fileId = Preconditions.checkNotNull(fileId);
+            this.size = size;
+            this.partSize = partSize;
+            this.lastModified = lastModified;
+        }
+
+        /**
+         * Returns the ID of the remote file.
+         *
+         * @return file ID
+         */
+        String getFileId() {
+            return fileId;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Header)) {
+                return false;
+            }
+            Header other = (Header) obj;
+            return Objects.equal(type, other.type) && Objects.equal(fileId, other.fileId)
+                    && size == other.size && partSize == other.partSize
+                    && Objects.equal(lastModified, other.lastModified);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(type, fileId, size, partSize, lastModified);
+        }
+    }
+
+    /**
+     * A completed part.
+     */
+    private static class Entry {
+        @JsonProperty
+        private int index;
+        @JsonProperty
+        private String md5;
+
+        private Entry() {}
+
+        private Entry(int index, String md5) {
+            this.index = index;
+            this.md5 = md5;
+        }
+    }
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Returns the path of the journal of the specified local file.
+     *
+     * @param path local file being uploaded or downloaded
+     *
+     * @return path of its journal
+     */
+    static Path getJournalPath(Path path) {
+        return path.resolveSibling(path.getFileName() + SUFFIX);
+    }
+
+    /**
+     * Reads the header of a journal.
+     *
+     * @param path path of the journal
+     *
+     * @return header, or {@code null} if there is no journal or its header cannot be read
+     *
+     * @throws IOException if the journal exists but could not be read
+     */
+    static Header readHeader(Path path) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            return (line == null) ? null : MAPPER.reader(Header.class).<Header>readValue(line);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Opens the journal of a transfer. If the journal exists and has the specified header, the
+     * parts it records are loaded; otherwise it is replaced with an empty journal.
+     *
+     * @param path path of the journal
+     * @param header header of the transfer
+     *
+     * @return journal, which must be closed (or deleted) when the transfer ends
+     *
+     * @throws IOException if the journal could not be read or written
+     */
+    static TransferJournal open(Path path, Header header) throws IOException {
+        Map<Integer, String> completed = Maps.newHashMap();
+        if (header.equals(readHeader(path))) {
+            try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                reader.readLine();
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    Entry entry;
+                    try {
+                        entry = MAPPER.reader(Entry.class).readValue(line);
+                    } catch (JsonProcessingException e) {
+                        // A line left incomplete when the previous process was killed
+                        break;
+                    }
+                    completed.put(entry.index, entry.md5);
+                }
+            }
+        }
+        // Rewrite the journal (with a single write), in case its last line is incomplete
+        TransferJournal journal = new TransferJournal(path, completed);
+        StringBuilder lines = new StringBuilder(toLine(header));
+        for (Map.Entry<Integer, String> entry : completed.entrySet()) {
+            lines.append(toLine(new Entry(entry.getKey(), entry.getValue())));
+        }
+        journal.append(lines.toString());
+        return journal;
+    }
+
+    private final Path path;
+    private final Map<Integer, String> completed;
+    private final FileChannel channel;
+
+    private TransferJournal(Path path, Map<Integer, String> completed) throws IOException {
+        this.path = path;
+        this.completed = ImmutableMap.copyOf(completed);
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Returns the parts that had already completed when the journal was opened.
+     *
+     * @return map from part index to MD5 digest (hex-encoded)
+     */
+    Map<Integer, String> getCompleted() {
+        return completed;
+    }
+
+    /**
+     * Records that a part has completed, forcing the record to disk before returning.
+     *
+     * @param index part index
+     * @param md5 MD5 digest of the part (hex-encoded)
+     *
+     * @throws IOException if the record could not be written
+     */
+    void record(int index, String md5) throws IOException {
+        append(toLine(new Entry(index, md5)));
+    }
+
+    private static String toLine(Object value) throws IOException {
+        return MAPPER.writeValueAsString(value) + "\n";
+    }
+
+    private synchronized void append(String lines) throws IOException {
+        ByteBuffer data = ByteBuffer.wrap(lines.getBytes(StandardCharsets.UTF_8));
+        while (data.hasRemaining()) {
+            channel.write(data);
+        }
+        channel.force(false);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Closes and deletes the journal, once the transfer has completed.
+     *
+     * @throws IOException if the journal could not be deleted
+     */
+    void delete() throws IOException {
+        close();
+        Files.deleteIfExists(path);
+    }
+
+}
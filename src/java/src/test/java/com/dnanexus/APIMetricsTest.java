@@ -0,0 +1,65 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.dnanexus.APIMetrics.RouteMetrics;
+
+public class APIMetricsTest {
+
+    @Test
+    public void testRoutes() {
+        Assert.assertEquals("file/describe",
+                APICallStats.getRoute("/file-B0000000000000000000000x/describe"));
+        Assert.assertEquals("system/findDataObjects",
+                APICallStats.getRoute("/system/findDataObjects"));
+        Assert.assertEquals("app/run", APICallStats.getRoute("/app-bwa_mem/1.0.0/run"));
+        Assert.assertEquals("applet/new", APICallStats.getRoute("/applet/new"));
+    }
+
+    @Test
+    public void testRecord() {
+        APIMetrics metrics = APIMetrics.getInstance();
+        Assert.assertNull(metrics.getRoute("test/describe"));
+
+        metrics.record(new APICallStats("/test-xxxx/describe", true, 3, 1, 1, 30, 20,
+                TimeUnit.MILLISECONDS.toNanos(150), TimeUnit.MILLISECONDS.toNanos(100)));
+        metrics.record(new APICallStats("/test-yyyy/describe", false, 1, 0, 0, 10, 0,
+                TimeUnit.MILLISECONDS.toNanos(3), 0));
+
+        RouteMetrics routeMetrics = metrics.getRoute("test/describe");
+        Assert.assertNotNull(routeMetrics);
+        Assert.assertSame(routeMetrics, metrics.getRoutes().get("test/describe"));
+        Assert.assertEquals(2, routeMetrics.getCalls());
+        Assert.assertEquals(1, routeMetrics.getFailedCalls());
+        Assert.assertEquals(4, routeMetrics.getAttempts());
+        Assert.assertEquals(1, routeMetrics.getServerErrors());
+        Assert.assertEquals(1, routeMetrics.getServiceUnavailableResponses());
+        Assert.assertEquals(40, routeMetrics.getBytesSent());
+        Assert.assertEquals(20, routeMetrics.getBytesReceived());
+        Assert.assertEquals(153, routeMetrics.getTotalLatencyMillis());
+        Assert.assertEquals(150, routeMetrics.getMaxLatencyMillis());
+        Assert.assertEquals(100, routeMetrics.getTotalBackoffMillis());
+        Assert.assertEquals(5, routeMetrics.getLatencyP50Millis());
+        Assert.assertEquals(150, routeMetrics.getLatencyP99Millis());
+    }
+
+}
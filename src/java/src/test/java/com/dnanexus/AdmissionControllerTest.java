@@ -0,0 +1,121 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.dnanexus.AdmissionController.Outcome;
+
+public class AdmissionControllerTest {
+
+    @Test
+    public void testLimitAdaptsToErrors() throws InterruptedException {
+        // Long enough that the errors below are all considered part of the same burst
+        long latency = TimeUnit.SECONDS.toNanos(10);
+        AdmissionController controller = new AdmissionController();
+        Assert.assertEquals(AdmissionController.INITIAL_LIMIT, controller.getLimit());
+
+        // Fill the limit; the next request has to wait
+        for (int i = 0; i < AdmissionController.INITIAL_LIMIT; ++i) {
+            Assert.assertTrue(controller.acquire(0, TimeUnit.MILLISECONDS));
+        }
+        Assert.assertFalse(controller.acquire(10, TimeUnit.MILLISECONDS));
+
+        // Successes while saturated grow the limit quickly at first
+        controller.release(Outcome.SUCCESS, "file/describe", latency);
+        controller.release(Outcome.SUCCESS, "file/describe", latency);
+        Assert.assertEquals(AdmissionController.INITIAL_LIMIT + 2, controller.getLimit());
+
+        // An error halves the limit, but errors from requests that were already in flight don't
+        // reduce it further
+        controller.release(Outcome.ERROR, "file/describe", latency);
+        int limit = controller.getLimit();
+        Assert.assertEquals((AdmissionController.INITIAL_LIMIT + 2) / 2, limit);
+        controller.release(Outcome.ERROR, "file/describe", latency);
+        Assert.assertEquals(limit, controller.getLimit());
+
+        // Over the limit now, so nothing is admitted until enough requests finish
+        Assert.assertFalse(controller.acquire(0, TimeUnit.MILLISECONDS));
+        for (int i = 4; i < AdmissionController.INITIAL_LIMIT; ++i) {
+            controller.release(Outcome.SUCCESS, "file/describe", latency);
+        }
+        Assert.assertTrue(controller.acquire(0, TimeUnit.MILLISECONDS));
+        Assert.assertTrue(controller.getLimit() < AdmissionController.INITIAL_LIMIT);
+    }
+
+    @Test
+    public void testOtherFailuresDoNotReduceLimit() throws InterruptedException {
+        AdmissionController controller = new AdmissionController();
+        Assert.assertTrue(controller.acquire(0, TimeUnit.MILLISECONDS));
+        controller.release(Outcome.OTHER_FAILURE, "file/describe", 1000);
+        Assert.assertEquals(AdmissionController.INITIAL_LIMIT, controller.getLimit());
+    }
+
+    @Test
+    public void testLatencyIsTrackedPerRoute() throws InterruptedException {
+        AdmissionController controller = new AdmissionController();
+        long fast = TimeUnit.MILLISECONDS.toNanos(10);
+        long slow = TimeUnit.SECONDS.toNanos(10);
+        for (int i = 0; i < 200; ++i) {
+            Assert.assertTrue(controller.acquire(0, TimeUnit.MILLISECONDS));
+            controller.release(Outcome.SUCCESS, "file/describe", fast);
+        }
+        // A slow route is not a sign of congestion, however fast the other routes are
+        for (int i = 0; i < 200; ++i) {
+            Assert.assertTrue(controller.acquire(0, TimeUnit.MILLISECONDS));
+            controller.release(Outcome.SUCCESS, "system/findDataObjects", slow);
+        }
+        Assert.assertEquals(AdmissionController.INITIAL_LIMIT, controller.getLimit());
+
+        // A route that gets much slower than usual is
+        for (int i = 0; i < 10; ++i) {
+            Assert.assertTrue(controller.acquire(0, TimeUnit.MILLISECONDS));
+            controller.release(Outcome.SUCCESS, "file/describe", slow);
+        }
+        Assert.assertTrue(controller.getLimit() < AdmissionController.INITIAL_LIMIT);
+    }
+
+    @Test
+    public void testPause() throws InterruptedException {
+        AdmissionController controller = new AdmissionController();
+        controller.pause(200);
+        Assert.assertTrue(controller.getPauseMillis() > 0);
+        Assert.assertFalse(controller.acquire(0, TimeUnit.MILLISECONDS));
+
+        long start = System.nanoTime();
+        Assert.assertTrue(controller.acquire(10, TimeUnit.SECONDS));
+        Assert.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(150));
+        Assert.assertEquals(0, controller.getPauseMillis());
+
+        // A shorter pause does not cut short a longer one
+        controller.pause(10000);
+        controller.pause(1);
+        Assert.assertTrue(controller.getPauseMillis() > 5000);
+    }
+
+    @Test
+    public void testSharedPerApiserver() {
+        Assert.assertSame(AdmissionController.forApiserver("https://a.example.com:443"),
+                AdmissionController.forApiserver("https://a.example.com:443"));
+        Assert.assertNotSame(AdmissionController.forApiserver("https://a.example.com:443"),
+                AdmissionController.forApiserver("https://b.example.com:443"));
+    }
+
+}
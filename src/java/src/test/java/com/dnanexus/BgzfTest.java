@@ -0,0 +1,169 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.io.ByteStreams;
+
+/**
+ * Tests of BGZF compression and decompression.
+ */
+public class BgzfTest {
+
+    /**
+     * Returns data that is partly random (incompressible) and partly repetitive.
+     */
+    private static byte[] createData(int size) {
+        byte[] data = new byte[size];
+        new Random(1).nextBytes(data);
+        for (int i = 0; i < size / 2; ++i) {
+            data[i] = (byte) "ACGT".charAt(i % 7 % 4);
+        }
+        return data;
+    }
+
+    private static byte[] compress(byte[] data, int threads) throws IOException {
+        try (InputStream compressed = new BgzfCompressingInputStream(new ByteArrayInputStream(
+                data), threads, Deflater.DEFAULT_COMPRESSION)) {
+            return ByteStreams.toByteArray(compressed);
+        }
+    }
+
+    private static int getUnsignedShort(byte[] buffer, int offset) {
+        return (buffer[offset] & 0xff) | (buffer[offset + 1] & 0xff) << 8;
+    }
+
+    @Test
+    public void testCompressedDataIsValidGzip() throws IOException {
+        byte[] data = createData(1000000);
+        byte[] compressed = compress(data, 4);
+        Assert.assertTrue(compressed.length < data.length);
+        Assert.assertArrayEquals(data, ByteStreams.toByteArray(new GZIPInputStream(
+                new ByteArrayInputStream(compressed))));
+    }
+
+    @Test
+    public void testBlockStructure() throws IOException {
+        byte[] compressed = compress(createData(1000000), 3);
+        int offset = 0;
+        int blocks = 0;
+        while (offset < compressed.length) {
+            Assert.assertEquals(0x1f, compressed[offset] & 0xff);
+            Assert.assertEquals(0x8b, compressed[offset + 1] & 0xff);
+            Assert.assertEquals('B', compressed[offset + 12]);
+            Assert.assertEquals('C', compressed[offset + 13]);
+            int blockSize = getUnsignedShort(compressed, offset + 16) + 1;
+            Assert.assertTrue(blockSize <= Bgzf.MAX_BLOCK_SIZE);
+            offset += blockSize;
+            ++blocks;
+        }
+        Assert.assertEquals(compressed.length, offset);
+        // 1000000 bytes in blocks of 65280, plus the end-of-file block
+        Assert.assertEquals(16 + 1, blocks);
+        Assert.assertArrayEquals(Bgzf.EOF_BLOCK, Arrays.copyOfRange(compressed,
+                compressed.length - Bgzf.EOF_BLOCK.length, compressed.length));
+    }
+
+    @Test
+    public void testOutputDoesNotDependOnThreads() throws IOException {
+        byte[] data = createData(500000);
+        Assert.assertArrayEquals(compress(data, 1), compress(data, 8));
+    }
+
+    @Test
+    public void testEmptyInput() throws IOException {
+        Assert.assertArrayEquals(Bgzf.EOF_BLOCK, compress(new byte[0], 2));
+    }
+
+    @Test
+    public void testParallelDecompression() throws IOException {
+        byte[] data = createData(1000000);
+        try (InputStream decompressed = BgzfDecompressingInputStream.open(
+                new ByteArrayInputStream(compress(data, 2)), 4)) {
+            Assert.assertTrue(decompressed instanceof BgzfDecompressingInputStream);
+            Assert.assertArrayEquals(data, ByteStreams.toByteArray(decompressed));
+        }
+    }
+
+    @Test
+    public void testPlainGzipIsDecompressedSerially() throws IOException {
+        byte[] data = createData(100000);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(data);
+        }
+        try (InputStream decompressed = BgzfDecompressingInputStream.open(
+                new ByteArrayInputStream(compressed.toByteArray()), 4)) {
+            Assert.assertTrue(decompressed instanceof GZIPInputStream);
+            Assert.assertArrayEquals(data, ByteStreams.toByteArray(decompressed));
+        }
+    }
+
+    @Test
+    public void testCorruptBlock() throws IOException {
+        byte[] compressed = compress(createData(200000), 1);
+        // Flip a bit in the middle of the compressed data
+        compressed[Bgzf.MAX_BLOCK_SIZE / 2 + 1000] ^= 1;
+        try (InputStream decompressed = BgzfDecompressingInputStream.open(
+                new ByteArrayInputStream(compressed), 2)) {
+            ByteStreams.toByteArray(decompressed);
+            Assert.fail("Expected ZipException");
+        } catch (ZipException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testCorruptBlockFailureIsSticky() throws IOException {
+        byte[] compressed = compress(createData(200000), 1);
+        compressed[Bgzf.MAX_BLOCK_SIZE / 2 + 1000] ^= 1;
+        try (InputStream decompressed = BgzfDecompressingInputStream.open(
+                new ByteArrayInputStream(compressed), 2)) {
+            byte[] buffer = new byte[8192];
+            try {
+                while (decompressed.read(buffer) >= 0) {
+                    // Read up to the corrupt block
+                }
+                Assert.fail("Expected ZipException");
+            } catch (ZipException e) {
+                // Expected
+            }
+            // The corrupt block is not skipped
+            try {
+                decompressed.read(buffer);
+                Assert.fail("Expected ZipException");
+            } catch (ZipException e) {
+                // Expected
+            }
+        }
+    }
+
+}
@@ -318,4 +318,17 @@ public class DXDataObjectTest {
             // Expected
         }
     }
+
+    /**
+     * Tests that objects and builders created without an environment share one, and therefore
+     * its connection pool.
+     */
+    @Test
+    public void testDefaultEnvironmentIsShared() {
+        DXEnvironment env = DXFile.getInstance("file-000011112222333344445555").env;
+        Assert.assertSame(DXEnvironment.getDefault(), env);
+        Assert.assertSame(env, DXRecord.getInstance("record-000011112222333344445555",
+                DXContainer.getInstance("project-000011112222333344445555")).env);
+        Assert.assertSame(env, DXFile.newFile().env);
+    }
 }
@@ -0,0 +1,170 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.dnanexus.exceptions.ResourceNotFoundException;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+
+/**
+ * Tests of {@link DXFileBatchUploader}, against {@link InMemoryApiserver}.
+ */
+public class DXFileBatchUploaderTest {
+
+    private InMemoryApiserver apiserver;
+    private InterceptingTransport transport;
+    private DXEnvironment env;
+
+    @Before
+    public void setUp() {
+        apiserver = new InMemoryApiserver();
+        transport = new InterceptingTransport(apiserver);
+        env = DXEnvironment.Builder.fromEnvironment(apiserver.createEnvironment())
+                .setTransport(transport).build();
+    }
+
+    @Test
+    public void testUploadMany() throws Exception {
+        List<ListenableFuture<DXFile>> futures = Lists.newArrayList();
+        try (DXFileBatchUploader uploader = DXFileBatchUploader.Builder.fromEnvironment(env)
+                .setMaxPendingFiles(16).setPollInterval(10, TimeUnit.MILLISECONDS).build()) {
+            for (int i = 0; i < 100; ++i) {
+                futures.add(uploader.upload(TestFiles.newFile(env, "report" + i),
+                        ("report " + i).getBytes()));
+            }
+        }
+        List<DXFile> files = Futures.allAsList(futures).get();
+        // Closing files are polled together, not described one at a time
+        Assert.assertEquals(100, transport.getRequestCount("POST", "/file/new"));
+        Assert.assertEquals(0, transport.getRequestCount("POST", "/describe"));
+        Assert.assertTrue(transport.getRequestCount("POST", "/system/describeDataObjects") >= 1);
+
+        for (int i = 0; i < files.size(); ++i) {
+            DXFile.Describe describe = files.get(i).describe();
+            Assert.assertEquals(DataObjectState.CLOSED, describe.getState());
+            Assert.assertEquals("report" + i, describe.getName());
+            Assert.assertEquals(env.getProjectContext(), files.get(i).getProject());
+            Assert.assertArrayEquals(("report " + i).getBytes(), files.get(i).downloadBytes());
+        }
+    }
+
+    @Test
+    public void testPendingFilesAreLimited() throws Exception {
+        final CountDownLatch heldUploads = new CountDownLatch(3);
+        CountDownLatch gate = new CountDownLatch(1);
+        transport.addInterceptor(new InterceptingTransport.Interceptor() {
+            @Override
+            public CloseableHttpResponse intercept(HttpUriRequest request, DXTransport next)
+                    throws IOException {
+                if (request.getMethod().equals("PUT")) {
+                    heldUploads.countDown();
+                }
+                return next.execute(request);
+            }
+        }).addInterceptor(InterceptingTransport.hold("PUT", gate));
+        final DXFileBatchUploader uploader = DXFileBatchUploader.Builder.fromEnvironment(env)
+                .setMaxPendingFiles(3).setPollInterval(10, TimeUnit.MILLISECONDS).build();
+        final List<ListenableFuture<DXFile>> futures = Lists.newArrayList();
+        Thread submitter = new Thread() {
+            @Override
+            public void run() {
+                for (int i = 0; i < 5; ++i) {
+                    ListenableFuture<DXFile> future = uploader.upload(TestFiles.newFile(env,
+                            "file" + i), new byte[] {(byte) i});
+                    synchronized (futures) {
+                        futures.add(future);
+                    }
+                }
+            }
+        };
+        submitter.start();
+        Assert.assertTrue(heldUploads.await(10, TimeUnit.SECONDS));
+
+        // The fourth file is not created until one of the first three has closed
+        submitter.join(100);
+        Assert.assertTrue(submitter.isAlive());
+        Assert.assertEquals(3, transport.getRequestCount("POST", "/file/new"));
+
+        gate.countDown();
+        submitter.join();
+        uploader.close();
+        Assert.assertEquals(5, Futures.allAsList(futures).get().size());
+        Assert.assertEquals(5, transport.getRequestCount("POST", "/file/new"));
+    }
+
+    @Test
+    public void testFailedPollIsRetried() throws Exception {
+        final AtomicInteger pollsToFail = new AtomicInteger(2);
+        transport.addInterceptor(new InterceptingTransport.Interceptor() {
+            @Override
+            public CloseableHttpResponse intercept(HttpUriRequest request, DXTransport next)
+                    throws IOException {
+                if (request.getURI().getPath().equals("/system/describeDataObjects")
+                        && pollsToFail.getAndDecrement() > 0) {
+                    throw new IllegalStateException("Simulated failure of describeDataObjects");
+                }
+                return next.execute(request);
+            }
+        });
+        List<ListenableFuture<DXFile>> futures = Lists.newArrayList();
+        try (DXFileBatchUploader uploader = DXFileBatchUploader.Builder.fromEnvironment(env)
+                .setPollInterval(10, TimeUnit.MILLISECONDS).build()) {
+            for (int i = 0; i < 3; ++i) {
+                futures.add(uploader.upload(TestFiles.newFile(env, "file" + i),
+                        new byte[] {(byte) i}));
+            }
+        }
+        // The files close normally once a poll succeeds
+        Assert.assertEquals(3, Futures.allAsList(futures).get(10, TimeUnit.SECONDS).size());
+        Assert.assertTrue(transport.getRequestCount("POST", "/system/describeDataObjects") >= 3);
+    }
+
+    @Test
+    public void testFailedFileDoesNotStopOthers() throws Exception {
+        ListenableFuture<DXFile> failed;
+        ListenableFuture<DXFile> succeeded;
+        try (DXFileBatchUploader uploader = DXFileBatchUploader.Builder.fromEnvironment(env)
+                .setMaxPendingFiles(1).setPollInterval(10, TimeUnit.MILLISECONDS).build()) {
+            failed = uploader.upload(DXFile.newFileWithEnvironment(env).setProject(
+                    DXProject.getInstanceWithEnvironment("project-000000000000000000009999",
+                            env)), new byte[] {1});
+            succeeded = uploader.upload(TestFiles.newFile(env, "file"), new byte[] {2});
+        }
+        try {
+            failed.get();
+            Assert.fail("Expected upload to fail");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof ResourceNotFoundException);
+        }
+        Assert.assertArrayEquals(new byte[] {2}, succeeded.get().downloadBytes());
+    }
+
+}
@@ -0,0 +1,178 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Tests of {@link DXFileCache}, against {@link InMemoryApiserver}.
+ */
+public class DXFileCacheTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private InMemoryApiserver apiserver;
+    private InterceptingTransport transport;
+    private Path cacheDirectory;
+
+    @Before
+    public void setUp() {
+        apiserver = new InMemoryApiserver();
+        transport = new InterceptingTransport(apiserver);
+        cacheDirectory = temporaryFolder.getRoot().toPath().resolve("cache");
+    }
+
+    private DXFile getFileWithCache(DXFile file, DXFileCache cache) {
+        DXEnvironment env = DXEnvironment.Builder.fromEnvironment(apiserver.createEnvironment())
+                .setTransport(transport).setFileCache(cache).build();
+        return DXFile.getInstanceWithEnvironment(file.getId(), env);
+    }
+
+    @Test
+    public void testHitMakesNoRequests() throws IOException {
+        byte[] data = TestFiles.randomBytes(10000);
+        DXFile file = getFileWithCache(TestFiles.uploadFile(apiserver.createEnvironment(), data),
+                DXFileCache.open(cacheDirectory, 1000000));
+        Assert.assertArrayEquals(data, file.downloadBytes());
+        int requests = transport.getRequestCount();
+
+        Assert.assertArrayEquals(data, file.downloadBytes());
+        Path path = temporaryFolder.getRoot().toPath().resolve("data");
+        file.downloadTo(path);
+        Assert.assertArrayEquals(data, Files.readAllBytes(path));
+        Assert.assertEquals(requests, transport.getRequestCount());
+    }
+
+    @Test
+    public void testCacheIsSharedByInstances() {
+        byte[] data = TestFiles.randomBytes(10000);
+        DXFile uploaded = TestFiles.uploadFile(apiserver.createEnvironment(), data);
+        getFileWithCache(uploaded, DXFileCache.open(cacheDirectory, 1000000)).downloadBytes();
+        Assert.assertEquals(1, transport.getRequestCount("GET"));
+
+        // A new cache on the same directory, as in another process, finds the entry
+        Assert.assertArrayEquals(data, getFileWithCache(uploaded,
+                DXFileCache.open(cacheDirectory, 1000000)).downloadBytes());
+        Assert.assertEquals(1, transport.getRequestCount("GET"));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntriesAreEvicted() throws IOException {
+        DXFileCache cache = DXFileCache.open(cacheDirectory, 25000);
+        List<DXFile> files = Lists.newArrayList();
+        for (int i = 0; i < 3; ++i) {
+            DXFile file = getFileWithCache(TestFiles.uploadFile(apiserver.createEnvironment(),
+                    TestFiles.randomBytes(10000 + i)), cache);
+            file.downloadBytes();
+            Files.setLastModifiedTime(cacheDirectory.resolve(file.getId()),
+                    FileTime.fromMillis(1000000000000L + i));
+            files.add(file);
+        }
+        // Adding the third file evicted the first
+        Assert.assertFalse(Files.exists(cacheDirectory.resolve(files.get(0).getId())));
+        Assert.assertFalse(Files.exists(cacheDirectory.resolve(files.get(0).getId() + ".lock")));
+        Assert.assertTrue(Files.exists(cacheDirectory.resolve(files.get(1).getId())));
+
+        // Using the second file makes the third the least recently used
+        files.get(1).downloadBytes();
+        files.get(0).downloadBytes();
+        Assert.assertTrue(Files.exists(cacheDirectory.resolve(files.get(1).getId())));
+        Assert.assertFalse(Files.exists(cacheDirectory.resolve(files.get(2).getId())));
+    }
+
+    @Test
+    public void testDownloadsInProgressCountTowardSize() throws IOException {
+        DXFileCache cache = DXFileCache.open(cacheDirectory, 25000);
+        DXFile first = getFileWithCache(TestFiles.uploadFile(apiserver.createEnvironment(),
+                TestFiles.randomBytes(10000)), cache);
+        first.downloadBytes();
+        // Another process has started downloading a file of the same size
+        Path temp = Files.createFile(cacheDirectory.resolve("file-other.10000.1234.tmp"));
+
+        DXFile second = getFileWithCache(TestFiles.uploadFile(apiserver.createEnvironment(),
+                TestFiles.randomBytes(10000)), cache);
+        second.downloadBytes();
+        Assert.assertFalse(Files.exists(cacheDirectory.resolve(first.getId())));
+        Assert.assertTrue(Files.exists(cacheDirectory.resolve(second.getId())));
+        Assert.assertTrue(Files.exists(temp));
+    }
+
+    @Test
+    public void testStaleLockFilesAreDeleted() throws IOException {
+        DXFileCache cache = DXFileCache.open(cacheDirectory, 15000);
+        Path staleLock = Files.createFile(cacheDirectory.resolve("file-stale.lock"));
+        Files.setLastModifiedTime(staleLock, FileTime.fromMillis(1000000000000L));
+        Path recentLock = Files.createFile(cacheDirectory.resolve("file-recent.lock"));
+
+        getFileWithCache(TestFiles.uploadFile(apiserver.createEnvironment(),
+                TestFiles.randomBytes(10000)), cache).downloadBytes();
+        Assert.assertFalse(Files.exists(staleLock));
+        Assert.assertTrue(Files.exists(recentLock));
+    }
+
+    @Test
+    public void testFilesLargerThanCacheAreNotCached() {
+        byte[] data = TestFiles.randomBytes(10000);
+        DXFile file = getFileWithCache(TestFiles.uploadFile(apiserver.createEnvironment(), data),
+                DXFileCache.open(cacheDirectory, 5000));
+        Assert.assertArrayEquals(data, file.downloadBytes());
+        Assert.assertFalse(Files.exists(cacheDirectory.resolve(file.getId())));
+    }
+
+    @Test
+    public void testConcurrentReadersDownloadOnce() throws Exception {
+        final byte[] data = TestFiles.randomBytes(100000);
+        final DXFile file = getFileWithCache(TestFiles.uploadFile(apiserver.createEnvironment(),
+                data), DXFileCache.open(cacheDirectory, 1000000));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<byte[]>> results = Lists.newArrayList();
+            for (int i = 0; i < 8; ++i) {
+                results.add(executor.submit(new Callable<byte[]>() {
+                    @Override
+                    public byte[] call() {
+                        return file.downloadBytes();
+                    }
+                }));
+            }
+            for (Future<byte[]> result : results) {
+                Assert.assertArrayEquals(data, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertEquals(1, transport.getRequestCount("GET"));
+    }
+
+}
@@ -0,0 +1,183 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.io.ByteStreams;
+
+/**
+ * Tests of {@link DXFileShard}, against {@link InMemoryApiserver}.
+ */
+public class DXFileShardTest {
+
+    private InMemoryApiserver apiserver;
+    private InterceptingTransport transport;
+
+    @Before
+    public void setUp() {
+        apiserver = new InMemoryApiserver();
+        transport = new InterceptingTransport(apiserver);
+    }
+
+    private DXFile uploadFile(byte[] content) {
+        DXEnvironment env = apiserver.createEnvironment();
+        DXFile file = TestFiles.uploadFile(env, content);
+        return DXFile.getInstanceWithEnvironment(file.getId(), DXEnvironment.Builder
+                .fromEnvironment(env).setTransport(transport).build());
+    }
+
+    /**
+     * Returns the length of the largest range downloaded so far.
+     */
+    private long getLargestRange() {
+        long largestRange = 0;
+        for (InterceptingTransport.RecordedRequest request : transport.getRequests()) {
+            if (request.getMethod().equals("GET") && request.getRange() != null) {
+                String[] bounds = request.getRange().substring("bytes=".length()).split("-");
+                largestRange = Math.max(largestRange, Long.parseLong(bounds[1])
+                        - Long.parseLong(bounds[0]) + 1);
+            }
+        }
+        return largestRange;
+    }
+
+    private static byte[] createFastq(int records) {
+        Random random = new Random(records);
+        StringBuilder fastq = new StringBuilder();
+        for (int i = 0; i < records; ++i) {
+            int length = 50 + random.nextInt(100);
+            StringBuilder bases = new StringBuilder();
+            StringBuilder qualities = new StringBuilder();
+            for (int j = 0; j < length; ++j) {
+                bases.append("ACGT".charAt(random.nextInt(4)));
+                // Qualities include '@' and '+', including at the start of the line
+                qualities.append((char) (j == 0 && i % 3 == 0 ? '@' : '!' + random.nextInt(40)));
+            }
+            fastq.append("@read").append(i).append('\n').append(bases).append("\n+\n")
+                    .append(qualities).append('\n');
+        }
+        return fastq.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] readShards(List<DXFileShard> shards) throws IOException {
+        ByteArrayOutputStream contents = new ByteArrayOutputStream();
+        for (DXFileShard shard : shards) {
+            try (InputStream data = shard.openInputStream()) {
+                byte[] bytes = ByteStreams.toByteArray(data);
+                Assert.assertEquals(shard.getSize(), bytes.length);
+                contents.write(bytes);
+            }
+        }
+        return contents.toByteArray();
+    }
+
+    @Test
+    public void testLines() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 100000; ++i) {
+            text.append("chr1\t").append(i * 100).append('\t').append(i * 100 + 50).append('\n');
+        }
+        byte[] data = text.toString().getBytes(StandardCharsets.US_ASCII);
+        DXFile file = uploadFile(data);
+
+        List<DXFileShard> shards = DXFileShard.split(file, 7, DXFileShard.RecordFormat.LINES);
+        // Boundaries were found without downloading the file
+        Assert.assertTrue(getLargestRange() < data.length / 7);
+        Assert.assertEquals(7, shards.size());
+        Assert.assertArrayEquals(data, readShards(shards));
+        for (DXFileShard shard : shards) {
+            Assert.assertTrue(shard.getStart() == 0 || data[(int) shard.getStart() - 1] == '\n');
+            Assert.assertTrue(Math.abs(shard.getSize() - data.length / 7) < 100);
+        }
+    }
+
+    @Test
+    public void testFastq() throws IOException {
+        byte[] data = createFastq(20000);
+        DXFile file = uploadFile(data);
+
+        List<DXFileShard> shards = DXFileShard.split(file, 10, DXFileShard.RecordFormat.FASTQ);
+        Assert.assertArrayEquals(data, readShards(shards));
+        for (DXFileShard shard : shards) {
+            String contents = new String(ByteStreams.toByteArray(shard.openInputStream()),
+                    StandardCharsets.US_ASCII);
+            Assert.assertTrue(contents, contents.startsWith("@read"));
+            Assert.assertEquals(0, contents.split("\n").length % 4);
+        }
+    }
+
+    @Test
+    public void testBgzf() throws IOException {
+        byte[] uncompressed = createFastq(50000);
+        byte[] data;
+        try (InputStream compressed = new BgzfCompressingInputStream(new ByteArrayInputStream(
+                uncompressed), 2, Deflater.DEFAULT_COMPRESSION)) {
+            data = ByteStreams.toByteArray(compressed);
+        }
+        DXFile file = uploadFile(data);
+
+        List<DXFileShard> shards = DXFileShard.split(file, 5, DXFileShard.RecordFormat.BGZF);
+        Assert.assertArrayEquals(data, readShards(shards));
+        // Each shard can be decompressed on its own
+        ByteArrayOutputStream decompressed = new ByteArrayOutputStream();
+        for (DXFileShard shard : shards) {
+            Assert.assertTrue(shard.getSize() > 0);
+            try (InputStream shardData = new GZIPInputStream(shard.openInputStream())) {
+                ByteStreams.copy(shardData, decompressed);
+            }
+        }
+        Assert.assertArrayEquals(uncompressed, decompressed.toByteArray());
+    }
+
+    @Test
+    public void testMoreShardsThanRecords() throws IOException {
+        byte[] data = "one\ntwo\n".getBytes(StandardCharsets.US_ASCII);
+        DXFile file = uploadFile(data);
+
+        List<DXFileShard> shards = DXFileShard.split(file, 5, DXFileShard.RecordFormat.LINES);
+        Assert.assertEquals(5, shards.size());
+        Assert.assertArrayEquals(data, readShards(shards));
+    }
+
+    @Test
+    public void testGetInstance() throws IOException {
+        byte[] data = createFastq(100);
+        DXFile file = uploadFile(data);
+
+        DXFileShard shard = DXFileShard.getInstance(DXFile.getInstanceWithEnvironment(file
+                .getId(), apiserver.createEnvironment()), 1000, 2000);
+        try (InputStream shardData = shard.openInputStream()) {
+            Assert.assertArrayEquals(Arrays.copyOfRange(data, 1000, 2000), ByteStreams
+                    .toByteArray(shardData));
+        }
+    }
+
+}
@@ -0,0 +1,195 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.dnanexus.DXHTTPRequest.RetryStrategy;
+import com.dnanexus.exceptions.DXHTTPException;
+import com.dnanexus.exceptions.ResourceNotFoundException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.util.concurrent.ListenableFuture;
+
+/**
+ * Tests of asynchronous API calls ({@link DXHTTPRequest#requestAsync}), against
+ * {@link InMemoryApiserver}.
+ */
+public class DXHTTPRequestAsyncTest {
+
+    /**
+     * Listener that records the calls that complete.
+     */
+    private static class RecordingListener implements APICallListener {
+        private final List<APICallStats> calls = new CopyOnWriteArrayList<APICallStats>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void callCompleted(APICallStats stats) {
+            calls.add(stats);
+            completed.countDown();
+        }
+    }
+
+    private InMemoryApiserver apiserver;
+    private RecordingListener listener;
+
+    @Before
+    public void setUp() {
+        apiserver = new InMemoryApiserver();
+        listener = new RecordingListener();
+    }
+
+    /**
+     * Returns a transport that fails the first {@code failures} requests with an IOException.
+     */
+    private InterceptingTransport createTransport(int failures) {
+        return new InterceptingTransport(apiserver).addInterceptor(InterceptingTransport
+                .failFirst(null, new AtomicInteger(failures), "Connection reset"));
+    }
+
+    private DXHTTPRequest createRequest(DXTransport transport, long retryDelayMillis) {
+        DXEnvironment env = DXEnvironment.Builder.fromEnvironment(apiserver.createEnvironment())
+                .setTransport(transport).addAPICallListener(listener)
+                .setRetryPolicy(RetryPolicy.Builder.fromDefaults()
+                        .setBaseDelay(retryDelayMillis, TimeUnit.MILLISECONDS)
+                        .setSafeToRetryBaseDelay(retryDelayMillis, TimeUnit.MILLISECONDS)
+                        .setMaxDelay(retryDelayMillis, TimeUnit.MILLISECONDS).build()).build();
+        return new DXHTTPRequest(env);
+    }
+
+    @Test
+    public void testCompletion() throws Exception {
+        InterceptingTransport transport = createTransport(0);
+        ListenableFuture<JsonNode> result = createRequest(transport, 1).requestAsync(
+                "/system/whoami", DXJSON.getObjectBuilder().build(), RetryStrategy.SAFE_TO_RETRY);
+        Assert.assertEquals("user-inmemory", result.get(10, TimeUnit.SECONDS).get("id").asText());
+        Assert.assertTrue(listener.completed.await(10, TimeUnit.SECONDS));
+        Assert.assertTrue(listener.calls.get(0).isSuccessful());
+        Assert.assertEquals(1, listener.calls.get(0).getAttempts());
+    }
+
+    @Test
+    public void testRetries() throws Exception {
+        InterceptingTransport transport = createTransport(2);
+        ListenableFuture<JsonNode> result = createRequest(transport, 1).requestAsync(
+                "/system/whoami", DXJSON.getObjectBuilder().build(), RetryStrategy.SAFE_TO_RETRY);
+        Assert.assertEquals("user-inmemory", result.get(10, TimeUnit.SECONDS).get("id").asText());
+        Assert.assertEquals(3, transport.getRequestCount());
+        // Every attempt, including the retries handed back by the timer, ran on the executor
+        for (InterceptingTransport.RecordedRequest request : transport.getRequests()) {
+            String thread = request.getThreadName();
+            Assert.assertTrue(thread, thread.startsWith("dx-api-request-"));
+        }
+        Assert.assertTrue(listener.completed.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(3, listener.calls.get(0).getAttempts());
+    }
+
+    @Test
+    public void testRequestThatMayNotBeRetriedFails() throws Exception {
+        InterceptingTransport transport = createTransport(1);
+        ListenableFuture<JsonNode> result = createRequest(transport, 1).requestAsync(
+                "/system/whoami", DXJSON.getObjectBuilder().build(),
+                RetryStrategy.UNSAFE_TO_RETRY);
+        try {
+            result.get(10, TimeUnit.SECONDS);
+            Assert.fail("Expected the call to fail");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof DXHTTPException);
+        }
+        Assert.assertEquals(1, transport.getRequestCount());
+    }
+
+    @Test
+    public void testApiErrorIsPropagated() throws Exception {
+        InterceptingTransport transport = createTransport(0);
+        ListenableFuture<JsonNode> result = createRequest(transport, 1).requestAsync(
+                "/file-000011112222333344445555/describe", DXJSON.getObjectBuilder().build(),
+                RetryStrategy.SAFE_TO_RETRY);
+        try {
+            result.get(10, TimeUnit.SECONDS);
+            Assert.fail("Expected the call to fail");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause().toString(),
+                    e.getCause() instanceof ResourceNotFoundException);
+        }
+        Assert.assertTrue(listener.completed.await(10, TimeUnit.SECONDS));
+        Assert.assertFalse(listener.calls.get(0).isSuccessful());
+    }
+
+    @Test
+    public void testCancellationStopsRetries() throws Exception {
+        InterceptingTransport transport = createTransport(Integer.MAX_VALUE);
+        ListenableFuture<JsonNode> result = createRequest(transport, 200).requestAsync(
+                "/system/whoami", DXJSON.getObjectBuilder().build(), RetryStrategy.SAFE_TO_RETRY);
+        // Cancel while the call is waiting for its first retry
+        while (transport.getRequestCount() == 0) {
+            Thread.sleep(1);
+        }
+        Assert.assertTrue(result.cancel(false));
+        Assert.assertTrue(listener.completed.await(10, TimeUnit.SECONDS));
+        Assert.assertFalse(listener.calls.get(0).isSuccessful());
+        Assert.assertEquals(1, transport.getRequestCount());
+    }
+
+    @Test
+    public void testCloseShutsDownExecutorsButNotCustomTransport() throws Exception {
+        InterceptingTransport transport = createTransport(0);
+        DXEnvironment env = DXEnvironment.Builder.fromEnvironment(apiserver.createEnvironment())
+                .setTransport(transport).build();
+        DXEnvironment derived = env.withTransport(createTransport(0));
+        ListenableFuture<JsonNode> result = new DXHTTPRequest(env).requestAsync(
+                "/system/whoami", DXJSON.getObjectBuilder().build(), RetryStrategy.SAFE_TO_RETRY);
+        Assert.assertEquals("user-inmemory", result.get(10, TimeUnit.SECONDS).get("id").asText());
+        ExecutorService requestExecutor = env.getRequestExecutor();
+        ExecutorService downloadExecutor = env.getDownloadExecutor();
+
+        // An environment derived from another owns nothing, so closing it leaves both usable
+        derived.close();
+        Assert.assertFalse(requestExecutor.isShutdown());
+        Assert.assertSame(transport, env.getTransport());
+
+        env.close();
+        Assert.assertTrue(requestExecutor.isShutdown());
+        Assert.assertTrue(downloadExecutor.isShutdown());
+        try {
+            new DXHTTPRequest(env).requestAsync("/system/whoami",
+                    DXJSON.getObjectBuilder().build(), RetryStrategy.SAFE_TO_RETRY);
+            Assert.fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            // Expected
+        }
+
+        // The transport was set explicitly, so it is still open
+        DXEnvironment other = DXEnvironment.Builder.fromEnvironment(apiserver.createEnvironment())
+                .setTransport(transport).build();
+        new DXHTTPRequest(other).request("/system/whoami", DXJSON.getObjectBuilder().build(),
+                RetryStrategy.SAFE_TO_RETRY);
+        Assert.assertEquals(2, transport.getRequestCount());
+        other.close();
+    }
+
+}
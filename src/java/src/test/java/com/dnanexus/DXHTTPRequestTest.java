@@ -127,6 +127,48 @@ public class DXHTTPRequestTest {
         }
     }
 
+    /**
+     * Tests deserializing responses directly to a class.
+     */
+    @Test
+    public void testDXAPIDeserializeToClass() throws IOException {
+        DXHTTPRequest c = new DXHTTPRequest();
+        WhoamiResponse response = c.request("/system/whoami",
+                mapper.valueToTree(new WhoamiRequest()), RetryStrategy.SAFE_TO_RETRY,
+                WhoamiResponse.class);
+        Assert.assertTrue(response.id.startsWith("user-"));
+
+        // Errors are reported the same way as for requests returning JsonNode
+        try {
+            c.request("/system/findDataObjects",
+                    DXJSON.parseJson("{\"state\": {\"invalid\": \"oops\"}}"),
+                    RetryStrategy.SAFE_TO_RETRY, JsonNode.class);
+            Assert.fail("Expected findDataObjects to fail with InvalidInput");
+        } catch (InvalidInputException e) {
+            Assert.assertEquals(422, e.getStatusCode());
+        }
+    }
+
+    /**
+     * Tests serializing a request payload directly from an object.
+     */
+    @Test
+    public void testDXAPISerializeFromObject() throws IOException {
+        DXHTTPRequest c = new DXHTTPRequest();
+        WhoamiResponse response = c.request("/system/whoami", new WhoamiRequest(),
+                RetryStrategy.SAFE_TO_RETRY, WhoamiResponse.class);
+        Assert.assertTrue(response.id.startsWith("user-"));
+
+        // Payloads that cannot be serialized are reported to the caller and are not retried
+        try {
+            c.request("/system/whoami", new Object(), RetryStrategy.SAFE_TO_RETRY,
+                    WhoamiResponse.class);
+            Assert.fail("Expected serializing an empty bean to fail");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+
     /**
      * Tests use of the API with a custom environment.
      *
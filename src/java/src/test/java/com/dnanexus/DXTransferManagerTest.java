@@ -0,0 +1,196 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+
+/**
+ * Tests of {@link DXTransferManager}, against {@link InMemoryApiserver}.
+ */
+public class DXTransferManagerTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private InMemoryApiserver apiserver;
+    private DXEnvironment env;
+
+    @Before
+    public void setUp() {
+        apiserver = new InMemoryApiserver();
+        env = apiserver.createEnvironment();
+    }
+
+    private Path writeLocalFile(String name, int size) throws IOException {
+        return Files.write(temporaryFolder.getRoot().toPath().resolve(name),
+                TestFiles.randomBytes(size));
+    }
+
+    @Test
+    public void testUploadAndDownload() throws Exception {
+        // Listeners may be called concurrently, so notifications can arrive out of order
+        final AtomicLong maxCompletedTransfers = new AtomicLong();
+        List<Path> sources = Lists.newArrayList();
+        List<ListenableFuture<DXFile>> uploads = Lists.newArrayList();
+        try (DXTransferManager manager = DXTransferManager.Builder.fromEnvironment(env)
+                .setMaxConcurrentTransfers(4).addProgressListener(
+                        new DXTransferManager.ProgressListener() {
+                            @Override
+                            public void progressUpdated(DXTransferManager.Progress progress) {
+                                synchronized (maxCompletedTransfers) {
+                                    maxCompletedTransfers.set(Math.max(maxCompletedTransfers
+                                            .get(), progress.getCompletedTransfers()));
+                                }
+                            }
+                        }).build()) {
+            for (int i = 0; i < 20; ++i) {
+                Path source = writeLocalFile("source" + i, i * 1000);
+                sources.add(source);
+                uploads.add(manager.upload(source, TestFiles.newFile(env, "file" + i)));
+            }
+            // InMemoryApiserver closes files immediately
+            List<DXFile> files = Futures.allAsList(uploads).get();
+
+            List<ListenableFuture<Path>> downloads = Lists.newArrayList();
+            for (int i = 0; i < files.size(); ++i) {
+                downloads.add(manager.download(files.get(i), temporaryFolder.getRoot().toPath()
+                        .resolve("destination" + i)));
+            }
+            List<Path> destinations = Futures.allAsList(downloads).get();
+            for (int i = 0; i < sources.size(); ++i) {
+                Assert.assertArrayEquals(Files.readAllBytes(sources.get(i)),
+                        Files.readAllBytes(destinations.get(i)));
+            }
+
+            DXTransferManager.Progress progress = manager.getProgress();
+            Assert.assertEquals(40, progress.getSubmittedTransfers());
+            Assert.assertEquals(40, progress.getCompletedTransfers());
+            Assert.assertEquals(0, progress.getFailedTransfers());
+            Assert.assertEquals(2 * 190000, progress.getSubmittedBytes());
+            Assert.assertEquals(2 * 190000, progress.getTransferredBytes());
+        }
+        Assert.assertEquals(40, maxCompletedTransfers.get());
+    }
+
+    @Test
+    public void testSmallFilesAreTransferredFirst() throws Exception {
+        CountDownLatch gate = new CountDownLatch(1);
+        InterceptingTransport transport = new InterceptingTransport(apiserver)
+                .addInterceptor(InterceptingTransport.hold("PUT", gate));
+        env = DXEnvironment.Builder.fromEnvironment(env).setTransport(transport).build();
+        List<ListenableFuture<DXFile>> uploads = Lists.newArrayList();
+        try (DXTransferManager manager = DXTransferManager.Builder.fromEnvironment(env)
+                .setMaxConcurrentTransfers(1).build()) {
+            // The first upload occupies the only slot while the others are queued
+            uploads.add(manager.upload(writeLocalFile("first", 100),
+                    TestFiles.newFile(env, "first")));
+            for (int size : new int[] {3000, 1000, 2000}) {
+                uploads.add(manager.upload(writeLocalFile("source" + size, size),
+                        TestFiles.newFile(env, "file" + size)));
+            }
+            gate.countDown();
+        }
+        List<String> expected = Lists.newArrayList();
+        for (int i : new int[] {0, 2, 3, 1}) {
+            expected.add(uploads.get(i).get().getId());
+        }
+        List<String> uploadedFileIds = Lists.newArrayList();
+        for (InterceptingTransport.RecordedRequest request : transport.getRequests()) {
+            if (request.getMethod().equals("PUT")) {
+                String[] path = request.getPath().split("/");
+                uploadedFileIds.add(path[path.length - 2]);
+            }
+        }
+        Assert.assertEquals(expected, uploadedFileIds);
+    }
+
+    @Test
+    public void testBandwidthLimit() throws Exception {
+        DXFile file = TestFiles.uploadFile(env, new byte[300000]);
+        long start = System.nanoTime();
+        try (DXTransferManager manager = DXTransferManager.Builder.fromEnvironment(env)
+                .setMaxBytesPerSecond(200000).build()) {
+            manager.download(file, temporaryFolder.getRoot().toPath().resolve("data")).get();
+        }
+        // The first 64 KiB are sent without waiting; the rest take over a second
+        Assert.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(1000));
+    }
+
+    @Test
+    public void testFailedTransfer() throws Exception {
+        DXFile file = TestFiles.uploadFile(env, new byte[100]);
+        try (DXTransferManager manager = DXTransferManager.Builder.fromEnvironment(env).build()) {
+            ListenableFuture<Path> download = manager.download(file, temporaryFolder.getRoot()
+                    .toPath().resolve("missing").resolve("data"));
+            try {
+                download.get();
+                Assert.fail("Expected download to fail");
+            } catch (ExecutionException e) {
+                Assert.assertTrue(e.getCause().getCause() instanceof IOException);
+            }
+            Assert.assertEquals(1, manager.getProgress().getFailedTransfers());
+        }
+    }
+
+    @Test
+    public void testDownloadUrlsAreSharedWithEnvironment() throws Exception {
+        InterceptingTransport transport = new InterceptingTransport(apiserver);
+        env = DXEnvironment.Builder.fromEnvironment(env).setTransport(transport).build();
+        DXFile file = TestFiles.uploadFile(env, new byte[1000]);
+        file.downloadBytes();
+        Assert.assertEquals(1, transport.getRequestCount("POST", "/download"));
+        try (DXTransferManager manager = DXTransferManager.Builder.fromEnvironment(env).build()) {
+            manager.download(file, temporaryFolder.getRoot().toPath().resolve("data")).get();
+        }
+        // The manager's transfers use the URL that the environment already has
+        Assert.assertEquals(1, transport.getRequestCount("POST", "/download"));
+    }
+
+    @Test
+    public void testRejectedTransferIsNotCounted() throws IOException {
+        Path source = writeLocalFile("source", 1000);
+        DXTransferManager manager = DXTransferManager.Builder.fromEnvironment(env).build();
+        manager.close();
+        try {
+            manager.upload(source, TestFiles.newFile(env, "file"));
+            Assert.fail("Expected RejectedExecutionException");
+        } catch (RejectedExecutionException e) {
+            // Expected
+        }
+        Assert.assertEquals(0, manager.getProgress().getSubmittedTransfers());
+        Assert.assertEquals(0, manager.getProgress().getSubmittedBytes());
+    }
+
+}
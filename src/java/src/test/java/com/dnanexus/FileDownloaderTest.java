@@ -0,0 +1,606 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+
+package com.dnanexus;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.util.EntityUtils;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.dnanexus.DXFile.DownloadOptions;
+import com.dnanexus.DXFile.SeekableChannelOptions;
+import com.dnanexus.DXFile.UploadOptions;
+import com.dnanexus.DXHTTPRequest.RetryStrategy;
+import com.dnanexus.exceptions.DXHTTPException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.base.Ticker;
+import com.google.common.io.ByteStreams;
+
+/**
+ * Tests of ranged file downloads, against {@link InMemoryApiserver}.
+ */
+public class FileDownloaderTest {
+
+    /**
+     * Interceptor that rejects the download URL in some downloads, breaks the connection halfway
+     * through some others, and corrupts the data of some others.
+     */
+    private class FaultyDownloads implements InterceptingTransport.Interceptor {
+        @Override
+        public CloseableHttpResponse intercept(HttpUriRequest request, DXTransport next)
+                throws IOException {
+            if (!request.getMethod().equals("GET")) {
+                return next.execute(request);
+            }
+            if (downloadsToReject.getAndDecrement() > 0) {
+                CloseableHttpResponse response = next.execute(request);
+                response.setStatusCode(403);
+                return response;
+            }
+            CloseableHttpResponse response = next.execute(request);
+            if (downloadsToBreak.getAndDecrement() > 0) {
+                final byte[] content = EntityUtils.toByteArray(response.getEntity());
+                BasicHttpEntity entity = new BasicHttpEntity();
+                entity.setContent(new InputStream() {
+                    private final InputStream half = new ByteArrayInputStream(content, 0,
+                            content.length / 2);
+
+                    @Override
+                    public int read() throws IOException {
+                        int b = half.read();
+                        if (b < 0) {
+                            throw new IOException("Connection reset");
+                        }
+                        return b;
+                    }
+                });
+                response.setEntity(entity);
+            } else if (downloadsToCorrupt.getAndDecrement() > 0) {
+                byte[] content = EntityUtils.toByteArray(response.getEntity());
+                content[0] ^= 1;
+                BasicHttpEntity entity = new BasicHttpEntity();
+                entity.setContent(new ByteArrayInputStream(content));
+                response.setEntity(entity);
+            }
+            return response;
+        }
+    }
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private InMemoryApiserver apiserver;
+    private byte[] data;
+
+    private final AtomicInteger downloadsToBreak = new AtomicInteger();
+    private final AtomicInteger downloadsToReject = new AtomicInteger();
+    private final AtomicInteger downloadsToCorrupt = new AtomicInteger();
+    private final AtomicInteger downloadsBeforeOutage = new AtomicInteger(Integer.MAX_VALUE);
+
+    @Before
+    public void setUp() {
+        apiserver = new InMemoryApiserver();
+        data = TestFiles.randomBytes(100000);
+    }
+
+    private DXFile uploadFile(byte[] content) {
+        return TestFiles.uploadFile(apiserver.createEnvironment(), content);
+    }
+
+    /**
+     * Returns a transport that breaks the connection halfway through the first
+     * {@code downloadsToBreak} downloads and rejects the download URL in the first
+     * {@code downloadsToReject}. Downloads are also corrupted while {@link #downloadsToCorrupt}
+     * is positive, and fail with an IOException once {@link #downloadsBeforeOutage} reaches 0.
+     */
+    private InterceptingTransport createFlakyTransport(int downloadsToBreak,
+            int downloadsToReject) {
+        this.downloadsToBreak.set(downloadsToBreak);
+        this.downloadsToReject.set(downloadsToReject);
+        return new InterceptingTransport(apiserver).addInterceptor(InterceptingTransport
+                .failAfter("GET", downloadsBeforeOutage, "Network is unreachable"))
+                .addInterceptor(new FaultyDownloads());
+    }
+
+    private DXFile getFileWithTransport(DXFile file, DXTransport transport) {
+        DXEnvironment env = DXEnvironment.Builder.fromEnvironment(apiserver.createEnvironment())
+                .setTransport(transport)
+                .setRetryPolicy(RetryPolicy.Builder.fromDefaults()
+                        .setSafeToRetryBaseDelay(1, TimeUnit.MILLISECONDS)
+                        .setMaxDelay(1, TimeUnit.MILLISECONDS).build()).build();
+        return DXFile.getInstanceWithEnvironment(file.getId(), env);
+    }
+
+    @Test
+    public void testDownloadTo() throws IOException {
+        DXFile file = uploadFile(data);
+        Path path = temporaryFolder.getRoot().toPath().resolve("data");
+        file.downloadTo(path, DownloadOptions.get().withChunkSize(7000).withParallelism(4)
+                .withChecksumVerification(false));
+        Assert.assertArrayEquals(data, Files.readAllBytes(path));
+    }
+
+    @Test
+    public void testDownloadVerifiesParts() throws IOException {
+        byte[] threeParts = new byte[(int) (2.5 * UploadOptions.MIN_PART_SIZE)];
+        new Random(2).nextBytes(threeParts);
+        DXEnvironment env = apiserver.createEnvironment();
+        DXFile uploaded = DXFile.newFileWithEnvironment(env).setProject(env.getProjectContext())
+                .setUploadOptions(UploadOptions.get().withPartSize(UploadOptions.MIN_PART_SIZE))
+                .upload(threeParts).build().closeAndWait();
+        InterceptingTransport transport = createFlakyTransport(0, 0);
+        DXFile file = getFileWithTransport(uploaded, transport);
+
+        // Only the corrupted part is downloaded again
+        downloadsToCorrupt.set(1);
+        Path path = temporaryFolder.getRoot().toPath().resolve("data");
+        file.downloadTo(path);
+        Assert.assertArrayEquals(threeParts, Files.readAllBytes(path));
+        Assert.assertEquals(4, transport.getRequestCount("GET"));
+
+        downloadsToCorrupt.set(2);
+        Assert.assertArrayEquals(threeParts, file.downloadBytes());
+    }
+
+    @Test
+    public void testPartsAreSplitIntoChunks() throws IOException {
+        InterceptingTransport transport = createFlakyTransport(0, 0);
+        DXFile file = getFileWithTransport(uploadFile(data), transport);
+        Path path = temporaryFolder.getRoot().toPath().resolve("data");
+        file.downloadTo(path, DownloadOptions.get().withChunkSize(30000).withParallelism(4));
+        Assert.assertArrayEquals(data, Files.readAllBytes(path));
+        // The file has a single part, which is downloaded in four ranges
+        Assert.assertEquals(4, transport.getRequestCount("GET"));
+
+        byte[] threeParts = TestFiles.randomBytes((int) (2.5 * UploadOptions.MIN_PART_SIZE));
+        DXEnvironment env = apiserver.createEnvironment();
+        file = getFileWithTransport(DXFile.newFileWithEnvironment(env).setProject(env
+                .getProjectContext()).setUploadOptions(UploadOptions.get().withPartSize(
+                UploadOptions.MIN_PART_SIZE)).upload(threeParts).build().closeAndWait(),
+                transport);
+        transport.clearRequests();
+        downloadsToCorrupt.set(1);
+        file.downloadTo(path, DownloadOptions.get().withChunkSize(UploadOptions.MIN_PART_SIZE / 2)
+                .withParallelism(1));
+        Assert.assertArrayEquals(threeParts, Files.readAllBytes(path));
+        // Two chunks each for the first two parts and one for the last, plus the two chunks of
+        // the first part again, because one of them was corrupted
+        Assert.assertEquals(7, transport.getRequestCount("GET"));
+    }
+
+    @Test
+    public void testDownloadFailsIfPartNeverMatches() {
+        InterceptingTransport transport = createFlakyTransport(0, 0);
+        downloadsToCorrupt.set(Integer.MAX_VALUE);
+        DXFile file = getFileWithTransport(uploadFile(data), transport);
+        try {
+            file.downloadTo(temporaryFolder.getRoot().toPath().resolve("data"), DownloadOptions
+                    .get().withMaxChunkRetries(2));
+            Assert.fail("Expected download to fail");
+        } catch (DXHTTPException e) {
+            Assert.assertTrue(e.getCause().getMessage().contains("MD5"));
+        }
+        Assert.assertEquals(3, transport.getRequestCount("GET"));
+    }
+
+    @Test
+    public void testFailedDownloadWaitsForChunksInProgress() {
+        // The first chunk fails once the others have started, while they are still in progress
+        final CountDownLatch chunksStarted = new CountDownLatch(3);
+        final AtomicInteger chunksFinished = new AtomicInteger();
+        InterceptingTransport transport = new InterceptingTransport(apiserver)
+                .addInterceptor(new InterceptingTransport.Interceptor() {
+                    @Override
+                    public CloseableHttpResponse intercept(HttpUriRequest request,
+                            DXTransport next) throws IOException {
+                        if (!request.getMethod().equals("GET")) {
+                            return next.execute(request);
+                        }
+                        try {
+                            if (request.getFirstHeader("Range").getValue()
+                                    .startsWith("bytes=0-")) {
+                                chunksStarted.await(10, TimeUnit.SECONDS);
+                                throw new IOException("Connection reset");
+                            }
+                            chunksStarted.countDown();
+                            Thread.sleep(200);
+                        } catch (InterruptedException e) {
+                            throw new IOException(e);
+                        }
+                        CloseableHttpResponse response = next.execute(request);
+                        BasicHttpEntity entity = new BasicHttpEntity();
+                        entity.setContent(new FilterInputStream(response.getEntity()
+                                .getContent()) {
+                            @Override
+                            public void close() throws IOException {
+                                chunksFinished.incrementAndGet();
+                                super.close();
+                            }
+                        });
+                        response.setEntity(entity);
+                        return response;
+                    }
+                });
+        DXFile file = getFileWithTransport(uploadFile(data), transport);
+        try {
+            file.downloadTo(temporaryFolder.getRoot().toPath().resolve("data"), DownloadOptions
+                    .get().withChunkSize(30000).withParallelism(4).withMaxChunkRetries(0)
+                    .withChecksumVerification(false));
+            Assert.fail("Expected download to fail");
+        } catch (DXHTTPException e) {
+            Assert.assertEquals("Connection reset", e.getCause().getMessage());
+        }
+        // The download does not return while other chunks are still being written
+        Assert.assertEquals(3, chunksFinished.get());
+    }
+
+    @Test
+    public void testDownloadToOverwritesLongerFile() throws IOException {
+        DXFile file = uploadFile(new byte[] {1, 2, 3});
+        Path path = temporaryFolder.newFile("existing").toPath();
+        Files.write(path, data);
+        file.downloadTo(path);
+        Assert.assertArrayEquals(new byte[] {1, 2, 3}, Files.readAllBytes(path));
+    }
+
+    @Test
+    public void testDownloadEmptyFile() throws IOException {
+        DXFile file = uploadFile(new byte[0]);
+        Assert.assertArrayEquals(new byte[0], file.downloadBytes());
+        Path path = temporaryFolder.getRoot().toPath().resolve("empty");
+        file.downloadTo(path);
+        Assert.assertArrayEquals(new byte[0], Files.readAllBytes(path));
+    }
+
+    @Test
+    public void testSmallFileIsDownloadedWithOneRequest() {
+        InterceptingTransport transport = createFlakyTransport(0, 0);
+        DXFile file = getFileWithTransport(uploadFile(data), transport);
+        Assert.assertArrayEquals(data, file.downloadBytes());
+        // The file is described at the same time as it is downloaded
+        Assert.assertEquals(1, transport.getRequestCount("GET"));
+        Assert.assertEquals(1, transport.getRequestCount("POST", "/describe"));
+
+        // Data that does not match the part's digest is downloaded again, in verified chunks
+        downloadsToCorrupt.set(1);
+        transport.clearRequests();
+        Assert.assertArrayEquals(data, file.downloadBytes());
+        Assert.assertEquals(2, transport.getRequestCount("GET"));
+    }
+
+    @Test
+    public void testCachedDescribeIsUsed() {
+        DXFile uploaded = uploadFile(data);
+        DXEnvironment env = apiserver.createEnvironment();
+        JsonNode describe = new DXHTTPRequest(env).request("/" + uploaded.getId() + "/describe",
+                DXJSON.getObjectBuilder().put("fields", DXJSON.getObjectBuilder()
+                        .put("size", true).put("parts", true).build()).build(),
+                RetryStrategy.SAFE_TO_RETRY);
+        InterceptingTransport transport = createFlakyTransport(0, 0);
+        DXFile file = DXFile.getInstanceWithCachedDescribe(uploaded.getId(),
+                env.getProjectContext(), DXEnvironment.Builder.fromEnvironment(env)
+                        .setTransport(transport).build(), describe);
+        Assert.assertArrayEquals(data, file.downloadBytes());
+        Assert.assertEquals(0, transport.getRequestCount("POST", "/describe"));
+        Assert.assertEquals(1, transport.getRequestCount("GET"));
+    }
+
+    @Test
+    public void testFileLargerThanChunkIsDownloadedInChunks() {
+        byte[] twoParts = TestFiles.randomBytes((int) (DownloadOptions.get().getChunkSize()
+                + 12345));
+        InterceptingTransport transport = createFlakyTransport(0, 0);
+        DXFile file = getFileWithTransport(uploadFile(twoParts), transport);
+        Assert.assertArrayEquals(twoParts, file.downloadBytes());
+        // The first request stops once it finds that the file is too large
+        Assert.assertEquals(3, transport.getRequestCount("GET"));
+    }
+
+    @Test
+    public void testBrokenDownloadsAreResumed() throws IOException {
+        InterceptingTransport transport = createFlakyTransport(3, 0);
+        DXFile file = getFileWithTransport(uploadFile(data), transport);
+        Assert.assertArrayEquals(data, file.downloadBytes());
+        // Each broken download is resumed from where it stopped
+        Assert.assertEquals(4, transport.getRequestCount("GET"));
+
+        Path path = temporaryFolder.getRoot().toPath().resolve("data");
+        downloadsToBreak.set(5);
+        file.downloadTo(path, DownloadOptions.get().withChunkSize(30000).withParallelism(2)
+                .withMaxChunkRetries(1));
+        Assert.assertArrayEquals(data, Files.readAllBytes(path));
+    }
+
+    @Test
+    public void testInputStream() throws IOException {
+        InterceptingTransport transport = createFlakyTransport(2, 0);
+        DXFile file = getFileWithTransport(uploadFile(data), transport);
+        try (InputStream stream = file.openInputStream(DownloadOptions.get().withChunkSize(7000)
+                .withParallelism(3))) {
+            Assert.assertArrayEquals(data, ByteStreams.toByteArray(stream));
+            Assert.assertEquals(-1, stream.read());
+        }
+    }
+
+    @Test
+    public void testInputStreamFailureIsSticky() throws IOException {
+        // The first chunk fails; the ones after it would succeed
+        InterceptingTransport transport = createFlakyTransport(0, 1);
+        DXFile file = getFileWithTransport(uploadFile(data), transport);
+        try (InputStream stream = file.openInputStream(DownloadOptions.get().withChunkSize(7000)
+                .withParallelism(1).withMaxChunkRetries(0))) {
+            for (int i = 0; i < 2; ++i) {
+                try {
+                    stream.read(new byte[100]);
+                    Assert.fail("Expected IOException");
+                } catch (IOException e) {
+                    // Expected
+                }
+            }
+            try {
+                stream.skip(100);
+                Assert.fail("Expected IOException");
+            } catch (IOException e) {
+                // Expected
+            }
+        }
+    }
+
+    @Test
+    public void testInputStreamSkip() throws IOException {
+        DXFile file = uploadFile(data);
+        try (InputStream stream = file.openInputStream(DownloadOptions.get().withChunkSize(7000))) {
+            Assert.assertEquals(data[0], (byte) stream.read());
+            Assert.assertEquals(20000, stream.skip(20000));
+            Assert.assertEquals(data[20001], (byte) stream.read());
+            Assert.assertEquals(data.length - 20002, stream.skip(data.length));
+            Assert.assertEquals(-1, stream.read());
+        }
+    }
+
+    @Test
+    public void testChannel() throws IOException {
+        DXFile file = uploadFile(data);
+        ByteBuffer buffer = ByteBuffer.allocate(data.length + 1);
+        try (ReadableByteChannel channel = file.openChannel(DownloadOptions.get().withChunkSize(
+                30000))) {
+            while (channel.read(buffer) >= 0) {
+                // Keep reading
+            }
+            Assert.assertTrue(channel.isOpen());
+        }
+        buffer.flip();
+        Assert.assertEquals(ByteBuffer.wrap(data), buffer);
+    }
+
+    @Test
+    public void testDecompressedInputStream() throws IOException {
+        DXEnvironment env = apiserver.createEnvironment();
+        DXFile file = DXFile.newFileWithEnvironment(env).setProject(env.getProjectContext())
+                .uploadCompressed(new ByteArrayInputStream(data)).build().closeAndWait();
+        try (InputStream stream = file.openDecompressedInputStream(DownloadOptions.get()
+                .withChunkSize(7000).withDecompressionThreads(3))) {
+            Assert.assertArrayEquals(data, ByteStreams.toByteArray(stream));
+        }
+    }
+
+    @Test
+    public void testEmptyInputStream() throws IOException {
+        DXFile file = uploadFile(new byte[0]);
+        try (InputStream stream = file.openInputStream()) {
+            Assert.assertEquals(-1, stream.read());
+        }
+    }
+
+    @Test
+    public void testReadAfterClose() throws IOException {
+        DXFile file = uploadFile(data);
+        ReadableByteChannel channel = file.openChannel();
+        channel.close();
+        Assert.assertFalse(channel.isOpen());
+        try {
+            channel.read(ByteBuffer.allocate(1));
+            Assert.fail("Expected ClosedChannelException");
+        } catch (ClosedChannelException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testSeekableChannelRandomReads() throws IOException {
+        DXFile file = uploadFile(data);
+        Random random = new Random(2);
+        try (SeekableByteChannel channel = file.openSeekableChannel(SeekableChannelOptions.get()
+                .withBlockSize(1000).withCacheBlocks(8))) {
+            Assert.assertEquals(data.length, channel.size());
+            for (int i = 0; i < 100; ++i) {
+                int position = random.nextInt(data.length);
+                ByteBuffer buffer = ByteBuffer.allocate(random.nextInt(3000) + 1);
+                channel.position(position);
+                int n = channel.read(buffer);
+                Assert.assertTrue(n > 0);
+                Assert.assertEquals(position + n, channel.position());
+                buffer.flip();
+                Assert.assertEquals(ByteBuffer.wrap(data, position, n), buffer);
+            }
+            channel.position(data.length);
+            Assert.assertEquals(-1, channel.read(ByteBuffer.allocate(1)));
+        }
+    }
+
+    @Test
+    public void testSeekableChannelCachesAndCoalescesBlocks() throws IOException {
+        InterceptingTransport transport = createFlakyTransport(0, 0);
+        DXFile file = getFileWithTransport(uploadFile(data), transport);
+        try (SeekableByteChannel channel = file.openSeekableChannel(SeekableChannelOptions.get()
+                .withBlockSize(1000).withPrefetchBlocks(0))) {
+            channel.position(5500).read(ByteBuffer.allocate(10));
+            Assert.assertEquals(1, transport.getRequestCount("GET"));
+            // Served from the cache
+            channel.position(5000).read(ByteBuffer.allocate(1000));
+            Assert.assertEquals(1, transport.getRequestCount("GET"));
+            // Blocks 3-4 and 6-7 are missing: two requests
+            ByteBuffer buffer = ByteBuffer.allocate(5000);
+            Assert.assertEquals(5000, channel.position(3000).read(buffer));
+            Assert.assertEquals(3, transport.getRequestCount("GET"));
+            buffer.flip();
+            Assert.assertEquals(ByteBuffer.wrap(data, 3000, 5000), buffer);
+        }
+    }
+
+    @Test
+    public void testSeekableChannelPrefetchesSequentialReads() throws IOException {
+        InterceptingTransport transport = createFlakyTransport(0, 0);
+        DXFile file = getFileWithTransport(uploadFile(data), transport);
+        ByteBuffer all = ByteBuffer.allocate(data.length);
+        try (SeekableByteChannel channel = file.openSeekableChannel(SeekableChannelOptions.get()
+                .withBlockSize(1000).withPrefetchBlocks(16))) {
+            ByteBuffer buffer = ByteBuffer.allocate(500);
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                all.put(buffer);
+                buffer.clear();
+            }
+        }
+        Assert.assertArrayEquals(data, all.array());
+        // 100 blocks, with up to 16 prefetched at a time
+        Assert.assertTrue(transport.getRequestCount("GET") < 20);
+    }
+
+    @Test
+    public void testSeekableChannelIsReadOnly() throws IOException {
+        DXFile file = uploadFile(data);
+        try (SeekableByteChannel channel = file.openSeekableChannel()) {
+            channel.write(ByteBuffer.allocate(1));
+            Assert.fail("Expected NonWritableChannelException");
+        } catch (NonWritableChannelException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testDownloadUrlIsSharedByReaders() throws IOException {
+        InterceptingTransport transport = createFlakyTransport(0, 0);
+        DXFile file = getFileWithTransport(uploadFile(data), transport);
+        Assert.assertArrayEquals(data, file.downloadBytes());
+        Assert.assertArrayEquals(data, file.downloadBytes());
+        try (InputStream stream = file.openInputStream(DownloadOptions.get().withChunkSize(7000))) {
+            Assert.assertArrayEquals(data, ByteStreams.toByteArray(stream));
+        }
+        try (SeekableByteChannel channel = file.openSeekableChannel()) {
+            channel.position(50000).read(ByteBuffer.allocate(100));
+        }
+        Assert.assertEquals(1, transport.getRequestCount("POST", "/download"));
+    }
+
+    @Test
+    public void testExpiredDownloadUrlIsReplaced() {
+        InterceptingTransport transport = createFlakyTransport(0, 0);
+        DXFile file = getFileWithTransport(uploadFile(data), transport);
+        final AtomicLong nanos = new AtomicLong();
+        DownloadUrlCache cache = new DownloadUrlCache(new Ticker() {
+            @Override
+            public long read() {
+                return nanos.get();
+            }
+        });
+        DownloadUrlCache.DownloadUrl url = cache.get(file);
+        nanos.addAndGet(TimeUnit.HOURS.toNanos(23));
+        Assert.assertSame(url, cache.get(file));
+        Assert.assertEquals(1, transport.getRequestCount("POST", "/download"));
+        nanos.addAndGet(TimeUnit.HOURS.toNanos(1));
+        Assert.assertNotSame(url, cache.get(file));
+        Assert.assertEquals(2, transport.getRequestCount("POST", "/download"));
+    }
+
+    @Test
+    public void testInterruptedDownloadIsResumed() throws IOException {
+        InterceptingTransport transport = createFlakyTransport(0, 0);
+        DXFile file = getFileWithTransport(uploadFile(data), transport);
+        Path path = temporaryFolder.getRoot().toPath().resolve("data");
+        DownloadOptions options = DownloadOptions.get().withChunkSize(30000).withParallelism(1)
+                .withMaxChunkRetries(0).withJournal(true).withChecksumVerification(false);
+
+        downloadsBeforeOutage.set(2);
+        try {
+            file.downloadTo(path, options);
+            Assert.fail("Expected download to fail");
+        } catch (DXHTTPException e) {
+            // Expected
+        }
+        Assert.assertTrue(Files.exists(path.resolveSibling("data" + TransferJournal.SUFFIX)));
+
+        // Corrupt the first chunk; it is downloaded again along with the two missing chunks
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {(byte) ~data[100]}), 100);
+        }
+        downloadsBeforeOutage.set(Integer.MAX_VALUE);
+        transport.clearRequests();
+        file.downloadTo(path, options);
+        Assert.assertEquals(3, transport.getRequestCount("GET"));
+        Assert.assertArrayEquals(data, Files.readAllBytes(path));
+        Assert.assertFalse(Files.exists(path.resolveSibling("data" + TransferJournal.SUFFIX)));
+    }
+
+    @Test
+    public void testRejectedUrlIsReplaced() {
+        InterceptingTransport transport = createFlakyTransport(0, 1);
+        DXFile file = getFileWithTransport(uploadFile(data), transport);
+        Assert.assertArrayEquals(data, file.downloadBytes());
+        Assert.assertEquals(2, transport.getRequestCount("POST", "/download"));
+    }
+
+    @Test
+    public void testDownloadFailsAfterMaxChunkRetries() {
+        InterceptingTransport transport = createFlakyTransport(0, Integer.MAX_VALUE);
+        DXFile file = getFileWithTransport(uploadFile(data), transport);
+        try {
+            file.downloadTo(temporaryFolder.getRoot().toPath().resolve("data"), DownloadOptions
+                    .get().withMaxChunkRetries(2));
+            Assert.fail("Expected download to fail");
+        } catch (DXHTTPException e) {
+            // Expected
+        }
+        Assert.assertEquals(3, transport.getRequestCount("GET"));
+    }
+
+}
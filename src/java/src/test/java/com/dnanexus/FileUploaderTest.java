@@ -0,0 +1,304 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+
+package com.dnanexus;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.dnanexus.DXFile.UploadOptions;
+import com.dnanexus.exceptions.DXHTTPException;
+import com.google.common.collect.Sets;
+import com.google.common.io.ByteStreams;
+
+/**
+ * Tests of multipart file uploads, against {@link InMemoryApiserver}.
+ */
+public class FileUploaderTest {
+
+    private static final int PART_SIZE = (int) UploadOptions.MIN_PART_SIZE;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private InMemoryApiserver apiserver;
+    private byte[] data;
+
+    @Before
+    public void setUp() {
+        apiserver = new InMemoryApiserver();
+        data = TestFiles.randomBytes(PART_SIZE * 3 + 12345);
+    }
+
+    /**
+     * Returns a transport that fails the first {@code putsToFail} PUTs to upload URLs with an
+     * IOException.
+     */
+    private InterceptingTransport createFlakyTransport(int putsToFail) {
+        return new InterceptingTransport(apiserver).addInterceptor(InterceptingTransport
+                .failFirst("PUT", new AtomicInteger(putsToFail), "Connection reset"));
+    }
+
+    private DXEnvironment createEnvironment(DXTransport transport) {
+        DXEnvironment env = apiserver.createEnvironment();
+        return DXEnvironment.Builder.fromEnvironment(env).setTransport(transport)
+                .setRetryPolicy(RetryPolicy.Builder.fromDefaults()
+                        .setBaseDelay(1, TimeUnit.MILLISECONDS)
+                        .setSafeToRetryBaseDelay(1, TimeUnit.MILLISECONDS)
+                        .setMaxDelay(1, TimeUnit.MILLISECONDS).build()).build();
+    }
+
+    @Test
+    public void testMultipartUpload() {
+        DXEnvironment env = apiserver.createEnvironment();
+        UploadOptions options = UploadOptions.get().withPartSize(PART_SIZE).withParallelism(3);
+        DXFile file = DXFile.newFileWithEnvironment(env).setProject(env.getProjectContext())
+                .setUploadOptions(options).upload(data).build().closeAndWait();
+        Assert.assertArrayEquals(data, file.downloadBytes());
+    }
+
+    @Test
+    public void testStreamingUploadReusesBuffers() throws IOException {
+        // Records the buffers that the stream is read into
+        final Set<byte[]> buffers = Sets.newIdentityHashSet();
+        InputStream stream = new FilterInputStream(new ByteArrayInputStream(data)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                buffers.add(b);
+                return super.read(b, off, len);
+            }
+        };
+
+        DXEnvironment env = apiserver.createEnvironment();
+        DXFile file = DXFile.newFileWithEnvironment(env).setProject(env.getProjectContext())
+                .build();
+        file.upload(stream, UploadOptions.get().withPartSize(PART_SIZE).withParallelism(2));
+        file.closeAndWait();
+        Assert.assertArrayEquals(data, file.downloadBytes());
+        Assert.assertTrue(buffers.size() <= 2);
+    }
+
+    @Test
+    public void testStreamingUploadOfWholeParts() {
+        byte[] twoParts = Arrays.copyOf(data, PART_SIZE * 2);
+        DXEnvironment env = apiserver.createEnvironment();
+        DXFile file = DXFile.newFileWithEnvironment(env).setProject(env.getProjectContext())
+                .setUploadOptions(UploadOptions.get().withPartSize(PART_SIZE))
+                .upload(new ByteArrayInputStream(twoParts)).build().closeAndWait();
+        Assert.assertArrayEquals(twoParts, file.downloadBytes());
+    }
+
+    @Test
+    public void testPathUpload() throws IOException {
+        Path path = temporaryFolder.newFile("data").toPath();
+        Files.write(path, data);
+        InterceptingTransport transport = createFlakyTransport(1);
+        DXEnvironment env = createEnvironment(transport);
+        DXFile file = DXFile.newFileWithEnvironment(env).setProject(env.getProjectContext())
+                .setUploadOptions(UploadOptions.get().withPartSize(PART_SIZE).withParallelism(3))
+                .upload(path).build().closeAndWait();
+        Assert.assertEquals(5, transport.getRequestCount("PUT"));
+        Assert.assertArrayEquals(data, file.downloadBytes());
+    }
+
+    @Test
+    public void testEmptyPathUpload() throws IOException {
+        Path path = temporaryFolder.newFile("empty").toPath();
+        DXEnvironment env = apiserver.createEnvironment();
+        DXFile file = DXFile.newFileWithEnvironment(env).setProject(env.getProjectContext())
+                .upload(path).build().closeAndWait();
+        Assert.assertArrayEquals(new byte[0], file.downloadBytes());
+    }
+
+    @Test
+    public void testEmptyUpload() {
+        DXEnvironment env = apiserver.createEnvironment();
+        DXFile file = DXFile.newFileWithEnvironment(env).setProject(env.getProjectContext())
+                .upload(new byte[0]).build().closeAndWait();
+        Assert.assertArrayEquals(new byte[0], file.downloadBytes());
+
+        file = DXFile.newFileWithEnvironment(env).setProject(env.getProjectContext())
+                .upload(new ByteArrayInputStream(new byte[0])).build().closeAndWait();
+        Assert.assertArrayEquals(new byte[0], file.downloadBytes());
+    }
+
+    @Test
+    public void testCompressedUpload() throws IOException {
+        DXEnvironment env = apiserver.createEnvironment();
+        DXFile file = DXFile.newFileWithEnvironment(env).setProject(env.getProjectContext())
+                .setUploadOptions(UploadOptions.get().withPartSize(PART_SIZE)
+                        .withCompressionThreads(4))
+                .uploadCompressed(new ByteArrayInputStream(data)).build().closeAndWait();
+        Assert.assertArrayEquals(data, ByteStreams.toByteArray(new GZIPInputStream(
+                new ByteArrayInputStream(file.downloadBytes()))));
+    }
+
+    @Test
+    public void testFailedPartsAreRetried() {
+        InterceptingTransport transport = createFlakyTransport(2);
+        DXEnvironment env = createEnvironment(transport);
+        DXFile file = DXFile.newFileWithEnvironment(env).setProject(env.getProjectContext())
+                .build();
+        file.upload(data, UploadOptions.get().withPartSize(PART_SIZE).withParallelism(2));
+        file.closeAndWait();
+        Assert.assertEquals(6, transport.getRequestCount("PUT"));
+        Assert.assertArrayEquals(data, file.downloadBytes());
+    }
+
+    @Test
+    public void testUploadFailsAfterMaxPartRetries() {
+        InterceptingTransport transport = createFlakyTransport(Integer.MAX_VALUE);
+        DXEnvironment env = createEnvironment(transport);
+        DXFile file = DXFile.newFileWithEnvironment(env).setProject(env.getProjectContext())
+                .build();
+        try {
+            file.upload(data, UploadOptions.get().withParallelism(1).withMaxPartRetries(2));
+            Assert.fail("Expected upload to fail");
+        } catch (DXHTTPException e) {
+            // Expected
+        }
+        Assert.assertEquals(3, transport.getRequestCount("PUT"));
+    }
+
+    @Test
+    public void testInterruptedUploadIsResumed() throws IOException {
+        Path path = temporaryFolder.newFile("data").toPath();
+        Files.write(path, data);
+        Path journal = path.resolveSibling("data" + TransferJournal.SUFFIX);
+        AtomicInteger putsBeforeOutage = new AtomicInteger(2);
+        InterceptingTransport transport = new InterceptingTransport(apiserver).addInterceptor(
+                InterceptingTransport.failAfter("PUT", putsBeforeOutage, "Network is unreachable"));
+        DXEnvironment env = createEnvironment(transport);
+        DXFile.Builder builder = DXFile.newFileWithEnvironment(env)
+                .setProject(env.getProjectContext())
+                .setUploadOptions(UploadOptions.get().withPartSize(PART_SIZE).withParallelism(1)
+                        .withMaxPartRetries(0).withJournal(true)).upload(path);
+
+        try {
+            builder.build();
+            Assert.fail("Expected upload to fail");
+        } catch (DXHTTPException e) {
+            // Expected
+        }
+        Assert.assertTrue(Files.exists(journal));
+
+        // Only the last two of the four parts are uploaded, to the same file
+        putsBeforeOutage.set(Integer.MAX_VALUE);
+        transport.clearRequests();
+        DXFile file = builder.build().closeAndWait();
+        Assert.assertEquals(2, transport.getRequestCount("PUT"));
+        Assert.assertFalse(Files.exists(journal));
+        Assert.assertArrayEquals(data, file.downloadBytes());
+    }
+
+    @Test
+    public void testPartSizeIsRaisedForLargeFiles() {
+        UploadOptions options = UploadOptions.get();
+        Assert.assertSame(options, options.forSize(UploadOptions.MAX_PARTS
+                * options.getPartSize()));
+        long size = 200L * 1024 * 1024 * 1024;
+        long partSize = options.forSize(size).getPartSize();
+        Assert.assertTrue(partSize * UploadOptions.MAX_PARTS >= size);
+        Assert.assertTrue((partSize - 1) * UploadOptions.MAX_PARTS < size);
+        try {
+            options.forSize(UploadOptions.MAX_PART_SIZE * UploadOptions.MAX_PARTS + 1);
+            Assert.fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testTooManyPartsFailsCleanly() {
+        DXEnvironment env = apiserver.createEnvironment();
+        DXFile file = DXFile.newFileWithEnvironment(env).setProject(env.getProjectContext())
+                .build();
+        final AtomicInteger released = new AtomicInteger();
+        final byte[] part = Arrays.copyOf(data, 100);
+        FileUploader.PartSource source = new FileUploader.PartSource() {
+            private int index = 0;
+
+            @Override
+            public FileUploader.Part nextPart() {
+                // Skip from the first part to one past the limit
+                index = (index == 0) ? 1 : UploadOptions.MAX_PARTS + 1;
+                return new FileUploader.Part(index) {
+                    @Override
+                    long getSize() {
+                        return part.length;
+                    }
+
+                    @Override
+                    String computeMD5() {
+                        return FileUploader.md5Hex(part, 0, part.length);
+                    }
+
+                    @Override
+                    org.apache.http.HttpEntity getEntity() {
+                        return new org.apache.http.entity.ByteArrayEntity(part);
+                    }
+
+                    @Override
+                    void release() {
+                        released.incrementAndGet();
+                    }
+                };
+            }
+        };
+        try {
+            new FileUploader(file, env, UploadOptions.get()).upload(source);
+            Assert.fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            // Expected
+        }
+        // The part past the limit was released, and so was the part in flight before the
+        // upload failed
+        Assert.assertEquals(2, released.get());
+    }
+
+    @Test
+    public void testInvalidOptions() {
+        try {
+            UploadOptions.get().withPartSize(UploadOptions.MIN_PART_SIZE - 1);
+            Assert.fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+        try {
+            UploadOptions.get().withParallelism(0);
+            Assert.fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+
+}
@@ -0,0 +1,118 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+
+package com.dnanexus;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.dnanexus.DXContainer.FolderContents;
+import com.dnanexus.exceptions.ResourceNotFoundException;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Tests of the bindings against {@link InMemoryApiserver}, which run without network access.
+ */
+public class InMemoryApiserverTest {
+
+    private DXEnvironment env;
+    private DXProject project;
+
+    @Before
+    public void setUp() {
+        env = new InMemoryApiserver().createEnvironment();
+        project = env.getProjectContext();
+    }
+
+    @Test
+    public void testFileRoundTrip() {
+        byte[] data = "Hello, world!".getBytes();
+        DXFile file = DXFile.newFileWithEnvironment(env).setProject(project).setName("hello.txt")
+                .setMediaType("text/plain").upload(data).build().closeAndWait();
+
+        DXFile.Describe describe = file.describe();
+        Assert.assertEquals("hello.txt", describe.getName());
+        Assert.assertEquals("text/plain", describe.getMediaType());
+        Assert.assertEquals(DataObjectState.CLOSED, describe.getState());
+        Assert.assertArrayEquals(data, file.downloadBytes());
+    }
+
+    @Test
+    public void testRecordDetailsAndProperties() {
+        DXRecord record = DXRecord.newRecordWithEnvironment(env).setProject(project)
+                .setName("rec").setDetails(ImmutableMap.of("answer", 42))
+                .putProperty("color", "blue").addTypes(ImmutableList.of("Example")).build();
+
+        DXDataObject.Describe describe =
+                record.describe(DXDataObject.DescribeOptions.get().withDetails().withProperties());
+        Assert.assertEquals(42, describe.getDetails(java.util.Map.class).get("answer"));
+        Assert.assertEquals("blue", describe.getProperties().get("color"));
+        Assert.assertEquals(ImmutableList.of("Example"), describe.getTypes());
+    }
+
+    @Test
+    public void testFindDataObjects() {
+        project.newFolder("/a/b", true);
+        DXRecord.newRecordWithEnvironment(env).setProject(project).setFolder("/a/b")
+                .setName("match-1").build();
+        DXRecord.newRecordWithEnvironment(env).setProject(project).setName("match-2").build();
+        DXRecord.newRecordWithEnvironment(env).setProject(project).setName("other").build();
+
+        List<DXRecord> found = DXSearch.findDataObjectsWithEnvironment(env).withClassRecord()
+                .nameMatchesGlob("match-*").inProject(project).execute().asList();
+        Assert.assertEquals(2, found.size());
+
+        found = DXSearch.findDataObjectsWithEnvironment(env).withClassRecord()
+                .inFolderOrSubfolders(project, "/a").execute().asList();
+        Assert.assertEquals(1, found.size());
+    }
+
+    @Test
+    public void testFolders() {
+        project.newFolder("/x");
+        project.newFolder("/y/z", true);
+        DXRecord record = DXRecord.newRecordWithEnvironment(env).setProject(project)
+                .setFolder("/x").build();
+
+        FolderContents root = project.listFolder("/");
+        Assert.assertEquals(ImmutableList.of("/x", "/y"), root.getSubfolders());
+        Assert.assertEquals(0, root.getObjects().size());
+
+        project.moveObjects(ImmutableList.of(record), "/y/z");
+        Assert.assertEquals(0, project.listFolder("/x").getObjects().size());
+        Assert.assertEquals(ImmutableList.of(record), project.listFolder("/y/z").getObjects());
+
+        project.removeFolder("/y", true);
+        Assert.assertEquals(ImmutableList.of("/x"), project.listFolder("/").getSubfolders());
+    }
+
+    @Test
+    public void testMissingObject() {
+        try {
+            DXRecord.getInstanceWithEnvironment("record-000000000000000000000999", env)
+                    .describe();
+            Assert.fail("Expected describe of a nonexistent object to fail");
+        } catch (ResourceNotFoundException e) {
+            // Expected
+        }
+    }
+
+}
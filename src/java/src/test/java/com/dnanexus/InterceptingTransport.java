@@ -0,0 +1,275 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.http.Header;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Transport for tests that passes requests on to another transport (usually an
+ * {@link InMemoryApiserver}), records them, and lets tests delay, fail, or alter them with
+ * {@link Interceptor}s.
+ */
+public class InterceptingTransport implements DXTransport {
+
+    /**
+     * Hook through which requests pass on their way to the wrapped transport.
+     */
+    public static interface Interceptor {
+        /**
+         * Handles a request. Implementations may block, throw, return a response of their own, or
+         * alter the response of {@code next}.
+         *
+         * @param request HTTP request
+         * @param next transport that sends the request on (through the interceptors added after
+         *        this one)
+         *
+         * @return HTTP response
+         *
+         * @throws IOException to simulate a network error
+         */
+        CloseableHttpResponse intercept(HttpUriRequest request, DXTransport next)
+                throws IOException;
+    }
+
+    /**
+     * Summary of a request that was made.
+     */
+    public static class RecordedRequest {
+        private final String method;
+        private final String path;
+        private final String range;
+        private final String threadName;
+
+        private RecordedRequest(HttpUriRequest request) {
+            this.method = request.getMethod();
+            this.path = request.getURI().getPath();
+            Header rangeHeader = request.getFirstHeader("Range");
+            this.range = (rangeHeader == null) ? null : rangeHeader.getValue();
+            this.threadName = Thread.currentThread().getName();
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * Returns the value of the Range header, or {@code null} if there was none.
+         */
+        public String getRange() {
+            return range;
+        }
+
+        /**
+         * Returns the name of the thread that made the request.
+         */
+        public String getThreadName() {
+            return threadName;
+        }
+
+        private boolean matches(String method, String pathSuffix) {
+            return (method == null || this.method.equals(method))
+                    && (pathSuffix == null || this.path.endsWith(pathSuffix));
+        }
+    }
+
+    /**
+     * Returns an interceptor that makes matching requests fail with an {@link IOException} while
+     * the specified counter is positive, decrementing it for each matching request.
+     *
+     * @param method HTTP method of the requests to fail, or {@code null} for any
+     * @param remaining number of requests to fail
+     * @param message message of the exception
+     */
+    public static Interceptor failFirst(final String method, final AtomicInteger remaining,
+            final String message) {
+        return new Interceptor() {
+            @Override
+            public CloseableHttpResponse intercept(HttpUriRequest request, DXTransport next)
+                    throws IOException {
+                if ((method == null || request.getMethod().equals(method))
+                        && remaining.getAndDecrement() > 0) {
+                    throw new IOException(message);
+                }
+                return next.execute(request);
+            }
+        };
+    }
+
+    /**
+     * Returns an interceptor that lets matching requests through while the specified counter is
+     * positive, decrementing it for each matching request, and makes them fail with an
+     * {@link IOException} afterward, as in a network outage.
+     *
+     * @param method HTTP method of the requests to fail, or {@code null} for any
+     * @param allowed number of requests to let through
+     * @param message message of the exception
+     */
+    public static Interceptor failAfter(final String method, final AtomicInteger allowed,
+            final String message) {
+        return new Interceptor() {
+            @Override
+            public CloseableHttpResponse intercept(HttpUriRequest request, DXTransport next)
+                    throws IOException {
+                if ((method == null || request.getMethod().equals(method))
+                        && allowed.getAndDecrement() <= 0) {
+                    throw new IOException(message);
+                }
+                return next.execute(request);
+            }
+        };
+    }
+
+    /**
+     * Returns an interceptor that holds matching requests until the specified latch is opened.
+     *
+     * @param method HTTP method of the requests to hold, or {@code null} for any
+     * @param gate latch that releases the requests
+     */
+    public static Interceptor hold(final String method, final CountDownLatch gate) {
+        return new Interceptor() {
+            @Override
+            public CloseableHttpResponse intercept(HttpUriRequest request, DXTransport next)
+                    throws IOException {
+                if (method == null || request.getMethod().equals(method)) {
+                    try {
+                        gate.await();
+                    } catch (InterruptedException e) {
+                        throw new IOException(e);
+                    }
+                }
+                return next.execute(request);
+            }
+        };
+    }
+
+    private final DXTransport target;
+    private final List<Interceptor> interceptors = new CopyOnWriteArrayList<Interceptor>();
+    private final List<RecordedRequest> requests = new CopyOnWriteArrayList<RecordedRequest>();
+
+    /**
+     * Creates a transport that passes requests on to the specified transport.
+     *
+     * @param target transport that serves the requests
+     */
+    public InterceptingTransport(DXTransport target) {
+        this.target = target;
+    }
+
+    /**
+     * Adds an interceptor. Requests pass through interceptors in the order they were added.
+     *
+     * @param interceptor interceptor
+     *
+     * @return this transport
+     */
+    public InterceptingTransport addInterceptor(Interceptor interceptor) {
+        interceptors.add(interceptor);
+        return this;
+    }
+
+    /**
+     * Returns the requests made so far, in the order they were made.
+     */
+    public List<RecordedRequest> getRequests() {
+        return ImmutableList.copyOf(requests);
+    }
+
+    /**
+     * Returns the number of requests made so far.
+     */
+    public int getRequestCount() {
+        return requests.size();
+    }
+
+    /**
+     * Returns the number of requests made so far with the specified method.
+     *
+     * @param method HTTP method
+     */
+    public int getRequestCount(String method) {
+        return getRequestCount(method, null);
+    }
+
+    /**
+     * Returns the number of requests made so far with the specified method and path.
+     *
+     * @param method HTTP method, or {@code null} for any
+     * @param pathSuffix end of the path of the requests to count, or {@code null} for any
+     */
+    public int getRequestCount(String method, String pathSuffix) {
+        int count = 0;
+        for (RecordedRequest request : requests) {
+            if (request.matches(method, pathSuffix)) {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Forgets the requests made so far.
+     */
+    public void clearRequests() {
+        requests.clear();
+    }
+
+    @Override
+    public CloseableHttpResponse execute(HttpUriRequest request) throws IOException {
+        requests.add(new RecordedRequest(request));
+        return new Chain(0).execute(request);
+    }
+
+    @Override
+    public void close() {}
+
+    /**
+     * The interceptors from a given one onward, followed by the target transport.
+     */
+    private class Chain implements DXTransport {
+        private final int index;
+
+        private Chain(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public CloseableHttpResponse execute(HttpUriRequest request) throws IOException {
+            if (index == interceptors.size()) {
+                return target.execute(request);
+            }
+            return interceptors.get(index).intercept(request, new Chain(index + 1));
+        }
+
+        @Override
+        public void close() {}
+    }
+
+}
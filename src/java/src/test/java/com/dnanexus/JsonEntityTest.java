@@ -0,0 +1,100 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Strings;
+
+/**
+ * Tests of {@link JsonEntity}.
+ */
+public class JsonEntityTest {
+
+    /**
+     * Payload that counts how many times it is serialized.
+     */
+    private static class CountingPayload {
+        private final String name;
+        private int serializations = 0;
+
+        private CountingPayload(String name) {
+            this.name = name;
+        }
+
+        @JsonProperty
+        public String getName() {
+            ++serializations;
+            return name;
+        }
+    }
+
+    @Test
+    public void testFixedLengthBodyIsSerializedOnce() throws IOException {
+        CountingPayload payload = new CountingPayload("test");
+        JsonEntity entity = new JsonEntity(payload);
+        byte[] expected = "{\"name\":\"test\"}".getBytes(StandardCharsets.UTF_8);
+
+        Assert.assertFalse(entity.isChunked());
+        Assert.assertTrue(entity.isRepeatable());
+        Assert.assertEquals(expected.length, entity.getContentLength());
+        // Writing the entity again (as when a request is retried) sends the same bytes
+        for (int i = 0; i < 2; ++i) {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            entity.writeTo(body);
+            Assert.assertArrayEquals(expected, body.toByteArray());
+        }
+        Assert.assertEquals(1, payload.serializations);
+    }
+
+    @Test
+    public void testLargeBodyIsStreamed() throws IOException {
+        String name = Strings.repeat("x", JsonEntity.MAX_BUFFERED_LENGTH);
+        CountingPayload payload = new CountingPayload(name);
+        JsonEntity entity = new JsonEntity(payload);
+        byte[] expected = ("{\"name\":\"" + name + "\"}").getBytes(StandardCharsets.UTF_8);
+
+        Assert.assertEquals(-1, entity.getContentLength());
+        Assert.assertTrue(entity.isChunked());
+        Assert.assertTrue(entity.isRepeatable());
+        // The body is not kept, so each write (as when a request is retried) serializes it again
+        for (int i = 0; i < 2; ++i) {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            entity.writeTo(body);
+            Assert.assertArrayEquals(expected, body.toByteArray());
+        }
+        Assert.assertEquals(3, payload.serializations);
+    }
+
+    @Test
+    public void testUnserializablePayload() {
+        JsonEntity entity = new JsonEntity(new Object());
+        try {
+            entity.getContentLength();
+            Assert.fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+
+}
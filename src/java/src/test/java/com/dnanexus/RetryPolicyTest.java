@@ -0,0 +1,83 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.dnanexus.DXHTTPRequest.RetryStrategy;
+
+public class RetryPolicyTest {
+
+    @Test
+    public void testRetryDelays() {
+        RetryPolicy policy = RetryPolicy.Builder.fromDefaults()
+                .setBaseDelay(100, TimeUnit.MILLISECONDS)
+                .setSafeToRetryBaseDelay(10, TimeUnit.MILLISECONDS)
+                .setMaxDelay(1, TimeUnit.SECONDS).build();
+
+        for (int i = 0; i < 1000; ++i) {
+            long delay = policy.getRetryDelayMillis(RetryStrategy.SAFE_TO_RETRY, 0);
+            Assert.assertTrue(delay >= 10 && delay <= 30);
+            delay = policy.getRetryDelayMillis(RetryStrategy.UNSAFE_TO_RETRY, 0);
+            Assert.assertTrue(delay >= 100 && delay <= 300);
+
+            // Waits grow with the previous wait, up to the maximum delay
+            delay = policy.getRetryDelayMillis(RetryStrategy.UNSAFE_TO_RETRY, 200);
+            Assert.assertTrue(delay >= 100 && delay <= 600);
+            delay = policy.getRetryDelayMillis(RetryStrategy.UNSAFE_TO_RETRY, 900);
+            Assert.assertTrue(delay >= 100 && delay <= 1000);
+        }
+    }
+
+    @Test
+    public void testServiceUnavailableDelays() {
+        for (int i = 0; i < 1000; ++i) {
+            long delay = RetryPolicy.DEFAULT.getServiceUnavailableDelayMillis(10);
+            Assert.assertTrue(delay >= 10000 && delay <= 12000);
+        }
+
+        RetryPolicy policy = RetryPolicy.Builder.fromDefaults()
+                .setMaxServiceUnavailableWait(5, TimeUnit.SECONDS).build();
+        Assert.assertEquals(5000, policy.getServiceUnavailableDelayMillis(60));
+    }
+
+    @Test
+    public void testBuilder() {
+        RetryPolicy policy = RetryPolicy.Builder.fromDefaults().setMaxRetries(2)
+                .setMaxElapsedTime(1, TimeUnit.MINUTES).build();
+        Assert.assertEquals(2, policy.getMaxRetries());
+        Assert.assertEquals(60000, policy.getMaxElapsedTimeMillis());
+        Assert.assertEquals(RetryPolicy.DEFAULT.getMaxRetries(), RetryPolicy.Builder
+                .fromPolicy(RetryPolicy.DEFAULT).build().getMaxRetries());
+
+        DXEnvironment env = DXEnvironment.Builder.fromDefaults().setRetryPolicy(policy).build();
+        Assert.assertSame(policy, env.getRetryPolicy());
+        Assert.assertSame(policy, DXEnvironment.Builder.fromEnvironment(env).build()
+                .getRetryPolicy());
+
+        try {
+            RetryPolicy.Builder.fromDefaults().setMaxRetries(-1);
+            Assert.fail("Expected negative maxRetries to be rejected");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+
+}
@@ -0,0 +1,64 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.util.Random;
+
+/**
+ * Helpers that create data and files for tests of file transfers.
+ */
+public class TestFiles {
+
+    /**
+     * Returns pseudorandom bytes. The same size always gives the same bytes.
+     *
+     * @param size number of bytes
+     */
+    public static byte[] randomBytes(int size) {
+        byte[] data = new byte[size];
+        new Random(size).nextBytes(data);
+        return data;
+    }
+
+    /**
+     * Returns a builder of a file with the specified name in the project context of an
+     * environment.
+     *
+     * @param env environment
+     * @param name file name
+     */
+    public static DXFile.Builder newFile(DXEnvironment env, String name) {
+        return DXFile.newFileWithEnvironment(env).setProject(env.getProjectContext())
+                .setName(name);
+    }
+
+    /**
+     * Uploads data to a new file in the project context of an environment, and closes it.
+     *
+     * @param env environment
+     * @param content file contents
+     *
+     * @return closed file
+     */
+    public static DXFile uploadFile(DXEnvironment env, byte[] content) {
+        return DXFile.newFileWithEnvironment(env).setProject(env.getProjectContext())
+                .upload(content).build().closeAndWait();
+    }
+
+    private TestFiles() {}
+
+}
@@ -0,0 +1,174 @@
+// Copyright (C) 2013-2015 DNAnexus, Inc.
+//
+// This file is part of dx-toolkit (DNAnexus platform client libraries).
+//
+//   Licensed under the Apache License, Version 2.0 (the "License"); you may
+//   not use this file except in compliance with the License. You may obtain a
+//   copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+//   WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+//   License for the specific language governing permissions and limitations
+//   under the License.
+
+package com.dnanexus;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.io.ByteStreams;
+
+/**
+ * Tests of {@link TransferBufferPool}, alone and as used by file transfers against
+ * {@link InMemoryApiserver}.
+ */
+public class TransferBufferPoolTest {
+
+    private InMemoryApiserver apiserver;
+
+    @Before
+    public void setUp() {
+        apiserver = new InMemoryApiserver();
+    }
+
+    private DXEnvironment createEnvironment(TransferBufferPool pool) {
+        return DXEnvironment.Builder.fromEnvironment(apiserver.createEnvironment())
+                .setTransferBufferPool(pool).build();
+    }
+
+    /**
+     * Waits for transfers that were stopped to give back their buffers.
+     */
+    private static void awaitIdle(TransferBufferPool pool) throws InterruptedException {
+        for (int i = 0; i < 100 && pool.getStats().getInUseBytes() > 0; ++i) {
+            Thread.sleep(50);
+        }
+        Assert.assertEquals(0, pool.getStats().getInUseBytes());
+    }
+
+    @Test
+    public void testBuffersAreReused() {
+        TransferBufferPool pool = TransferBufferPool.create(1000);
+        byte[] first = pool.acquire(100);
+        Assert.assertEquals(100, first.length);
+        pool.release(first);
+
+        byte[] second = pool.acquire(100);
+        Assert.assertSame(first, second);
+        pool.release(second);
+        // Giving back a buffer twice does not pool it twice
+        pool.release(second);
+
+        TransferBufferPool.Stats stats = pool.getStats();
+        Assert.assertEquals(1, stats.getHits());
+        Assert.assertEquals(1, stats.getMisses());
+        Assert.assertEquals(0.5, stats.getHitRate(), 0);
+        Assert.assertEquals(100, stats.getPooledBytes());
+        Assert.assertEquals(100, stats.getIdleBytes());
+        Assert.assertEquals(0, stats.getInUseBytes());
+    }
+
+    @Test
+    public void testCap() {
+        TransferBufferPool pool = TransferBufferPool.create(250);
+        byte[] a = pool.acquire(100);
+        byte[] b = pool.acquire(100);
+        // Over the cap: a buffer that is not pooled
+        byte[] c = pool.acquire(100);
+        Assert.assertEquals(1, pool.getStats().getOverflows());
+        Assert.assertEquals(200, pool.getStats().getInUseBytes());
+        pool.release(a);
+        pool.release(b);
+        pool.release(c);
+        Assert.assertEquals(200, pool.getStats().getIdleBytes());
+
+        // Idle buffers of another size are discarded to make room
+        byte[] d = pool.acquire(150);
+        Assert.assertEquals(150, d.length);
+        Assert.assertEquals(250, pool.getStats().getPooledBytes());
+        Assert.assertEquals(100, pool.getStats().getIdleBytes());
+        pool.release(d);
+        Assert.assertNotSame(c, pool.acquire(100));
+    }
+
+    @Test
+    public void testNamedPoolsArePublished() throws JMException {
+        TransferBufferPool pool = TransferBufferPool.create("TransferBufferPoolTest", 1000);
+        pool.release(pool.acquire(100));
+        pool.acquire(100);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(
+                "com.dnanexus:type=TransferBufferPool,name=\"TransferBufferPoolTest\"");
+        try {
+            Assert.assertEquals(1L, server.getAttribute(name, "Hits"));
+            Assert.assertEquals(1L, server.getAttribute(name, "Misses"));
+            Assert.assertEquals(100L, server.getAttribute(name, "InUseBytes"));
+            Assert.assertEquals(0.5, (Double) server.getAttribute(name, "HitRate"), 0);
+        } finally {
+            server.unregisterMBean(name);
+        }
+        Assert.assertTrue(server.isRegistered(new ObjectName(
+                "com.dnanexus:type=TransferBufferPool,name=\"default\"")));
+    }
+
+    @Test
+    public void testStreamUploadsReuseBuffers() throws InterruptedException {
+        TransferBufferPool pool = TransferBufferPool.create(64L * 1024 * 1024);
+        DXEnvironment env = createEnvironment(pool);
+        DXFile.UploadOptions options = DXFile.UploadOptions.get().withPartSize(
+                DXFile.UploadOptions.MIN_PART_SIZE).withParallelism(2);
+        byte[] data = TestFiles.randomBytes((int) (3.5 * DXFile.UploadOptions.MIN_PART_SIZE));
+        for (int i = 0; i < 3; ++i) {
+            DXFile file = DXFile.newFileWithEnvironment(env).setProject(env
+                    .getProjectContext()).build();
+            file.upload(new ByteArrayInputStream(data), options);
+            Assert.assertArrayEquals(data, file.closeAndWait().downloadBytes());
+        }
+        TransferBufferPool.Stats stats = pool.getStats();
+        // At most one buffer per part in flight (plus one being filled) is ever allocated
+        Assert.assertTrue(stats.toString(), stats.getMisses() <= 3);
+        Assert.assertEquals(12 - stats.getMisses(), stats.getHits());
+        Assert.assertEquals(0, stats.getOverflows());
+        Assert.assertEquals(0, stats.getInUseBytes());
+    }
+
+    @Test
+    public void testReadAheadStreamGivesBackChunks() throws IOException, InterruptedException {
+        byte[] data = TestFiles.randomBytes(1000000);
+        DXEnvironment env = apiserver.createEnvironment();
+        DXFile uploaded = TestFiles.uploadFile(env, data);
+
+        TransferBufferPool pool = TransferBufferPool.create(10000000);
+        DXFile file = DXFile.getInstanceWithEnvironment(uploaded.getId(),
+                createEnvironment(pool));
+        DXFile.DownloadOptions options = DXFile.DownloadOptions.get().withChunkSize(100000)
+                .withParallelism(3);
+        try (InputStream stream = file.openInputStream(options)) {
+            Assert.assertArrayEquals(data, ByteStreams.toByteArray(stream));
+        }
+        awaitIdle(pool);
+        // Each chunk after the first few reuses the buffer of a chunk that has been read
+        Assert.assertTrue(pool.getStats().toString(), pool.getStats().getHits() >= 5);
+
+        // Closing the stream part of the way through gives back the chunks read ahead
+        try (InputStream stream = file.openInputStream(options)) {
+            Assert.assertEquals(data[0], (byte) stream.read());
+        }
+        awaitIdle(pool);
+    }
+
+}